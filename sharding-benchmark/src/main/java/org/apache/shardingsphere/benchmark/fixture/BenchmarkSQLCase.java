@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import com.google.common.base.CharMatcher;
+import lombok.Getter;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.loader.sharding.ShardingSQLCasesRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL case of {@code sharding-sql-test} for route and rewrite benchmark.
+ * 
+ * <p>
+ * SQL is loaded as placeholder type, parameters are generated as sequential integers from 1 for each placeholder,
+ * so SQL cases on tables and columns of {@link ShardingTopology} are routable without parameters fixture.
+ * </p>
+ */
+@Getter
+public final class BenchmarkSQLCase {
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    public BenchmarkSQLCase(final String sqlCaseId) {
+        sql = ShardingSQLCasesRegistry.getInstance().getSqlCasesLoader().getSQL(sqlCaseId, SQLCaseType.Placeholder, Collections.emptyList());
+        parameters = Collections.unmodifiableList(createParameters(CharMatcher.is('?').countIn(sql)));
+    }
+    
+    private List<Object> createParameters(final int parameterCount) {
+        List<Object> result = new ArrayList<>(parameterCount);
+        for (int i = 1; i <= parameterCount; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+}
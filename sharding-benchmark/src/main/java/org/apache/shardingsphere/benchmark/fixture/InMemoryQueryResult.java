@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * In memory query result for benchmark.
+ * 
+ * <p>Rows are shared and never copied, so creating query result for each benchmark invocation is cheap.</p>
+ */
+public final class InMemoryQueryResult implements QueryResult {
+    
+    private final List<String> columnLabels;
+    
+    private final List<Object[]> rows;
+    
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
+    
+    public InMemoryQueryResult(final List<String> columnLabels, final List<Object[]> rows) {
+        this.columnLabels = columnLabels;
+        this.rows = rows;
+    }
+    
+    @Override
+    public boolean next() {
+        return ++currentRowIndex < rows.size();
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = rows.get(currentRowIndex)[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getValue(getColumnIndex(columnLabel), type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getValue(columnLabel, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(getValue(columnIndex, Object.class));
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) {
+        return getInputStream(getValue(columnLabel, Object.class));
+    }
+    
+    @SneakyThrows
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    private int getColumnIndex(final String columnLabel) {
+        for (int i = 0; i < columnLabels.size(); i++) {
+            if (columnLabels.get(i).equalsIgnoreCase(columnLabel)) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Cannot find column label `%s`.", columnLabel));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Synthetic sharding topology for benchmark.
+ * 
+ * <p>
+ * Tables {@code t_order} and {@code t_order_item} are binding tables, 
+ * databases are sharded by {@code user_id} and tables are sharded by {@code order_id}.
+ * Data nodes are spread to about square root of data node count databases.
+ * </p>
+ */
+@Getter
+public final class ShardingTopology {
+    
+    private final DatabaseType databaseType;
+    
+    private final int dataSourceCount;
+    
+    private final int tableCount;
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingMetaData shardingMetaData;
+    
+    private final ParsingResultCache parsingResultCache = new ParsingResultCache();
+    
+    public ShardingTopology(final String databaseType, final int dataNodeCount) {
+        Preconditions.checkArgument(dataNodeCount >= 2 && 1 == Integer.bitCount(dataNodeCount), "Data node count must be power of 2, but was %s.", dataNodeCount);
+        this.databaseType = DatabaseTypes.getActualDatabaseType(databaseType);
+        dataSourceCount = 1 << (Integer.numberOfTrailingZeros(dataNodeCount) + 1) / 2;
+        tableCount = dataNodeCount / dataSourceCount;
+        shardingRule = createShardingRule();
+        shardingMetaData = new ShardingMetaData(createShardingDataSourceMetaData(), createShardingTableMetaData());
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item"));
+        shardingRuleConfig.getBindingTableGroups().add("t_order,t_order_item");
+        return new ShardingRule(shardingRuleConfig, createDataSourceURLs().keySet());
+    }
+    
+    private TableRuleConfiguration createTableRuleConfiguration(final String logicTable) {
+        TableRuleConfiguration result = new TableRuleConfiguration(logicTable, String.format("ds_${0..%d}.%s_${0..%d}", dataSourceCount - 1, logicTable, tableCount - 1));
+        result.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", String.format("ds_${user_id %% %d}", dataSourceCount)));
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", String.format("%s_${order_id %% %d}", logicTable, tableCount)));
+        return result;
+    }
+    
+    private Map<String, String> createDataSourceURLs() {
+        Map<String, String> result = new LinkedHashMap<>(dataSourceCount, 1);
+        for (int i = 0; i < dataSourceCount; i++) {
+            result.put("ds_" + i, getDataSourceURL("ds_" + i));
+        }
+        return result;
+    }
+    
+    private String getDataSourceURL(final String dataSourceName) {
+        switch (databaseType.getName()) {
+            case "PostgreSQL":
+                return "jdbc:postgresql://127.0.0.1:5432/" + dataSourceName;
+            case "Oracle":
+                return "jdbc:oracle:thin:@//127.0.0.1:1521/" + dataSourceName;
+            case "SQLServer":
+                return "jdbc:sqlserver://127.0.0.1:1433;DatabaseName=" + dataSourceName;
+            default:
+                return "jdbc:mysql://127.0.0.1:3306/" + dataSourceName;
+        }
+    }
+    
+    private ShardingDataSourceMetaData createShardingDataSourceMetaData() {
+        return new ShardingDataSourceMetaData(createDataSourceURLs(), shardingRule, databaseType);
+    }
+    
+    private ShardingTableMetaData createShardingTableMetaData() {
+        Map<String, TableMetaData> tables = new HashMap<>(2, 1);
+        tables.put("t_order", new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        tables.put("t_order_item", new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", "int", true), new ColumnMetaData("order_id", "int", false), 
+                new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        return new ShardingTableMetaData(tables);
+    }
+}
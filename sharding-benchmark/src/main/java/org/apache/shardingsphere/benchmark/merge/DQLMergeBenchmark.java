@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.benchmark.fixture.InMemoryQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.ShardingTopology;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for DQL result set merging.
+ * 
+ * <p>Select SQL is routed to all data nodes, each routing unit returns rows from in memory query result which sorted by order by or group by items.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DQLMergeBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    private String databaseType;
+    
+    @Param({"2", "16", "128", "1024"})
+    private int dataNodeCount;
+    
+    @Param
+    private MergeScenario mergeScenario;
+    
+    @Param("100")
+    private int rowCountPerDataNode;
+    
+    private DatabaseType actualDatabaseType;
+    
+    private SQLRouteResult routeResult;
+    
+    private List<List<Object[]>> dataNodeRows;
+    
+    @Setup
+    public void setUp() {
+        ShardingTopology topology = new ShardingTopology(databaseType, dataNodeCount);
+        actualDatabaseType = topology.getDatabaseType();
+        routeResult = new PreparedStatementRoutingEngine(mergeScenario.getSql(), topology.getShardingRule(), topology.getShardingMetaData(), actualDatabaseType, topology.getParsingResultCache())
+                .route(Collections.emptyList());
+        int routingUnitCount = routeResult.getRoutingResult().getRoutingUnits().size();
+        dataNodeRows = new ArrayList<>(routingUnitCount);
+        for (int i = 0; i < routingUnitCount; i++) {
+            dataNodeRows.add(createRows(i, routingUnitCount));
+        }
+    }
+    
+    private List<Object[]> createRows(final int routingUnitIndex, final int routingUnitCount) {
+        List<Object[]> result = new ArrayList<>(rowCountPerDataNode);
+        for (int i = 0; i < rowCountPerDataNode; i++) {
+            result.add(MergeScenario.GROUP_BY == mergeScenario ? new Object[]{i, 1L} : new Object[]{i * routingUnitCount + routingUnitIndex, i, "init"});
+        }
+        return result;
+    }
+    
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(dataNodeRows.size());
+        for (List<Object[]> each : dataNodeRows) {
+            queryResults.add(new InMemoryQueryResult(mergeScenario.getColumnLabels(), each));
+        }
+        MergedResult mergedResult = new DQLMergeEngine(actualDatabaseType, routeResult, queryResults).merge();
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    public enum MergeScenario {
+        
+        ITERATOR("SELECT order_id, user_id, status FROM t_order", Arrays.asList("order_id", "user_id", "status")),
+        
+        ORDER_BY("SELECT order_id, user_id, status FROM t_order ORDER BY order_id", Arrays.asList("order_id", "user_id", "status")),
+        
+        GROUP_BY("SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id ORDER BY user_id", Arrays.asList("user_id", "order_count"));
+        
+        private final String sql;
+        
+        private final List<String> columnLabels;
+    }
+}
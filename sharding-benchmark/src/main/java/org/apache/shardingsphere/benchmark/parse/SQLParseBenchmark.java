@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parse;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingTopology;
+import org.apache.shardingsphere.core.parse.entry.ShardingSQLParseEntry;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.test.sql.loader.sharding.ShardingSQLCasesRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL parsing.
+ * 
+ * <p>Parse supported placeholder SQL cases of {@code sharding-sql-test} one by one without parsing result cache.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLParseBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    private String databaseType;
+    
+    private ShardingSQLParseEntry parseEntry;
+    
+    private List<String> sqls;
+    
+    private int sqlIndex;
+    
+    @Setup
+    public void setUp() {
+        ShardingTopology topology = new ShardingTopology(databaseType, 16);
+        parseEntry = new ShardingSQLParseEntry(topology.getDatabaseType(), topology.getShardingRule(), topology.getShardingMetaData().getTable(), topology.getParsingResultCache());
+        sqls = loadSupportedSQLs();
+    }
+    
+    private List<String> loadSupportedSQLs() {
+        List<String> result = new ArrayList<>();
+        SQLCasesLoader sqlCasesLoader = ShardingSQLCasesRegistry.getInstance().getSqlCasesLoader();
+        for (Object[] each : sqlCasesLoader.getSQLTestParameters()) {
+            if (databaseType.equals(each[1]) && SQLCaseType.Placeholder == each[2]) {
+                String sql = sqlCasesLoader.getSQL((String) each[0], SQLCaseType.Placeholder, Collections.emptyList());
+                if (isSupported(sql)) {
+                    result.add(sql);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private boolean isSupported(final String sql) {
+        try {
+            parseEntry.parse(sql, false);
+            return true;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            return false;
+        }
+    }
+    
+    @Benchmark
+    public SQLStatement parse() {
+        return parseEntry.parse(sqls.get(sqlIndex++ % sqls.size()), false);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parse;
+
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.TokenStream;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.core.parse.parser.SQLParserFactory;
+import org.apache.shardingsphere.core.parse.spi.SQLParserEntry;
+import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL parser instantiation.
+ * 
+ * <p>Compare pooled SQL parser of {@code SQLParserFactory} with instantiating lexer and parser by SPI and reflection for each SQL.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLParserFactoryBenchmark {
+    
+    private static final String SQL = "SELECT order_id, user_id, status FROM t_order WHERE order_id = ?";
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    private String databaseType;
+    
+    private DatabaseType actualDatabaseType;
+    
+    @Setup
+    public void setUp() {
+        actualDatabaseType = DatabaseTypes.getActualDatabaseType(databaseType);
+        NewInstanceServiceLoader.register(SQLParserEntry.class);
+    }
+    
+    @Benchmark
+    public SQLParser newPooledParser() {
+        return SQLParserFactory.newInstance(actualDatabaseType, SQL);
+    }
+    
+    @Benchmark
+    public SQLParser newReflectiveParser() {
+        return newReflectiveParser(actualDatabaseType, SQL);
+    }
+    
+    @Benchmark
+    public void parseWithPooledParser(final Blackhole blackhole) {
+        blackhole.consume(SQLParserFactory.newInstance(actualDatabaseType, SQL).execute());
+    }
+    
+    @Benchmark
+    public void parseWithReflectiveParser(final Blackhole blackhole) {
+        blackhole.consume(newReflectiveParser(actualDatabaseType, SQL).execute());
+    }
+    
+    @SneakyThrows
+    private SQLParser newReflectiveParser(final DatabaseType databaseType, final String sql) {
+        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
+            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
+                Lexer lexer = each.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
+                return each.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
+            }
+        }
+        throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQLCase;
+import org.apache.shardingsphere.benchmark.fixture.ShardingTopology;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL rewriting.
+ * 
+ * <p>SQL is loaded from {@code sharding-sql-test} and routed once at setup, each invocation rewrites SQL for all routing units of route result.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRewriteBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    private String databaseType;
+    
+    @Param({"2", "16", "128", "1024"})
+    private int dataNodeCount;
+    
+    @Param({"select_equal_with_single_table", "select_in_with_single_table", "select_or_mix_and_with_binding_tables", "select_inner_join_related_with_alias",
+            "select_full_route_with_binding_tables", "insert_with_all_placeholders", "insert_with_batch", "update_without_alias", "delete_with_sharding_value"})
+    private String sqlCaseId;
+    
+    private BenchmarkSQLCase benchmarkSQLCase;
+    
+    private ShardingRule shardingRule;
+    
+    private SQLRouteResult routeResult;
+    
+    private Map<RoutingUnit, Map<String, String>> logicAndActualTables;
+    
+    @Setup
+    public void setUp() {
+        ShardingTopology topology = new ShardingTopology(databaseType, dataNodeCount);
+        benchmarkSQLCase = new BenchmarkSQLCase(sqlCaseId);
+        shardingRule = topology.getShardingRule();
+        routeResult = new PreparedStatementRoutingEngine(benchmarkSQLCase.getSql(), shardingRule, topology.getShardingMetaData(), topology.getDatabaseType(), topology.getParsingResultCache())
+                .route(new ArrayList<>(benchmarkSQLCase.getParameters()));
+        logicAndActualTables = new LinkedHashMap<>();
+        for (RoutingUnit each : routeResult.getRoutingResult().getRoutingUnits()) {
+            logicAndActualTables.put(each, getLogicAndActualTables(each));
+        }
+    }
+    
+    private Map<String, String> getLogicAndActualTables(final RoutingUnit routingUnit) {
+        Map<String, String> result = new HashMap<>();
+        for (TableUnit each : routingUnit.getTableUnits()) {
+            result.put(each.getLogicTableName().toLowerCase(), each.getActualTableName());
+        }
+        return result;
+    }
+    
+    @Benchmark
+    public void rewrite(final Blackhole blackhole) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, routeResult, new ArrayList<>(benchmarkSQLCase.getParameters()), routeResult.getRoutingResult().isSingleRouting());
+        for (Map.Entry<RoutingUnit, Map<String, String>> entry : logicAndActualTables.entrySet()) {
+            blackhole.consume(rewriteEngine.generateSQL(entry.getKey(), entry.getValue()));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQLCase;
+import org.apache.shardingsphere.benchmark.fixture.ShardingTopology;
+import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL routing.
+ * 
+ * <p>SQL cases are loaded from {@code sharding-sql-test}, SQL is parsed once by prepared statement routing engine, so only optimizing and routing are measured.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRouteBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    private String databaseType;
+    
+    @Param({"2", "16", "128", "1024"})
+    private int dataNodeCount;
+    
+    @Param({"select_equal_with_single_table", "select_in_with_single_table", "select_or_mix_and_with_binding_tables", "select_inner_join_related_with_alias",
+            "select_full_route_with_binding_tables", "insert_with_all_placeholders", "insert_with_batch", "update_without_alias", "delete_with_sharding_value"})
+    private String sqlCaseId;
+    
+    private BenchmarkSQLCase benchmarkSQLCase;
+    
+    private PreparedStatementRoutingEngine routingEngine;
+    
+    @Setup
+    public void setUp() {
+        ShardingTopology topology = new ShardingTopology(databaseType, dataNodeCount);
+        benchmarkSQLCase = new BenchmarkSQLCase(sqlCaseId);
+        routingEngine = new PreparedStatementRoutingEngine(
+                benchmarkSQLCase.getSql(), topology.getShardingRule(), topology.getShardingMetaData(), topology.getDatabaseType(), topology.getParsingResultCache());
+    }
+    
+    @Benchmark
+    public SQLRouteResult route() {
+        return routingEngine.route(new ArrayList<>(benchmarkSQLCase.getParameters()));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.config.sharding;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+
+/**
+ * Sharding boundary configuration.
+ * 
+ * <p>
+ * Boundaries are ascending lower boundaries of actual tables, separated by comma.
+ * The N-th boundary is the inclusive lower boundary of the N-th distinct actual table in order of actual data nodes,
+ * and the exclusive upper boundary of the previous one.
+ * Boundaries are numbers, or date times formatted by date time pattern if it is configured.
+ * </p>
+ */
+@Getter
+public final class ShardingBoundaryConfiguration {
+    
+    private final String shardingColumn;
+    
+    private final String boundaries;
+    
+    private final String dateTimePattern;
+    
+    public ShardingBoundaryConfiguration(final String shardingColumn, final String boundaries) {
+        this(shardingColumn, boundaries, null);
+    }
+    
+    public ShardingBoundaryConfiguration(final String shardingColumn, final String boundaries, final String dateTimePattern) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingColumn), "ShardingColumn is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(boundaries), "Boundaries is required.");
+        this.shardingColumn = shardingColumn;
+        this.boundaries = boundaries;
+        this.dateTimePattern = dateTimePattern;
+    }
+}
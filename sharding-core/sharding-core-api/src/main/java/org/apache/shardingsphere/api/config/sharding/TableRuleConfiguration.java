@@ -43,6 +43,8 @@ public final class TableRuleConfiguration {
     
     private KeyGeneratorConfiguration keyGeneratorConfig;
     
+    private ShardingBoundaryConfiguration tableShardingBoundaryConfig;
+    
     public TableRuleConfiguration(final String logicTable) {
         this(logicTable, null);
     }
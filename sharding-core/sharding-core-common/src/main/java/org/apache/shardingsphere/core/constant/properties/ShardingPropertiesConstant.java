@@ -114,7 +114,206 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable two phase prediction for SQL parsing.
+     * 
+     * <p>
+     * Parse SQL with SLL prediction mode first, and fall back to LL prediction mode only if SLL failed.
+     * SLL is much faster than LL for most of SQLs, and the parse results of both modes are same.
+     * Default: true
+     * </p>
+     */
+    SQL_PARSE_TWO_PHASE_ENABLED("sql.parse.two.phase.enabled", String.valueOf(Boolean.TRUE), boolean.class),
+    
+    /**
+     * Enable or Disable fast path recognizer for SQL parsing.
+     * 
+     * <p>
+     * Point lookup and single row DML are recognized from tokens of lexer without parse tree,
+     * other SQLs are parsed by SQL parser.
+     * Default: true
+     * </p>
+     */
+    SQL_PARSE_FAST_PATH_ENABLED("sql.parse.fast.path.enabled", String.valueOf(Boolean.TRUE), boolean.class),
+    
+    /**
+     * Max entries size of parsing result cache.
+     * 
+     * <p>
+     * Ignored if {@code parsing.result.cache.maximum.weight} is positive.
+     * Default: 65535
+     * </p>
+     */
+    PARSING_RESULT_CACHE_MAXIMUM_SIZE("parsing.result.cache.maximum.size", String.valueOf(65535L), long.class),
+    
+    /**
+     * Max weight of parsing result cache, weight of each entry is estimated by length of SQL.
+     * 
+     * <p>
+     * Cache is bounded by entries size if it is not positive.
+     * Default: 0
+     * </p>
+     */
+    PARSING_RESULT_CACHE_MAXIMUM_WEIGHT("parsing.result.cache.maximum.weight", String.valueOf(0L), long.class),
+    
+    /**
+     * Seconds of expiring parsing result cache after access.
+     * 
+     * <p>
+     * Never expire if it is not positive.
+     * Default: 0
+     * </p>
+     */
+    PARSING_RESULT_CACHE_EXPIRE_AFTER_ACCESS_SECONDS("parsing.result.cache.expire.after.access.seconds", String.valueOf(0L), long.class),
+    
+    /**
+     * Enable or Disable SQL fingerprint for simple query.
+     * 
+     * <p>
+     * Literals of simple query are replaced with parameter markers before parsing,
+     * so SQLs only different in literals share same parse result in parsing result cache.
+     * Default: false
+     * </p>
+     */
+    SQL_FINGERPRINT_ENABLED("sql.fingerprint.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable to warm up SQL parser at startup.
+     * 
+     * <p>
+     * Parse a corpus of SQLs before serving, so first requests do not pay for building DFA cache of SQL parser.
+     * Default: false
+     * </p>
+     */
+    SQL_PARSE_WARM_UP_ENABLED("sql.parse.warm.up.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable built-in SQLs of database type for warming up SQL parser.
+     * 
+     * <p>
+     * Default: true
+     * </p>
+     */
+    SQL_PARSE_WARM_UP_BUILT_IN_SQL_ENABLED("sql.parse.warm.up.built.in.sql.enabled", String.valueOf(Boolean.TRUE), boolean.class),
+    
+    /**
+     * Path of SQL file for warming up SQL parser, one SQL each line.
+     * 
+     * <p>
+     * Recent SQLs of application are recommended. 
+     * Default: none
+     * </p>
+     */
+    SQL_PARSE_WARM_UP_SQL_FILE("sql.parse.warm.up.sql.file", "", String.class),
+    
+    /**
+     * Thread size for warming up SQL parser.
+     * 
+     * <p>
+     * Default: 1
+     * </p>
+     */
+    SQL_PARSE_WARM_UP_THREAD_SIZE("sql.parse.warm.up.thread.size", String.valueOf(1), int.class),
+    
+    /**
+     * Enable or Disable bulk insert routing.
+     * 
+     * <p>
+     * Values rows of multiple rows INSERT are tokenized and routed one by one without parse tree,
+     * and rows of same data node are rewritten to one multiple rows INSERT.
+     * Default: false
+     * </p>
+     */
+    SQL_BULK_INSERT_ENABLED("sql.bulk.insert.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Rows size of each chunk for bulk insert routing.
+     * 
+     * <p>
+     * Values rows are read and routed chunk by chunk, INSERT whose rows are not more than chunk size is routed as common.
+     * Default: 1000
+     * </p>
+     */
+    SQL_BULK_INSERT_CHUNK_SIZE("sql.bulk.insert.chunk.size", String.valueOf(1000), int.class),
+    
+    /**
+     * Max rows of each coalesced INSERT for batch of prepared statement.
+     * 
+     * <p>
+     * Single row INSERT added to batch are grouped by routed data node and rewritten to multiple rows INSERT when batch is executed.
+     * Batch is not coalesced if less than 2.
+     * Default: 0
+     * </p>
+     */
+    SQL_BATCH_INSERT_COALESCE_SIZE("sql.batch.insert.coalesce.size", String.valueOf(0), int.class),
+    
+    /**
+     * Min offset of LIMIT pagination to be executed by seek pagination.
+     * 
+     * <p>
+     * Boundary value at offset is narrowed by boundary queries which fetch sort keys only, at most remaining offset divided by count of routed tables on each round,
+     * then one page from boundary value is fetched on each routed data node.
+     * Seek pagination is disabled if not positive.
+     * Default: 0
+     * </p>
+     */
+    SQL_PAGINATION_SEEK_OFFSET_THRESHOLD("sql.pagination.seek.offset.threshold", String.valueOf(0), int.class),
+    
+    /**
+     * Max routing units of cartesian routing.
+     * 
+     * <p>
+     * Routing fails as soon as cartesian product of routed tables exceeds it, cartesian routing is not bounded if not positive.
+     * Default: 0
+     * </p>
+     */
+    MAX_CARTESIAN_ROUTING_UNITS("max.cartesian.routing.units", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable preparing plan of prepared statement asynchronously.
+     * 
+     * <p>
+     * SQL is parsed by background threads when statement is prepared, and first execution waits for plan if it is still preparing.
+     * SQL is parsed synchronously when statement is prepared if disabled.
+     * Default: false
+     * </p>
+     */
+    SQL_PREPARE_ASYNC_ENABLED("sql.prepare.async.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Thread size for preparing plan of prepared statement asynchronously.
+     * 
+     * <p>
+     * Default: 1
+     * </p>
+     */
+    SQL_PREPARE_ASYNC_THREAD_SIZE("sql.prepare.async.thread.size", String.valueOf(1), int.class),
+    
+    /**
+     * Maximum size of routing result cache for prepared statements.
+     * 
+     * <p>
+     * Routing results are cached only for SELECT, UPDATE and DELETE whose sharding strategies are all deterministic.
+     * Routing results are not cached if not positive.
+     * Default: 0
+     * </p>
+     */
+    ROUTING_RESULT_CACHE_MAXIMUM_SIZE("routing.result.cache.maximum.size", String.valueOf(0L), long.class),
+    
+    /**
+     * Maximum size of rewrite template cache for prepared statements.
+     * 
+     * <p>
+     * SQL tokens which do not depend on parameters are cached with SQL builder compiled by them.
+     * SQL tokens depending on parameters are generated for each execution and bound to slots of a compiled skeleton,
+     * which is compiled again only if positions of these tokens change.
+     * Rewrite templates are not cached if not positive.
+     * Default: 0
+     * </p>
+     */
+    REWRITE_TEMPLATE_CACHE_MAXIMUM_SIZE("rewrite.template.cache.maximum.size", String.valueOf(0L), long.class);
     
     private final String key;
     
@@ -19,12 +19,14 @@ package org.apache.shardingsphere.core.rule;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.config.ShardingConfigurationException;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Binding table rule.
@@ -33,12 +35,29 @@ import java.util.List;
  * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 @Getter
 public final class BindingTableRule {
     
     private final List<TableRule> tableRules;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    public BindingTableRule(final List<TableRule> tableRules) {
+        this.tableRules = tableRules;
+        logicTableRules = createLogicTableRules(tableRules);
+    }
+    
+    private Map<String, TableRule> createLogicTableRules(final List<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            if (!result.containsKey(each.getLogicTable())) {
+                result.put(each.getLogicTable(), each);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Judge contains this logic table in this rule.
      * 
@@ -46,12 +65,7 @@ public final class BindingTableRule {
      * @return contains this logic table or not
      */
     public boolean hasLogicTable(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equals(logicTableName.toLowerCase())) {
-                return true;
-            }
-        }
-        return false;
+        return logicTableRules.containsKey(logicTableName.toLowerCase());
     }
     
     /**
@@ -73,10 +87,9 @@ public final class BindingTableRule {
         if (-1 == index) {
             throw new ShardingConfigurationException("Actual table [%s].[%s] is not in table config", dataSource, otherActualTable);
         }
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equals(logicTable.toLowerCase())) {
-                return each.getActualDataNodes().get(index).getTableName().toLowerCase();
-            }
+        TableRule tableRule = logicTableRules.get(logicTable.toLowerCase());
+        if (null != tableRule) {
+            return tableRule.getActualDataNodes().get(index).getTableName().toLowerCase();
         }
         throw new ShardingConfigurationException("Cannot find binding actual table, data source: %s, logic table: %s, other actual table: %s", dataSource, logicTable, otherActualTable);
     }
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rule;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Splitter;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.config.sharding.ShardingBoundaryConfiguration;
+import org.apache.shardingsphere.core.config.ShardingConfigurationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Sharding boundary index, which resolves range of sharding values to actual tables by binary search over ordered boundaries.
+ */
+final class ShardingBoundaryIndex {
+    
+    private final String shardingColumn;
+    
+    private final String dateTimePattern;
+    
+    private final long[] lowerBoundaries;
+    
+    private final String[] actualTableNames;
+    
+    ShardingBoundaryIndex(final ShardingBoundaryConfiguration shardingBoundaryConfig, final Collection<DataNode> actualDataNodes) {
+        shardingColumn = shardingBoundaryConfig.getShardingColumn();
+        dateTimePattern = shardingBoundaryConfig.getDateTimePattern();
+        Collection<String> actualTables = new LinkedHashSet<>(actualDataNodes.size());
+        for (DataNode each : actualDataNodes) {
+            actualTables.add(each.getTableName());
+        }
+        actualTableNames = actualTables.toArray(new String[actualTables.size()]);
+        List<String> boundaries = Splitter.on(',').trimResults().omitEmptyStrings().splitToList(shardingBoundaryConfig.getBoundaries());
+        if (boundaries.size() != actualTableNames.length) {
+            throw new ShardingConfigurationException("Size of sharding boundaries `%s` is not same as size of actual tables `%s`.", boundaries.size(), actualTableNames.length);
+        }
+        lowerBoundaries = new long[boundaries.size()];
+        for (int i = 0; i < lowerBoundaries.length; i++) {
+            Optional<Long> boundary = toLong(boundaries.get(i));
+            if (!boundary.isPresent() || i > 0 && boundary.get() <= lowerBoundaries[i - 1]) {
+                throw new ShardingConfigurationException("Sharding boundary `%s` is invalid or not ascending.", boundaries.get(i));
+            }
+            lowerBoundaries[i] = boundary.get();
+        }
+    }
+    
+    /**
+     * Judge is sharding column of this index or not.
+     * 
+     * @param columnName column name
+     * @return is sharding column of this index or not
+     */
+    boolean isShardingColumn(final String columnName) {
+        return shardingColumn.equalsIgnoreCase(columnName);
+    }
+    
+    /**
+     * Get actual table names which intersect with range of sharding values.
+     * 
+     * @param valueRange range of sharding values
+     * @return actual table names in order of boundaries, absent if endpoint of range cannot compare with boundaries
+     */
+    Optional<Collection<String>> getActualTableNames(final Range<? extends Comparable<?>> valueRange) {
+        int fromIndex = 0;
+        int toIndex = lowerBoundaries.length - 1;
+        if (valueRange.hasLowerBound()) {
+            Optional<Long> lower = toLong(valueRange.lowerEndpoint());
+            if (!lower.isPresent()) {
+                return Optional.absent();
+            }
+            fromIndex = Math.max(getIndex(BoundType.OPEN == valueRange.lowerBoundType() && isDiscrete(valueRange.lowerEndpoint()) && Long.MAX_VALUE != lower.get() ? lower.get() + 1 : lower.get()), 0);
+        }
+        if (valueRange.hasUpperBound()) {
+            Optional<Long> upper = toLong(valueRange.upperEndpoint());
+            if (!upper.isPresent()) {
+                return Optional.absent();
+            }
+            toIndex = getIndex(BoundType.OPEN == valueRange.upperBoundType() && isDiscrete(valueRange.upperEndpoint()) && Long.MIN_VALUE != upper.get() ? upper.get() - 1 : upper.get());
+        }
+        Collection<String> result = new LinkedHashSet<>();
+        for (int i = fromIndex; i <= toIndex; i++) {
+            result.add(actualTableNames[i]);
+        }
+        return Optional.of(result);
+    }
+    
+    private int getIndex(final long value) {
+        int result = Arrays.binarySearch(lowerBoundaries, value);
+        return result >= 0 ? result : -result - 2;
+    }
+    
+    private boolean isDiscrete(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger || value instanceof Date || value instanceof String;
+    }
+    
+    private Optional<Long> toLong(final Comparable<?> value) {
+        if (value instanceof BigDecimal) {
+            return Optional.of(((BigDecimal) value).setScale(0, RoundingMode.FLOOR).longValue());
+        }
+        if (value instanceof Number) {
+            return Optional.of(isDiscrete(value) ? ((Number) value).longValue() : (long) Math.floor(((Number) value).doubleValue()));
+        }
+        if (value instanceof Date) {
+            return Optional.of(((Date) value).getTime());
+        }
+        if (!(value instanceof String)) {
+            return Optional.absent();
+        }
+        try {
+            return null == dateTimePattern ? Optional.of(Long.parseLong(((String) value).trim())) : Optional.of(new SimpleDateFormat(dateTimePattern).parse((String) value).getTime());
+        } catch (final NumberFormatException | ParseException ex) {
+            return Optional.absent();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.encryptor.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
@@ -38,12 +39,21 @@ import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * Databases and tables sharding rule.
+ * 
+ * <p>
+ * Table rules, binding table rules and broadcast tables are indexed by table name when sharding rule is created,
+ * logic table names are indexed case insensitively and actual table names are indexed case sensitively.
+ * </p>
  *
  * @author zhangliang
  * @author maxiaoguang
@@ -72,13 +82,29 @@ public class ShardingRule implements BaseRule {
     
     private final EncryptRule encryptRule;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<TableRule>> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Set<String> broadcastLogicTables;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(!dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.shardingRuleConfig = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         tableRules = createTableRules(shardingRuleConfig);
-        bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        logicTableRules = createLogicTableRules(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         broadcastTables = shardingRuleConfig.getBroadcastTables();
+        broadcastLogicTables = createBroadcastLogicTables(broadcastTables);
+        bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules(bindingTableRules);
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
         defaultShardingKeyGenerator = createDefaultKeyGenerator(shardingRuleConfig.getDefaultKeyGeneratorConfig());
@@ -99,6 +125,37 @@ public class ShardingRule implements BaseRule {
         return null == shardingRuleConfig.getDefaultKeyGeneratorConfig() ? null : shardingRuleConfig.getDefaultKeyGeneratorConfig().getColumn();
     }
     
+    private Map<String, TableRule> createLogicTableRules(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            if (!result.containsKey(each.getLogicTable())) {
+                result.put(each.getLogicTable(), each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<TableRule>> createActualTableRules(final Collection<TableRule> tableRules) {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (String actualTable : each.getActualTableNames()) {
+                if (!result.containsKey(actualTable)) {
+                    result.put(actualTable, new LinkedList<TableRule>());
+                }
+                result.get(actualTable).add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Set<String> createBroadcastLogicTables(final Collection<String> broadcastTables) {
+        Set<String> result = new HashSet<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.add(each.toLowerCase());
+        }
+        return result;
+    }
+    
     private Collection<BindingTableRule> createBindingTableRules(final Collection<String> bindingTableGroups) {
         Collection<BindingTableRule> result = new ArrayList<>(bindingTableGroups.size());
         for (String each : bindingTableGroups) {
@@ -115,6 +172,18 @@ public class ShardingRule implements BaseRule {
         return new BindingTableRule(tableRules);
     }
     
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules(final Collection<BindingTableRule> bindingTableRules) {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (TableRule tableRule : each.getTableRules()) {
+                if (!result.containsKey(tableRule.getLogicTable())) {
+                    result.put(tableRule.getLogicTable(), each);
+                }
+            }
+        }
+        return result;
+    }
+    
     private ShardingStrategy createDefaultShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfiguration) {
         return null == shardingStrategyConfiguration ? new NoneShardingStrategy() : ShardingStrategyFactory.newInstance(shardingStrategyConfiguration);
     }
@@ -148,12 +217,7 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<TableRule>absent() : Optional.fromNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -163,12 +227,8 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        Collection<TableRule> result = actualTableRules.get(actualTableName);
+        return null == result ? Optional.<TableRule>absent() : Optional.of(result.iterator().next());
     }
     
     /**
@@ -255,12 +315,7 @@ public class ShardingRule implements BaseRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<BindingTableRule>absent() : Optional.fromNullable(logicTableBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -288,12 +343,7 @@ public class ShardingRule implements BaseRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        for (String each : broadcastTables) {
-            if (each.equalsIgnoreCase(logicTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return null != logicTableName && broadcastLogicTables.contains(logicTableName.toLowerCase());
     }
     
     /**
@@ -319,12 +369,8 @@ public class ShardingRule implements BaseRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName)) {
-                return true;
-            }
-        }
-        return false;
+        Optional<TableRule> tableRule = findTableRule(tableName);
+        return tableRule.isPresent() && isShardingColumn(tableRule.get(), columnName);
     }
     
     private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
@@ -338,12 +384,8 @@ public class ShardingRule implements BaseRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.absent();
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        return tableRule.isPresent() ? Optional.fromNullable(tableRule.get().getGenerateKeyColumn()) : Optional.<String>absent();
     }
     
     /**
@@ -368,11 +410,13 @@ public class ShardingRule implements BaseRule {
      * @return logic table name
      */
     public Collection<String> getLogicTableNames(final String actualTableName) {
+        Collection<TableRule> tableRules = actualTableRules.get(actualTableName);
+        if (null == tableRules) {
+            return new LinkedList<>();
+        }
         Collection<String> result = new LinkedList<>();
         for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                result.add(each.getLogicTable());
-            }
+            result.add(each.getLogicTable());
         }
         return result;
     }
@@ -396,11 +440,9 @@ public class ShardingRule implements BaseRule {
      * @return data node
      */
     public DataNode getDataNode(final String dataSourceName, final String logicTableName) {
-        TableRule tableRule = getTableRule(logicTableName);
-        for (DataNode each : tableRule.getActualDataNodes()) {
-            if (shardingDataSourceNames.getDataSourceNames().contains(each.getDataSourceName()) && each.getDataSourceName().equals(dataSourceName)) {
-                return each;
-            }
+        List<DataNode> dataNodes = getTableRule(logicTableName).getDataNodeGroups().get(dataSourceName);
+        if (null != dataNodes && shardingDataSourceNames.getDataSourceNames().contains(dataSourceName)) {
+            return dataNodes.get(0);
         }
         throw new ShardingConfigurationException("Cannot find actual data node for data source name: '%s' and logic table name: '%s'", dataSourceName, logicTableName);
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.rule;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -27,27 +28,35 @@ import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.spi.algorithm.keygen.ShardingKeyGeneratorServiceLoader;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategyFactory;
+import org.apache.shardingsphere.core.strategy.route.ShardingTargetNames;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.util.InlineExpressionParser;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Table rule.
+ * 
+ * <p>
+ * Topology of actual data nodes is immutable and computed once when table rule is created,
+ * so routing only consumes views of it.
+ * </p>
  *
  * @author zhangliang
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables"})
+@ToString(exclude = {"dataNodeIndexes", "actualTables", "actualDatasourceNames", "dataSourceToTablesMap", "dataNodeGroups", "tableShardingBoundaryIndex"})
 public final class TableRule {
     
     private final String logicTable;
@@ -58,7 +67,19 @@ public final class TableRule {
     private final Set<String> actualTables;
     
     @Getter(AccessLevel.NONE)
-    private final Map<DataNode, Integer> dataNodeIndexMap;
+    private final Map<String, Map<String, Integer>> dataNodeIndexes;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> actualDatasourceNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> dataSourceToTablesMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, List<DataNode>> dataNodeGroups;
+    
+    @Getter(AccessLevel.NONE)
+    private final ShardingBoundaryIndex tableShardingBoundaryIndex;
     
     private final ShardingStrategy databaseShardingStrategy;
     
@@ -71,8 +92,12 @@ public final class TableRule {
     public TableRule(final String defaultDataSourceName, final String logicTableName) {
         logicTable = logicTableName.toLowerCase();
         actualDataNodes = Collections.singletonList(new DataNode(defaultDataSourceName, logicTableName));
-        actualTables = getActualTables();
-        dataNodeIndexMap = Collections.emptyMap();
+        actualTables = createActualTables();
+        dataNodeIndexes = Collections.emptyMap();
+        actualDatasourceNames = createActualDatasourceNames();
+        dataSourceToTablesMap = createDataSourceToTablesMap();
+        dataNodeGroups = createDataNodeGroups();
+        tableShardingBoundaryIndex = null;
         databaseShardingStrategy = null;
         tableShardingStrategy = null;
         generateKeyColumn = null;
@@ -81,9 +106,13 @@ public final class TableRule {
     
     public TableRule(final Collection<String> dataSourceNames, final String logicTableName) {
         logicTable = logicTableName.toLowerCase();
-        dataNodeIndexMap = new HashMap<>(dataSourceNames.size(), 1);
         actualDataNodes = generateDataNodes(logicTableName, dataSourceNames);
-        actualTables = getActualTables();
+        actualTables = createActualTables();
+        dataNodeIndexes = createDataNodeIndexes();
+        actualDatasourceNames = createActualDatasourceNames();
+        dataSourceToTablesMap = createDataSourceToTablesMap();
+        dataNodeGroups = createDataNodeGroups();
+        tableShardingBoundaryIndex = null;
         databaseShardingStrategy = null;
         tableShardingStrategy = null;
         generateKeyColumn = null;
@@ -93,10 +122,14 @@ public final class TableRule {
     public TableRule(final TableRuleConfiguration tableRuleConfig, final ShardingDataSourceNames shardingDataSourceNames, final String defaultGenerateKeyColumn) {
         logicTable = tableRuleConfig.getLogicTable().toLowerCase();
         List<String> dataNodes = new InlineExpressionParser(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
-        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
         actualDataNodes = isEmptyDataNodes(dataNodes)
             ? generateDataNodes(tableRuleConfig.getLogicTable(), shardingDataSourceNames.getDataSourceNames()) : generateDataNodes(dataNodes, shardingDataSourceNames.getDataSourceNames());
-        actualTables = getActualTables();
+        actualTables = createActualTables();
+        dataNodeIndexes = createDataNodeIndexes();
+        actualDatasourceNames = createActualDatasourceNames();
+        dataSourceToTablesMap = createDataSourceToTablesMap();
+        dataNodeGroups = createDataNodeGroups();
+        tableShardingBoundaryIndex = null == tableRuleConfig.getTableShardingBoundaryConfig() ? null : new ShardingBoundaryIndex(tableRuleConfig.getTableShardingBoundaryConfig(), actualDataNodes);
         databaseShardingStrategy = null == tableRuleConfig.getDatabaseShardingStrategyConfig() ? null : ShardingStrategyFactory.newInstance(tableRuleConfig.getDatabaseShardingStrategyConfig());
         tableShardingStrategy = null == tableRuleConfig.getTableShardingStrategyConfig() ? null : ShardingStrategyFactory.newInstance(tableRuleConfig.getTableShardingStrategyConfig());
         generateKeyColumn = getGenerateKeyColumn(tableRuleConfig.getKeyGeneratorConfig(), defaultGenerateKeyColumn);
@@ -104,14 +137,66 @@ public final class TableRule {
                 ? new ShardingKeyGeneratorServiceLoader().newService(tableRuleConfig.getKeyGeneratorConfig().getType(), tableRuleConfig.getKeyGeneratorConfig().getProperties()) : null;
     }
     
-    private Set<String> getActualTables() {
-        Set<String> result = new HashSet<>(actualDataNodes.size(), 1);
+    private Set<String> createActualTables() {
+        Set<String> result = new LinkedHashSet<>(actualDataNodes.size(), 1);
         for (DataNode each : actualDataNodes) {
             result.add(each.getTableName());
         }
+        return new ShardingTargetNames(result);
+    }
+    
+    private Map<String, Map<String, Integer>> createDataNodeIndexes() {
+        Map<String, Map<String, Integer>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        int index = 0;
+        for (DataNode each : actualDataNodes) {
+            if (!result.containsKey(each.getDataSourceName())) {
+                result.put(each.getDataSourceName(), new TreeMap<String, Integer>(String.CASE_INSENSITIVE_ORDER));
+            }
+            result.get(each.getDataSourceName()).put(each.getTableName(), index);
+            index++;
+        }
         return result;
     }
     
+    private Collection<String> createActualDatasourceNames() {
+        Set<String> result = new LinkedHashSet<>(actualDataNodes.size());
+        for (DataNode each : actualDataNodes) {
+            result.add(each.getDataSourceName());
+        }
+        return new ShardingTargetNames(result);
+    }
+    
+    private Map<String, Collection<String>> createDataSourceToTablesMap() {
+        Map<String, Set<String>> actualTableNames = new HashMap<>(actualDatasourceNames.size(), 1);
+        for (DataNode each : actualDataNodes) {
+            if (!actualTableNames.containsKey(each.getDataSourceName())) {
+                actualTableNames.put(each.getDataSourceName(), new LinkedHashSet<String>());
+            }
+            actualTableNames.get(each.getDataSourceName()).add(each.getTableName());
+        }
+        Map<String, Collection<String>> result = new HashMap<>(actualTableNames.size(), 1);
+        for (Entry<String, Set<String>> entry : actualTableNames.entrySet()) {
+            result.put(entry.getKey(), new ShardingTargetNames(entry.getValue()));
+        }
+        return result;
+    }
+    
+    private Map<String, List<DataNode>> createDataNodeGroups() {
+        Map<String, List<DataNode>> groups = new LinkedHashMap<>(actualDataNodes.size(), 1);
+        for (DataNode each : actualDataNodes) {
+            String dataSourceName = each.getDataSourceName();
+            if (!groups.containsKey(dataSourceName)) {
+                groups.put(dataSourceName, new ArrayList<DataNode>());
+            }
+            groups.get(dataSourceName).add(each);
+        }
+        Map<String, List<DataNode>> result = new LinkedHashMap<>(groups.size(), 1);
+        for (Entry<String, List<DataNode>> entry : groups.entrySet()) {
+            result.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
     private boolean containsKeyGeneratorConfiguration(final TableRuleConfiguration tableRuleConfiguration) {
         return null != tableRuleConfiguration.getKeyGeneratorConfig() && !Strings.isNullOrEmpty(tableRuleConfiguration.getKeyGeneratorConfig().getType());
     }
@@ -128,30 +213,23 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final String logicTable, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
-        int index = 0;
+        List<DataNode> result = new ArrayList<>(dataSourceNames.size());
         for (String each : dataSourceNames) {
-            DataNode dataNode = new DataNode(each, logicTable);
-            result.add(dataNode);
-            dataNodeIndexMap.put(dataNode, index);
-            index++;
+            result.add(new DataNode(each, logicTable));
         }
-        return result;
+        return Collections.unmodifiableList(result);
     }
     
     private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
-        int index = 0;
+        List<DataNode> result = new ArrayList<>(actualDataNodes.size());
         for (String each : actualDataNodes) {
             DataNode dataNode = new DataNode(each);
             if (!dataSourceNames.contains(dataNode.getDataSourceName())) {
                 throw new ShardingException("Cannot find data source in sharding rule, invalid actual data node is: '%s'", each);
             }
             result.add(dataNode);
-            dataNodeIndexMap.put(dataNode, index);
-            index++;
         }
-        return result;
+        return Collections.unmodifiableList(result);
     }
     
     /**
@@ -160,15 +238,7 @@ public final class TableRule {
      * @return data node groups, key is data source name, value is tables belong to this data source
      */
     public Map<String, List<DataNode>> getDataNodeGroups() {
-        Map<String, List<DataNode>> result = new LinkedHashMap<>(actualDataNodes.size(), 1);
-        for (DataNode each : actualDataNodes) {
-            String dataSourceName = each.getDataSourceName();
-            if (!result.containsKey(dataSourceName)) {
-                result.put(dataSourceName, new LinkedList<DataNode>());
-            }
-            result.get(dataSourceName).add(each);
-        }
-        return result;
+        return dataNodeGroups;
     }
     
     /**
@@ -177,11 +247,16 @@ public final class TableRule {
      * @return actual data source names
      */
     public Collection<String> getActualDatasourceNames() {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            result.add(each.getDataSourceName());
-        }
-        return result;
+        return actualDatasourceNames;
+    }
+    
+    /**
+     * Get all actual table names.
+     *
+     * @return names of actual tables
+     */
+    public Collection<String> getActualTableNames() {
+        return actualTables;
     }
     
     /**
@@ -191,18 +266,39 @@ public final class TableRule {
      * @return names of actual tables
      */
     public Collection<String> getActualTableNames(final String targetDataSource) {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            if (targetDataSource.equals(each.getDataSourceName())) {
-                result.add(each.getTableName());
+        Collection<String> result = dataSourceToTablesMap.get(targetDataSource);
+        return null == result ? Collections.<String>emptySet() : result;
+    }
+    
+    /**
+     * Find actual table names via target data source name and range route value by table sharding boundaries.
+     *
+     * @param targetDataSource target data source name
+     * @param rangeRouteValue range route value
+     * @return names of actual tables, absent if table sharding boundaries are not configured or not suitable for range route value
+     */
+    public Optional<Collection<String>> findActualTableNames(final String targetDataSource, final RangeRouteValue<?> rangeRouteValue) {
+        if (null == tableShardingBoundaryIndex || !tableShardingBoundaryIndex.isShardingColumn(rangeRouteValue.getColumnName())) {
+            return Optional.absent();
+        }
+        Optional<Collection<String>> actualTableNames = tableShardingBoundaryIndex.getActualTableNames(rangeRouteValue.getValueRange());
+        if (!actualTableNames.isPresent()) {
+            return Optional.absent();
+        }
+        Collection<String> availableTargetTables = getActualTableNames(targetDataSource);
+        Collection<String> result = new LinkedHashSet<>(actualTableNames.get().size(), 1);
+        for (String each : actualTableNames.get()) {
+            if (availableTargetTables.contains(each)) {
+                result.add(each);
             }
         }
-        return result;
+        return Optional.of(result);
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        DataNode dataNode = new DataNode(dataSourceName, actualTableName);
-        return dataNodeIndexMap.containsKey(dataNode) ? dataNodeIndexMap.get(dataNode) : -1;
+        Map<String, Integer> tableIndexes = dataNodeIndexes.get(dataSourceName);
+        Integer result = null == tableIndexes ? null : tableIndexes.get(actualTableName);
+        return null == result ? -1 : result;
     }
     
     boolean isExisted(final String actualTableName) {
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route;
+
+import com.google.common.base.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Sharding function, which describes how sharding value is mapped to suffix of target name.
+ * 
+ * <p>
+ * Strategies with equal sharding functions route equal sharding values to targets with equal suffixes,
+ * so targets of them can be aligned by suffixes.
+ * </p>
+ */
+@Getter
+@EqualsAndHashCode(of = "expression")
+public final class ShardingFunction {
+    
+    private final String expression;
+    
+    private final String prefix;
+    
+    private ShardingFunction(final String expression, final String prefix) {
+        this.expression = expression;
+        this.prefix = prefix;
+    }
+    
+    /**
+     * Create sharding function which maps sharding value to suffix following literal prefix of target name.
+     * 
+     * @param expression expression of sharding function, which is independent from sharding column and prefix
+     * @param prefix literal prefix of target name
+     * @return sharding function
+     */
+    public static ShardingFunction newPrefixedInstance(final String expression, final String prefix) {
+        return new ShardingFunction("prefixed:" + expression, prefix);
+    }
+    
+    /**
+     * Create sharding function which maps sharding value to numeric suffix of target name.
+     * 
+     * @param expression expression of sharding function, which is independent from sharding column
+     * @return sharding function
+     */
+    public static ShardingFunction newNumericInstance(final String expression) {
+        return new ShardingFunction("numeric:" + expression, null);
+    }
+    
+    /**
+     * Get suffix of target name.
+     * 
+     * @param targetName target name
+     * @return suffix of target name, absent if target name is not mapped by sharding function
+     */
+    public Optional<String> getSuffix(final String targetName) {
+        return null == prefix ? getNumericSuffix(targetName) : getPrefixedSuffix(targetName);
+    }
+    
+    private Optional<String> getPrefixedSuffix(final String targetName) {
+        return targetName.length() >= prefix.length() && targetName.regionMatches(true, 0, prefix, 0, prefix.length())
+                ? Optional.of(targetName.substring(prefix.length()).toLowerCase()) : Optional.<String>absent();
+    }
+    
+    private Optional<String> getNumericSuffix(final String targetName) {
+        int index = targetName.length();
+        while (index > 0 && Character.isDigit(targetName.charAt(index - 1))) {
+            index--;
+        }
+        return index == targetName.length() ? Optional.<String>absent() : Optional.of(targetName.substring(index));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.strategy.route;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
 import java.util.Collection;
@@ -43,4 +44,26 @@ public interface ShardingStrategy {
      * @return sharding results for data sources or tables's names
      */
     Collection<String> doSharding(Collection<String> availableTargetNames, Collection<RouteValue> shardingValues);
+    
+    /**
+     * Judge is deterministic or not.
+     * 
+     * <p>
+     * Deterministic sharding strategy always returns same targets for same available targets and sharding values.
+     * </p>
+     *
+     * @return is deterministic or not
+     */
+    boolean isDeterministic();
+    
+    /**
+     * Get sharding function.
+     * 
+     * <p>
+     * Strategies with equal sharding functions route equal sharding values to targets with equal suffixes.
+     * </p>
+     *
+     * @return sharding function, absent if targets cannot be aligned with targets of other strategies
+     */
+    Optional<ShardingFunction> getShardingFunction();
 }
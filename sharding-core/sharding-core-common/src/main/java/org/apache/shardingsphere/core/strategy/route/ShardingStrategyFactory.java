@@ -24,11 +24,14 @@ import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrate
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.TypeBasedShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.spi.algorithm.sharding.TypeBasedShardingAlgorithmServiceLoader;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.spi.sharding.TypeBasedShardingAlgorithm;
 
 /**
  * Sharding strategy factory.
@@ -48,6 +51,9 @@ public final class ShardingStrategyFactory {
         if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
             return new StandardShardingStrategy((StandardShardingStrategyConfiguration) shardingStrategyConfig);
         }
+        if (shardingStrategyConfig instanceof TypeBasedShardingStrategyConfiguration) {
+            return createTypeBasedShardingStrategy((TypeBasedShardingStrategyConfiguration) shardingStrategyConfig);
+        }
         if (shardingStrategyConfig instanceof InlineShardingStrategyConfiguration) {
             return new InlineShardingStrategy((InlineShardingStrategyConfiguration) shardingStrategyConfig);
         }
@@ -59,4 +65,10 @@ public final class ShardingStrategyFactory {
         }
         return new NoneShardingStrategy();
     }
+    
+    private static ShardingStrategy createTypeBasedShardingStrategy(final TypeBasedShardingStrategyConfiguration typeBasedShardingStrategyConfig) {
+        TypeBasedShardingAlgorithm shardingAlgorithm = new TypeBasedShardingAlgorithmServiceLoader().newService(typeBasedShardingStrategyConfig.getType(), typeBasedShardingStrategyConfig.getProperties());
+        shardingAlgorithm.init();
+        return new StandardShardingStrategy(new StandardShardingStrategyConfiguration(typeBasedShardingStrategyConfig.getShardingColumn(), shardingAlgorithm, shardingAlgorithm));
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Sharding target bit set, which collects routed target names as bits of indexes of available target names.
+ * 
+ * <p>
+ * Routed target names are deduplicated by bits without collecting and sorting names one by one,
+ * routed target names which are not available are collected as they are.
+ * Single routed target name does not need deduplicating, so it is resolved without bit set.
+ * </p>
+ */
+public final class ShardingTargetBitSet {
+    
+    private final ShardingTargetNames availableTargetNames;
+    
+    private final BitSet bits;
+    
+    private Collection<String> unavailableTargetNames;
+    
+    public ShardingTargetBitSet(final Collection<String> availableTargetNames) {
+        this.availableTargetNames = ShardingTargetNames.valueOf(availableTargetNames);
+        bits = new BitSet(this.availableTargetNames.getIndexedSize());
+    }
+    
+    /**
+     * Get routed target names of single routed target name.
+     * 
+     * @param availableTargetNames available target names
+     * @param targetName routed target name, ignored if null
+     * @return routed target names
+     */
+    public static Collection<String> getTargetNames(final Collection<String> availableTargetNames, final String targetName) {
+        if (null == targetName) {
+            return Collections.emptySet();
+        }
+        if (availableTargetNames instanceof ShardingTargetNames) {
+            int index = ((ShardingTargetNames) availableTargetNames).indexOf(targetName);
+            return Collections.singleton(index < 0 ? targetName : ((ShardingTargetNames) availableTargetNames).get(index));
+        }
+        for (String each : availableTargetNames) {
+            if (each.equalsIgnoreCase(targetName)) {
+                return Collections.singleton(each);
+            }
+        }
+        return Collections.singleton(targetName);
+    }
+    
+    /**
+     * Add routed target name.
+     * 
+     * @param targetName routed target name, ignored if null
+     */
+    public void add(final String targetName) {
+        if (null == targetName) {
+            return;
+        }
+        int index = availableTargetNames.indexOf(targetName);
+        if (index >= 0) {
+            bits.set(index);
+            return;
+        }
+        if (null == unavailableTargetNames) {
+            unavailableTargetNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        }
+        unavailableTargetNames.add(targetName);
+    }
+    
+    /**
+     * Get routed target names.
+     * 
+     * @return routed target names in case insensitive order
+     */
+    public Collection<String> getTargetNames() {
+        List<String> availableResult = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            availableResult.add(availableTargetNames.get(i));
+        }
+        if (null == unavailableTargetNames) {
+            return new DistinctTargetNames(availableResult);
+        }
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(availableResult);
+        result.addAll(unavailableTargetNames);
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class DistinctTargetNames extends AbstractSet<String> {
+        
+        private final List<String> targetNames;
+        
+        @Override
+        public Iterator<String> iterator() {
+            return Collections.unmodifiableList(targetNames).iterator();
+        }
+        
+        @Override
+        public int size() {
+            return targetNames.size();
+        }
+    }
+}
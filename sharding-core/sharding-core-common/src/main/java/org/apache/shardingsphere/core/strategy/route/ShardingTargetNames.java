@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable sharding target names, indexed by case insensitive order of names.
+ * 
+ * <p>
+ * Index is built once when creating, so sharding target bit sets of same available target names share it.
+ * Available target names of table rule are created as sharding target names, other available target names are indexed for each sharding.
+ * </p>
+ */
+public final class ShardingTargetNames extends AbstractSet<String> {
+    
+    private final Set<String> targetNames;
+    
+    private final String[] sortedTargetNames;
+    
+    public ShardingTargetNames(final Collection<String> targetNames) {
+        this.targetNames = Collections.unmodifiableSet(new LinkedHashSet<>(targetNames));
+        Collection<String> sortedTargetNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        sortedTargetNames.addAll(targetNames);
+        this.sortedTargetNames = sortedTargetNames.toArray(new String[sortedTargetNames.size()]);
+    }
+    
+    /**
+     * Get sharding target names of available target names.
+     * 
+     * @param availableTargetNames available target names
+     * @return available target names if they are sharding target names, or new created sharding target names
+     */
+    public static ShardingTargetNames valueOf(final Collection<String> availableTargetNames) {
+        return availableTargetNames instanceof ShardingTargetNames ? (ShardingTargetNames) availableTargetNames : new ShardingTargetNames(availableTargetNames);
+    }
+    
+    /**
+     * Get index of target name in case insensitive order.
+     * 
+     * @param targetName target name
+     * @return index of target name, negative if target name is not available
+     */
+    public int indexOf(final String targetName) {
+        int result = Arrays.binarySearch(sortedTargetNames, targetName, String.CASE_INSENSITIVE_ORDER);
+        return result < 0 ? -1 : result;
+    }
+    
+    /**
+     * Get target name by index in case insensitive order.
+     * 
+     * @param index index of target name
+     * @return target name
+     */
+    public String get(final int index) {
+        return sortedTargetNames[index];
+    }
+    
+    /**
+     * Get count of indexed target names.
+     * 
+     * @return count of indexed target names
+     */
+    public int getIndexedSize() {
+        return sortedTargetNames.length;
+    }
+    
+    @Override
+    public Iterator<String> iterator() {
+        return targetNames.iterator();
+    }
+    
+    @Override
+    public int size() {
+        return targetNames.size();
+    }
+    
+    @Override
+    public boolean contains(final Object targetName) {
+        return targetNames.contains(targetName);
+    }
+}
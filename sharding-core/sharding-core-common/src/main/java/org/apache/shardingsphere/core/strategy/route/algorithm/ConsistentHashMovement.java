@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.collect.Range;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Movement of hash range between targets of consistent hash rings.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class ConsistentHashMovement {
+    
+    private final Range<Integer> hashRange;
+    
+    private final String sourceTargetName;
+    
+    private final String destinationTargetName;
+    
+    /**
+     * Judge whether sharding value is moved or not.
+     * 
+     * @param value sharding value
+     * @return sharding value is moved or not
+     */
+    public boolean isMoved(final Comparable<?> value) {
+        return hashRange.contains(ConsistentHashRing.getHash(value));
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Consistent hash ring.
+ * 
+ * <p>
+ * Each target owns virtual nodes on ring, and sharding value is owned by first virtual node whose hash is not less than hash of sharding value.
+ * Hashes of virtual nodes are kept in sorted primitive array, so owner of sharding value is looked up by binary search.
+ * </p>
+ */
+public final class ConsistentHashRing {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_32();
+    
+    private final int[] hashes;
+    
+    private final String[] targetNames;
+    
+    public ConsistentHashRing(final Map<String, Integer> virtualNodeCounts) {
+        Preconditions.checkArgument(!virtualNodeCounts.isEmpty(), "Targets of consistent hash ring cannot be empty.");
+        List<VirtualNode> virtualNodes = createVirtualNodes(virtualNodeCounts);
+        int[] sortedHashes = new int[virtualNodes.size()];
+        String[] sortedTargetNames = new String[virtualNodes.size()];
+        int size = 0;
+        for (VirtualNode each : virtualNodes) {
+            if (0 == size || sortedHashes[size - 1] != each.hash) {
+                sortedHashes[size] = each.hash;
+                sortedTargetNames[size] = each.targetName;
+                size++;
+            }
+        }
+        hashes = Arrays.copyOf(sortedHashes, size);
+        targetNames = Arrays.copyOf(sortedTargetNames, size);
+    }
+    
+    private List<VirtualNode> createVirtualNodes(final Map<String, Integer> virtualNodeCounts) {
+        List<VirtualNode> result = new ArrayList<>();
+        for (Entry<String, Integer> entry : virtualNodeCounts.entrySet()) {
+            Preconditions.checkArgument(entry.getValue() > 0, "Virtual node count of '%s' must be positive.", entry.getKey());
+            for (int i = 0; i < entry.getValue(); i++) {
+                result.add(new VirtualNode(hash(entry.getKey() + "#" + i), entry.getKey()));
+            }
+        }
+        Collections.sort(result, new Comparator<VirtualNode>() {
+            
+            @Override
+            public int compare(final VirtualNode o1, final VirtualNode o2) {
+                int compared = Integer.compare(o1.hash, o2.hash);
+                return 0 == compared ? o1.targetName.compareTo(o2.targetName) : compared;
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * Get hash of sharding value.
+     * 
+     * @param value sharding value
+     * @return hash of sharding value
+     */
+    public static int getHash(final Comparable<?> value) {
+        return hash(String.valueOf(value));
+    }
+    
+    private static int hash(final String value) {
+        return HASH_FUNCTION.hashString(value, Charsets.UTF_8).asInt();
+    }
+    
+    /**
+     * Get target name of sharding value.
+     * 
+     * @param value sharding value
+     * @return target name
+     */
+    public String getTargetName(final Comparable<?> value) {
+        return getTargetName(getHash(value));
+    }
+    
+    private String getTargetName(final int hash) {
+        int index = Arrays.binarySearch(hashes, hash);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index == hashes.length ? targetNames[0] : targetNames[index];
+    }
+    
+    /**
+     * Get movements of hash ranges from this ring to proposed ring.
+     * 
+     * <p>
+     * Only hash ranges whose owners are changed are returned, adjacent hash ranges with same source and destination are merged.
+     * </p>
+     * 
+     * @param proposedRing proposed consistent hash ring
+     * @return movements of hash ranges
+     */
+    public List<ConsistentHashMovement> getMovements(final ConsistentHashRing proposedRing) {
+        List<ConsistentHashMovement> result = new ArrayList<>();
+        long lowerExclusive = Integer.MIN_VALUE - 1L;
+        MovementBuilder builder = new MovementBuilder(result);
+        for (int each : mergeHashes(hashes, proposedRing.hashes)) {
+            builder.add(lowerExclusive, each, getTargetName(each), proposedRing.getTargetName(each));
+            lowerExclusive = each;
+        }
+        if (lowerExclusive < Integer.MAX_VALUE) {
+            builder.add(lowerExclusive, Integer.MAX_VALUE, getTargetName(Integer.MAX_VALUE), proposedRing.getTargetName(Integer.MAX_VALUE));
+        }
+        builder.flush();
+        return result;
+    }
+    
+    private int[] mergeHashes(final int[] oneHashes, final int[] otherHashes) {
+        int[] result = new int[oneHashes.length + otherHashes.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < oneHashes.length || j < otherHashes.length) {
+            int next = j >= otherHashes.length || i < oneHashes.length && oneHashes[i] <= otherHashes[j] ? oneHashes[i++] : otherHashes[j++];
+            if (0 == size || result[size - 1] != next) {
+                result[size++] = next;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+    
+    private static final class VirtualNode {
+        
+        private final int hash;
+        
+        private final String targetName;
+        
+        VirtualNode(final int hash, final String targetName) {
+            this.hash = hash;
+            this.targetName = targetName;
+        }
+    }
+    
+    private static final class MovementBuilder {
+        
+        private final List<ConsistentHashMovement> movements;
+        
+        private long lowerExclusive;
+        
+        private long upperInclusive;
+        
+        private String sourceTargetName;
+        
+        private String destinationTargetName;
+        
+        MovementBuilder(final List<ConsistentHashMovement> movements) {
+            this.movements = movements;
+        }
+        
+        void add(final long lowerExclusive, final long upperInclusive, final String sourceTargetName, final String destinationTargetName) {
+            if (null != this.sourceTargetName && this.upperInclusive == lowerExclusive 
+                    && this.sourceTargetName.equals(sourceTargetName) && this.destinationTargetName.equals(destinationTargetName)) {
+                this.upperInclusive = upperInclusive;
+                return;
+            }
+            flush();
+            if (!sourceTargetName.equals(destinationTargetName)) {
+                this.lowerExclusive = lowerExclusive;
+                this.upperInclusive = upperInclusive;
+                this.sourceTargetName = sourceTargetName;
+                this.destinationTargetName = destinationTargetName;
+            }
+        }
+        
+        void flush() {
+            if (null == sourceTargetName) {
+                return;
+            }
+            Range<Integer> hashRange = lowerExclusive < Integer.MIN_VALUE
+                    ? Range.closed(Integer.MIN_VALUE, (int) upperInclusive) : Range.openClosed((int) lowerExclusive, (int) upperInclusive);
+            movements.add(new ConsistentHashMovement(hashRange, sourceTargetName, destinationTargetName));
+            sourceTargetName = null;
+            destinationTargetName = null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.api.sharding.DeterministicShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.spi.sharding.TypeBasedShardingAlgorithm;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Consistent hash sharding algorithm.
+ * 
+ * <p>
+ * Route sharding value by consistent hash ring of available targets, each target owns {@code virtual-node-count} virtual nodes,
+ * which can be overridden for each target by {@code virtual-node-count.<target name>}.
+ * Hash does not keep order of sharding values, so range sharding value is routed to all targets.
+ * Rings are cached by set of available targets, so equal targets share the ring whatever collections they are passed in.
+ * </p>
+ */
+public final class ConsistentHashShardingAlgorithm implements TypeBasedShardingAlgorithm, DeterministicShardingAlgorithm {
+    
+    private static final String VIRTUAL_NODE_COUNT = "virtual-node-count";
+    
+    private static final int DEFAULT_VIRTUAL_NODE_COUNT = 160;
+    
+    @Getter
+    @Setter
+    private Properties properties = new Properties();
+    
+    private int virtualNodeCount;
+    
+    private final Cache<Collection<String>, ConsistentHashRing> rings = CacheBuilder.newBuilder().build();
+    
+    @Override
+    public String getType() {
+        return "CONSISTENT_HASH";
+    }
+    
+    @Override
+    public void init() {
+        virtualNodeCount = null == properties.getProperty(VIRTUAL_NODE_COUNT) ? DEFAULT_VIRTUAL_NODE_COUNT : Integer.parseInt(properties.getProperty(VIRTUAL_NODE_COUNT).trim());
+        Preconditions.checkArgument(virtualNodeCount > 0, "%s must be positive.", VIRTUAL_NODE_COUNT);
+        rings.invalidateAll();
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        return getRing(availableTargetNames).getTargetName(shardingValue.getValue());
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        return new LinkedHashSet<>(availableTargetNames);
+    }
+    
+    private ConsistentHashRing getRing(final Collection<String> availableTargetNames) {
+        Collection<String> key = ImmutableSet.copyOf(availableTargetNames);
+        ConsistentHashRing result = rings.getIfPresent(key);
+        if (null == result) {
+            result = createRing(key);
+            rings.put(key, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Create consistent hash ring.
+     * 
+     * @param targetNames data sources or tables's names
+     * @return consistent hash ring
+     */
+    public ConsistentHashRing createRing(final Collection<String> targetNames) {
+        Map<String, Integer> virtualNodeCounts = new LinkedHashMap<>(targetNames.size(), 1);
+        for (String each : targetNames) {
+            String targetVirtualNodeCount = properties.getProperty(VIRTUAL_NODE_COUNT + "." + each);
+            virtualNodeCounts.put(each, null == targetVirtualNodeCount ? virtualNodeCount : Integer.parseInt(targetVirtualNodeCount.trim()));
+        }
+        return new ConsistentHashRing(virtualNodeCounts);
+    }
+    
+    /**
+     * Plan movements of hash ranges for changing targets.
+     * 
+     * @param currentTargetNames current data sources or tables's names
+     * @param proposedTargetNames proposed data sources or tables's names
+     * @return movements of hash ranges
+     */
+    public List<ConsistentHashMovement> planMovements(final Collection<String> currentTargetNames, final Collection<String> proposedTargetNames) {
+        return createRing(currentTargetNames).getMovements(createRing(proposedTargetNames));
+    }
+}
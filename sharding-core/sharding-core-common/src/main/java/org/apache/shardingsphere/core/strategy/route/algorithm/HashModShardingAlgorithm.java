@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.api.sharding.DeterministicShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.spi.sharding.TypeBasedShardingAlgorithm;
+
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * Hash modulo sharding algorithm.
+ * 
+ * <p>
+ * Route sharding value to target which suffix is hash code of sharding value modulo {@code sharding-count}.
+ * Hash code does not keep order of sharding values, so range sharding value is routed to all targets.
+ * </p>
+ */
+public final class HashModShardingAlgorithm implements TypeBasedShardingAlgorithm, DeterministicShardingAlgorithm {
+    
+    private static final String SHARDING_COUNT = "sharding-count";
+    
+    @Getter
+    @Setter
+    private Properties properties = new Properties();
+    
+    @Getter
+    private int shardingCount;
+    
+    private ShardingTargetTable targetTable;
+    
+    @Override
+    public String getType() {
+        return "HASH_MOD";
+    }
+    
+    @Override
+    public void init() {
+        Preconditions.checkArgument(null != properties.getProperty(SHARDING_COUNT), "%s can not be null.", SHARDING_COUNT);
+        shardingCount = Integer.parseInt(properties.getProperty(SHARDING_COUNT).trim());
+        Preconditions.checkArgument(shardingCount > 0, "%s must be positive.", SHARDING_COUNT);
+        String[] suffixes = new String[shardingCount];
+        for (int i = 0; i < shardingCount; i++) {
+            suffixes[i] = String.valueOf(i);
+        }
+        targetTable = new ShardingTargetTable(suffixes);
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        int hashCode = shardingValue.getValue().hashCode();
+        return targetTable.getTargetName(availableTargetNames, (hashCode % shardingCount + shardingCount) % shardingCount);
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        return targetTable.getTargetNames(availableTargetNames);
+    }
+}
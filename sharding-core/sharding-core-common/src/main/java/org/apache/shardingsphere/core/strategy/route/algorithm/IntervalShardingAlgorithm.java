@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.api.sharding.DeterministicShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.spi.sharding.TypeBasedShardingAlgorithm;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Interval sharding algorithm.
+ * 
+ * <p>
+ * Split {@code [datetime-lower, datetime-upper)} into intervals of {@code datetime-interval-amount} {@code datetime-interval-unit},
+ * suffix of each interval is its start time formatted by {@code sharding-suffix-pattern}.
+ * Start times of intervals are precomputed, so both precise and range sharding values are routed by binary search.
+ * Sharding value out of {@code [datetime-lower, datetime-upper)} cannot be routed.
+ * </p>
+ */
+public final class IntervalShardingAlgorithm implements TypeBasedShardingAlgorithm, DeterministicShardingAlgorithm {
+    
+    private static final String DATE_TIME_PATTERN = "datetime-pattern";
+    
+    private static final String DATE_TIME_LOWER = "datetime-lower";
+    
+    private static final String DATE_TIME_UPPER = "datetime-upper";
+    
+    private static final String SHARDING_SUFFIX_PATTERN = "sharding-suffix-pattern";
+    
+    private static final String INTERVAL_AMOUNT = "datetime-interval-amount";
+    
+    private static final String INTERVAL_UNIT = "datetime-interval-unit";
+    
+    @Getter
+    @Setter
+    private Properties properties = new Properties();
+    
+    private String dateTimePattern;
+    
+    private long dateTimeUpper;
+    
+    private long[] intervalStarts;
+    
+    private ShardingTargetTable targetTable;
+    
+    @Override
+    public String getType() {
+        return "INTERVAL";
+    }
+    
+    @Override
+    public void init() {
+        dateTimePattern = getRequiredProperty(DATE_TIME_PATTERN);
+        long dateTimeLower = parse(getRequiredProperty(DATE_TIME_LOWER));
+        dateTimeUpper = parse(getRequiredProperty(DATE_TIME_UPPER));
+        Preconditions.checkArgument(dateTimeLower < dateTimeUpper, "%s must be earlier than %s.", DATE_TIME_LOWER, DATE_TIME_UPPER);
+        SimpleDateFormat suffixFormat = new SimpleDateFormat(getRequiredProperty(SHARDING_SUFFIX_PATTERN));
+        int intervalAmount = Integer.parseInt(properties.getProperty(INTERVAL_AMOUNT, "1").trim());
+        Preconditions.checkArgument(intervalAmount > 0, "%s must be positive.", INTERVAL_AMOUNT);
+        int intervalUnit = getCalendarField(properties.getProperty(INTERVAL_UNIT, "DAYS").trim());
+        List<Long> starts = new ArrayList<>();
+        List<String> suffixes = new ArrayList<>();
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(dateTimeLower);
+        while (calendar.getTimeInMillis() < dateTimeUpper) {
+            starts.add(calendar.getTimeInMillis());
+            suffixes.add(suffixFormat.format(calendar.getTime()));
+            calendar.add(intervalUnit, intervalAmount);
+        }
+        intervalStarts = new long[starts.size()];
+        for (int i = 0; i < intervalStarts.length; i++) {
+            intervalStarts[i] = starts.get(i);
+        }
+        targetTable = new ShardingTargetTable(suffixes.toArray(new String[suffixes.size()]));
+    }
+    
+    private String getRequiredProperty(final String key) {
+        Preconditions.checkArgument(null != properties.getProperty(key), "%s can not be null.", key);
+        return properties.getProperty(key).trim();
+    }
+    
+    private int getCalendarField(final String intervalUnit) {
+        switch (intervalUnit.toUpperCase()) {
+            case "YEARS":
+                return Calendar.YEAR;
+            case "MONTHS":
+                return Calendar.MONTH;
+            case "WEEKS":
+                return Calendar.WEEK_OF_YEAR;
+            case "DAYS":
+                return Calendar.DAY_OF_MONTH;
+            case "HOURS":
+                return Calendar.HOUR_OF_DAY;
+            case "MINUTES":
+                return Calendar.MINUTE;
+            case "SECONDS":
+                return Calendar.SECOND;
+            default:
+                throw new IllegalArgumentException(String.format("Unsupported %s `%s`.", INTERVAL_UNIT, intervalUnit));
+        }
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        long dateTime = toMillis(shardingValue.getValue());
+        if (dateTime < intervalStarts[0] || dateTime >= dateTimeUpper) {
+            return null;
+        }
+        return targetTable.getTargetName(availableTargetNames, getIndex(dateTime));
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        long lower = valueRange.hasLowerBound() ? Math.max(toMillis(valueRange.lowerEndpoint()), intervalStarts[0]) : intervalStarts[0];
+        long upper = dateTimeUpper - 1;
+        if (valueRange.hasUpperBound()) {
+            long upperEndpoint = toMillis(valueRange.upperEndpoint());
+            upper = Math.min(BoundType.OPEN == valueRange.upperBoundType() ? upperEndpoint - 1 : upperEndpoint, upper);
+        }
+        if (upper < lower) {
+            return new LinkedHashSet<>();
+        }
+        return targetTable.getTargetNames(availableTargetNames, getIndex(lower), getIndex(upper));
+    }
+    
+    private int getIndex(final long dateTime) {
+        int result = Arrays.binarySearch(intervalStarts, dateTime);
+        return result >= 0 ? result : -result - 2;
+    }
+    
+    private long toMillis(final Comparable<?> value) {
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof String) {
+            return parse((String) value);
+        }
+        throw new ShardingException("Unsupported sharding value type `%s` for `%s` sharding algorithm.", value.getClass().getName(), getType());
+    }
+    
+    private long parse(final String dateTime) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat(dateTimePattern);
+        dateFormat.setLenient(false);
+        try {
+            return dateFormat.parse(dateTime).getTime();
+        } catch (final ParseException ex) {
+            throw new ShardingException(String.format("Cannot parse `%s` by %s `%s`.", dateTime, DATE_TIME_PATTERN, dateTimePattern), ex);
+        }
+    }
+}
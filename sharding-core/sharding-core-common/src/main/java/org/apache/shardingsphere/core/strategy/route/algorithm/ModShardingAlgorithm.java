@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.api.sharding.DeterministicShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.spi.sharding.TypeBasedShardingAlgorithm;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+
+/**
+ * Modulo sharding algorithm.
+ * 
+ * <p>
+ * Route sharding value to target which suffix is sharding value modulo {@code sharding-count}.
+ * Range sharding value narrower than {@code sharding-count} is routed by arithmetic, otherwise all targets are routed.
+ * </p>
+ */
+public final class ModShardingAlgorithm implements TypeBasedShardingAlgorithm, DeterministicShardingAlgorithm {
+    
+    private static final String SHARDING_COUNT = "sharding-count";
+    
+    @Getter
+    @Setter
+    private Properties properties = new Properties();
+    
+    @Getter
+    private int shardingCount;
+    
+    private ShardingTargetTable targetTable;
+    
+    @Override
+    public String getType() {
+        return "MOD";
+    }
+    
+    @Override
+    public void init() {
+        Preconditions.checkArgument(null != properties.getProperty(SHARDING_COUNT), "%s can not be null.", SHARDING_COUNT);
+        shardingCount = Integer.parseInt(properties.getProperty(SHARDING_COUNT).trim());
+        Preconditions.checkArgument(shardingCount > 0, "%s must be positive.", SHARDING_COUNT);
+        String[] suffixes = new String[shardingCount];
+        for (int i = 0; i < shardingCount; i++) {
+            suffixes[i] = String.valueOf(i);
+        }
+        targetTable = new ShardingTargetTable(suffixes);
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        return targetTable.getTargetName(availableTargetNames, getIndex(toLong(shardingValue.getValue())));
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        if (!valueRange.hasLowerBound() || !valueRange.hasUpperBound()) {
+            return targetTable.getTargetNames(availableTargetNames);
+        }
+        long lower = toLong(valueRange.lowerEndpoint());
+        long upper = toLong(valueRange.upperEndpoint());
+        if (BoundType.OPEN == valueRange.lowerBoundType()) {
+            lower++;
+        }
+        if (BoundType.OPEN == valueRange.upperBoundType()) {
+            upper--;
+        }
+        if (upper < lower) {
+            return new LinkedHashSet<>();
+        }
+        if (upper - lower < 0 || upper - lower >= shardingCount - 1) {
+            return targetTable.getTargetNames(availableTargetNames);
+        }
+        Collection<String> result = new LinkedHashSet<>();
+        for (long each = lower; each <= upper; each++) {
+            String targetName = targetTable.getTargetName(availableTargetNames, getIndex(each));
+            if (null != targetName) {
+                result.add(targetName);
+            }
+        }
+        return result;
+    }
+    
+    private int getIndex(final long value) {
+        return (int) ((value % shardingCount + shardingCount) % shardingCount);
+    }
+    
+    private long toLong(final Comparable<?> value) {
+        return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString().trim());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.base.Optional;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Sharding target table, which maps index of sharding algorithm to target name by precomputed suffix.
+ * 
+ * <p>
+ * Prefix of target names is resolved once for each group of available target names,
+ * then target name of index is looked up by prefix and suffix without iterating available target names.
+ * </p>
+ */
+final class ShardingTargetTable {
+    
+    private final String[] suffixes;
+    
+    private final ConcurrentMap<String, Optional<String>> prefixes = new ConcurrentHashMap<>();
+    
+    ShardingTargetTable(final String[] suffixes) {
+        this.suffixes = suffixes;
+    }
+    
+    /**
+     * Get size of target table.
+     * 
+     * @return size of target table
+     */
+    int size() {
+        return suffixes.length;
+    }
+    
+    /**
+     * Get target name.
+     * 
+     * @param availableTargetNames available data sources or tables's names
+     * @param index index of target
+     * @return target name, null if absent
+     */
+    String getTargetName(final Collection<String> availableTargetNames, final int index) {
+        String suffix = suffixes[index];
+        Optional<String> prefix = getPrefix(availableTargetNames);
+        if (prefix.isPresent() && availableTargetNames.contains(prefix.get() + suffix)) {
+            return prefix.get() + suffix;
+        }
+        for (String each : availableTargetNames) {
+            if (isMatched(each, suffix)) {
+                return each;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Get target names.
+     * 
+     * @param availableTargetNames available data sources or tables's names
+     * @param fromIndex from index of targets, inclusive
+     * @param toIndex to index of targets, inclusive
+     * @return target names
+     */
+    Collection<String> getTargetNames(final Collection<String> availableTargetNames, final int fromIndex, final int toIndex) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (int i = fromIndex; i <= toIndex; i++) {
+            String targetName = getTargetName(availableTargetNames, i);
+            if (null != targetName) {
+                result.add(targetName);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get all target names.
+     * 
+     * @param availableTargetNames available data sources or tables's names
+     * @return target names
+     */
+    Collection<String> getTargetNames(final Collection<String> availableTargetNames) {
+        return getTargetNames(availableTargetNames, 0, suffixes.length - 1);
+    }
+    
+    private Optional<String> getPrefix(final Collection<String> availableTargetNames) {
+        if (availableTargetNames.isEmpty()) {
+            return Optional.absent();
+        }
+        String firstTargetName = availableTargetNames.iterator().next();
+        Optional<String> result = prefixes.get(firstTargetName);
+        if (null == result) {
+            result = resolvePrefix(firstTargetName);
+            prefixes.putIfAbsent(firstTargetName, result);
+        }
+        return result;
+    }
+    
+    private Optional<String> resolvePrefix(final String targetName) {
+        String matchedSuffix = null;
+        for (String each : suffixes) {
+            if (isMatched(targetName, each) && (null == matchedSuffix || each.length() > matchedSuffix.length())) {
+                matchedSuffix = each;
+            }
+        }
+        return null == matchedSuffix ? Optional.<String>absent() : Optional.of(targetName.substring(0, targetName.length() - matchedSuffix.length()));
+    }
+    
+    private boolean isMatched(final String targetName, final String suffix) {
+        if (!targetName.endsWith(suffix)) {
+            return false;
+        }
+        int prefixLength = targetName.length() - suffix.length();
+        return 0 == prefixLength || suffix.isEmpty() || !Character.isDigit(suffix.charAt(0)) || !Character.isDigit(targetName.charAt(prefixLength - 1));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.api.sharding.DeterministicShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.spi.sharding.TypeBasedShardingAlgorithm;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+
+/**
+ * Volume range sharding algorithm.
+ * 
+ * <p>
+ * Split {@code [range-lower, range-upper)} into partitions of {@code sharding-volume}, which suffixes start from 1.
+ * Sharding value less than {@code range-lower} is routed to suffix 0,
+ * and sharding value not less than {@code range-upper} is routed to the last suffix.
+ * Both precise and range sharding values are routed by arithmetic.
+ * </p>
+ */
+public final class VolumeRangeShardingAlgorithm implements TypeBasedShardingAlgorithm, DeterministicShardingAlgorithm {
+    
+    private static final String RANGE_LOWER = "range-lower";
+    
+    private static final String RANGE_UPPER = "range-upper";
+    
+    private static final String SHARDING_VOLUME = "sharding-volume";
+    
+    @Getter
+    @Setter
+    private Properties properties = new Properties();
+    
+    private long rangeLower;
+    
+    private long rangeUpper;
+    
+    private long shardingVolume;
+    
+    private ShardingTargetTable targetTable;
+    
+    @Override
+    public String getType() {
+        return "VOLUME_RANGE";
+    }
+    
+    @Override
+    public void init() {
+        rangeLower = getLongProperty(RANGE_LOWER);
+        rangeUpper = getLongProperty(RANGE_UPPER);
+        shardingVolume = getLongProperty(SHARDING_VOLUME);
+        Preconditions.checkArgument(rangeLower < rangeUpper, "%s must be less than %s.", RANGE_LOWER, RANGE_UPPER);
+        Preconditions.checkArgument(shardingVolume > 0, "%s must be positive.", SHARDING_VOLUME);
+        long partitionCount = (rangeUpper - rangeLower + shardingVolume - 1) / shardingVolume;
+        Preconditions.checkArgument(partitionCount > 0 && partitionCount < Integer.MAX_VALUE - 1, "Too many partitions between %s and %s.", RANGE_LOWER, RANGE_UPPER);
+        String[] suffixes = new String[(int) partitionCount + 2];
+        for (int i = 0; i < suffixes.length; i++) {
+            suffixes[i] = String.valueOf(i);
+        }
+        targetTable = new ShardingTargetTable(suffixes);
+    }
+    
+    private long getLongProperty(final String key) {
+        Preconditions.checkArgument(null != properties.getProperty(key), "%s can not be null.", key);
+        return Long.parseLong(properties.getProperty(key).trim());
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        return targetTable.getTargetName(availableTargetNames, getIndex(toLong(shardingValue.getValue())));
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        int fromIndex = 0;
+        int toIndex = targetTable.size() - 1;
+        if (valueRange.hasLowerBound()) {
+            long lower = toLong(valueRange.lowerEndpoint());
+            if (BoundType.OPEN == valueRange.lowerBoundType()) {
+                if (Long.MAX_VALUE == lower) {
+                    return new LinkedHashSet<>();
+                }
+                lower++;
+            }
+            fromIndex = getIndex(lower);
+        }
+        if (valueRange.hasUpperBound()) {
+            long upper = toLong(valueRange.upperEndpoint());
+            if (BoundType.OPEN == valueRange.upperBoundType()) {
+                if (Long.MIN_VALUE == upper) {
+                    return new LinkedHashSet<>();
+                }
+                upper--;
+            }
+            toIndex = getIndex(upper);
+        }
+        return targetTable.getTargetNames(availableTargetNames, fromIndex, toIndex);
+    }
+    
+    private int getIndex(final long value) {
+        if (value < rangeLower) {
+            return 0;
+        }
+        if (value >= rangeUpper) {
+            return targetTable.size() - 1;
+        }
+        return (int) ((value - rangeLower) / shardingVolume) + 1;
+    }
+    
+    private long toLong(final Comparable<?> value) {
+        return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString().trim());
+    }
+}
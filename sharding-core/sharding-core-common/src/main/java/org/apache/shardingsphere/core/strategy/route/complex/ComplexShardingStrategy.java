@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.core.strategy.route.complex;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.sharding.DeterministicShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingValue;
+import org.apache.shardingsphere.core.strategy.route.ShardingFunction;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
@@ -66,4 +69,14 @@ public final class ComplexShardingStrategy implements ShardingStrategy {
         result.addAll(shardingResult);
         return result;
     }
+    
+    @Override
+    public boolean isDeterministic() {
+        return shardingAlgorithm instanceof DeterministicShardingAlgorithm;
+    }
+    
+    @Override
+    public Optional<ShardingFunction> getShardingFunction() {
+        return Optional.absent();
+    }
 }
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.core.strategy.route.hint;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.sharding.DeterministicShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.hint.HintShardingValue;
+import org.apache.shardingsphere.core.strategy.route.ShardingFunction;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
@@ -57,4 +60,14 @@ public final class HintShardingStrategy implements ShardingStrategy {
         result.addAll(shardingResult);
         return result;
     }
+    
+    @Override
+    public boolean isDeterministic() {
+        return shardingAlgorithm instanceof DeterministicShardingAlgorithm;
+    }
+    
+    @Override
+    public Optional<ShardingFunction> getShardingFunction() {
+        return Optional.absent();
+    }
 }
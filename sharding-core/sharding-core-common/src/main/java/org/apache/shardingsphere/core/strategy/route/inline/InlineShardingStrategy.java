@@ -17,25 +17,32 @@
 
 package org.apache.shardingsphere.core.strategy.route.inline;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import groovy.lang.Closure;
 import groovy.util.Expando;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.core.strategy.route.ShardingFunction;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.ShardingTargetBitSet;
+import org.apache.shardingsphere.core.strategy.route.inline.compile.CompiledInlineExpression;
+import org.apache.shardingsphere.core.strategy.route.inline.compile.InlineExpressionCompiler;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.apache.shardingsphere.core.util.InlineExpressionParser;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.TreeSet;
+import java.util.regex.Pattern;
 
 /**
  * Standard sharding strategy.
  * 
+ * <p>
+ * Algorithm expression is evaluated by compiled inline expression if possible, and by groovy closure otherwise.
+ * </p>
+ * 
  * @author zhangliang
  */
 public final class InlineShardingStrategy implements ShardingStrategy {
@@ -44,39 +51,56 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final Closure<?> closure;
     
+    private final CompiledInlineExpression compiledExpression;
+    
+    private final ShardingFunction shardingFunction;
+    
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
         closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        compiledExpression = new InlineExpressionCompiler(algorithmExpression, shardingColumn).compile().orNull();
+        shardingFunction = createShardingFunction(algorithmExpression);
+    }
+    
+    private ShardingFunction createShardingFunction(final String algorithmExpression) {
+        int index = algorithmExpression.indexOf("${");
+        if (-1 == index) {
+            return null;
+        }
+        String expression = Pattern.compile("\\b" + Pattern.quote(shardingColumn) + "\\b").matcher(algorithmExpression.substring(index)).replaceAll("?");
+        return ShardingFunction.newPrefixedInstance(expression, algorithmExpression.substring(0, index));
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues) {
         RouteValue shardingValue = shardingValues.iterator().next();
         Preconditions.checkState(shardingValue instanceof ListRouteValue, "Inline strategy cannot support range sharding.");
-        Collection<String> shardingResult = doSharding((ListRouteValue) shardingValue);
-        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        result.addAll(shardingResult);
-        return result;
+        return doSharding(availableTargetNames, (ListRouteValue) shardingValue);
     }
     
-    private Collection<String> doSharding(final ListRouteValue shardingValue) {
-        Collection<String> result = new LinkedList<>();
-        for (PreciseShardingValue<?> each : transferToPreciseShardingValues(shardingValue)) {
-            result.add(execute(each));
+    private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListRouteValue<?> shardingValue) {
+        if (1 == shardingValue.getValues().size()) {
+            return ShardingTargetBitSet.getTargetNames(availableTargetNames, execute(shardingValue, shardingValue.getValues().iterator().next()));
         }
-        return result;
+        ShardingTargetBitSet result = new ShardingTargetBitSet(availableTargetNames);
+        for (Comparable<?> each : shardingValue.getDistinctValues()) {
+            result.add(execute(shardingValue, each));
+        }
+        return result.getTargetNames();
     }
     
     @SuppressWarnings("unchecked")
-    private List<PreciseShardingValue> transferToPreciseShardingValues(final ListRouteValue<?> shardingValue) {
-        List<PreciseShardingValue> result = new ArrayList<>(shardingValue.getValues().size());
-        for (Comparable<?> each : shardingValue.getValues()) {
-            result.add(new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), each));
+    private String execute(final ListRouteValue<?> shardingValue, final Comparable<?> value) {
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(shardingValue.getColumnName(), value);
+            if (result.isPresent()) {
+                return result.get();
+            }
         }
-        return result;
+        return execute(new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), value));
     }
     
     private String execute(final PreciseShardingValue shardingValue) {
@@ -92,4 +116,14 @@ public final class InlineShardingStrategy implements ShardingStrategy {
         result.add(shardingColumn);
         return result;
     }
+    
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
+    @Override
+    public Optional<ShardingFunction> getShardingFunction() {
+        return Optional.fromNullable(shardingFunction);
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline.compile;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Arithmetic value expression.
+ * 
+ * <p>
+ * Same as groovy, operation of integers is calculated as int, and as long if any operand is long.
+ * Operator {@code +} concatenates if any operand is string.
+ * </p>
+ */
+final class ArithmeticValueExpression implements ValueExpression {
+    
+    private static final String OPERATORS = "+-*%";
+    
+    private final char operator;
+    
+    private final ValueExpression left;
+    
+    private final ValueExpression right;
+    
+    ArithmeticValueExpression(final char operator, final ValueExpression left, final ValueExpression right) {
+        Preconditions.checkArgument(-1 != OPERATORS.indexOf(operator), "Unsupported arithmetic operator `%s`.", operator);
+        this.operator = operator;
+        this.left = left;
+        this.right = right;
+    }
+    
+    @Override
+    public Object evaluate(final Comparable<?> shardingValue) {
+        Object leftValue = left.evaluate(shardingValue);
+        if (null == leftValue) {
+            return null;
+        }
+        Object rightValue = right.evaluate(shardingValue);
+        if (null == rightValue) {
+            return null;
+        }
+        if ('+' == operator && (leftValue instanceof String || rightValue instanceof String)) {
+            return isConcatenable(leftValue) && isConcatenable(rightValue) ? leftValue.toString() + rightValue : null;
+        }
+        if (!isIntegral(leftValue) || !isIntegral(rightValue)) {
+            return null;
+        }
+        return leftValue instanceof Long || rightValue instanceof Long
+                ? calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue()) : calculate(((Number) leftValue).intValue(), ((Number) rightValue).intValue());
+    }
+    
+    private boolean isConcatenable(final Object value) {
+        return value instanceof String || isIntegral(value);
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+    
+    private Object calculate(final int leftValue, final int rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            default:
+                return leftValue % rightValue;
+        }
+    }
+    
+    private Object calculate(final long leftValue, final long rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            default:
+                return leftValue % rightValue;
+        }
+    }
+}
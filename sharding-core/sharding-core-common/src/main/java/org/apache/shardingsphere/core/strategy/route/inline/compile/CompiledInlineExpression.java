@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline.compile;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>
+ * Literals and value expressions are evaluated alternately, without groovy closure.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledInlineExpression {
+    
+    private final String columnName;
+    
+    private final List<String> literals;
+    
+    private final List<ValueExpression> valueExpressions;
+    
+    /**
+     * Evaluate inline expression.
+     * 
+     * @param columnName column name of sharding value
+     * @param shardingValue sharding value
+     * @return evaluated result, absent if column name or types of values are not supported and should fallback to groovy
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> shardingValue) {
+        if (null == shardingValue || !this.columnName.equals(columnName)) {
+            return Optional.absent();
+        }
+        StringBuilder result = new StringBuilder(literals.get(0));
+        for (int i = 0; i < valueExpressions.size(); i++) {
+            Object value = valueExpressions.get(i).evaluate(shardingValue);
+            if (null == value) {
+                return Optional.absent();
+            }
+            result.append(value).append(literals.get(i + 1));
+        }
+        return Optional.of(result.toString());
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline.compile;
+
+import com.google.common.base.Optional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>
+ * Compile common inline expressions to value expressions, which are evaluated as same as groovy without groovy closure.
+ * Supported grammar is literals and {@code ${expression}} placeholders, expression supports sharding column, integer literals, 
+ * operators {@code + - * %}, brackets, methods {@code hashCode()}, {@code substring()}, {@code intdiv()} and {@code Math.abs()}.
+ * Operator {@code /} is unsupported, because groovy calculates it as big decimal.
+ * Expressions out of supported grammar are not compiled, and should be evaluated by groovy.
+ * </p>
+ */
+public final class InlineExpressionCompiler {
+    
+    private static final Collection<String> RESERVED_IDENTIFIERS = new HashSet<>(
+            Arrays.asList("it", "this", "super", "owner", "delegate", "thisObject", "true", "false", "null", "new", "in", "as", "instanceof"));
+    
+    private final String inlineExpression;
+    
+    private final String shardingColumn;
+    
+    private int position;
+    
+    public InlineExpressionCompiler(final String inlineExpression, final String shardingColumn) {
+        this.inlineExpression = inlineExpression;
+        this.shardingColumn = shardingColumn;
+    }
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @return compiled inline expression, absent if inline expression is out of supported grammar
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        position = 0;
+        List<String> literals = new LinkedList<>();
+        List<ValueExpression> valueExpressions = new LinkedList<>();
+        StringBuilder literal = new StringBuilder();
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('"' == each || '\\' == each) {
+                return Optional.absent();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                position++;
+                continue;
+            }
+            if (!isChar(position + 1, '{')) {
+                return Optional.absent();
+            }
+            position += 2;
+            ValueExpression valueExpression = parseAdditiveExpression();
+            if (null == valueExpression || !skipChar('}')) {
+                return Optional.absent();
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            valueExpressions.add(valueExpression);
+        }
+        literals.add(literal.toString());
+        return Optional.of(new CompiledInlineExpression(shardingColumn, literals, valueExpressions));
+    }
+    
+    private ValueExpression parseAdditiveExpression() {
+        ValueExpression result = parseMultiplicativeExpression();
+        while (null != result) {
+            skipWhitespaces();
+            char operator = currentChar();
+            if ('+' != operator && '-' != operator) {
+                return result;
+            }
+            position++;
+            ValueExpression right = parseMultiplicativeExpression();
+            result = null == right ? null : new ArithmeticValueExpression(operator, result, right);
+        }
+        return null;
+    }
+    
+    private ValueExpression parseMultiplicativeExpression() {
+        ValueExpression result = parsePostfixExpression();
+        while (null != result) {
+            skipWhitespaces();
+            char operator = currentChar();
+            if ('*' != operator && '%' != operator) {
+                return result;
+            }
+            position++;
+            ValueExpression right = parsePostfixExpression();
+            result = null == right ? null : new ArithmeticValueExpression(operator, result, right);
+        }
+        return null;
+    }
+    
+    private ValueExpression parsePostfixExpression() {
+        ValueExpression result = parsePrimaryExpression();
+        while (null != result) {
+            skipWhitespaces();
+            if ('.' != currentChar()) {
+                return result;
+            }
+            position++;
+            skipWhitespaces();
+            String methodName = parseIdentifier();
+            List<ValueExpression> arguments = skipChar('(') ? parseArguments() : null;
+            result = null == arguments || !MethodValueExpression.isSupportedInstanceMethod(methodName, arguments.size()) ? null : new MethodValueExpression(methodName, result, arguments);
+        }
+        return null;
+    }
+    
+    private ValueExpression parsePrimaryExpression() {
+        skipWhitespaces();
+        char each = currentChar();
+        if ('(' == each) {
+            position++;
+            ValueExpression result = parseAdditiveExpression();
+            return null != result && skipChar(')') ? result : null;
+        }
+        if (isDigit(each)) {
+            return parseIntegerLiteral();
+        }
+        String identifier = parseIdentifier();
+        if ("Math".equals(identifier)) {
+            return parseMathAbs();
+        }
+        return !identifier.isEmpty() && identifier.equals(shardingColumn) && !RESERVED_IDENTIFIERS.contains(identifier) ? new ColumnValueExpression() : null;
+    }
+    
+    private ValueExpression parseIntegerLiteral() {
+        int start = position;
+        while (isDigit(currentChar())) {
+            position++;
+        }
+        String literal = inlineExpression.substring(start, position);
+        if (isIdentifierPart(currentChar()) || '.' == currentChar() || literal.length() > 1 && '0' == literal.charAt(0) || literal.length() > 18) {
+            return null;
+        }
+        long result = Long.parseLong(literal);
+        return new LiteralValueExpression(result > Integer.MAX_VALUE ? (Object) result : (Object) (int) result);
+    }
+    
+    private ValueExpression parseMathAbs() {
+        if (!skipChar('.')) {
+            return null;
+        }
+        skipWhitespaces();
+        if (!"abs".equals(parseIdentifier()) || !skipChar('(')) {
+            return null;
+        }
+        List<ValueExpression> arguments = parseArguments();
+        return null == arguments || 1 != arguments.size() ? null : new MethodValueExpression("abs", null, arguments);
+    }
+    
+    private List<ValueExpression> parseArguments() {
+        List<ValueExpression> result = new LinkedList<>();
+        if (skipChar(')')) {
+            return result;
+        }
+        do {
+            ValueExpression argument = parseAdditiveExpression();
+            if (null == argument) {
+                return null;
+            }
+            result.add(argument);
+        } while (skipChar(','));
+        return skipChar(')') ? result : null;
+    }
+    
+    private String parseIdentifier() {
+        int start = position;
+        if (Character.isLetter(currentChar()) || '_' == currentChar()) {
+            position++;
+            while (isIdentifierPart(currentChar())) {
+                position++;
+            }
+        }
+        return inlineExpression.substring(start, position);
+    }
+    
+    private boolean isDigit(final char each) {
+        return each >= '0' && each <= '9';
+    }
+    
+    private boolean isIdentifierPart(final char each) {
+        return Character.isLetterOrDigit(each) || '_' == each;
+    }
+    
+    private boolean skipChar(final char expected) {
+        skipWhitespaces();
+        if (expected != currentChar()) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+    
+    private void skipWhitespaces() {
+        while (position < inlineExpression.length() && Character.isWhitespace(inlineExpression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private boolean isChar(final int index, final char expected) {
+        return index < inlineExpression.length() && expected == inlineExpression.charAt(index);
+    }
+    
+    private char currentChar() {
+        return position < inlineExpression.length() ? inlineExpression.charAt(position) : (char) 0;
+    }
+}
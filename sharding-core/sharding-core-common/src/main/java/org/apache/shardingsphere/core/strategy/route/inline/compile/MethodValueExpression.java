@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline.compile;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Method value expression.
+ * 
+ * <p>
+ * Supported methods are {@code hashCode()}, {@code substring(begin)}, {@code substring(begin, end)}, {@code intdiv(divisor)} and {@code Math.abs(value)}.
+ * </p>
+ */
+@RequiredArgsConstructor
+final class MethodValueExpression implements ValueExpression {
+    
+    private final String methodName;
+    
+    private final ValueExpression target;
+    
+    private final List<ValueExpression> arguments;
+    
+    /**
+     * Judge instance method is supported or not.
+     * 
+     * @param methodName method name
+     * @param argumentSize size of arguments
+     * @return instance method is supported or not
+     */
+    static boolean isSupportedInstanceMethod(final String methodName, final int argumentSize) {
+        switch (methodName) {
+            case "hashCode":
+                return 0 == argumentSize;
+            case "substring":
+                return 1 == argumentSize || 2 == argumentSize;
+            case "intdiv":
+                return 1 == argumentSize;
+            default:
+                return false;
+        }
+    }
+    
+    @Override
+    public Object evaluate(final Comparable<?> shardingValue) {
+        Object targetValue = null == target ? null : target.evaluate(shardingValue);
+        Object[] argumentValues = new Object[arguments.size()];
+        for (int i = 0; i < argumentValues.length; i++) {
+            argumentValues[i] = arguments.get(i).evaluate(shardingValue);
+            if (null == argumentValues[i]) {
+                return null;
+            }
+        }
+        switch (methodName) {
+            case "hashCode":
+                return null == targetValue ? null : targetValue.hashCode();
+            case "substring":
+                return substring(targetValue, argumentValues);
+            case "intdiv":
+                return intdiv(targetValue, argumentValues[0]);
+            case "abs":
+                return abs(argumentValues[0]);
+            default:
+                return null;
+        }
+    }
+    
+    private Object substring(final Object targetValue, final Object[] argumentValues) {
+        if (!(targetValue instanceof String) || !(argumentValues[0] instanceof Integer)) {
+            return null;
+        }
+        if (1 == argumentValues.length) {
+            return ((String) targetValue).substring((Integer) argumentValues[0]);
+        }
+        return argumentValues[1] instanceof Integer ? ((String) targetValue).substring((Integer) argumentValues[0], (Integer) argumentValues[1]) : null;
+    }
+    
+    private Object intdiv(final Object targetValue, final Object argumentValue) {
+        if (!isIntegral(targetValue) || !isIntegral(argumentValue)) {
+            return null;
+        }
+        return targetValue instanceof Long || argumentValue instanceof Long
+                ? ((Number) targetValue).longValue() / ((Number) argumentValue).longValue() : (Object) (((Number) targetValue).intValue() / ((Number) argumentValue).intValue());
+    }
+    
+    private Object abs(final Object argumentValue) {
+        if (argumentValue instanceof Integer) {
+            return Math.abs((Integer) argumentValue);
+        }
+        if (argumentValue instanceof Long) {
+            return Math.abs((Long) argumentValue);
+        }
+        return null;
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.core.strategy.route.none;
 
+import com.google.common.base.Optional;
 import lombok.Getter;
+import org.apache.shardingsphere.core.strategy.route.ShardingFunction;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
@@ -38,4 +40,14 @@ public final class NoneShardingStrategy implements ShardingStrategy {
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues) {
         return availableTargetNames;
     }
+    
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
+    @Override
+    public Optional<ShardingFunction> getShardingFunction() {
+        return Optional.absent();
+    }
 }
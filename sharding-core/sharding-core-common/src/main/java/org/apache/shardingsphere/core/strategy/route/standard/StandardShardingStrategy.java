@@ -17,19 +17,24 @@
 
 package org.apache.shardingsphere.core.strategy.route.standard;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.sharding.DeterministicShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.core.strategy.route.ShardingFunction;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.ShardingTargetBitSet;
+import org.apache.shardingsphere.core.strategy.route.algorithm.HashModShardingAlgorithm;
+import org.apache.shardingsphere.core.strategy.route.algorithm.ModShardingAlgorithm;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.TreeSet;
 
 /**
@@ -56,10 +61,11 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues) {
         RouteValue shardingValue = shardingValues.iterator().next();
-        Collection<String> shardingResult = shardingValue instanceof ListRouteValue
-                ? doSharding(availableTargetNames, (ListRouteValue) shardingValue) : doSharding(availableTargetNames, (RangeRouteValue) shardingValue);
+        if (shardingValue instanceof ListRouteValue) {
+            return doSharding(availableTargetNames, (ListRouteValue) shardingValue);
+        }
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        result.addAll(shardingResult);
+        result.addAll(doSharding(availableTargetNames, (RangeRouteValue) shardingValue));
         return result;
     }
     
@@ -74,14 +80,15 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     
     @SuppressWarnings("unchecked")
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListRouteValue<?> shardingValue) {
-        Collection<String> result = new LinkedList<>();
-        for (Comparable<?> each : shardingValue.getValues()) {
-            String target = preciseShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), each));
-            if (null != target) {
-                result.add(target);
-            }
+        if (1 == shardingValue.getValues().size()) {
+            return ShardingTargetBitSet.getTargetNames(availableTargetNames, 
+                    preciseShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), shardingValue.getValues().iterator().next())));
         }
-        return result;
+        ShardingTargetBitSet result = new ShardingTargetBitSet(availableTargetNames);
+        for (Comparable<?> each : shardingValue.getDistinctValues()) {
+            result.add(preciseShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), each)));
+        }
+        return result.getTargetNames();
     }
     
     @Override
@@ -90,4 +97,20 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         result.add(shardingColumn);
         return result;
     }
+    
+    @Override
+    public boolean isDeterministic() {
+        return preciseShardingAlgorithm instanceof DeterministicShardingAlgorithm && (null == rangeShardingAlgorithm || rangeShardingAlgorithm instanceof DeterministicShardingAlgorithm);
+    }
+    
+    @Override
+    public Optional<ShardingFunction> getShardingFunction() {
+        if (preciseShardingAlgorithm instanceof ModShardingAlgorithm) {
+            return Optional.of(ShardingFunction.newNumericInstance(String.format("MOD(?, %d)", ((ModShardingAlgorithm) preciseShardingAlgorithm).getShardingCount())));
+        }
+        if (preciseShardingAlgorithm instanceof HashModShardingAlgorithm) {
+            return Optional.of(ShardingFunction.newNumericInstance(String.format("HASH_MOD(?, %d)", ((HashModShardingAlgorithm) preciseShardingAlgorithm).getShardingCount())));
+        }
+        return Optional.absent();
+    }
 }
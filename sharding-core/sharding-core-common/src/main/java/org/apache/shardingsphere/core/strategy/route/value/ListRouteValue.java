@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.core.strategy.route.value;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Route value for list values.
@@ -30,6 +33,7 @@ import java.util.Collection;
  */
 @RequiredArgsConstructor
 @Getter
+@EqualsAndHashCode
 @ToString
 public final class ListRouteValue<T extends Comparable<?>> implements RouteValue {
     
@@ -38,4 +42,13 @@ public final class ListRouteValue<T extends Comparable<?>> implements RouteValue
     private final String tableName;
     
     private final Collection<T> values;
+    
+    /**
+     * Get distinct values.
+     * 
+     * @return distinct values
+     */
+    public Collection<T> getDistinctValues() {
+        return values instanceof Set ? values : new HashSet<>(values);
+    }
 }
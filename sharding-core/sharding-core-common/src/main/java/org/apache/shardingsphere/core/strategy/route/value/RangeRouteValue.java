@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.strategy.route.value;
 
 import com.google.common.collect.Range;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
@@ -29,6 +30,7 @@ import lombok.ToString;
  */
 @RequiredArgsConstructor
 @Getter
+@EqualsAndHashCode
 @ToString
 public final class RangeRouteValue<T extends Comparable<?>> implements RouteValue {
     
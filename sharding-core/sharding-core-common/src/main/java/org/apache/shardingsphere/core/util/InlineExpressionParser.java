@@ -30,10 +30,10 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Inline expression parser.
@@ -46,7 +46,7 @@ public final class InlineExpressionParser {
     
     private static final char SPLITTER = ',';
     
-    private static final Map<String, Script> SCRIPTS = new HashMap<>();
+    private static final ConcurrentMap<String, Script> SCRIPTS = new ConcurrentHashMap<>();
     
     private static final GroovyShell SHELL = new GroovyShell();
     
@@ -99,12 +99,13 @@ public final class InlineExpressionParser {
     }
     
     private Object evaluate(final String expression) {
-        Script script;
-        if (SCRIPTS.containsKey(expression)) {
-            script = SCRIPTS.get(expression);
-        } else {
+        Script script = SCRIPTS.get(expression);
+        if (null == script) {
             script = SHELL.parse(expression);
-            SCRIPTS.put(expression, script);
+            Script existedScript = SCRIPTS.putIfAbsent(expression, script);
+            if (null != existedScript) {
+                script = existedScript;
+            }
         }
         return script.run();
     }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShar
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlTypeBasedShardingStrategyConfiguration;
 
 /**
  * Sharding strategy configuration for YAML.
@@ -45,4 +46,6 @@ public class YamlShardingStrategyConfiguration implements YamlConfiguration {
     private YamlInlineShardingStrategyConfiguration inline;
     
     private YamlNoneShardingStrategyConfiguration none;
+    
+    private YamlTypeBasedShardingStrategyConfiguration typeBased;
 }
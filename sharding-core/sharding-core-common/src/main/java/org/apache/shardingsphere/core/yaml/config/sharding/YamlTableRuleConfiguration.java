@@ -40,4 +40,6 @@ public class YamlTableRuleConfiguration implements YamlConfiguration {
     private YamlShardingStrategyConfiguration tableStrategy;
     
     private YamlKeyGeneratorConfiguration keyGenerator;
+    
+    private YamlShardingBoundaryConfiguration tableBoundary;
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStra
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.TypeBasedShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexS
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlTypeBasedShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.swapper.YamlSwapper;
 
 /**
@@ -58,6 +60,9 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
         if (data instanceof InlineShardingStrategyConfiguration) {
             result.setInline(createYamlInlineShardingStrategyConfiguration((InlineShardingStrategyConfiguration) data));
         }
+        if (data instanceof TypeBasedShardingStrategyConfiguration) {
+            result.setTypeBased(createYamlTypeBasedShardingStrategyConfiguration((TypeBasedShardingStrategyConfiguration) data));
+        }
         return result;
     }
     
@@ -89,6 +94,11 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
             shardingStrategyConfigCount++;
             result = new HintShardingStrategyConfiguration(ShardingAlgorithmFactory.newInstance(yamlConfiguration.getHint().getAlgorithmClassName(), HintShardingAlgorithm.class));
         }
+        if (null != yamlConfiguration.getTypeBased()) {
+            shardingStrategyConfigCount++;
+            result = new TypeBasedShardingStrategyConfiguration(
+                    yamlConfiguration.getTypeBased().getShardingColumn(), yamlConfiguration.getTypeBased().getType(), yamlConfiguration.getTypeBased().getProps());
+        }
         if (null != yamlConfiguration.getNone()) {
             shardingStrategyConfigCount++;
             result = new NoneShardingStrategyConfiguration();
@@ -126,4 +136,12 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
         result.setAlgorithmExpression(data.getAlgorithmExpression());
         return result;
     }
+    
+    private YamlTypeBasedShardingStrategyConfiguration createYamlTypeBasedShardingStrategyConfiguration(final TypeBasedShardingStrategyConfiguration data) {
+        YamlTypeBasedShardingStrategyConfiguration result = new YamlTypeBasedShardingStrategyConfiguration();
+        result.setShardingColumn(data.getShardingColumn());
+        result.setType(data.getType());
+        result.setProps(data.getProperties());
+        return result;
+    }
 }
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.core.yaml.swapper.impl;
 
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.api.config.sharding.ShardingBoundaryConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingBoundaryConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.YamlTableRuleConfiguration;
 import org.apache.shardingsphere.core.yaml.swapper.YamlSwapper;
 
@@ -48,6 +50,9 @@ public final class TableRuleConfigurationYamlSwapper implements YamlSwapper<Yaml
         if (null != data.getKeyGeneratorConfig()) {
             result.setKeyGenerator(keyGeneratorConfigurationYamlSwapper.swap(data.getKeyGeneratorConfig()));
         }
+        if (null != data.getTableShardingBoundaryConfig()) {
+            result.setTableBoundary(createYamlShardingBoundaryConfiguration(data.getTableShardingBoundaryConfig()));
+        }
         return result;
     }
     
@@ -64,6 +69,18 @@ public final class TableRuleConfigurationYamlSwapper implements YamlSwapper<Yaml
         if (null != yamlConfiguration.getKeyGenerator()) {
             result.setKeyGeneratorConfig(keyGeneratorConfigurationYamlSwapper.swap(yamlConfiguration.getKeyGenerator()));
         }
+        if (null != yamlConfiguration.getTableBoundary()) {
+            result.setTableShardingBoundaryConfig(new ShardingBoundaryConfiguration(
+                    yamlConfiguration.getTableBoundary().getShardingColumn(), yamlConfiguration.getTableBoundary().getBoundaries(), yamlConfiguration.getTableBoundary().getDateTimePattern()));
+        }
+        return result;
+    }
+    
+    private YamlShardingBoundaryConfiguration createYamlShardingBoundaryConfiguration(final ShardingBoundaryConfiguration data) {
+        YamlShardingBoundaryConfiguration result = new YamlShardingBoundaryConfiguration();
+        result.setShardingColumn(data.getShardingColumn());
+        result.setBoundaries(data.getBoundaries());
+        result.setDateTimePattern(data.getDateTimePattern());
         return result;
     }
 }
@@ -329,6 +329,31 @@ public final class ShardingRuleTest {
         assertThat(actual.getShardingLogicTableNames(Arrays.asList("LOGIC_TABLE", "BROADCAST_TABLE")), CoreMatchers.<Collection<String>>is(Collections.singletonList("LOGIC_TABLE")));
     }
     
+    @Test
+    public void assertGetLogicTableNames() {
+        assertThat(createMaximumShardingRule().getLogicTableNames("table_0"), CoreMatchers.<Collection<String>>is(Collections.singletonList("logic_table")));
+    }
+    
+    @Test
+    public void assertGetLogicTableNamesWithSameActualTable() {
+        ShardingRuleConfiguration shardingRuleConfiguration = new ShardingRuleConfiguration();
+        shardingRuleConfiguration.getTableRuleConfigs().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_0.table_${0..2}"));
+        shardingRuleConfiguration.getTableRuleConfigs().add(createTableRuleConfiguration("OTHER_LOGIC_TABLE", "ds_1.table_${0..2}"));
+        ShardingRule actual = new ShardingRule(shardingRuleConfiguration, createDataSourceNames());
+        assertThat(actual.getLogicTableNames("table_1"), CoreMatchers.<Collection<String>>is(Arrays.asList("logic_table", "other_logic_table")));
+        assertThat(actual.findTableRuleByActualTable("table_1").get().getLogicTable(), is("logic_table"));
+    }
+    
+    @Test
+    public void assertGetLogicTableNamesWithoutActualTable() {
+        assertTrue(createMaximumShardingRule().getLogicTableNames("table_3").isEmpty());
+    }
+    
+    @Test
+    public void assertFindTableRuleWithNullLogicTable() {
+        assertFalse(createMaximumShardingRule().findTableRule(null).isPresent());
+    }
+    
     private ShardingRule createMaximumShardingRule() {
         ShardingRuleConfiguration shardingRuleConfiguration = new ShardingRuleConfiguration();
         shardingRuleConfiguration.setDefaultDataSourceName("ds_0");
@@ -17,21 +17,31 @@
 
 package org.apache.shardingsphere.core.rule;
 
+import com.google.common.base.Optional;
+import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ShardingBoundaryConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.config.ShardingConfigurationException;
 import org.apache.shardingsphere.core.strategy.keygen.fixture.IncrementShardingKeyGenerator;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -87,6 +97,94 @@ public final class TableRuleTest {
         assertThat(actual.getActualTableNames("ds2"), is((Collection<String>) Collections.<String>emptySet()));
     }
     
+    @Test
+    public void assertGetAllActualTableNames() {
+        TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds0.table_${0..1}, ds1.table_${1..2}"), createShardingDataSourceNames(), null);
+        assertThat(new ArrayList<>(actual.getActualTableNames()), is(Arrays.asList("table_0", "table_1", "table_2")));
+    }
+    
+    @Test
+    public void assertGetDataNodeGroups() {
+        TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..1}"), createShardingDataSourceNames(), null);
+        Map<String, List<DataNode>> dataNodeGroups = actual.getDataNodeGroups();
+        assertThat(new ArrayList<>(dataNodeGroups.keySet()), is(Arrays.asList("ds0", "ds1")));
+        assertThat(dataNodeGroups.get("ds1"), is(Arrays.asList(new DataNode("ds1", "table_0"), new DataNode("ds1", "table_1"))));
+        assertThat(dataNodeGroups.get("ds1").get(0), sameInstance(actual.getActualDataNodes().get(2)));
+        assertThat(actual.getDataNodeGroups(), sameInstance(dataNodeGroups));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertActualDataNodesAreImmutable() {
+        TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..1}"), createShardingDataSourceNames(), null);
+        actual.getActualDataNodes().add(new DataNode("ds1", "table_2"));
+    }
+    
+    @Test
+    public void assertFindActualTableNamesWithShardingBoundaries() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("LOGIC_TABLE", "ds0.table_${[0, 2]}, ds1.table_${[1, 3]}");
+        tableRuleConfig.setTableShardingBoundaryConfig(new ShardingBoundaryConfiguration("id", "0, 100, 200, 300"));
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames(), null);
+        Optional<Collection<String>> actualTableNames = actual.findActualTableNames("ds0", new RangeRouteValue<>("id", "LOGIC_TABLE", Range.closed(50, 250)));
+        assertTrue(actualTableNames.isPresent());
+        assertThat(actualTableNames.get(), is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("table_0", "table_2"))));
+        actualTableNames = actual.findActualTableNames("ds1", new RangeRouteValue<>("id", "LOGIC_TABLE", Range.closedOpen(150L, 300L)));
+        assertTrue(actualTableNames.isPresent());
+        assertThat(actualTableNames.get(), is((Collection<String>) Sets.newLinkedHashSet(Collections.singletonList("table_1"))));
+        actualTableNames = actual.findActualTableNames("ds1", new RangeRouteValue<>("id", "LOGIC_TABLE", Range.atLeast("300")));
+        assertTrue(actualTableNames.isPresent());
+        assertThat(actualTableNames.get(), is((Collection<String>) Sets.newLinkedHashSet(Collections.singletonList("table_3"))));
+    }
+    
+    @Test
+    public void assertFindActualTableNamesWithDecimalShardingValues() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("LOGIC_TABLE", "ds0.table_${0..2}");
+        tableRuleConfig.setTableShardingBoundaryConfig(new ShardingBoundaryConfiguration("id", "0, 11, 22"));
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames(), null);
+        Optional<Collection<String>> actualTableNames = actual.findActualTableNames("ds0", new RangeRouteValue<>("id", "LOGIC_TABLE", Range.greaterThan(new BigDecimal("10.5"))));
+        assertTrue(actualTableNames.isPresent());
+        assertThat(actualTableNames.get(), is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("table_0", "table_1", "table_2"))));
+        actualTableNames = actual.findActualTableNames("ds0", new RangeRouteValue<>("id", "LOGIC_TABLE", Range.open(new BigDecimal("-0.5"), new BigDecimal("11.5"))));
+        assertTrue(actualTableNames.isPresent());
+        assertThat(actualTableNames.get(), is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("table_0", "table_1"))));
+        actualTableNames = actual.findActualTableNames("ds0", new RangeRouteValue<>("id", "LOGIC_TABLE", Range.lessThan(10.5D)));
+        assertTrue(actualTableNames.isPresent());
+        assertThat(actualTableNames.get(), is((Collection<String>) Sets.newLinkedHashSet(Collections.singletonList("table_0"))));
+        actualTableNames = actual.findActualTableNames("ds0", new RangeRouteValue<>("id", "LOGIC_TABLE", Range.greaterThan(new BigDecimal("21.5"))));
+        assertTrue(actualTableNames.isPresent());
+        assertThat(actualTableNames.get(), is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("table_1", "table_2"))));
+    }
+    
+    @Test
+    public void assertFindActualTableNamesWithDateTimeShardingBoundaries() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("LOGIC_TABLE", "ds0.table_${['201901', '201902', '201903']}");
+        tableRuleConfig.setTableShardingBoundaryConfig(new ShardingBoundaryConfiguration("create_time", "2019-01-01, 2019-02-01, 2019-03-01", "yyyy-MM-dd"));
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames(), null);
+        Optional<Collection<String>> actualTableNames = actual.findActualTableNames("ds0", new RangeRouteValue<>("create_time", "LOGIC_TABLE", Range.lessThan("2019-02-01")));
+        assertTrue(actualTableNames.isPresent());
+        assertThat(actualTableNames.get(), is((Collection<String>) Sets.newLinkedHashSet(Collections.singletonList("table_201901"))));
+    }
+    
+    @Test
+    public void assertNotFindActualTableNamesWithoutShardingBoundaries() {
+        TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), createShardingDataSourceNames(), null);
+        assertFalse(actual.findActualTableNames("ds0", new RangeRouteValue<>("id", "LOGIC_TABLE", Range.closed(1, 2))).isPresent());
+    }
+    
+    @Test
+    public void assertNotFindActualTableNamesWithOtherColumn() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("LOGIC_TABLE", "ds0.table_${0..1}");
+        tableRuleConfig.setTableShardingBoundaryConfig(new ShardingBoundaryConfiguration("id", "0, 100"));
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames(), null);
+        assertFalse(actual.findActualTableNames("ds0", new RangeRouteValue<>("other_id", "LOGIC_TABLE", Range.closed(1, 2))).isPresent());
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertCreateTableRuleWithMismatchedShardingBoundaries() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("LOGIC_TABLE", "ds0.table_${0..2}");
+        tableRuleConfig.setTableShardingBoundaryConfig(new ShardingBoundaryConfiguration("id", "0, 100"));
+        new TableRule(tableRuleConfig, createShardingDataSourceNames(), null);
+    }
+    
     @Test
     public void assertFindActualTableIndex() {
         TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), createShardingDataSourceNames(), null);
@@ -20,11 +20,14 @@ package org.apache.shardingsphere.core.strategy.route;
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.TypeBasedShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.fixture.ComplexKeysShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.PreciseShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.RangeShardingAlgorithmFixture;
+import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
@@ -32,11 +35,15 @@ import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShardingStrategyTest {
     
@@ -56,10 +63,71 @@ public final class ShardingStrategyTest {
                 is((Collection<String>) Sets.newHashSet("1")));
     }
     
+    @Test
+    public void assertDoShardingForInListWithDuplicatedValues() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new PreciseShardingAlgorithmFixture()));
+        assertThat(strategy.doSharding(Sets.newHashSet("t_order_0", "t_order_1"), Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "logicTable", Arrays.asList(1, 3, 5, 1, 3)))),
+                is((Collection<String>) Sets.newHashSet("t_order_1")));
+    }
+    
     @Test
     public void assertDoShardingForMultipleKeys() {
         ComplexShardingStrategy strategy = new ComplexShardingStrategy(new ComplexShardingStrategyConfiguration("column", new ComplexKeysShardingAlgorithmFixture()));
         assertThat(strategy.doSharding(targets, Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "logicTable", Collections.singletonList(1)))), 
                 is((Collection<String>) Sets.newHashSet("1", "2", "3")));
     }
+    
+    @Test
+    public void assertDoShardingForInlineWithCompiledExpression() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("column", "t_order_${column % 2}"));
+        assertThat(strategy.doSharding(Sets.newHashSet("t_order_0", "t_order_1"), Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "t_order", Arrays.asList(1, 2L, 3)))), 
+                is((Collection<String>) Sets.newHashSet("t_order_0", "t_order_1")));
+    }
+    
+    @Test
+    public void assertDoShardingForInlineWithGroovyFallback() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("column", "t_order_${column % 2}"));
+        assertThat(strategy.doSharding(Sets.newHashSet("t_order_0", "t_order_1"), Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "t_order", Collections.singletonList((short) 3)))), 
+                is((Collection<String>) Sets.newHashSet("t_order_1")));
+    }
+    
+    @Test
+    public void assertDoShardingWithTypeBased() {
+        Properties props = new Properties();
+        props.setProperty("sharding-count", "3");
+        ShardingStrategy strategy = ShardingStrategyFactory.newInstance(new TypeBasedShardingStrategyConfiguration("column", "MOD", props));
+        Collection<String> targetNames = Sets.newHashSet("t_0", "t_1", "t_2");
+        assertThat(strategy.doSharding(targetNames, Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "logicTable", Arrays.asList(4, 6)))),
+                is((Collection<String>) Sets.newHashSet("t_0", "t_1")));
+        assertThat(strategy.doSharding(targetNames, Collections.<RouteValue>singletonList(new RangeRouteValue<>("column", "logicTable", Range.closed(7, 8)))),
+                is((Collection<String>) Sets.newHashSet("t_1", "t_2")));
+    }
+    
+    @Test
+    public void assertIsDeterministic() {
+        Properties props = new Properties();
+        props.setProperty("sharding-count", "3");
+        assertTrue(new NoneShardingStrategy().isDeterministic());
+        assertTrue(new InlineShardingStrategy(new InlineShardingStrategyConfiguration("column", "t_order_${column % 2}")).isDeterministic());
+        assertTrue(ShardingStrategyFactory.newInstance(new TypeBasedShardingStrategyConfiguration("column", "MOD", props)).isDeterministic());
+        assertFalse(new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new PreciseShardingAlgorithmFixture())).isDeterministic());
+        assertFalse(new ComplexShardingStrategy(new ComplexShardingStrategyConfiguration("column", new ComplexKeysShardingAlgorithmFixture())).isDeterministic());
+    }
+    
+    @Test
+    public void assertGetShardingFunction() {
+        ShardingFunction orderShardingFunction = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}")).getShardingFunction().get();
+        ShardingFunction orderItemShardingFunction = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("id", "t_order_item_$->{id % 2}")).getShardingFunction().get();
+        assertThat(orderShardingFunction, is(orderItemShardingFunction));
+        assertThat(orderShardingFunction.getSuffix("T_ORDER_1").get(), is("1"));
+        assertThat(orderItemShardingFunction.getSuffix("t_order_item_1").get(), is("1"));
+        assertFalse(orderShardingFunction.equals(new InlineShardingStrategy(new InlineShardingStrategyConfiguration("id", "t_order_item_${id % 4}")).getShardingFunction().get()));
+        Properties props = new Properties();
+        props.setProperty("sharding-count", "3");
+        ShardingFunction modShardingFunction = ShardingStrategyFactory.newInstance(new TypeBasedShardingStrategyConfiguration("column", "MOD", props)).getShardingFunction().get();
+        assertThat(modShardingFunction.getSuffix("t_order_12").get(), is("12"));
+        assertFalse(modShardingFunction.getSuffix("t_order").isPresent());
+        assertFalse(new NoneShardingStrategy().getShardingFunction().isPresent());
+        assertFalse(new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new PreciseShardingAlgorithmFixture())).getShardingFunction().isPresent());
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingTargetBitSetTest {
+    
+    @Test
+    public void assertGetTargetNames() {
+        ShardingTargetBitSet actual = new ShardingTargetBitSet(Arrays.asList("t_order_2", "t_order_0", "t_order_1"));
+        actual.add("t_order_1");
+        actual.add("t_order_2");
+        actual.add("t_order_1");
+        assertThat(new ArrayList<>(actual.getTargetNames()), is(Arrays.asList("t_order_1", "t_order_2")));
+    }
+    
+    @Test
+    public void assertGetTargetNamesWithDifferentCase() {
+        ShardingTargetBitSet actual = new ShardingTargetBitSet(Arrays.asList("t_order_0", "t_order_1"));
+        actual.add("T_ORDER_1");
+        assertThat(new ArrayList<>(actual.getTargetNames()), is(Arrays.asList("t_order_1")));
+    }
+    
+    @Test
+    public void assertGetTargetNamesWithUnavailableTargetName() {
+        ShardingTargetBitSet actual = new ShardingTargetBitSet(Arrays.asList("t_order_0", "t_order_1"));
+        actual.add("t_order_0");
+        actual.add("t_order_2");
+        actual.add(null);
+        assertThat(new ArrayList<>(actual.getTargetNames()), is(Arrays.asList("t_order_0", "t_order_2")));
+    }
+    
+    @Test
+    public void assertGetTargetNamesWithoutRouted() {
+        assertTrue(new ShardingTargetBitSet(Arrays.asList("t_order_0", "t_order_1")).getTargetNames().isEmpty());
+    }
+    
+    @Test
+    public void assertGetSingleTargetName() {
+        assertThat(new ArrayList<>(ShardingTargetBitSet.getTargetNames(new ShardingTargetNames(Arrays.asList("t_order_0", "t_order_1")), "T_ORDER_1")), is(Arrays.asList("t_order_1")));
+        assertThat(new ArrayList<>(ShardingTargetBitSet.getTargetNames(Arrays.asList("t_order_0", "t_order_1"), "T_ORDER_1")), is(Arrays.asList("t_order_1")));
+        assertThat(new ArrayList<>(ShardingTargetBitSet.getTargetNames(Arrays.asList("t_order_0", "t_order_1"), "t_order_2")), is(Arrays.asList("t_order_2")));
+    }
+    
+    @Test
+    public void assertGetSingleTargetNameWithoutRouted() {
+        assertTrue(ShardingTargetBitSet.getTargetNames(Arrays.asList("t_order_0", "t_order_1"), null).isEmpty());
+    }
+}
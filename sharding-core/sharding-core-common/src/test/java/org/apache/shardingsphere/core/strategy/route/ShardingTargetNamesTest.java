@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingTargetNamesTest {
+    
+    @Test
+    public void assertIndexOf() {
+        ShardingTargetNames actual = new ShardingTargetNames(Arrays.asList("t_order_2", "t_order_0", "T_ORDER_1"));
+        assertThat(new ArrayList<>(actual), is(Arrays.asList("t_order_2", "t_order_0", "T_ORDER_1")));
+        assertThat(actual.getIndexedSize(), is(3));
+        assertThat(actual.indexOf("t_order_0"), is(0));
+        assertThat(actual.get(actual.indexOf("t_order_1")), is("T_ORDER_1"));
+        assertThat(actual.indexOf("t_order_3"), is(-1));
+    }
+    
+    @Test
+    public void assertValueOf() {
+        ShardingTargetNames shardingTargetNames = new ShardingTargetNames(Arrays.asList("t_order_0", "t_order_1"));
+        assertThat(ShardingTargetNames.valueOf(shardingTargetNames), sameInstance(shardingTargetNames));
+        assertThat(ShardingTargetNames.valueOf(Arrays.asList("t_order_0", "t_order_1")), not(sameInstance(shardingTargetNames)));
+        assertTrue(ShardingTargetNames.valueOf(Arrays.asList("t_order_0", "t_order_1")).equals(shardingTargetNames));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertAdd() {
+        new ShardingTargetNames(Arrays.asList("t_order_0", "t_order_1")).add("t_order_2");
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConsistentHashShardingAlgorithmTest {
+    
+    private final ConsistentHashShardingAlgorithm shardingAlgorithm = new ConsistentHashShardingAlgorithm();
+    
+    private final List<String> availableTargetNames = Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3");
+    
+    @Before
+    public void setUp() {
+        Properties properties = new Properties();
+        properties.setProperty("virtual-node-count", "64");
+        shardingAlgorithm.setProperties(properties);
+        shardingAlgorithm.init();
+    }
+    
+    @Test
+    public void assertPreciseDoSharding() {
+        for (long i = 0; i < 100; i++) {
+            String actual = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", i));
+            assertTrue(availableTargetNames.contains(actual));
+            assertThat(shardingAlgorithm.doSharding(Arrays.asList("ds_3", "ds_2", "ds_1", "ds_0"), new PreciseShardingValue<Comparable<?>>("t_order", "order_id", (int) i)), is(actual));
+        }
+    }
+    
+    @Test
+    public void assertPreciseDoShardingReuseRingForEqualTargets() {
+        String expected = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 1L));
+        shardingAlgorithm.getProperties().setProperty("virtual-node-count." + expected, "1");
+        for (int i = 0; i < 10; i++) {
+            assertThat(shardingAlgorithm.doSharding(new ArrayList<>(availableTargetNames), new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 1L)), is(expected));
+        }
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>closed(1, 2)));
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(availableTargetNames)));
+    }
+    
+    @Test
+    public void assertPlanMovementsForAddingTargets() {
+        List<String> proposedTargetNames = Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3", "ds_4", "ds_5");
+        List<ConsistentHashMovement> movements = shardingAlgorithm.planMovements(availableTargetNames, proposedTargetNames);
+        int movedCount = 0;
+        for (long i = 0; i < 10000; i++) {
+            String source = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", i));
+            String destination = shardingAlgorithm.doSharding(proposedTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", i));
+            ConsistentHashMovement movement = findMovement(movements, i);
+            if (source.equals(destination)) {
+                assertThat(movement, is((ConsistentHashMovement) null));
+            } else {
+                movedCount++;
+                assertThat(movement.getSourceTargetName(), is(source));
+                assertThat(movement.getDestinationTargetName(), is(destination));
+                assertTrue(destination.equals("ds_4") || destination.equals("ds_5"));
+            }
+        }
+        assertTrue(movedCount > 0 && movedCount < 5000);
+    }
+    
+    @Test
+    public void assertPlanMovementsForSameTargets() {
+        assertTrue(shardingAlgorithm.planMovements(availableTargetNames, Arrays.asList("ds_3", "ds_2", "ds_1", "ds_0")).isEmpty());
+    }
+    
+    @Test
+    public void assertCreateRingWithVirtualNodeCountOfTarget() {
+        Properties properties = new Properties();
+        properties.setProperty("virtual-node-count", "64");
+        properties.setProperty("virtual-node-count.ds_3", "128");
+        ConsistentHashShardingAlgorithm weightedShardingAlgorithm = new ConsistentHashShardingAlgorithm();
+        weightedShardingAlgorithm.setProperties(properties);
+        weightedShardingAlgorithm.init();
+        List<ConsistentHashMovement> movements = shardingAlgorithm.createRing(availableTargetNames).getMovements(weightedShardingAlgorithm.createRing(availableTargetNames));
+        assertFalse(movements.isEmpty());
+        for (ConsistentHashMovement each : movements) {
+            assertThat(each.getDestinationTargetName(), is("ds_3"));
+        }
+    }
+    
+    private ConsistentHashMovement findMovement(final List<ConsistentHashMovement> movements, final Comparable<?> value) {
+        for (ConsistentHashMovement each : movements) {
+            if (each.isMoved(value)) {
+                return each;
+            }
+        }
+        return null;
+    }
+}
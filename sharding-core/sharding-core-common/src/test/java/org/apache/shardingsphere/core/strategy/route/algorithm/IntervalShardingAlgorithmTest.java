@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class IntervalShardingAlgorithmTest {
+    
+    private final IntervalShardingAlgorithm shardingAlgorithm = new IntervalShardingAlgorithm();
+    
+    private final List<String> availableTargetNames = Arrays.asList("t_order_201901", "t_order_201902", "t_order_201903", "t_order_201904");
+    
+    @Before
+    public void setUp() {
+        Properties properties = new Properties();
+        properties.setProperty("datetime-pattern", "yyyy-MM-dd HH:mm:ss");
+        properties.setProperty("datetime-lower", "2019-01-01 00:00:00");
+        properties.setProperty("datetime-upper", "2019-05-01 00:00:00");
+        properties.setProperty("sharding-suffix-pattern", "yyyyMM");
+        properties.setProperty("datetime-interval-unit", "MONTHS");
+        shardingAlgorithm.setProperties(properties);
+        shardingAlgorithm.init();
+    }
+    
+    @Test
+    public void assertPreciseDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2019-01-01 00:00:00")), is("t_order_201901"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2019-02-28 23:59:59")), is("t_order_201902"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, 
+                new PreciseShardingValue<Comparable<?>>("t_order", "create_time", Timestamp.valueOf("2019-04-15 12:00:00"))), is("t_order_201904"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingOutOfRange() {
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2018-12-31 23:59:59")));
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2019-05-01 00:00:00")));
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, 
+                new RangeShardingValue<Comparable<?>>("t_order", "create_time", Range.<Comparable<?>>closedOpen("2019-02-10 00:00:00", "2019-04-01 00:00:00")));
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_201902", "t_order_201903"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithUnboundedRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, 
+                new RangeShardingValue<Comparable<?>>("t_order", "create_time", Range.<Comparable<?>>atMost("2019-02-01 00:00:00")));
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_201901", "t_order_201902"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingOutOfRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, 
+                new RangeShardingValue<Comparable<?>>("t_order", "create_time", Range.<Comparable<?>>atLeast("2020-01-01 00:00:00")));
+        assertThat(actual, is((Collection<String>) Collections.<String>emptySet()));
+    }
+}
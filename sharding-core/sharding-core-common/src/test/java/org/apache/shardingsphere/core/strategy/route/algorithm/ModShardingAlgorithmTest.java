@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ModShardingAlgorithmTest {
+    
+    private final ModShardingAlgorithm shardingAlgorithm = new ModShardingAlgorithm();
+    
+    private final List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+    
+    @Before
+    public void setUp() {
+        Properties properties = new Properties();
+        properties.setProperty("sharding-count", "4");
+        shardingAlgorithm.setProperties(properties);
+        shardingAlgorithm.init();
+    }
+    
+    @Test
+    public void assertPreciseDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 17)), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 22L)), is("t_order_2"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", "-1")), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithoutAvailableTarget() {
+        assertNull(shardingAlgorithm.doSharding(Arrays.asList("t_order_0", "t_order_2"), new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 17)));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithSuffixOverlapped() {
+        List<String> targetNames = Arrays.asList("ds_1", "ds_11");
+        Properties properties = new Properties();
+        properties.setProperty("sharding-count", "12");
+        shardingAlgorithm.setProperties(properties);
+        shardingAlgorithm.init();
+        assertThat(shardingAlgorithm.doSharding(targetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 11)), is("ds_11"));
+        assertThat(shardingAlgorithm.doSharding(targetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 13)), is("ds_1"));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithNarrowRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>openClosed(1, 3)));
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_2", "t_order_3"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithWideRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>closed(2, 10)));
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(availableTargetNames)));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithUnboundedRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>atLeast(2)));
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(availableTargetNames)));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithEmptyRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>open(2, 3)));
+        assertThat(actual, is((Collection<String>) Collections.<String>emptySet()));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithoutShardingCount() {
+        ModShardingAlgorithm actual = new ModShardingAlgorithm();
+        actual.init();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.algorithm;
+
+import org.apache.shardingsphere.core.spi.algorithm.sharding.TypeBasedShardingAlgorithmServiceLoader;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public final class TypeBasedShardingAlgorithmServiceLoaderTest {
+    
+    private final TypeBasedShardingAlgorithmServiceLoader serviceLoader = new TypeBasedShardingAlgorithmServiceLoader();
+    
+    @Test
+    public void assertNewModShardingAlgorithm() {
+        assertThat(serviceLoader.newService("MOD", new Properties()), instanceOf(ModShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertNewHashModShardingAlgorithm() {
+        assertThat(serviceLoader.newService("HASH_MOD", new Properties()), instanceOf(HashModShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertNewVolumeRangeShardingAlgorithm() {
+        assertThat(serviceLoader.newService("VOLUME_RANGE", new Properties()), instanceOf(VolumeRangeShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertNewIntervalShardingAlgorithm() {
+        assertThat(serviceLoader.newService("INTERVAL", new Properties()), instanceOf(IntervalShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertNewConsistentHashShardingAlgorithm() {
+        assertThat(serviceLoader.newService("CONSISTENT_HASH", new Properties()), instanceOf(ConsistentHashShardingAlgorithm.class));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline.compile;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.core.util.InlineExpressionParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class InlineExpressionCompilerTest {
+    
+    @Test
+    public void assertCompileWithLiteralOnly() {
+        assertSameAsGroovy("t_order", 1);
+    }
+    
+    @Test
+    public void assertCompileWithColumn() {
+        assertSameAsGroovy("t_order_${order_id}", 1);
+        assertSameAsGroovy("t_order_${order_id}", 10000000000L);
+        assertSameAsGroovy("t_order_${order_id}", "abc");
+    }
+    
+    @Test
+    public void assertCompileWithArithmetic() {
+        assertSameAsGroovy("ds_${order_id % 2}", 7);
+        assertSameAsGroovy("ds_${order_id % 2}", -7);
+        assertSameAsGroovy("ds_${order_id % 2}", 7L);
+        assertSameAsGroovy("ds_${order_id % 4 + 1}", 6);
+        assertSameAsGroovy("ds_${1 + order_id * 2 - 3}", 5);
+        assertSameAsGroovy("ds_${(order_id + 1) % 3}", 5);
+        assertSameAsGroovy("ds_${order_id * 2}", Integer.MAX_VALUE);
+        assertSameAsGroovy("ds_${order_id % 4294967296}", 10);
+        assertSameAsGroovy("ds_${order_id + 1}", "a");
+        assertSameAsGroovy("ds_${1 + order_id}", "a");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewArithmeticValueExpressionWithUnsupportedOperator() {
+        new ArithmeticValueExpression('/', null, null);
+    }
+    
+    @Test
+    public void assertCompileWithMethods() {
+        assertSameAsGroovy("t_order_${order_id.hashCode() % 4}", "order_100");
+        assertSameAsGroovy("t_order_${Math.abs(order_id.hashCode()) % 4}", "order_100");
+        assertSameAsGroovy("t_order_${Math.abs(order_id.hashCode() % 4)}", 12345678901L);
+        assertSameAsGroovy("t_order_${order_id.substring(0, 6)}", "201905_0001");
+        assertSameAsGroovy("t_order_${order_id.substring(7)}", "201905_0001");
+        assertSameAsGroovy("t_order_${order_id.intdiv(10) % 4}", 123);
+        assertSameAsGroovy("t_order_${order_id.intdiv(10) % 4}", 123L);
+        assertSameAsGroovy("t_order_${ order_id . substring( 0 , 4 ) }_${order_id.substring(4, 6)}", "201905");
+    }
+    
+    @Test
+    public void assertCompileWithMultiplePlaceholders() {
+        assertSameAsGroovy("ds_${order_id % 2}.t_order_${order_id % 4}", 7);
+    }
+    
+    @Test
+    public void assertNotCompile() {
+        assertNotCompiled("t_order_${order_id / 2}");
+        assertNotCompiled("t_order_${order_id ** 2}");
+        assertNotCompiled("t_order_${-order_id}");
+        assertNotCompiled("t_order_${user_id % 2}");
+        assertNotCompiled("t_order_${it}");
+        assertNotCompiled("t_order_${order_id.toString()}");
+        assertNotCompiled("t_order_${order_id % 2L}");
+        assertNotCompiled("t_order_${order_id % 010}");
+        assertNotCompiled("t_order_${order_id % 2.5}");
+        assertNotCompiled("t_order_${order_id ?: 0}");
+        assertNotCompiled("t_order_${order_id.substring('0')}");
+        assertNotCompiled("t_order_${Math.max(order_id, 1)}");
+        assertNotCompiled("t_order_${order_id % 2");
+        assertNotCompiled("t_order_$order_id");
+        assertNotCompiled("t_\\order");
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression compiledExpression = new InlineExpressionCompiler("t_order_${order_id % 2}", "order_id").compile().get();
+        assertFalse(compiledExpression.evaluate("order_id", (short) 1).isPresent());
+        assertFalse(compiledExpression.evaluate("order_id", "1").isPresent());
+        assertFalse(compiledExpression.evaluate("ORDER_ID", 1).isPresent());
+    }
+    
+    private void assertSameAsGroovy(final String inlineExpression, final Comparable<?> shardingValue) {
+        CompiledInlineExpression compiledExpression = new InlineExpressionCompiler(inlineExpression, "order_id").compile().get();
+        assertThat(compiledExpression.evaluate("order_id", shardingValue).get(), is(evaluateByGroovy(inlineExpression, shardingValue)));
+    }
+    
+    private String evaluateByGroovy(final String inlineExpression, final Comparable<?> shardingValue) {
+        Closure<?> closure = new InlineExpressionParser(inlineExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("order_id", shardingValue);
+        return closure.call().toString();
+    }
+    
+    private void assertNotCompiled(final String inlineExpression) {
+        assertFalse(new InlineExpressionCompiler(inlineExpression, "order_id").compile().isPresent());
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrate
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.TypeBasedShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
@@ -36,8 +37,11 @@ import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShar
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlTypeBasedShardingStrategyConfiguration;
 import org.junit.Test;
 
+import java.util.Properties;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
@@ -96,6 +100,21 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         assertNull(actual.getNone());
     }
     
+    @Test
+    public void assertSwapToYamlWithTypeBased() {
+        Properties props = new Properties();
+        props.setProperty("sharding-count", "4");
+        YamlShardingStrategyConfiguration actual = shardingStrategyConfigurationYamlSwapper.swap(new TypeBasedShardingStrategyConfiguration("id", "MOD", props));
+        assertThat(actual.getTypeBased().getShardingColumn(), is("id"));
+        assertThat(actual.getTypeBased().getType(), is("MOD"));
+        assertThat(actual.getTypeBased().getProps().getProperty("sharding-count"), is("4"));
+        assertNull(actual.getStandard());
+        assertNull(actual.getInline());
+        assertNull(actual.getComplex());
+        assertNull(actual.getHint());
+        assertNull(actual.getNone());
+    }
+    
     @Test
     public void assertSwapToYamlWithNone() {
         YamlShardingStrategyConfiguration actual = shardingStrategyConfigurationYamlSwapper.swap(new NoneShardingStrategyConfiguration());
@@ -180,6 +199,24 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         return result;
     }
     
+    @Test
+    public void assertSwapToObjectWithTypeBased() {
+        TypeBasedShardingStrategyConfiguration actual = (TypeBasedShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createTypeBasedShardingStrategyConfiguration());
+        assertThat(actual.getShardingColumn(), is("id"));
+        assertThat(actual.getType(), is("MOD"));
+        assertThat(actual.getProperties().getProperty("sharding-count"), is("4"));
+    }
+    
+    private YamlShardingStrategyConfiguration createTypeBasedShardingStrategyConfiguration() {
+        YamlTypeBasedShardingStrategyConfiguration yamlTypeBasedShardingStrategyConfiguration = new YamlTypeBasedShardingStrategyConfiguration();
+        yamlTypeBasedShardingStrategyConfiguration.setShardingColumn("id");
+        yamlTypeBasedShardingStrategyConfiguration.setType("MOD");
+        yamlTypeBasedShardingStrategyConfiguration.getProps().setProperty("sharding-count", "4");
+        YamlShardingStrategyConfiguration result = new YamlShardingStrategyConfiguration();
+        result.setTypeBased(yamlTypeBasedShardingStrategyConfiguration);
+        return result;
+    }
+    
     @Test
     public void assertSwapToObjectWithNone() {
         NoneShardingStrategyConfiguration actual = (NoneShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createNoneShardingStrategyConfiguration());
@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.core.yaml.swapper.impl;
 
 import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ShardingBoundaryConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.YamlKeyGeneratorConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingBoundaryConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.YamlTableRuleConfiguration;
 import org.apache.shardingsphere.core.yaml.swapper.YamlSwapper;
@@ -84,12 +86,15 @@ public final class TableRuleConfigurationYamlSwapperTest {
         tableRuleConfiguration.setDatabaseShardingStrategyConfig(mock(InlineShardingStrategyConfiguration.class));
         tableRuleConfiguration.setTableShardingStrategyConfig(mock(InlineShardingStrategyConfiguration.class));
         tableRuleConfiguration.setKeyGeneratorConfig(mock(KeyGeneratorConfiguration.class));
+        tableRuleConfiguration.setTableShardingBoundaryConfig(new ShardingBoundaryConfiguration("id", "0, 100"));
         YamlTableRuleConfiguration actual = tableRuleConfigurationYamlSwapper.swap(tableRuleConfiguration);
         assertThat(actual.getLogicTable(), is("tbl"));
         assertThat(actual.getActualDataNodes(), is("ds_$->{0..1}.tbl_$->{0..1}"));
         assertNotNull(actual.getDatabaseStrategy());
         assertNotNull(actual.getTableStrategy());
         assertNotNull(actual.getKeyGenerator());
+        assertThat(actual.getTableBoundary().getShardingColumn(), is("id"));
+        assertThat(actual.getTableBoundary().getBoundaries(), is("0, 100"));
     }
     
     @Test(expected = NullPointerException.class)
@@ -118,11 +123,17 @@ public final class TableRuleConfigurationYamlSwapperTest {
         yamlConfiguration.setDatabaseStrategy(mock(YamlShardingStrategyConfiguration.class));
         yamlConfiguration.setTableStrategy(mock(YamlShardingStrategyConfiguration.class));
         yamlConfiguration.setKeyGenerator(mock(YamlKeyGeneratorConfiguration.class));
+        YamlShardingBoundaryConfiguration yamlShardingBoundaryConfiguration = new YamlShardingBoundaryConfiguration();
+        yamlShardingBoundaryConfiguration.setShardingColumn("id");
+        yamlShardingBoundaryConfiguration.setBoundaries("0, 100");
+        yamlConfiguration.setTableBoundary(yamlShardingBoundaryConfiguration);
         TableRuleConfiguration actual = tableRuleConfigurationYamlSwapper.swap(yamlConfiguration);
         assertThat(actual.getLogicTable(), is("tbl"));
         assertThat(actual.getActualDataNodes(), is("ds_$->{0..1}.tbl_$->{0..1}"));
         assertNotNull(actual.getDatabaseShardingStrategyConfig());
         assertNotNull(actual.getTableShardingStrategyConfig());
         assertNotNull(actual.getKeyGeneratorConfig());
+        assertThat(actual.getTableShardingBoundaryConfig().getShardingColumn(), is("id"));
+        assertThat(actual.getTableShardingBoundaryConfig().getBoundaries(), is("0, 100"));
     }
 }
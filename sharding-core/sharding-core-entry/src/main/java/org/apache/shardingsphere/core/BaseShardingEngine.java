@@ -18,21 +18,29 @@
 package org.apache.shardingsphere.core;
 
 import com.google.common.base.Optional;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.sql.segment.RemoveAvailable;
+import org.apache.shardingsphere.core.parse.sql.segment.ddl.index.IndexSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.DMLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.rewrite.cache.RewriteTemplateCache;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLLogger;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.route.bulk.BulkInsertRoutingEngine;
 import org.apache.shardingsphere.core.route.hook.SPIRoutingHook;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.route.type.TableUnit;
 import org.apache.shardingsphere.core.rule.BindingTableRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -47,7 +55,6 @@ import java.util.Map;
  * @author zhangliang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public abstract class BaseShardingEngine {
     
     private final ShardingRule shardingRule;
@@ -58,6 +65,25 @@ public abstract class BaseShardingEngine {
     
     private final SPIRoutingHook routingHook = new SPIRoutingHook();
     
+    private final BulkInsertRoutingEngine bulkInsertRoutingEngine;
+    
+    private final RewriteTemplateCache rewriteTemplateCache;
+    
+    protected BaseShardingEngine(final ShardingRule shardingRule, final ShardingProperties shardingProperties, 
+                                 final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
+        this(shardingRule, shardingProperties, metaData, databaseType, cache, null);
+    }
+    
+    protected BaseShardingEngine(final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingMetaData metaData, 
+                                 final DatabaseType databaseType, final ParsingResultCache cache, final RewriteTemplateCache rewriteTemplateCache) {
+        this.shardingRule = shardingRule;
+        this.shardingProperties = shardingProperties;
+        this.metaData = metaData;
+        bulkInsertRoutingEngine = shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_BULK_INSERT_ENABLED)
+                ? new BulkInsertRoutingEngine(shardingRule, metaData, databaseType, cache, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.SQL_BULK_INSERT_CHUNK_SIZE)) : null;
+        this.rewriteTemplateCache = rewriteTemplateCache;
+    }
+    
     /**
      * Shard.
      *
@@ -68,7 +94,15 @@ public abstract class BaseShardingEngine {
     public SQLRouteResult shard(final String sql, final List<Object> parameters) {
         List<Object> clonedParameters = cloneParameters(parameters);
         SQLRouteResult result = executeRoute(sql, clonedParameters);
-        result.getRouteUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, result) : rewriteAndConvert(clonedParameters, result));
+        if (result.getRouteUnits().isEmpty()) {
+            if (HintManager.isDatabaseShardingOnly()) {
+                result.getRouteUnits().addAll(convert(sql, clonedParameters, result));
+            } else if (isPassThrough(result)) {
+                result.getRouteUnits().add(passThrough(clonedParameters, result));
+            } else {
+                result.getRouteUnits().addAll(rewriteAndConvert(clonedParameters, result));
+            }
+        }
         if (shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW)) {
             boolean showSimple = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SIMPLE);
             SQLLogger.logSQL(sql, showSimple, result.getOptimizedStatement().getSQLStatement(), result.getRouteUnits());
@@ -80,10 +114,16 @@ public abstract class BaseShardingEngine {
     
     protected abstract SQLRouteResult route(String sql, List<Object> parameters);
     
+    protected SQLUnit reviseSQLUnit(final SQLUnit sqlUnit) {
+        return sqlUnit;
+    }
+    
     private SQLRouteResult executeRoute(final String sql, final List<Object> clonedParameters) {
         routingHook.start(sql);
         try {
-            SQLRouteResult result = route(sql, clonedParameters);
+            Optional<SQLRouteResult> bulkInsertRouteResult = null == bulkInsertRoutingEngine || HintManager.isDatabaseShardingOnly() 
+                    ? Optional.<SQLRouteResult>absent() : bulkInsertRoutingEngine.route(sql, clonedParameters);
+            SQLRouteResult result = bulkInsertRouteResult.isPresent() ? bulkInsertRouteResult.get() : route(sql, clonedParameters);
             routingHook.finishSuccess(result, metaData.getTable());
             return result;
             // CHECKSTYLE:OFF
@@ -102,12 +142,44 @@ public abstract class BaseShardingEngine {
         return result;
     }
     
+    private boolean isPassThrough(final SQLRouteResult sqlRouteResult) {
+        SQLStatement sqlStatement = sqlRouteResult.getOptimizedStatement().getSQLStatement();
+        if (!sqlRouteResult.getRoutingResult().isSingleRouting() || !(sqlStatement instanceof DMLStatement) || sqlStatement instanceof InsertStatement
+                || sqlStatement.findSQLSegment(RemoveAvailable.class).isPresent() || sqlStatement.findSQLSegment(IndexSegment.class).isPresent()) {
+            return false;
+        }
+        Collection<String> tableNames = sqlStatement.getTables().getTableNames();
+        Map<String, String> logicAndActualTables = getLogicAndActualTables(sqlRouteResult.getRoutingResult().getRoutingUnits().iterator().next(), tableNames);
+        Collection<String> encryptTableNames = shardingRule.getEncryptRule().getEncryptorEngine().getEncryptTableNames();
+        for (String each : tableNames) {
+            String actualTableName = logicAndActualTables.get(each.toLowerCase());
+            if (!each.equals(null == actualTableName ? each.toLowerCase() : actualTableName) || isEncryptTable(encryptTableNames, each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isEncryptTable(final Collection<String> encryptTableNames, final String tableName) {
+        for (String each : encryptTableNames) {
+            if (each.equalsIgnoreCase(tableName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private RouteUnit passThrough(final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
+        String dataSourceName = sqlRouteResult.getRoutingResult().getRoutingUnits().iterator().next().getDataSourceName();
+        return new RouteUnit(dataSourceName, reviseSQLUnit(new SQLUnit(sqlRouteResult.getOptimizedStatement().getSQLStatement().getLogicSQL(), parameters)));
+    }
+    
     private Collection<RouteUnit> rewriteAndConvert(final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sqlRouteResult, parameters, sqlRouteResult.getRoutingResult().isSingleRouting());
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sqlRouteResult, parameters, sqlRouteResult.getRoutingResult().isSingleRouting(), rewriteTemplateCache);
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
             result.add(new RouteUnit(each.getDataSourceName(), 
-                    rewriteEngine.generateSQL(each, getLogicAndActualTables(each, sqlRouteResult.getOptimizedStatement().getSQLStatement().getTables().getTableNames()))));
+                    reviseSQLUnit(rewriteEngine.generateSQL(each, getLogicAndActualTables(each, sqlRouteResult.getOptimizedStatement().getSQLStatement().getTables().getTableNames())))));
         }
         return result;
     }
@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.core;
 
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.rewrite.cache.RewriteTemplateCache;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.prepare.PreparedStatementPlanCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
@@ -46,8 +49,19 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     
     public PreparedQueryShardingEngine(final String sql, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
                                        final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
-        super(shardingRule, shardingProperties, metaData);
-        routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, databaseType, cache);
+        this(sql, shardingRule, shardingProperties, metaData, databaseType, cache, null);
+    }
+    
+    public PreparedQueryShardingEngine(final String sql, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
+                                       final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache, final PreparedStatementPlanCache planCache) {
+        this(sql, shardingRule, shardingProperties, metaData, databaseType, cache, planCache, null);
+    }
+    
+    public PreparedQueryShardingEngine(final String sql, final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingMetaData metaData, 
+                                       final DatabaseType databaseType, final ParsingResultCache cache, final PreparedStatementPlanCache planCache, final RewriteTemplateCache rewriteTemplateCache) {
+        super(shardingRule, shardingProperties, metaData, databaseType, cache, rewriteTemplateCache);
+        routingEngine = new PreparedStatementRoutingEngine(
+                sql, shardingRule, metaData, databaseType, cache, planCache, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CARTESIAN_ROUTING_UNITS));
     }
     
     @Override
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.rewrite.cache.RewriteTemplateCache;
+import org.apache.shardingsphere.core.rewrite.pagination.SeekPagination;
+import org.apache.shardingsphere.core.rewrite.pagination.SeekPaginationEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.prepare.PreparedStatementPlanCache;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding engine for seek pagination.
+ * 
+ * <p>
+ * Boundary SQLs and seek SQL of seek pagination are constant for same logic SQL, their values are bound as parameters.
+ * So they are sharded by prepared query sharding engines which are created once for each SQL and reused by executions,
+ * with plan cache and rewrite template cache.
+ * Sharding engine for seek pagination is not thread safe, it belongs to one statement or one execution.
+ * </p>
+ */
+public final class SeekPaginationShardingEngine {
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingProperties shardingProperties;
+    
+    private final ShardingMetaData metaData;
+    
+    private final DatabaseType databaseType;
+    
+    private final ParsingResultCache parsingResultCache;
+    
+    private final PreparedStatementPlanCache planCache;
+    
+    private final RewriteTemplateCache rewriteTemplateCache;
+    
+    private final SeekPaginationEngine seekPaginationEngine;
+    
+    private final Map<String, PreparedQueryShardingEngine> shardingEngines = new HashMap<>();
+    
+    private SeekPaginationShardingEngine(final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingMetaData metaData, final DatabaseType databaseType, 
+                                         final ParsingResultCache parsingResultCache, final PreparedStatementPlanCache planCache, final RewriteTemplateCache rewriteTemplateCache, 
+                                         final int offsetThreshold) {
+        this.shardingRule = shardingRule;
+        this.shardingProperties = shardingProperties;
+        this.metaData = metaData;
+        this.databaseType = databaseType;
+        this.parsingResultCache = parsingResultCache;
+        this.planCache = planCache;
+        this.rewriteTemplateCache = rewriteTemplateCache;
+        seekPaginationEngine = new SeekPaginationEngine(shardingRule, metaData.getTable(), offsetThreshold);
+    }
+    
+    /**
+     * Create new instance of sharding engine for seek pagination.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingProperties sharding properties
+     * @param metaData meta data
+     * @param databaseType database type
+     * @param parsingResultCache parsing result cache
+     * @param planCache prepared statement plan cache, plans are not cached if null
+     * @param rewriteTemplateCache rewrite template cache, rewrite templates are not cached if null
+     * @return sharding engine for seek pagination, absent if offset threshold of seek pagination is not positive
+     */
+    public static Optional<SeekPaginationShardingEngine> newInstance(final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingMetaData metaData, 
+                                                                     final DatabaseType databaseType, final ParsingResultCache parsingResultCache, 
+                                                                     final PreparedStatementPlanCache planCache, final RewriteTemplateCache rewriteTemplateCache) {
+        int offsetThreshold = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.SQL_PAGINATION_SEEK_OFFSET_THRESHOLD);
+        return offsetThreshold > 0 ? Optional.of(new SeekPaginationShardingEngine(
+                shardingRule, shardingProperties, metaData, databaseType, parsingResultCache, planCache, rewriteTemplateCache, offsetThreshold)) : Optional.<SeekPaginationShardingEngine>absent();
+    }
+    
+    /**
+     * Shard logic SQL to seek pagination.
+     * 
+     * @param logicSQL logic SQL
+     * @param parameters parameters of logic SQL
+     * @param sqlRouteResult SQL route result of logic SQL
+     * @param queryExecutor query executor for boundary SQLs
+     * @return SQL route result of seek SQL, absent if SQL can not be sharded to seek pagination or boundary value is not found
+     * @throws SQLException SQL exception
+     */
+    public Optional<SQLRouteResult> shard(final String logicSQL, final List<Object> parameters, final SQLRouteResult sqlRouteResult, final QueryExecutor queryExecutor) throws SQLException {
+        Optional<SeekPagination> seekPagination = seekPaginationEngine.rewrite(logicSQL, parameters, sqlRouteResult);
+        if (!seekPagination.isPresent()) {
+            return Optional.absent();
+        }
+        boolean narrowed;
+        do {
+            SQLRouteResult boundaryRouteResult = shard(seekPagination.get().getBoundarySQL(), seekPagination.get().getBoundaryParameters());
+            narrowed = seekPagination.get().narrow(getSortKeys(queryExecutor.executeQuery(boundaryRouteResult)));
+        } while (!narrowed);
+        return seekPagination.get().isBoundaryFound() ? Optional.of(shard(seekPagination.get().getSeekSQL(), seekPagination.get().getSeekParameters())) : Optional.<SQLRouteResult>absent();
+    }
+    
+    private SQLRouteResult shard(final String sql, final List<Object> parameters) {
+        PreparedQueryShardingEngine shardingEngine = shardingEngines.get(sql);
+        if (null == shardingEngine) {
+            shardingEngine = new PreparedQueryShardingEngine(sql, shardingRule, shardingProperties, metaData, databaseType, parsingResultCache, planCache, rewriteTemplateCache);
+            shardingEngines.put(sql, shardingEngine);
+        }
+        return shardingEngine.shard(sql, parameters);
+    }
+    
+    private List<List<Object>> getSortKeys(final List<QueryResult> queryResults) throws SQLException {
+        List<List<Object>> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            List<Object> sortKeys = new ArrayList<>();
+            while (each.next()) {
+                sortKeys.add(each.getValue(1, Object.class));
+            }
+            result.add(sortKeys);
+        }
+        return result;
+    }
+    
+    /**
+     * Query executor for boundary SQLs.
+     */
+    public interface QueryExecutor {
+        
+        /**
+         * Execute query.
+         * 
+         * @param sqlRouteResult SQL route result
+         * @return query results
+         * @throws SQLException SQL exception
+         */
+        List<QueryResult> executeQuery(SQLRouteResult sqlRouteResult) throws SQLException;
+    }
+}
@@ -17,14 +17,23 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.exception.SQLParsingException;
+import org.apache.shardingsphere.core.parse.fingerprint.LiteralParameterBinder;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLFingerprint;
+import org.apache.shardingsphere.core.parse.fingerprint.SQLFingerprintEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -44,19 +53,40 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     
     private final StatementRoutingEngine routingEngine;
     
+    private final SQLFingerprintEngine fingerprintEngine;
+    
     public SimpleQueryShardingEngine(final ShardingRule shardingRule,
                                      final ShardingProperties shardingProperties, final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
-        super(shardingRule, shardingProperties, metaData);
-        routingEngine = new StatementRoutingEngine(shardingRule, metaData, databaseType, cache);
+        super(shardingRule, shardingProperties, metaData, databaseType, cache);
+        routingEngine = new StatementRoutingEngine(
+                shardingRule, metaData, databaseType, cache, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CARTESIAN_ROUTING_UNITS));
+        fingerprintEngine = shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_FINGERPRINT_ENABLED) ? new SQLFingerprintEngine(databaseType) : null;
     }
     
     @Override
     protected List<Object> cloneParameters(final List<Object> parameters) {
-        return Collections.emptyList();
+        return new ArrayList<>();
     }
     
     @Override
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
+        Optional<SQLFingerprint> fingerprint = null == fingerprintEngine || HintManager.isDatabaseShardingOnly() ? Optional.<SQLFingerprint>absent() : fingerprintEngine.fingerprint(sql);
+        if (fingerprint.isPresent()) {
+            try {
+                parameters.addAll(fingerprint.get().getParameters());
+                return routingEngine.route(fingerprint.get().getTemplateSQL(), parameters);
+            } catch (final SQLParsingException ex) {
+                parameters.clear();
+            }
+        }
         return routingEngine.route(sql);
     }
+    
+    @Override
+    protected SQLUnit reviseSQLUnit(final SQLUnit sqlUnit) {
+        if (sqlUnit.getParameters().isEmpty()) {
+            return sqlUnit;
+        }
+        return new SQLUnit(LiteralParameterBinder.bind(sqlUnit.getSql(), sqlUnit.getParameters()), Collections.emptyList());
+    }
 }
@@ -17,14 +17,24 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.optimize.statement.transparent.TransparentOptimizedStatement;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.sql.context.table.Table;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.BindingTableRule;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorEngine;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -35,7 +45,12 @@ import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -50,10 +65,14 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         super("SELECT ?", Collections.<Object>singletonList(1));
     }
     
+    private ShardingRule shardingRule;
+    
+    private EncryptRule encryptRule;
+    
     @Before
     public void setUp() {
-        ShardingRule shardingRule = mock(ShardingRule.class);
-        EncryptRule encryptRule = mock(EncryptRule.class);
+        shardingRule = mock(ShardingRule.class);
+        encryptRule = mock(EncryptRule.class);
         when(shardingRule.getEncryptRule()).thenReturn(encryptRule);
         shardingEngine = new PreparedQueryShardingEngine(
                 getSql(), shardingRule, getShardingProperties(), mock(ShardingMetaData.class), DatabaseTypes.getActualDatabaseType("MySQL"), new ParsingResultCache());
@@ -74,6 +93,28 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
     }
     
+    @Test
+    public void assertShardWithPassThroughForSingleDataNode() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setLogicSQL("SELECT * FROM t_user WHERE user_id = ?");
+        selectStatement.getTables().add(new Table("t_user", null));
+        SQLRouteResult sqlRouteResult = new SQLRouteResult(new TransparentOptimizedStatement(selectStatement));
+        RoutingUnit routingUnit = new RoutingUnit("ds");
+        routingUnit.getTableUnits().add(new TableUnit("t_user", "t_user"));
+        sqlRouteResult.setRoutingResult(new RoutingResult());
+        sqlRouteResult.getRoutingResult().getRoutingUnits().add(routingUnit);
+        when(shardingRule.findBindingTableRule("t_user")).thenReturn(Optional.<BindingTableRule>absent());
+        when(encryptRule.getEncryptorEngine()).thenReturn(mock(ShardingEncryptorEngine.class));
+        when(routingEngine.route(getParameters())).thenReturn(sqlRouteResult);
+        SQLRouteResult actual = shardingEngine.shard(getSql(), getParameters());
+        assertThat(actual.getRouteUnits().size(), is(1));
+        RouteUnit actualRouteUnit = actual.getRouteUnits().iterator().next();
+        assertThat(actualRouteUnit.getDataSourceName(), is("ds"));
+        assertThat(actualRouteUnit.getSqlUnit().getSql(), sameInstance(selectStatement.getLogicSQL()));
+        assertThat(actualRouteUnit.getSqlUnit().getParameters(), is(getParameters()));
+        verify(shardingRule, never()).findTableRule("t_user");
+    }
+    
     @Test(expected = SQLException.class)
     public void assertWithRouteException() {
         when(routingEngine.route(getParameters())).thenThrow(SQLException.class);
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.core.optimize;
 
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
@@ -29,6 +31,8 @@ import org.apache.shardingsphere.core.optimize.engine.sharding.dml.ShardingInser
 import org.apache.shardingsphere.core.optimize.engine.sharding.dml.ShardingSelectOptimizeEngine;
 import org.apache.shardingsphere.core.optimize.engine.sharding.dml.ShardingUpdateOptimizeEngine;
 import org.apache.shardingsphere.core.optimize.engine.transparent.TransparentOptimizeEngine;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizePlan;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizePlan;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropIndexStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.DeleteStatement;
@@ -38,6 +42,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -78,6 +83,48 @@ public final class OptimizeEngineFactory {
         return new TransparentOptimizeEngine(sqlStatement);
     }
     
+    /**
+     * Create sharding optimize plan.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingTableMetaData sharding table metadata
+     * @param sqlStatement SQL statement
+     * @return sharding optimize plan, absent if optimized statement is not reusable among executions
+     */
+    public static Optional<ShardingWhereOptimizePlan> newPlan(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof SelectStatement) {
+            ShardingWhereOptimizePlan result = new ShardingSelectOptimizeEngine(shardingRule, shardingTableMetaData, (SelectStatement) sqlStatement, Collections.<Object>emptyList()).getPlan();
+            return Optional.of(result);
+        }
+        if (sqlStatement instanceof UpdateStatement) {
+            return Optional.of(new ShardingUpdateOptimizeEngine(shardingRule, shardingTableMetaData, (UpdateStatement) sqlStatement, Collections.<Object>emptyList()).getPlan());
+        }
+        if (sqlStatement instanceof DeleteStatement) {
+            return Optional.of(new ShardingDeleteOptimizeEngine(shardingRule, shardingTableMetaData, (DeleteStatement) sqlStatement, Collections.<Object>emptyList()).getPlan());
+        }
+        return Optional.absent();
+    }
+    
+    /**
+     * Create sharding optimize engine instance with plan.
+     * 
+     * @param shardingTableMetaData sharding table metadata
+     * @param sqlStatement SQL statement
+     * @param plan sharding optimize plan created for SQL statement
+     * @param parameters parameters
+     * @return optimize engine instance
+     */
+    public static OptimizeEngine newInstance(final ShardingTableMetaData shardingTableMetaData, final SQLStatement sqlStatement, final ShardingWhereOptimizePlan plan, final List<Object> parameters) {
+        if (sqlStatement instanceof SelectStatement) {
+            return new ShardingSelectOptimizeEngine(shardingTableMetaData, (SelectStatement) sqlStatement, parameters, (ShardingSelectOptimizePlan) plan);
+        }
+        if (sqlStatement instanceof UpdateStatement) {
+            return new ShardingUpdateOptimizeEngine((UpdateStatement) sqlStatement, parameters, plan);
+        }
+        Preconditions.checkArgument(sqlStatement instanceof DeleteStatement, "Cannot optimize `%s` with plan.", sqlStatement.getClass().getName());
+        return new ShardingDeleteOptimizeEngine((DeleteStatement) sqlStatement, parameters, plan);
+    }
+    
     /**
      * Create encrypt optimize engine instance.
      * 
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.core.optimize.engine.sharding.dml;
 
+import lombok.Getter;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.optimize.engine.OptimizeEngine;
 import org.apache.shardingsphere.core.optimize.statement.encrypt.condition.WhereClauseEncryptConditionEngine;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizePlan;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.engine.WhereClauseShardingConditionEngine;
@@ -40,21 +42,23 @@ public final class ShardingDeleteOptimizeEngine implements OptimizeEngine {
     
     private final List<Object> parameters;
     
-    private final WhereClauseShardingConditionEngine shardingConditionEngine;
-    
-    private final WhereClauseEncryptConditionEngine encryptConditionEngine;
+    @Getter
+    private final ShardingWhereOptimizePlan plan;
     
     public ShardingDeleteOptimizeEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, final DeleteStatement deleteStatement, final List<Object> parameters) {
+        this(deleteStatement, parameters, new ShardingWhereOptimizePlan(new WhereClauseShardingConditionEngine(shardingRule, shardingTableMetaData).createShardingConditionPlan(deleteStatement), 
+                new WhereClauseEncryptConditionEngine(shardingRule.getEncryptRule(), shardingTableMetaData).createEncryptConditions(deleteStatement)));
+    }
+    
+    public ShardingDeleteOptimizeEngine(final DeleteStatement deleteStatement, final List<Object> parameters, final ShardingWhereOptimizePlan plan) {
         this.deleteStatement = deleteStatement;
         this.parameters = parameters;
-        shardingConditionEngine = new WhereClauseShardingConditionEngine(shardingRule, shardingTableMetaData);
-        encryptConditionEngine = new WhereClauseEncryptConditionEngine(shardingRule.getEncryptRule(), shardingTableMetaData);
+        this.plan = plan;
     }
     
     @Override
     public ShardingWhereOptimizedStatement optimize() {
-        return new ShardingWhereOptimizedStatement(deleteStatement,
-                new ShardingConditions(new ArrayList<>(shardingConditionEngine.createShardingConditions(deleteStatement, parameters))),
-                encryptConditionEngine.createEncryptConditions(deleteStatement));
+        return new ShardingWhereOptimizedStatement(deleteStatement, 
+                new ShardingConditions(new ArrayList<>(plan.getShardingConditionPlan().createShardingConditions(parameters))), plan.getEncryptConditions());
     }
 }
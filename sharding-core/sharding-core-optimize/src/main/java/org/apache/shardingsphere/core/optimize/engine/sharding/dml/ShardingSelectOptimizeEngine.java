@@ -19,12 +19,14 @@ package org.apache.shardingsphere.core.optimize.engine.sharding.dml;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import lombok.Getter;
 import org.apache.shardingsphere.core.constant.AggregationType;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.optimize.engine.OptimizeEngine;
 import org.apache.shardingsphere.core.optimize.statement.encrypt.condition.WhereClauseEncryptConditionEngine;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.engine.WhereClauseShardingConditionEngine;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.Pagination;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizePlan;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
 import org.apache.shardingsphere.core.parse.constant.DerivedColumn;
 import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationDistinctSelectItem;
@@ -60,25 +62,35 @@ public final class ShardingSelectOptimizeEngine implements OptimizeEngine {
     
     private final List<Object> parameters;
     
-    private final WhereClauseShardingConditionEngine shardingConditionEngine;
-    
-    private final WhereClauseEncryptConditionEngine encryptConditionEngine;
+    @Getter
+    private final ShardingSelectOptimizePlan plan;
     
     public ShardingSelectOptimizeEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, final SelectStatement selectStatement, final List<Object> parameters) {
         this.shardingTableMetaData = shardingTableMetaData;
         this.selectStatement = selectStatement;
         this.parameters = parameters;
-        shardingConditionEngine = new WhereClauseShardingConditionEngine(shardingRule, shardingTableMetaData);
-        encryptConditionEngine = new WhereClauseEncryptConditionEngine(shardingRule.getEncryptRule(), shardingTableMetaData);
+        plan = createPlan(shardingRule);
     }
     
-    @Override
-    public ShardingSelectOptimizedStatement optimize() {
+    public ShardingSelectOptimizeEngine(final ShardingTableMetaData shardingTableMetaData, final SelectStatement selectStatement, 
+                                        final List<Object> parameters, final ShardingSelectOptimizePlan plan) {
+        this.shardingTableMetaData = shardingTableMetaData;
+        this.selectStatement = selectStatement;
+        this.parameters = parameters;
+        this.plan = plan;
+    }
+    
+    private ShardingSelectOptimizePlan createPlan(final ShardingRule shardingRule) {
         Collection<SelectItem> items = new LinkedHashSet<>(selectStatement.getItems());
         items.addAll(getDerivedColumns());
+        return new ShardingSelectOptimizePlan(new WhereClauseShardingConditionEngine(shardingRule, shardingTableMetaData).createShardingConditionPlan(selectStatement), 
+                new WhereClauseEncryptConditionEngine(shardingRule.getEncryptRule(), shardingTableMetaData).createEncryptConditions(selectStatement), appendAverageDerivedColumns(items));
+    }
+    
+    @Override
+    public ShardingSelectOptimizedStatement optimize() {
         ShardingSelectOptimizedStatement result = new ShardingSelectOptimizedStatement(selectStatement, 
-                new ArrayList<>(shardingConditionEngine.createShardingConditions(selectStatement, parameters)), 
-                encryptConditionEngine.createEncryptConditions(selectStatement), appendAverageDerivedColumns(items));
+                new ArrayList<>(plan.getShardingConditionPlan().createShardingConditions(parameters)), plan.getEncryptConditions(), new LinkedList<>(plan.getItems()));
         setPagination(result);
         return result;
     }
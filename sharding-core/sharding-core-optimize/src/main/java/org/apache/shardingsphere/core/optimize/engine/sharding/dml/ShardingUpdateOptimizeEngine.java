@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.core.optimize.engine.sharding.dml;
 
+import lombok.Getter;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.optimize.engine.OptimizeEngine;
 import org.apache.shardingsphere.core.optimize.statement.encrypt.condition.WhereClauseEncryptConditionEngine;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizePlan;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.engine.WhereClauseShardingConditionEngine;
@@ -40,21 +42,23 @@ public final class ShardingUpdateOptimizeEngine implements OptimizeEngine {
     
     private final List<Object> parameters;
     
-    private final WhereClauseShardingConditionEngine shardingConditionEngine;
-    
-    private final WhereClauseEncryptConditionEngine encryptConditionEngine;
+    @Getter
+    private final ShardingWhereOptimizePlan plan;
     
     public ShardingUpdateOptimizeEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, final UpdateStatement updateStatement, final List<Object> parameters) {
+        this(updateStatement, parameters, new ShardingWhereOptimizePlan(new WhereClauseShardingConditionEngine(shardingRule, shardingTableMetaData).createShardingConditionPlan(updateStatement), 
+                new WhereClauseEncryptConditionEngine(shardingRule.getEncryptRule(), shardingTableMetaData).createEncryptConditions(updateStatement)));
+    }
+    
+    public ShardingUpdateOptimizeEngine(final UpdateStatement updateStatement, final List<Object> parameters, final ShardingWhereOptimizePlan plan) {
         this.updateStatement = updateStatement;
         this.parameters = parameters;
-        shardingConditionEngine = new WhereClauseShardingConditionEngine(shardingRule, shardingTableMetaData);
-        encryptConditionEngine = new WhereClauseEncryptConditionEngine(shardingRule.getEncryptRule(), shardingTableMetaData);
+        this.plan = plan;
     }
     
     @Override
     public ShardingWhereOptimizedStatement optimize() {
-        return new ShardingWhereOptimizedStatement(updateStatement,
-                new ShardingConditions(new ArrayList<>(shardingConditionEngine.createShardingConditions(updateStatement, parameters))), 
-                encryptConditionEngine.createEncryptConditions(updateStatement));
+        return new ShardingWhereOptimizedStatement(updateStatement, 
+                new ShardingConditions(new ArrayList<>(plan.getShardingConditionPlan().createShardingConditions(parameters))), plan.getEncryptConditions());
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.optimize.statement.sharding.dml;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.engine.WhereClauseShardingConditionPlan;
+import org.apache.shardingsphere.core.parse.sql.context.condition.AndCondition;
+
+/**
+ * Where optimize plan for sharding.
+ * 
+ * <p>
+ * Plan holds parts of optimized statement which do not depend on parameters, it is created once for SQL statement and reused by executions.
+ * Plan does not refer to SQL statement, so it can be cached by SQL statement weakly.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public class ShardingWhereOptimizePlan {
+    
+    private final WhereClauseShardingConditionPlan shardingConditionPlan;
+    
+    private final AndCondition encryptConditions;
+}
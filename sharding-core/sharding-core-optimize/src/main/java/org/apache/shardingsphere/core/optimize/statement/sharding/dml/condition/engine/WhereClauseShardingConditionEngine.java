@@ -18,14 +18,11 @@
 package org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.engine;
 
 import com.google.common.base.Optional;
-import com.google.common.collect.Range;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
-import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.AlwaysFalseRouteValue;
-import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.AlwaysFalseShardingCondition;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
-import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.generator.ConditionValueGeneratorFactory;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.engine.WhereClauseShardingConditionPlan.OrPredicateBinding;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.engine.WhereClauseShardingConditionPlan.ShardingColumnPredicate;
 import org.apache.shardingsphere.core.parse.filler.impl.dml.PredicateUtils;
 import org.apache.shardingsphere.core.parse.sql.context.condition.Column;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
@@ -34,17 +31,11 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateS
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.SubqueryPredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.rule.ShardingRule;
-import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
-import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
-import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Sharding condition engine for where clause.
@@ -66,116 +57,43 @@ public final class WhereClauseShardingConditionEngine {
      * @return sharding conditions
      */
     public Collection<ShardingCondition> createShardingConditions(final SQLStatement sqlStatement, final List<Object> parameters) {
-        Collection<ShardingCondition> result = new LinkedList<>();
+        return createShardingConditionPlan(sqlStatement).createShardingConditions(parameters);
+    }
+    
+    /**
+     * Create sharding condition plan.
+     * 
+     * @param sqlStatement SQL statement
+     * @return sharding condition plan
+     */
+    public WhereClauseShardingConditionPlan createShardingConditionPlan(final SQLStatement sqlStatement) {
         Optional<OrPredicateSegment> orPredicateSegment = sqlStatement.findSQLSegment(OrPredicateSegment.class);
-        if (orPredicateSegment.isPresent()) {
-            result.addAll(createShardingConditions(sqlStatement, parameters, orPredicateSegment.get()));
-        }
+        OrPredicateBinding orPredicateBinding = orPredicateSegment.isPresent()
+                ? createOrPredicateBinding(sqlStatement, orPredicateSegment.get()) : new OrPredicateBinding(Collections.<Collection<ShardingColumnPredicate>>emptyList());
+        Collection<OrPredicateBinding> subqueryOrPredicateBindings = new LinkedList<>();
         Optional<SubqueryPredicateSegment> subqueryPredicateSegment = sqlStatement.findSQLSegment(SubqueryPredicateSegment.class);
         if (subqueryPredicateSegment.isPresent()) {
             for (OrPredicateSegment each : subqueryPredicateSegment.get().getOrPredicates()) {
-                Collection<ShardingCondition> subqueryShardingConditions = createShardingConditions(sqlStatement, parameters, each);
-                if (!result.containsAll(subqueryShardingConditions)) {
-                    result.addAll(subqueryShardingConditions);
-                }
+                subqueryOrPredicateBindings.add(createOrPredicateBinding(sqlStatement, each));
             }
         }
-        return result;
+        return new WhereClauseShardingConditionPlan(orPredicateBinding, subqueryOrPredicateBindings);
     }
     
-    private Collection<ShardingCondition> createShardingConditions(final SQLStatement sqlStatement, final List<Object> parameters, final OrPredicateSegment orPredicateSegment) {
-        Collection<ShardingCondition> result = new LinkedList<>();
+    private OrPredicateBinding createOrPredicateBinding(final SQLStatement sqlStatement, final OrPredicateSegment orPredicateSegment) {
+        Collection<Collection<ShardingColumnPredicate>> result = new LinkedList<>();
         for (AndPredicate each : orPredicateSegment.getAndPredicates()) {
-            Map<Column, Collection<RouteValue>> routeValueMap = createRouteValueMap(sqlStatement, parameters, each);
-            if (routeValueMap.isEmpty()) {
-                return Collections.emptyList();
-            }
-            result.add(createShardingCondition(routeValueMap));
+            result.add(createShardingColumnPredicates(sqlStatement, each));
         }
-        return result;
+        return new OrPredicateBinding(result);
     }
     
-    private Map<Column, Collection<RouteValue>> createRouteValueMap(final SQLStatement sqlStatement, final List<Object> parameters, final AndPredicate andPredicate) {
-        Map<Column, Collection<RouteValue>> result = new HashMap<>();
+    private Collection<ShardingColumnPredicate> createShardingColumnPredicates(final SQLStatement sqlStatement, final AndPredicate andPredicate) {
+        Collection<ShardingColumnPredicate> result = new LinkedList<>();
         for (PredicateSegment each : andPredicate.getPredicates()) {
             Optional<String> tableName = PredicateUtils.findTableName(each, sqlStatement, shardingTableMetaData);
-            if (!tableName.isPresent() || !shardingRule.isShardingColumn(each.getColumn().getName(), tableName.get())) {
-                continue;
-            }
-            Column column = new Column(each.getColumn().getName(), tableName.get());
-            Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), column, parameters);
-            if (!routeValue.isPresent()) {
-                continue;
-            }
-            if (!result.containsKey(column)) {
-                result.put(column, new LinkedList<RouteValue>());
-            }
-            result.get(column).add(routeValue.get());
-        }
-        return result;
-    }
-    
-    private ShardingCondition createShardingCondition(final Map<Column, Collection<RouteValue>> routeValueMap) {
-        ShardingCondition result = new ShardingCondition();
-        for (Entry<Column, Collection<RouteValue>> entry : routeValueMap.entrySet()) {
-            try {
-                RouteValue routeValue = mergeRouteValues(entry.getKey(), entry.getValue());
-                if (routeValue instanceof AlwaysFalseRouteValue) {
-                    return new AlwaysFalseShardingCondition();
-                }
-                result.getRouteValues().add(routeValue);
-            } catch (final ClassCastException ex) {
-                throw new ShardingException("Found different types for sharding value `%s`.", entry.getKey());
-            }
-        }
-        return result;
-    }
-    
-    @SuppressWarnings("unchecked")
-    private RouteValue mergeRouteValues(final Column column, final Collection<RouteValue> routeValues) {
-        Collection<Comparable<?>> listValue = null;
-        Range<Comparable<?>> rangeValue = null;
-        for (RouteValue each : routeValues) {
-            if (each instanceof ListRouteValue) {
-                listValue = mergeListRouteValues(((ListRouteValue) each).getValues(), listValue);
-                if (listValue.isEmpty()) {
-                    return new AlwaysFalseRouteValue();
-                }
-            } else if (each instanceof RangeRouteValue) {
-                try {
-                    rangeValue = mergeRangeRouteValues(((RangeRouteValue) each).getValueRange(), rangeValue);
-                } catch (final IllegalArgumentException ex) {
-                    return new AlwaysFalseRouteValue();
-                }
-            }
-        }
-        if (null == listValue) {
-            return new RangeRouteValue<>(column.getName(), column.getTableName(), rangeValue);
-        }
-        if (null == rangeValue) {
-            return new ListRouteValue<>(column.getName(), column.getTableName(), listValue);
-        }
-        listValue = mergeListAndRangeRouteValues(listValue, rangeValue);
-        return listValue.isEmpty() ? new AlwaysFalseRouteValue() : new ListRouteValue<>(column.getName(), column.getTableName(), listValue);
-    }
-    
-    private Collection<Comparable<?>> mergeListRouteValues(final Collection<Comparable<?>> value1, final Collection<Comparable<?>> value2) {
-        if (null == value2) {
-            return value1;
-        }
-        value1.retainAll(value2);
-        return value1;
-    }
-    
-    private Range<Comparable<?>> mergeRangeRouteValues(final Range<Comparable<?>> value1, final Range<Comparable<?>> value2) {
-        return null == value2 ? value1 : value1.intersection(value2);
-    }
-    
-    private Collection<Comparable<?>> mergeListAndRangeRouteValues(final Collection<Comparable<?>> listValue, final Range<Comparable<?>> rangeValue) {
-        Collection<Comparable<?>> result = new LinkedList<>();
-        for (Comparable<?> each : listValue) {
-            if (rangeValue.contains(each)) {
-                result.add(each);
+            if (tableName.isPresent() && shardingRule.isShardingColumn(each.getColumn().getName(), tableName.get())) {
+                result.add(new ShardingColumnPredicate(new Column(each.getColumn().getName(), tableName.get()), each.getRightValue()));
             }
         }
         return result;
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.engine;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.AlwaysFalseRouteValue;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.AlwaysFalseShardingCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.generator.ConditionValueGeneratorFactory;
+import org.apache.shardingsphere.core.parse.sql.context.condition.Column;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateRightValue;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Sharding condition plan for where clause.
+ * 
+ * <p>
+ * Plan binds right values of predicates, with parameter markers in them, to sharding columns once for SQL statement.
+ * Executions only evaluate bound right values with their parameters to create sharding conditions.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class WhereClauseShardingConditionPlan {
+    
+    private final OrPredicateBinding orPredicateBinding;
+    
+    private final Collection<OrPredicateBinding> subqueryOrPredicateBindings;
+    
+    /**
+     * Create sharding conditions.
+     * 
+     * @param parameters SQL parameters
+     * @return sharding conditions
+     */
+    public Collection<ShardingCondition> createShardingConditions(final List<Object> parameters) {
+        Collection<ShardingCondition> result = new LinkedList<>(createShardingConditions(parameters, orPredicateBinding));
+        for (OrPredicateBinding each : subqueryOrPredicateBindings) {
+            Collection<ShardingCondition> subqueryShardingConditions = createShardingConditions(parameters, each);
+            if (!result.containsAll(subqueryShardingConditions)) {
+                result.addAll(subqueryShardingConditions);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<ShardingCondition> createShardingConditions(final List<Object> parameters, final OrPredicateBinding orPredicateBinding) {
+        Collection<ShardingCondition> result = new LinkedList<>();
+        for (Collection<ShardingColumnPredicate> each : orPredicateBinding.getAndPredicates()) {
+            Map<Column, Collection<RouteValue>> routeValueMap = createRouteValueMap(parameters, each);
+            if (routeValueMap.isEmpty()) {
+                return Collections.emptyList();
+            }
+            result.add(createShardingCondition(routeValueMap));
+        }
+        return result;
+    }
+    
+    private Map<Column, Collection<RouteValue>> createRouteValueMap(final List<Object> parameters, final Collection<ShardingColumnPredicate> andPredicate) {
+        Map<Column, Collection<RouteValue>> result = new HashMap<>();
+        for (ShardingColumnPredicate each : andPredicate) {
+            Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), each.getColumn(), parameters);
+            if (!routeValue.isPresent()) {
+                continue;
+            }
+            if (!result.containsKey(each.getColumn())) {
+                result.put(each.getColumn(), new LinkedList<RouteValue>());
+            }
+            result.get(each.getColumn()).add(routeValue.get());
+        }
+        return result;
+    }
+    
+    private ShardingCondition createShardingCondition(final Map<Column, Collection<RouteValue>> routeValueMap) {
+        ShardingCondition result = new ShardingCondition();
+        for (Entry<Column, Collection<RouteValue>> entry : routeValueMap.entrySet()) {
+            try {
+                RouteValue routeValue = mergeRouteValues(entry.getKey(), entry.getValue());
+                if (routeValue instanceof AlwaysFalseRouteValue) {
+                    return new AlwaysFalseShardingCondition();
+                }
+                result.getRouteValues().add(routeValue);
+            } catch (final ClassCastException ex) {
+                throw new ShardingException("Found different types for sharding value `%s`.", entry.getKey());
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private RouteValue mergeRouteValues(final Column column, final Collection<RouteValue> routeValues) {
+        Collection<Comparable<?>> listValue = null;
+        Range<Comparable<?>> rangeValue = null;
+        for (RouteValue each : routeValues) {
+            if (each instanceof ListRouteValue) {
+                listValue = mergeListRouteValues(((ListRouteValue) each).getValues(), listValue);
+                if (listValue.isEmpty()) {
+                    return new AlwaysFalseRouteValue();
+                }
+            } else if (each instanceof RangeRouteValue) {
+                try {
+                    rangeValue = mergeRangeRouteValues(((RangeRouteValue) each).getValueRange(), rangeValue);
+                } catch (final IllegalArgumentException ex) {
+                    return new AlwaysFalseRouteValue();
+                }
+            }
+        }
+        if (null == listValue) {
+            return new RangeRouteValue<>(column.getName(), column.getTableName(), rangeValue);
+        }
+        if (null == rangeValue) {
+            return new ListRouteValue<>(column.getName(), column.getTableName(), listValue);
+        }
+        listValue = mergeListAndRangeRouteValues(listValue, rangeValue);
+        return listValue.isEmpty() ? new AlwaysFalseRouteValue() : new ListRouteValue<>(column.getName(), column.getTableName(), listValue);
+    }
+    
+    private Collection<Comparable<?>> mergeListRouteValues(final Collection<Comparable<?>> value1, final Collection<Comparable<?>> value2) {
+        if (null == value2) {
+            return value1;
+        }
+        value1.retainAll(value2);
+        return value1;
+    }
+    
+    private Range<Comparable<?>> mergeRangeRouteValues(final Range<Comparable<?>> value1, final Range<Comparable<?>> value2) {
+        return null == value2 ? value1 : value1.intersection(value2);
+    }
+    
+    private Collection<Comparable<?>> mergeListAndRangeRouteValues(final Collection<Comparable<?>> listValue, final Range<Comparable<?>> rangeValue) {
+        Collection<Comparable<?>> result = new LinkedList<>();
+        for (Comparable<?> each : listValue) {
+            if (rangeValue.contains(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class OrPredicateBinding {
+        
+        private final Collection<Collection<ShardingColumnPredicate>> andPredicates;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class ShardingColumnPredicate {
+        
+        private final Column column;
+        
+        private final PredicateRightValue rightValue;
+    }
+}
@@ -17,15 +17,20 @@
 
 package org.apache.shardingsphere.core.parse;
 
+import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.parse.extractor.SQLSegmentsExtractorEngine;
+import org.apache.shardingsphere.core.parse.fastpath.FastPathParserEngine;
+import org.apache.shardingsphere.core.parse.fastpath.FastPathSQLAST;
 import org.apache.shardingsphere.core.parse.filler.SQLStatementFillerEngine;
 import org.apache.shardingsphere.core.parse.optimizer.SQLStatementOptimizerEngine;
+import org.apache.shardingsphere.core.parse.parser.PredictionModeContext;
 import org.apache.shardingsphere.core.parse.parser.SQLAST;
 import org.apache.shardingsphere.core.parse.parser.SQLParserEngine;
 import org.apache.shardingsphere.core.parse.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.rule.registry.statement.SQLStatementRule;
 import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.rule.BaseRule;
@@ -42,6 +47,8 @@ import java.util.Map;
  */
 public final class SQLParseEngine {
     
+    private final FastPathParserEngine fastPathParserEngine;
+    
     private final SQLParserEngine parserEngine;
     
     private final SQLSegmentsExtractorEngine extractorEngine;
@@ -51,8 +58,14 @@ public final class SQLParseEngine {
     private final SQLStatementOptimizerEngine optimizerEngine;
     
     public SQLParseEngine(final ParseRuleRegistry parseRuleRegistry, final DatabaseType databaseType, final String sql, final BaseRule rule, final ShardingTableMetaData shardingTableMetaData) {
+        this(parseRuleRegistry, databaseType, sql, rule, shardingTableMetaData, new PredictionModeContext(true), true);
+    }
+    
+    public SQLParseEngine(final ParseRuleRegistry parseRuleRegistry, final DatabaseType databaseType, final String sql, 
+                          final BaseRule rule, final ShardingTableMetaData shardingTableMetaData, final PredictionModeContext predictionModeContext, final boolean fastPathEnabled) {
         DatabaseType trunkDatabaseType = DatabaseTypes.getTrunkDatabaseType(databaseType.getName());
-        parserEngine = new SQLParserEngine(parseRuleRegistry, trunkDatabaseType, sql);
+        fastPathParserEngine = fastPathEnabled ? new FastPathParserEngine(parseRuleRegistry, trunkDatabaseType, sql) : null;
+        parserEngine = new SQLParserEngine(parseRuleRegistry, trunkDatabaseType, sql, predictionModeContext);
         extractorEngine = new SQLSegmentsExtractorEngine();
         fillerEngine = new SQLStatementFillerEngine(parseRuleRegistry, trunkDatabaseType, sql, rule, shardingTableMetaData);
         optimizerEngine = new SQLStatementOptimizerEngine(rule, shardingTableMetaData);
@@ -64,11 +77,19 @@ public final class SQLParseEngine {
      * @return SQL statement
      */
     public SQLStatement parse() {
+        Optional<FastPathSQLAST> fastPathAST = null == fastPathParserEngine ? Optional.<FastPathSQLAST>absent() : fastPathParserEngine.parse();
+        if (fastPathAST.isPresent()) {
+            return fillAndOptimize(fastPathAST.get().getSqlSegments(), fastPathAST.get().getParameterMarkerCount(), fastPathAST.get().getSqlStatementRule());
+        }
         SQLAST ast = parserEngine.parse();
         Map<ParserRuleContext, Integer> parameterMarkerIndexes = ast.getParameterMarkerIndexes();
         Collection<SQLSegment> sqlSegments = extractorEngine.extract(ast, parameterMarkerIndexes);
-        SQLStatement result = fillerEngine.fill(sqlSegments, parameterMarkerIndexes.size(), ast.getSqlStatementRule());
-        optimizerEngine.optimize(ast.getSqlStatementRule(), result);
+        return fillAndOptimize(sqlSegments, parameterMarkerIndexes.size(), ast.getSqlStatementRule());
+    }
+    
+    private SQLStatement fillAndOptimize(final Collection<SQLSegment> sqlSegments, final int parameterMarkerCount, final SQLStatementRule sqlStatementRule) {
+        SQLStatement result = fillerEngine.fill(sqlSegments, parameterMarkerCount, sqlStatementRule);
+        optimizerEngine.optimize(sqlStatementRule, result);
         return result;
     }
 }
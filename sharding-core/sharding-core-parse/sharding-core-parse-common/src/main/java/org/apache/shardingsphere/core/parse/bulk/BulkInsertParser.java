@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.bulk;
+
+import com.google.common.base.Optional;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.parser.SQLParserFactory;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.complex.CommonExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.util.SQLUtil;
+import org.apache.shardingsphere.core.util.NumberUtil;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk insert parser.
+ * 
+ * <p>
+ * Tokens are read from lexer on demand and values rows are recognized one by one, so no parse tree is created for huge multiple rows INSERT.
+ * Recognized shape is:
+ * </p>
+ * 
+ * <pre>
+ *     INSERT INTO table (column [, column]*) VALUES row [, row]* [;]
+ *     
+ *     row: (value [, value]*)
+ * </pre>
+ * 
+ * <p>
+ * Value which is parameter marker, number or single quoted string is recognized as simple expression.
+ * Other values are kept as common expression, and parameter markers in them are still counted.
+ * Lexer is owned by current thread, so other SQL of same database type should not be parsed before all rows are read, and parser should be closed after using.
+ * </p>
+ */
+public final class BulkInsertParser implements AutoCloseable {
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    private final Lexer lexer;
+    
+    private final LexerErrorListener errorListener = new LexerErrorListener();
+    
+    private Token current;
+    
+    private String currentSymbolicName;
+    
+    private int parameterMarkerCount;
+    
+    private boolean finished;
+    
+    public BulkInsertParser(final DatabaseType databaseType, final String sql) {
+        this.databaseType = DatabaseTypes.getTrunkDatabaseType(databaseType.getName());
+        this.sql = sql;
+        lexer = SQLParserFactory.newLexer(this.databaseType, sql);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+    }
+    
+    /**
+     * Parse header of bulk insert.
+     * 
+     * @return header of bulk insert, absent if SQL is not recognized
+     */
+    public Optional<BulkInsertHeader> parseHeader() {
+        next();
+        if (!accept("INSERT") || !accept("INTO") || !is("IDENTIFIER_")) {
+            return Optional.absent();
+        }
+        Token table = current;
+        next();
+        if (!accept("LP_")) {
+            return Optional.absent();
+        }
+        List<String> columnNames = new ArrayList<>();
+        do {
+            if (!isColumnName()) {
+                return Optional.absent();
+            }
+            columnNames.add(SQLUtil.getExactlyValue(current.getText()));
+            next();
+        } while (accept("COMMA_"));
+        if (!accept("RP_") || !accept("VALUES") || !is("LP_") || errorListener.isErrorOccurred()) {
+            return Optional.absent();
+        }
+        return Optional.of(new BulkInsertHeader(SQLUtil.getExactlyValue(table.getText()), table.getStartIndex(), table.getStopIndex(), columnNames, current.getStartIndex()));
+    }
+    
+    private boolean isColumnName() {
+        return is("IDENTIFIER_") || !currentSymbolicName.isEmpty() && !currentSymbolicName.endsWith("_");
+    }
+    
+    /**
+     * Parse next values row.
+     * 
+     * <p>
+     * Header should be parsed before.
+     * </p>
+     * 
+     * @return next values row, absent if all rows are read or row is not recognized
+     */
+    public Optional<BulkInsertRow> nextRow() {
+        if (finished || !is("LP_")) {
+            return Optional.absent();
+        }
+        int startIndex = current.getStartIndex();
+        int parameterMarkerStartIndex = parameterMarkerCount;
+        next();
+        List<ExpressionSegment> values = new ArrayList<>();
+        do {
+            Optional<ExpressionSegment> value = parseValue();
+            if (!value.isPresent()) {
+                return Optional.absent();
+            }
+            values.add(value.get());
+        } while (accept("COMMA_"));
+        if (!is("RP_")) {
+            return Optional.absent();
+        }
+        int stopIndex = current.getStopIndex();
+        next();
+        if (!acceptRowEnd() || errorListener.isErrorOccurred()) {
+            finished = false;
+            return Optional.absent();
+        }
+        return Optional.of(new BulkInsertRow(startIndex, stopIndex, values, parameterMarkerStartIndex, parameterMarkerCount - parameterMarkerStartIndex));
+    }
+    
+    private Optional<ExpressionSegment> parseValue() {
+        List<Token> tokens = new ArrayList<>(2);
+        List<String> symbolicNames = new ArrayList<>(2);
+        int parameterMarkerIndex = parameterMarkerCount;
+        int depth = 0;
+        while (!isEnd() && (depth > 0 || !is("COMMA_") && !is("RP_"))) {
+            if (is("LP_")) {
+                depth++;
+            } else if (is("RP_")) {
+                depth--;
+            } else if (is("QUESTION_")) {
+                parameterMarkerCount++;
+            }
+            tokens.add(current);
+            symbolicNames.add(currentSymbolicName);
+            next();
+        }
+        if (tokens.isEmpty() || isEnd()) {
+            return Optional.absent();
+        }
+        return Optional.of(createValue(tokens, symbolicNames, parameterMarkerIndex));
+    }
+    
+    private ExpressionSegment createValue(final List<Token> tokens, final List<String> symbolicNames, final int parameterMarkerIndex) {
+        Token start = tokens.get(0);
+        Token stop = tokens.get(tokens.size() - 1);
+        if (1 == tokens.size() && "QUESTION_".equals(symbolicNames.get(0))) {
+            return new ParameterMarkerExpressionSegment(start.getStartIndex(), stop.getStopIndex(), parameterMarkerIndex);
+        }
+        Optional<Object> literal = Optional.absent();
+        if (1 == tokens.size()) {
+            literal = getLiteral(start.getText(), symbolicNames.get(0));
+        } else if (2 == tokens.size() && "MINUS_".equals(symbolicNames.get(0)) && "NUMBER_".equals(symbolicNames.get(1))) {
+            literal = getLiteral("-" + stop.getText(), symbolicNames.get(1));
+        }
+        return literal.isPresent() ? new LiteralExpressionSegment(start.getStartIndex(), stop.getStopIndex(), literal.get())
+                : new CommonExpressionSegment(start.getStartIndex(), stop.getStopIndex(), sql.substring(start.getStartIndex(), stop.getStopIndex() + 1));
+    }
+    
+    private Optional<Object> getLiteral(final String text, final String symbolicName) {
+        if ("NUMBER_".equals(symbolicName) && -1 == text.indexOf('e') && -1 == text.indexOf('E')) {
+            return Optional.<Object>of(NumberUtil.getExactlyNumber(text, 10));
+        }
+        if ("STRING_".equals(symbolicName) && text.length() >= 2 && '\'' == text.charAt(0)) {
+            String result = text.substring(1, text.length() - 1);
+            return -1 == result.indexOf('\'') && -1 == result.indexOf('\\') ? Optional.<Object>of(result) : Optional.absent();
+        }
+        return Optional.absent();
+    }
+    
+    private boolean acceptRowEnd() {
+        if (accept("COMMA_")) {
+            return is("LP_");
+        }
+        accept("SEMI_");
+        finished = isEnd();
+        return finished;
+    }
+    
+    /**
+     * Judge whether all rows are read.
+     * 
+     * @return all rows are read or not, false if SQL is not recognized
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+    
+    @Override
+    public void close() {
+        SQLParserFactory.releaseLexer(databaseType);
+    }
+    
+    private void next() {
+        do {
+            current = lexer.nextToken();
+        } while (Token.DEFAULT_CHANNEL != current.getChannel() && Token.EOF != current.getType());
+        String symbolicName = lexer.getVocabulary().getSymbolicName(current.getType());
+        currentSymbolicName = null == symbolicName ? "" : symbolicName;
+    }
+    
+    private boolean isEnd() {
+        return Token.EOF == current.getType();
+    }
+    
+    private boolean is(final String symbolicName) {
+        return symbolicName.equals(currentSymbolicName);
+    }
+    
+    private boolean accept(final String symbolicName) {
+        if (is(symbolicName)) {
+            next();
+            return true;
+        }
+        return false;
+    }
+    
+    private static final class LexerErrorListener extends BaseErrorListener {
+        
+        private boolean errorOccurred;
+        
+        @Override
+        public void syntaxError(final Recognizer<?, ?> recognizer, final Object offendingSymbol, final int line, final int charPositionInLine, final String msg, final RecognitionException ex) {
+            errorOccurred = true;
+        }
+        
+        boolean isErrorOccurred() {
+            return errorOccurred;
+        }
+    }
+}
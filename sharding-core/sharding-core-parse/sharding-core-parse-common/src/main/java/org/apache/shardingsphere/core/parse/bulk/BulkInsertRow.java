@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.bulk;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+
+import java.util.List;
+
+/**
+ * Values row of bulk insert.
+ * 
+ * <p>
+ * Parameter markers of row are continuous, 
+ * {@code parameterMarkerStartIndex} is index of first parameter marker of row in all parameter markers of SQL.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class BulkInsertRow {
+    
+    private final int startIndex;
+    
+    private final int stopIndex;
+    
+    private final List<ExpressionSegment> values;
+    
+    private final int parameterMarkerStartIndex;
+    
+    private final int parameterMarkerCount;
+}
@@ -17,21 +17,74 @@
 
 package org.apache.shardingsphere.core.parse.cache;
 
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.Getter;
+import org.apache.shardingsphere.core.parse.parser.PredictionModeContext;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
-import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Parsing result cache.
+ * 
+ * <p>
+ * The cache is thread safe and bounded by maximum size of entries, or by maximum weight which is estimated by length of SQL.
+ * Entries are evicted by LRU, and can expire after access optionally.
+ * </p>
  *
  * @author zhangliang
  * @author zhaojun
  */
 public final class ParsingResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    public static final long DEFAULT_MAXIMUM_SIZE = 65535L;
+    
+    private final Cache<String, SQLStatement> cache;
+    
+    @Getter
+    private final PredictionModeContext predictionModeContext;
+    
+    @Getter
+    private final boolean fastPathEnabled;
+    
+    public ParsingResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE, 0L, 0L);
+    }
+    
+    public ParsingResultCache(final long maximumSize, final long maximumWeight, final long expireAfterAccessSeconds) {
+        this(maximumSize, maximumWeight, expireAfterAccessSeconds, new PredictionModeContext(true), true);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * @param maximumSize maximum size of entries, ignored if maximum weight is positive
+     * @param maximumWeight maximum weight of entries estimated by length of SQL, not limited by weight if not positive
+     * @param expireAfterAccessSeconds seconds of expiring after access, never expire if not positive
+     * @param predictionModeContext prediction mode context for SQLs parsed with this cache
+     * @param fastPathEnabled whether SQLs parsed with this cache are recognized by fast path before parsing by SQL parser
+     */
+    public ParsingResultCache(final long maximumSize, final long maximumWeight, final long expireAfterAccessSeconds, 
+                              final PredictionModeContext predictionModeContext, final boolean fastPathEnabled) {
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).recordStats();
+        if (maximumWeight > 0L) {
+            cacheBuilder.maximumWeight(maximumWeight).weigher(new SQLLengthWeigher());
+        } else {
+            cacheBuilder.maximumSize(maximumSize);
+        }
+        if (expireAfterAccessSeconds > 0L) {
+            cacheBuilder.expireAfterAccess(expireAfterAccessSeconds, TimeUnit.SECONDS);
+        }
+        cache = cacheBuilder.build();
+        this.predictionModeContext = predictionModeContext;
+        this.fastPathEnabled = fastPathEnabled;
+    }
     
     /**
      * Put SQL and parsing result into cache.
@@ -50,13 +103,65 @@ public final class ParsingResultCache {
      * @return SQL statement
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        return cache.getIfPresent(sql);
+    }
+    
+    /**
+     * Get SQL statement, or load and cache it if absent.
+     * 
+     * <p>
+     * Concurrent loads of same SQL are merged into one, and time of loading is recorded into statistics.
+     * </p>
+     *
+     * @param sql SQL
+     * @param loader loader of SQL statement
+     * @return SQL statement
+     */
+    public SQLStatement getSQLStatement(final String sql, final Callable<SQLStatement> loader) {
+        try {
+            return cache.get(sql, loader);
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+    
+    /**
+     * Get statistics of cache.
+     * 
+     * <p>
+     * Statistics include count of hit, miss, eviction and total load time.
+     * </p>
+     * 
+     * @return statistics of cache
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get size of cached entries.
+     * 
+     * @return size of cached entries
+     */
+    public long size() {
+        return cache.size();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    private static final class SQLLengthWeigher implements Weigher<String, SQLStatement> {
+        
+        @Override
+        public int weigh(final String sql, final SQLStatement sqlStatement) {
+            return sql.length();
+        }
     }
 }
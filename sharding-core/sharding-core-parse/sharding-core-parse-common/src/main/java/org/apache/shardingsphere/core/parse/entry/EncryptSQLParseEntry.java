@@ -46,6 +46,6 @@ public final class EncryptSQLParseEntry extends SQLParseEntry {
     
     @Override
     protected SQLParseEngine getSQLParseEngine(final String sql) {
-        return new SQLParseEngine(EncryptParseRuleRegistry.getInstance(), databaseType, sql, encryptRule, shardingTableMetaData);
+        return new SQLParseEngine(EncryptParseRuleRegistry.getInstance(), databaseType, sql, encryptRule, shardingTableMetaData, getParsingResultCache().getPredictionModeContext(), getParsingResultCache().isFastPathEnabled());
     }
 }
@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.core.parse.entry;
 
-import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
+import java.util.concurrent.Callable;
+
 /**
  * SQL parse entry.
  *
@@ -31,6 +34,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 @RequiredArgsConstructor
 public abstract class SQLParseEntry {
     
+    @Getter(AccessLevel.PROTECTED)
     private final ParsingResultCache parsingResultCache;
     
     /**
@@ -41,19 +45,16 @@ public abstract class SQLParseEntry {
      * @return SQL statement
      */
     public final SQLStatement parse(final String sql, final boolean useCache) {
-        Optional<SQLStatement> cachedSQLStatement = getSQLStatementFromCache(sql, useCache);
-        if (cachedSQLStatement.isPresent()) {
-            return cachedSQLStatement.get();
-        }
-        SQLStatement result = getSQLParseEngine(sql).parse();
-        if (useCache) {
-            parsingResultCache.put(sql, result);
+        if (!useCache) {
+            return getSQLParseEngine(sql).parse();
         }
-        return result;
-    }
-    
-    private Optional<SQLStatement> getSQLStatementFromCache(final String sql, final boolean useCache) {
-        return useCache ? Optional.fromNullable(parsingResultCache.getSQLStatement(sql)) : Optional.<SQLStatement>absent();
+        return parsingResultCache.getSQLStatement(sql, new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return getSQLParseEngine(sql).parse();
+            }
+        });
     }
     
     protected abstract SQLParseEngine getSQLParseEngine(String sql);
@@ -39,6 +39,8 @@ public final class SQLSegmentsExtractorEngine {
     /** 
      * Extract SQL segments.
      * 
+     * <p>Parse tree index of SQL AST is passed to extractors, so they query it instead of traversing parse tree for each rule.</p>
+     * 
      * @param ast SQL AST
      * @param parameterMarkerIndexes parameter marker indexes
      * @return SQL segments
@@ -47,12 +49,12 @@ public final class SQLSegmentsExtractorEngine {
         Collection<SQLSegment> result = new LinkedList<>();
         for (SQLSegmentExtractor each : ast.getSqlStatementRule().getExtractors()) {
             if (each instanceof OptionalSQLSegmentExtractor) {
-                Optional<? extends SQLSegment> sqlSegment = ((OptionalSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), parameterMarkerIndexes);
+                Optional<? extends SQLSegment> sqlSegment = ((OptionalSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), parameterMarkerIndexes, ast.getParseTreeIndex());
                 if (sqlSegment.isPresent()) {
                     result.add(sqlSegment.get());
                 }
             } else if (each instanceof CollectionSQLSegmentExtractor) {
-                result.addAll(((CollectionSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), parameterMarkerIndexes));
+                result.addAll(((CollectionSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), parameterMarkerIndexes, ast.getParseTreeIndex()));
             }
         }
         return result;
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.parse.extractor.api;
 
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
 
 import java.util.Collection;
@@ -35,7 +36,8 @@ public interface CollectionSQLSegmentExtractor extends SQLSegmentExtractor {
      *  
      * @param ancestorNode ancestor node of AST
      * @param parameterMarkerIndexes parameter marker indexes
+     * @param parseTreeIndex parse tree index of AST
      * @return SQL segments
      */
-    Collection<? extends SQLSegment> extract(ParserRuleContext ancestorNode, Map<ParserRuleContext, Integer> parameterMarkerIndexes);
+    Collection<? extends SQLSegment> extract(ParserRuleContext ancestorNode, Map<ParserRuleContext, Integer> parameterMarkerIndexes, ParseTreeIndex parseTreeIndex);
 }
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.common.column;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 
@@ -38,10 +38,10 @@ public final class ColumnsExtractor implements CollectionSQLSegmentExtractor {
     private final ColumnExtractor columnExtractor = new ColumnExtractor();
     
     @Override
-    public Collection<ColumnSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Collection<ColumnSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         Collection<ColumnSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.COLUMN_NAME)) {
-            Optional<ColumnSegment> columnSegment = columnExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.COLUMN_NAME)) {
+            Optional<ColumnSegment> columnSegment = columnExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (columnSegment.isPresent()) {
                 result.add(columnSegment.get());
             }
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.common.index;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.index.IndexSegment;
 
@@ -34,8 +34,8 @@ import java.util.Map;
 public final class IndexExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<IndexSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> indexNameNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.INDEX_NAME);
+    public Optional<IndexSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> indexNameNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.INDEX_NAME);
         return indexNameNode.isPresent() ? Optional.of(new IndexSegment(indexNameNode.get().getStart().getStartIndex(), indexNameNode.get().getStop().getStopIndex(), indexNameNode.get().getText()))
                 : Optional.<IndexSegment>absent();
     }
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.common.index;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.index.IndexSegment;
 
@@ -38,10 +38,10 @@ public final class IndexesExtractor implements CollectionSQLSegmentExtractor {
     private final IndexExtractor indexExtractor = new IndexExtractor();
     
     @Override
-    public Collection<IndexSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Collection<IndexSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         Collection<IndexSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.INDEX_NAME)) {
-            Optional<IndexSegment> indexSegment = indexExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.INDEX_NAME)) {
+            Optional<IndexSegment> indexSegment = indexExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (indexSegment.isPresent()) {
                 result.add(indexSegment.get());
             }
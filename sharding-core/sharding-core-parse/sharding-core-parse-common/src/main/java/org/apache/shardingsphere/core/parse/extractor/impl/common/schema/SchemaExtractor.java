@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.common.schema;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.common.SchemaSegment;
 
@@ -34,8 +34,8 @@ import java.util.Map;
 public final class SchemaExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<SchemaSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> schemaNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.SCHEMA_NAME);
+    public Optional<SchemaSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> schemaNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.SCHEMA_NAME);
         return schemaNode.isPresent() ? Optional.of(new SchemaSegment(schemaNode.get().getStart().getStartIndex(), schemaNode.get().getStop().getStopIndex(), schemaNode.get().getText()))
                 : Optional.<SchemaSegment>absent();
     }
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.common.table;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.common.TableSegment;
 
@@ -38,10 +38,10 @@ public final class TablesExtractor implements CollectionSQLSegmentExtractor {
     private final TableExtractor tableExtractor = new TableExtractor();
     
     @Override
-    public Collection<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Collection<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         Collection<TableSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.TABLE_NAME)) {
-            Optional<TableSegment> tableSegment = tableExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.TABLE_NAME)) {
+            Optional<TableSegment> tableSegment = tableExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (tableSegment.isPresent()) {
                 result.add(tableSegment.get());
             }
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.ddl.column;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.ColumnDefinitionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.alter.AddColumnDefinitionSegment;
@@ -39,21 +39,23 @@ public class AddColumnDefinitionExtractor implements CollectionSQLSegmentExtract
     private final ColumnDefinitionExtractor columnDefinitionExtractor = new ColumnDefinitionExtractor();
     
     @Override
-    public final Collection<AddColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public final Collection<AddColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                                                final ParseTreeIndex parseTreeIndex) {
         Collection<AddColumnDefinitionSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.ADD_COLUMN_SPECIFICATION)) {
-            result.addAll(extractAddColumnDefinitions(each, parameterMarkerIndexes));
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.ADD_COLUMN_SPECIFICATION)) {
+            result.addAll(extractAddColumnDefinitions(each, parameterMarkerIndexes, parseTreeIndex));
         }
         return result;
     }
     
-    private Collection<AddColumnDefinitionSegment> extractAddColumnDefinitions(final ParserRuleContext addColumnNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Collection<AddColumnDefinitionSegment> extractAddColumnDefinitions(final ParserRuleContext addColumnNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                                                               final ParseTreeIndex parseTreeIndex) {
         Collection<AddColumnDefinitionSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(addColumnNode, RuleName.COLUMN_DEFINITION)) {
-            Optional<ColumnDefinitionSegment> columnDefinitionSegment = columnDefinitionExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(addColumnNode, RuleName.COLUMN_DEFINITION)) {
+            Optional<ColumnDefinitionSegment> columnDefinitionSegment = columnDefinitionExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (columnDefinitionSegment.isPresent()) {
                 AddColumnDefinitionSegment addColumnDefinitionSegment = new AddColumnDefinitionSegment(each.getStart().getStartIndex(), each.getStop().getStopIndex(), columnDefinitionSegment.get());
-                postExtractColumnDefinition(addColumnNode, addColumnDefinitionSegment, parameterMarkerIndexes);
+                postExtractColumnDefinition(addColumnNode, addColumnDefinitionSegment, parameterMarkerIndexes, parseTreeIndex);
                 result.add(addColumnDefinitionSegment);
             }
         }
@@ -61,6 +63,7 @@ public class AddColumnDefinitionExtractor implements CollectionSQLSegmentExtract
     }
     
     protected void postExtractColumnDefinition(
-            final ParserRuleContext addColumnNode, final AddColumnDefinitionSegment addColumnDefinitionSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+            final ParserRuleContext addColumnNode, final AddColumnDefinitionSegment addColumnDefinitionSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes,
+                    final ParseTreeIndex parseTreeIndex) {
     }
 }
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.ddl.column;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.core.parse.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.alter.DropColumnDefinitionSegment;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
@@ -37,17 +37,17 @@ import java.util.Map;
 public final class DropColumnDefinitionExtractor implements CollectionSQLSegmentExtractor {
     
     @Override
-    public Collection<DropColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Collection<DropColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         Collection<DropColumnDefinitionSegment> result = new HashSet<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.DROP_COLUMN_SPECIFICATION)) {
-            result.addAll(extractDropColumnSegments(each));
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.DROP_COLUMN_SPECIFICATION)) {
+            result.addAll(extractDropColumnSegments(each, parseTreeIndex));
         }
         return result;
     }
     
-    private Collection<DropColumnDefinitionSegment> extractDropColumnSegments(final ParserRuleContext dropColumnNode) {
+    private Collection<DropColumnDefinitionSegment> extractDropColumnSegments(final ParserRuleContext dropColumnNode, final ParseTreeIndex parseTreeIndex) {
         Collection<DropColumnDefinitionSegment> result = new HashSet<>();
-        for (ParseTree each : ExtractorUtils.getAllDescendantNodes(dropColumnNode, RuleName.COLUMN_NAME)) {
+        for (ParseTree each : parseTreeIndex.getAllDescendantNodes(dropColumnNode, RuleName.COLUMN_NAME)) {
             result.add(new DropColumnDefinitionSegment(SQLUtil.getExactlyValue(each.getText())));
         }
         return result;
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.ddl.column;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.ColumnDefinitionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.alter.ModifyColumnDefinitionSegment;
@@ -39,14 +39,15 @@ public class ModifyColumnDefinitionExtractor implements CollectionSQLSegmentExtr
     private final ColumnDefinitionExtractor columnDefinitionExtractor = new ColumnDefinitionExtractor();
     
     @Override
-    public final Collection<ModifyColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public final Collection<ModifyColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                                                   final ParseTreeIndex parseTreeIndex) {
         Collection<ModifyColumnDefinitionSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.MODIFY_COLUMN_SPECIFICATION)) {
-            Optional<ColumnDefinitionSegment> columnDefinitionSegment = columnDefinitionExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.MODIFY_COLUMN_SPECIFICATION)) {
+            Optional<ColumnDefinitionSegment> columnDefinitionSegment = columnDefinitionExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (columnDefinitionSegment.isPresent()) {
                 ModifyColumnDefinitionSegment modifyColumnDefinitionSegment = new ModifyColumnDefinitionSegment(
                         each.getStart().getStartIndex(), each.getStop().getStopIndex(), null, columnDefinitionSegment.get());
-                postExtractColumnDefinition(each, modifyColumnDefinitionSegment, parameterMarkerIndexes);
+                postExtractColumnDefinition(each, modifyColumnDefinitionSegment, parameterMarkerIndexes, parseTreeIndex);
                 result.add(modifyColumnDefinitionSegment);
             }
         }
@@ -54,6 +55,7 @@ public class ModifyColumnDefinitionExtractor implements CollectionSQLSegmentExtr
     }
     
     protected void postExtractColumnDefinition(final ParserRuleContext modifyColumnNode, 
-                                               final ModifyColumnDefinitionSegment modifyColumnDefinitionSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+                                               final ModifyColumnDefinitionSegment modifyColumnDefinitionSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes,
+                                                       final ParseTreeIndex parseTreeIndex) {
     }
 }
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.ddl.constraint;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.constraint.ConstraintDefinitionSegment;
 
@@ -35,16 +35,16 @@ import java.util.Map;
 public final class OutlinePrimaryKeyExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<ConstraintDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> primaryKeyNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.PRIMARY_KEY);
+    public Optional<ConstraintDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> primaryKeyNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.PRIMARY_KEY);
         if (!primaryKeyNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ParserRuleContext> columnListNode = ExtractorUtils.findFirstChildNode(primaryKeyNode.get().getParent().getParent(), RuleName.COLUMN_NAMES);
+        Optional<ParserRuleContext> columnListNode = parseTreeIndex.findFirstChildNode(primaryKeyNode.get().getParent().getParent(), RuleName.COLUMN_NAMES);
         if (!columnListNode.isPresent()) {
             return Optional.absent();
         }
-        Collection<ParserRuleContext> columnNameNodes = ExtractorUtils.getAllDescendantNodes(columnListNode.get(), RuleName.COLUMN_NAME);
+        Collection<ParserRuleContext> columnNameNodes = parseTreeIndex.getAllDescendantNodes(columnListNode.get(), RuleName.COLUMN_NAME);
         if (columnNameNodes.isEmpty()) {
             return Optional.absent();
         }
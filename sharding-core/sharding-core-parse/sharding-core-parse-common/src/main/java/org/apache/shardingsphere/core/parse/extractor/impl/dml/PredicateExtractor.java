@@ -26,6 +26,7 @@ import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtr
 import org.apache.shardingsphere.core.parse.extractor.impl.common.column.ColumnExtractor;
 import org.apache.shardingsphere.core.parse.extractor.impl.common.expression.ExpressionExtractor;
 import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
@@ -55,61 +56,63 @@ public final class PredicateExtractor implements OptionalSQLSegmentExtractor {
     private final ColumnExtractor columnExtractor = new ColumnExtractor();
     
     @Override
-    public Optional<OrPredicateSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> whereNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.WHERE_CLAUSE);
+    public Optional<OrPredicateSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> whereNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.WHERE_CLAUSE);
         if (!whereNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ParserRuleContext> exprNode = ExtractorUtils.findFirstChildNode((ParserRuleContext) whereNode.get().getChild(1), RuleName.EXPR);
+        Optional<ParserRuleContext> exprNode = parseTreeIndex.findFirstChildNode((ParserRuleContext) whereNode.get().getChild(1), RuleName.EXPR);
         Preconditions.checkState(exprNode.isPresent());
-        return extractRecursiveWithLogicalOperation(exprNode.get(), parameterMarkerIndexes);
+        return extractRecursiveWithLogicalOperation(exprNode.get(), parameterMarkerIndexes, parseTreeIndex);
     }
     
-    private Optional<OrPredicateSegment> extractRecursiveWithLogicalOperation(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Optional<OrPredicateSegment> extractRecursiveWithLogicalOperation(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                                                              final ParseTreeIndex parseTreeIndex) {
         Optional<ParserRuleContext> logicalOperatorNode = ExtractorUtils.findFirstChildNodeNoneRecursive(exprNode, RuleName.LOGICAL_OPERATOR);
         if (!logicalOperatorNode.isPresent()) {
-            return extractRecursiveWithParen(exprNode, parameterMarkerIndexes);
+            return extractRecursiveWithParen(exprNode, parameterMarkerIndexes, parseTreeIndex);
         }
-        Optional<OrPredicateSegment> leftPredicate = extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(0), parameterMarkerIndexes);
-        Optional<OrPredicateSegment> rightPredicate = extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(2), parameterMarkerIndexes);
+        Optional<OrPredicateSegment> leftPredicate = extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(0), parameterMarkerIndexes, parseTreeIndex);
+        Optional<OrPredicateSegment> rightPredicate = extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(2), parameterMarkerIndexes, parseTreeIndex);
         if (leftPredicate.isPresent() && rightPredicate.isPresent()) {
             return Optional.of(mergePredicate(leftPredicate.get(), rightPredicate.get(), logicalOperatorNode.get().getText()));
         }
         return leftPredicate.isPresent() ? leftPredicate : rightPredicate;
     }
     
-    private Optional<OrPredicateSegment> extractRecursiveWithParen(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Optional<OrPredicateSegment> extractRecursiveWithParen(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                                                   final ParseTreeIndex parseTreeIndex) {
         if (Paren.isLeftParen(exprNode.getChild(0).getText())) {
-            return extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(1), parameterMarkerIndexes);
+            return extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(1), parameterMarkerIndexes, parseTreeIndex);
         }
-        Optional<PredicateSegment> predicate = extractPredicate(exprNode, parameterMarkerIndexes);
+        Optional<PredicateSegment> predicate = extractPredicate(exprNode, parameterMarkerIndexes, parseTreeIndex);
         return predicate.isPresent() ? Optional.of(getOrPredicateSegment(predicate.get())) : Optional.<OrPredicateSegment>absent();
     }
     
-    private Optional<PredicateSegment> extractPredicate(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        if (ExtractorUtils.findFirstChildNode(exprNode, RuleName.SUBQUERY).isPresent()) {
+    private Optional<PredicateSegment> extractPredicate(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        if (parseTreeIndex.findFirstChildNode(exprNode, RuleName.SUBQUERY).isPresent()) {
             return Optional.absent();
         }
-        Optional<PredicateSegment> result = extractComparisonPredicate(exprNode, parameterMarkerIndexes);
+        Optional<PredicateSegment> result = extractComparisonPredicate(exprNode, parameterMarkerIndexes, parseTreeIndex);
         if (result.isPresent()) {
             return result;
         }
-        Optional<ParserRuleContext> predicateNode = ExtractorUtils.findFirstChildNode(exprNode, RuleName.PREDICATE);
+        Optional<ParserRuleContext> predicateNode = parseTreeIndex.findFirstChildNode(exprNode, RuleName.PREDICATE);
         if (!predicateNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ColumnSegment> column = columnExtractor.extract((ParserRuleContext) predicateNode.get().getChild(0), parameterMarkerIndexes);
+        Optional<ColumnSegment> column = columnExtractor.extract((ParserRuleContext) predicateNode.get().getChild(0), parameterMarkerIndexes, parseTreeIndex);
         if (!column.isPresent()) {
             return Optional.absent();
         }
         if (5 == predicateNode.get().getChildCount() && "BETWEEN".equalsIgnoreCase(predicateNode.get().getChild(1).getText())) {
-            result = extractBetweenPredicate(predicateNode.get(), parameterMarkerIndexes, column.get());
+            result = extractBetweenPredicate(predicateNode.get(), parameterMarkerIndexes, parseTreeIndex, column.get());
             if (result.isPresent()) {
                 return result;
             }
         }
         if (predicateNode.get().getChildCount() >= 5 && "IN".equalsIgnoreCase(predicateNode.get().getChild(1).getText())) {
-            result = extractInPredicate(predicateNode.get(), parameterMarkerIndexes, column.get());
+            result = extractInPredicate(predicateNode.get(), parameterMarkerIndexes, parseTreeIndex, column.get());
             if (result.isPresent()) {
                 return result;
             }
@@ -117,8 +120,8 @@ public final class PredicateExtractor implements OptionalSQLSegmentExtractor {
         return Optional.absent();
     }
     
-    private Optional<PredicateSegment> extractComparisonPredicate(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> comparisonOperatorNode = ExtractorUtils.findFirstChildNode(exprNode, RuleName.COMPARISON_OPERATOR);
+    private Optional<PredicateSegment> extractComparisonPredicate(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> comparisonOperatorNode = parseTreeIndex.findFirstChildNode(exprNode, RuleName.COMPARISON_OPERATOR);
         if (!comparisonOperatorNode.isPresent()) {
             return Optional.absent();
         }
@@ -129,40 +132,43 @@ public final class PredicateExtractor implements OptionalSQLSegmentExtractor {
             return Optional.absent();
         }
         if (leftColumnNode.isPresent() && rightColumnNode.isPresent()) {
-            Optional<ColumnSegment> leftColumn = columnExtractor.extract(leftColumnNode.get(), parameterMarkerIndexes);
-            Optional<ColumnSegment> rightColumn = columnExtractor.extract(rightColumnNode.get(), parameterMarkerIndexes);
+            Optional<ColumnSegment> leftColumn = columnExtractor.extract(leftColumnNode.get(), parameterMarkerIndexes, parseTreeIndex);
+            Optional<ColumnSegment> rightColumn = columnExtractor.extract(rightColumnNode.get(), parameterMarkerIndexes, parseTreeIndex);
             Preconditions.checkState(leftColumn.isPresent() && rightColumn.isPresent());
             return Optional.of(new PredicateSegment(booleanPrimaryNode.getStart().getStartIndex(), booleanPrimaryNode.getStop().getStopIndex(), leftColumn.get(), rightColumn.get()));
         }
-        Optional<ColumnSegment> column = columnExtractor.extract(exprNode, parameterMarkerIndexes);
+        Optional<ColumnSegment> column = columnExtractor.extract(exprNode, parameterMarkerIndexes, parseTreeIndex);
         Preconditions.checkState(column.isPresent());
         ParserRuleContext valueNode = leftColumnNode.isPresent()
                 ? (ParserRuleContext) comparisonOperatorNode.get().getParent().getChild(2) : (ParserRuleContext) comparisonOperatorNode.get().getParent().getChild(0);
-        Optional<? extends ExpressionSegment> sqlExpression = expressionExtractor.extract(valueNode, parameterMarkerIndexes);
+        Optional<? extends ExpressionSegment> sqlExpression = expressionExtractor.extract(valueNode, parameterMarkerIndexes, parseTreeIndex);
         return sqlExpression.isPresent() ? Optional.of(new PredicateSegment(booleanPrimaryNode.getStart().getStartIndex(), booleanPrimaryNode.getStop().getStopIndex(), column.get(), 
                 new PredicateCompareRightValue(comparisonOperatorNode.get().getText(), sqlExpression.get()))) : Optional.<PredicateSegment>absent();
     }
     
-    private Optional<PredicateSegment> extractBetweenPredicate(final ParserRuleContext predicateNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ColumnSegment column) {
-        Optional<? extends ExpressionSegment> betweenSQLExpression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(2), parameterMarkerIndexes);
-        Optional<? extends ExpressionSegment> andSQLExpression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(4), parameterMarkerIndexes);
+    private Optional<PredicateSegment> extractBetweenPredicate(final ParserRuleContext predicateNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                                               final ParseTreeIndex parseTreeIndex, final ColumnSegment column) {
+        Optional<? extends ExpressionSegment> betweenSQLExpression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(2), parameterMarkerIndexes, parseTreeIndex);
+        Optional<? extends ExpressionSegment> andSQLExpression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(4), parameterMarkerIndexes, parseTreeIndex);
         return betweenSQLExpression.isPresent() && andSQLExpression.isPresent()
                 ? Optional.of(new PredicateSegment(
                         predicateNode.getStart().getStartIndex(), predicateNode.getStop().getStopIndex(), column, new PredicateBetweenRightValue(betweenSQLExpression.get(), andSQLExpression.get())))
                 : Optional.<PredicateSegment>absent();
     }
     
-    private Optional<PredicateSegment> extractInPredicate(final ParserRuleContext predicateNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ColumnSegment column) {
-        Collection<ExpressionSegment> sqlExpressions = extractInExpressionSegments(predicateNode, parameterMarkerIndexes);
+    private Optional<PredicateSegment> extractInPredicate(final ParserRuleContext predicateNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex, 
+                                                          final ColumnSegment column) {
+        Collection<ExpressionSegment> sqlExpressions = extractInExpressionSegments(predicateNode, parameterMarkerIndexes, parseTreeIndex);
         return sqlExpressions.isEmpty() ? Optional.<PredicateSegment>absent()
                 : Optional.of(new PredicateSegment(predicateNode.getStart().getStartIndex(), predicateNode.getStop().getStopIndex(), column, new PredicateInRightValue(sqlExpressions)));
     }
     
-    private Collection<ExpressionSegment> extractInExpressionSegments(final ParserRuleContext predicateNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Collection<ExpressionSegment> extractInExpressionSegments(final ParserRuleContext predicateNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                                                      final ParseTreeIndex parseTreeIndex) {
         List<ExpressionSegment> result = new LinkedList<>();
         for (int i = 3; i < predicateNode.getChildCount(); i++) {
             if (RuleName.EXPR.getName().equals(predicateNode.getChild(i).getClass().getSimpleName())) {
-                Optional<? extends ExpressionSegment> expression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(i), parameterMarkerIndexes);
+                Optional<? extends ExpressionSegment> expression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(i), parameterMarkerIndexes, parseTreeIndex);
                 // FIXME if some part of expr is not supported, clear all expr for IN clause
                 if (!expression.isPresent()) {
                     return Collections.emptyList();
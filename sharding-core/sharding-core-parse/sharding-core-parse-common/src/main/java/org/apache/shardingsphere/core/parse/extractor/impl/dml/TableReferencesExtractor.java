@@ -21,7 +21,7 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.CollectionSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.extractor.impl.common.table.TablesExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.common.TableSegment;
 
@@ -39,8 +39,8 @@ public final class TableReferencesExtractor implements CollectionSQLSegmentExtra
     private final TablesExtractor tablesExtractor = new TablesExtractor();
     
     @Override
-    public Collection<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> tableReferencesNodes = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
-        return tableReferencesNodes.isPresent() ? tablesExtractor.extract(tableReferencesNodes.get(), parameterMarkerIndexes) : Collections.<TableSegment>emptyList();
+    public Collection<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> tableReferencesNodes = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
+        return tableReferencesNodes.isPresent() ? tablesExtractor.extract(tableReferencesNodes.get(), parameterMarkerIndexes, parseTreeIndex) : Collections.<TableSegment>emptyList();
     }
 }
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.dml;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.WhereSegment;
 
@@ -36,23 +36,24 @@ import java.util.Map;
 public final class WhereExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<WhereSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Optional<WhereSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         WhereSegment result;
-        Optional<ParserRuleContext> whereNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.WHERE_CLAUSE);
+        Optional<ParserRuleContext> whereNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.WHERE_CLAUSE);
         if (whereNode.isPresent()) {
             result = new WhereSegment(whereNode.get().getStart().getStartIndex(), whereNode.get().getStop().getStopIndex(), parameterMarkerIndexes.size());
-            setPropertiesForRevert(result, whereNode.get(), parameterMarkerIndexes);
+            setPropertiesForRevert(result, whereNode.get(), parameterMarkerIndexes, parseTreeIndex);
         } else {
             result = new WhereSegment(0, 0, parameterMarkerIndexes.size());
         }
         return Optional.of(result);
     }
     
-    private void setPropertiesForRevert(final WhereSegment whereSegment, final ParserRuleContext whereNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private void setPropertiesForRevert(final WhereSegment whereSegment, final ParserRuleContext whereNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                        final ParseTreeIndex parseTreeIndex) {
         if (parameterMarkerIndexes.isEmpty()) {
             return;
         }
-        Collection<ParserRuleContext> parameterMarkerNodes = ExtractorUtils.getAllDescendantNodes(whereNode, RuleName.PARAMETER_MARKER);
+        Collection<ParserRuleContext> parameterMarkerNodes = parseTreeIndex.getAllDescendantNodes(whereNode, RuleName.PARAMETER_MARKER);
         if (parameterMarkerNodes.isEmpty()) {
             return;
         }
@@ -21,7 +21,7 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.extractor.impl.common.column.ColumnExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.InsertColumnsSegment;
@@ -40,16 +40,17 @@ public final class InsertColumnsExtractor implements OptionalSQLSegmentExtractor
     private final ColumnExtractor columnExtractor = new ColumnExtractor();
     
     @Override
-    public Optional<InsertColumnsSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> insertValuesClause = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.INSERT_VALUES_CLAUSE);
+    public Optional<InsertColumnsSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> insertValuesClause = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.INSERT_VALUES_CLAUSE);
         return insertValuesClause.isPresent() ? Optional.of(new InsertColumnsSegment(insertValuesClause.get().getStart().getStartIndex(),
-                extractStopIndex(insertValuesClause.get()), extractColumns(insertValuesClause.get(), parameterMarkerIndexes))) : Optional.<InsertColumnsSegment>absent();
+                extractStopIndex(insertValuesClause.get(), parseTreeIndex), extractColumns(insertValuesClause.get(), parameterMarkerIndexes,
+                        parseTreeIndex))) : Optional.<InsertColumnsSegment>absent();
     }
     
-    private Collection<ColumnSegment> extractColumns(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Collection<ColumnSegment> extractColumns(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         Collection<ColumnSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.COLUMN_NAME)) {
-            Optional<ColumnSegment> columnSegment = columnExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.COLUMN_NAME)) {
+            Optional<ColumnSegment> columnSegment = columnExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (columnSegment.isPresent()) {
                 result.add(columnSegment.get());
             }
@@ -57,8 +58,8 @@ public final class InsertColumnsExtractor implements OptionalSQLSegmentExtractor
         return result;
     }
     
-    private int extractStopIndex(final ParserRuleContext insertValuesClause) {
-        Optional<ParserRuleContext> columnNames = ExtractorUtils.findFirstChildNode(insertValuesClause, RuleName.COLUMN_NAMES);
+    private int extractStopIndex(final ParserRuleContext insertValuesClause, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> columnNames = parseTreeIndex.findFirstChildNode(insertValuesClause, RuleName.COLUMN_NAMES);
         if (columnNames.isPresent()) {
             return columnNames.get().getStop().getStopIndex();
         }
@@ -21,7 +21,7 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.CollectionSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.extractor.impl.common.expression.ExpressionExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.InsertValuesSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
@@ -41,22 +41,23 @@ public final class InsertValuesExtractor implements CollectionSQLSegmentExtracto
     private final ExpressionExtractor expressionExtractor = new ExpressionExtractor();
     
     @Override
-    public Collection<InsertValuesSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> insertValuesClauseNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.INSERT_VALUES_CLAUSE);
+    public Collection<InsertValuesSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> insertValuesClauseNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.INSERT_VALUES_CLAUSE);
         if (!insertValuesClauseNode.isPresent()) {
             return Collections.emptyList();
         }
         Collection<InsertValuesSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(insertValuesClauseNode.get(), RuleName.ASSIGNMENT_VALUES)) {
-            result.add(new InsertValuesSegment(each.getStart().getStartIndex(), each.getStop().getStopIndex(), extractExpressionSegments(each, parameterMarkerIndexes)));
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(insertValuesClauseNode.get(), RuleName.ASSIGNMENT_VALUES)) {
+            result.add(new InsertValuesSegment(each.getStart().getStartIndex(), each.getStop().getStopIndex(), extractExpressionSegments(each, parameterMarkerIndexes, parseTreeIndex)));
         }
         return result;
     }
     
-    private Collection<ExpressionSegment> extractExpressionSegments(final ParserRuleContext assignmentValuesNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Collection<ExpressionSegment> extractExpressionSegments(final ParserRuleContext assignmentValuesNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                                                    final ParseTreeIndex parseTreeIndex) {
         Collection<ExpressionSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(assignmentValuesNode, RuleName.ASSIGNMENT_VALUE)) {
-            Optional<? extends ExpressionSegment> expressionSegment = expressionExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(assignmentValuesNode, RuleName.ASSIGNMENT_VALUE)) {
+            Optional<? extends ExpressionSegment> expressionSegment = expressionExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (expressionSegment.isPresent()) {
                 result.add(expressionSegment.get());
             }
@@ -21,7 +21,7 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.extractor.impl.common.column.ColumnExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.OnDuplicateKeyColumnsSegment;
@@ -40,19 +40,20 @@ public final class OnDuplicateKeyColumnsExtractor implements OptionalSQLSegmentE
     private final ColumnExtractor columnExtractor = new ColumnExtractor();
     
     @Override
-    public Optional<OnDuplicateKeyColumnsSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> onDuplicateKeyClauseNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.ON_DUPLICATE_KEY_CLAUSE);
+    public Optional<OnDuplicateKeyColumnsSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> onDuplicateKeyClauseNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.ON_DUPLICATE_KEY_CLAUSE);
         if (!onDuplicateKeyClauseNode.isPresent()) {
             return Optional.absent();
         }
         return Optional.of(new OnDuplicateKeyColumnsSegment(onDuplicateKeyClauseNode.get().getStart().getStartIndex(), onDuplicateKeyClauseNode.get().getStop().getStopIndex(), 
-                extractColumnSegments(onDuplicateKeyClauseNode.get(), parameterMarkerIndexes)));
+                extractColumnSegments(onDuplicateKeyClauseNode.get(), parameterMarkerIndexes, parseTreeIndex)));
     }
     
-    private Collection<ColumnSegment> extractColumnSegments(final ParserRuleContext onDuplicateKeyClauseNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Collection<ColumnSegment> extractColumnSegments(final ParserRuleContext onDuplicateKeyClauseNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                                            final ParseTreeIndex parseTreeIndex) {
         Collection<ColumnSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(onDuplicateKeyClauseNode, RuleName.COLUMN_NAME)) {
-            Optional<ColumnSegment> columnSegment = columnExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(onDuplicateKeyClauseNode, RuleName.COLUMN_NAME)) {
+            Optional<ColumnSegment> columnSegment = columnExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (columnSegment.isPresent()) {
                 result.add(columnSegment.get());
             }
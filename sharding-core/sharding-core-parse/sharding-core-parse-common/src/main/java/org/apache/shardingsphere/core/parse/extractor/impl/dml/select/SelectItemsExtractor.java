@@ -23,6 +23,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.extractor.impl.dml.select.item.SelectItemExtractor;
 import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.SelectItemsSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.ColumnSelectItemSegment;
@@ -53,37 +54,39 @@ public final class SelectItemsExtractor implements OptionalSQLSegmentExtractor {
     }
     
     @Override
-    public Optional<SelectItemsSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        ParserRuleContext selectItemsNode = ExtractorUtils.getFirstChildNode(findMainQueryNode(ancestorNode), RuleName.SELECT_ITEMS);
-        SelectItemsSegment result = new SelectItemsSegment(selectItemsNode.getStart().getStartIndex(), selectItemsNode.getStop().getStopIndex(), extractDistinct(ancestorNode));
-        Optional<ParserRuleContext> unqualifiedShorthandNode = ExtractorUtils.findFirstChildNode(selectItemsNode, RuleName.UNQUALIFIED_SHORTHAND);
+    public Optional<SelectItemsSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        ParserRuleContext selectItemsNode = parseTreeIndex.getFirstChildNode(findMainQueryNode(ancestorNode, parseTreeIndex), RuleName.SELECT_ITEMS);
+        SelectItemsSegment result = new SelectItemsSegment(selectItemsNode.getStart().getStartIndex(), selectItemsNode.getStop().getStopIndex(), extractDistinct(ancestorNode, parseTreeIndex));
+        Optional<ParserRuleContext> unqualifiedShorthandNode = parseTreeIndex.findFirstChildNode(selectItemsNode, RuleName.UNQUALIFIED_SHORTHAND);
         if (unqualifiedShorthandNode.isPresent()) {
-            setUnqualifiedShorthandSelectItemSegment(unqualifiedShorthandNode.get(), result, parameterMarkerIndexes);
+            setUnqualifiedShorthandSelectItemSegment(unqualifiedShorthandNode.get(), result, parameterMarkerIndexes, parseTreeIndex);
         }
-        setSelectItemSegment(selectItemsNode, result, parameterMarkerIndexes);
-        result.getSelectItems().addAll(extractRowNumberSelectItem(ancestorNode, parameterMarkerIndexes));
+        setSelectItemSegment(selectItemsNode, result, parameterMarkerIndexes, parseTreeIndex);
+        result.getSelectItems().addAll(extractRowNumberSelectItem(ancestorNode, parameterMarkerIndexes, parseTreeIndex));
         return Optional.of(result);
     }
     
     private void setUnqualifiedShorthandSelectItemSegment(final ParserRuleContext unqualifiedShorthandNode,
-                                                          final SelectItemsSegment selectItemsSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<? extends SelectItemSegment> unqualifiedShorthandSelectItemSegment = selectItemExtractor.extract(unqualifiedShorthandNode, parameterMarkerIndexes);
+                                                          final SelectItemsSegment selectItemsSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes,
+                                                                  final ParseTreeIndex parseTreeIndex) {
+        Optional<? extends SelectItemSegment> unqualifiedShorthandSelectItemSegment = selectItemExtractor.extract(unqualifiedShorthandNode, parameterMarkerIndexes, parseTreeIndex);
         if (unqualifiedShorthandSelectItemSegment.isPresent()) {
             selectItemsSegment.getSelectItems().add(unqualifiedShorthandSelectItemSegment.get());
         }
     }
     
-    private void setSelectItemSegment(final ParserRuleContext selectItemsNode, final SelectItemsSegment selectItemsSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(selectItemsNode, RuleName.SELECT_ITEM)) {
-            Optional<? extends SelectItemSegment> selectItemSegment = selectItemExtractor.extract(each, parameterMarkerIndexes);
+    private void setSelectItemSegment(final ParserRuleContext selectItemsNode, final SelectItemsSegment selectItemsSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                      final ParseTreeIndex parseTreeIndex) {
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(selectItemsNode, RuleName.SELECT_ITEM)) {
+            Optional<? extends SelectItemSegment> selectItemSegment = selectItemExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (selectItemSegment.isPresent()) {
                 selectItemsSegment.getSelectItems().add(selectItemSegment.get());
             }
         }
     }
     
-    private boolean extractDistinct(final ParserRuleContext selectItemsNode) {
-        Optional<ParserRuleContext> duplicateSpecificationNode = ExtractorUtils.findFirstChildNode(selectItemsNode, RuleName.DUPLICATE_SPECIFICATION);
+    private boolean extractDistinct(final ParserRuleContext selectItemsNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> duplicateSpecificationNode = parseTreeIndex.findFirstChildNode(selectItemsNode, RuleName.DUPLICATE_SPECIFICATION);
         if (duplicateSpecificationNode.isPresent()) {
             String text = duplicateSpecificationNode.get().getText();
             return "DISTINCT".equalsIgnoreCase(text) || "DISTINCTROW".equalsIgnoreCase(text);
@@ -91,23 +94,24 @@ public final class SelectItemsExtractor implements OptionalSQLSegmentExtractor {
         return false;
     }
     
-    private ParserRuleContext findMainQueryNode(final ParserRuleContext ancestorNode) {
-        Optional<ParserRuleContext> tableReferencesNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
+    private ParserRuleContext findMainQueryNode(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> tableReferencesNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
         if (!tableReferencesNode.isPresent()) {
             return ancestorNode;
         }
         Optional<ParserRuleContext> subqueryNode = ExtractorUtils.findSingleNodeFromFirstDescendant(tableReferencesNode.get(), RuleName.SUBQUERY);
         if (subqueryNode.isPresent()) {
-            return findMainQueryNode(subqueryNode.get());
+            return findMainQueryNode(subqueryNode.get(), parseTreeIndex);
         }
         return ancestorNode;
     }
     
-    private Collection<SelectItemSegment> extractRowNumberSelectItem(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Collection<SelectItemSegment> extractRowNumberSelectItem(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, 
+                                                                     final ParseTreeIndex parseTreeIndex) {
         Collection<SelectItemSegment> result = new LinkedList<>();
-        Collection<ParserRuleContext> selectItemNodes = ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.SELECT_ITEM);
+        Collection<ParserRuleContext> selectItemNodes = parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.SELECT_ITEM);
         for (ParserRuleContext each : selectItemNodes) {
-            Optional<? extends SelectItemSegment> selectItemSegment = selectItemExtractor.extract(each, parameterMarkerIndexes);
+            Optional<? extends SelectItemSegment> selectItemSegment = selectItemExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             Preconditions.checkState(selectItemSegment.isPresent());
             if (selectItemSegment.get() instanceof ColumnSelectItemSegment && rowNumberIdentifiers.contains(((ColumnSelectItemSegment) selectItemSegment.get()).getName())) {
                 result.add(selectItemSegment.get());
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.impl.dml.select;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.complex.SubquerySegment;
 
@@ -33,7 +34,7 @@ import java.util.Map;
 public final class SubqueryExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<SubquerySegment> extract(final ParserRuleContext subqueryNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Optional<SubquerySegment> extract(final ParserRuleContext subqueryNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         return RuleName.SUBQUERY.getName().equals(subqueryNode.getClass().getSimpleName())
                 ? Optional.of(new SubquerySegment(subqueryNode.getStart().getStartIndex(), subqueryNode.getStop().getStopIndex(), subqueryNode.getText())) : Optional.<SubquerySegment>absent();
     }
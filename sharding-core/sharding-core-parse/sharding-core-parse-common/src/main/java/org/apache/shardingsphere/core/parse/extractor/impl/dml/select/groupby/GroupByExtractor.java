@@ -23,6 +23,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.extractor.impl.dml.select.orderby.OrderByItemExtractor;
 import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.GroupBySegment;
 
@@ -41,21 +42,22 @@ public abstract class GroupByExtractor implements OptionalSQLSegmentExtractor {
     private final OrderByItemExtractor orderByItemExtractor;
     
     @Override
-    public final Optional<GroupBySegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> groupByNode = ExtractorUtils.findFirstChildNode(findMainQueryNode(ancestorNode), RuleName.GROUP_BY_CLAUSE);
+    public final Optional<GroupBySegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> groupByNode = parseTreeIndex.findFirstChildNode(findMainQueryNode(ancestorNode, parseTreeIndex), RuleName.GROUP_BY_CLAUSE);
         return groupByNode.isPresent() ? Optional.of(
-                new GroupBySegment(groupByNode.get().getStart().getStartIndex(), groupByNode.get().getStop().getStopIndex(), orderByItemExtractor.extract(groupByNode.get(), parameterMarkerIndexes)))
+                new GroupBySegment(groupByNode.get().getStart().getStartIndex(), groupByNode.get().getStop().getStopIndex(), orderByItemExtractor.extract(groupByNode.get(), parameterMarkerIndexes,
+                        parseTreeIndex)))
                 : Optional.<GroupBySegment>absent();
     }
     
-    private ParserRuleContext findMainQueryNode(final ParserRuleContext ancestorNode) {
-        Optional<ParserRuleContext> tableReferencesNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
+    private ParserRuleContext findMainQueryNode(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> tableReferencesNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
         if (!tableReferencesNode.isPresent()) {
             return ancestorNode;
         }
         Optional<ParserRuleContext> subqueryNode = ExtractorUtils.findSingleNodeFromFirstDescendant(tableReferencesNode.get(), RuleName.SUBQUERY);
         if (subqueryNode.isPresent()) {
-            return findMainQueryNode(subqueryNode.get());
+            return findMainQueryNode(subqueryNode.get(), parseTreeIndex);
         }
         return ancestorNode;
     }
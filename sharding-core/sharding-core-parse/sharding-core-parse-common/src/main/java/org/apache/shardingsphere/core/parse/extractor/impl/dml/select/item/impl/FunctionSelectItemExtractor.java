@@ -23,6 +23,7 @@ import org.antlr.v4.runtime.tree.TerminalNode;
 import org.apache.shardingsphere.core.constant.AggregationType;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.AliasAvailable;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.AggregationDistinctSelectItemSegment;
@@ -40,12 +41,12 @@ import java.util.Map;
 public final class FunctionSelectItemExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<SelectItemSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> functionCallNode = ExtractorUtils.findFirstChildNode(expressionNode, RuleName.FUNCTION_CALL);
+    public Optional<SelectItemSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> functionCallNode = parseTreeIndex.findFirstChildNode(expressionNode, RuleName.FUNCTION_CALL);
         if (!functionCallNode.isPresent()) {
             return Optional.absent();
         }
-        SelectItemSegment result = extractFunctionSelectItemSegment(functionCallNode.get());
+        SelectItemSegment result = extractFunctionSelectItemSegment(functionCallNode.get(), parseTreeIndex);
         Optional<ParserRuleContext> aliasNode = ExtractorUtils.findFirstChildNodeNoneRecursive(expressionNode, RuleName.ALIAS);
         if (aliasNode.isPresent() && result instanceof AliasAvailable) {
             ((AliasAvailable) result).setAlias(aliasNode.get().getText());
@@ -53,13 +54,13 @@ public final class FunctionSelectItemExtractor implements OptionalSQLSegmentExtr
         return Optional.of(result);
     }
     
-    private SelectItemSegment extractFunctionSelectItemSegment(final ParserRuleContext functionCallNode) {
+    private SelectItemSegment extractFunctionSelectItemSegment(final ParserRuleContext functionCallNode, final ParseTreeIndex parseTreeIndex) {
         Optional<ParserRuleContext> aggregationFunctionCallNode = ExtractorUtils.findFirstChildNodeNoneRecursive(functionCallNode, RuleName.AGGREGATION_FUNCTION);
         if (!aggregationFunctionCallNode.isPresent()) {
             return new ExpressionSelectItemSegment(functionCallNode.getStart().getStartIndex(), functionCallNode.getStop().getStopIndex(), functionCallNode.getText());
         }
         Optional<AggregationType> aggregationType = findAggregationType(aggregationFunctionCallNode.get().getChild(0).getText());
-        return aggregationType.isPresent() ? extractAggregationSelectItemSegment(aggregationType.get(), aggregationFunctionCallNode.get())
+        return aggregationType.isPresent() ? extractAggregationSelectItemSegment(aggregationType.get(), aggregationFunctionCallNode.get(), parseTreeIndex)
                 : new ExpressionSelectItemSegment(functionCallNode.getStart().getStartIndex(), functionCallNode.getStop().getStopIndex(), functionCallNode.getText());
     }
     
@@ -71,9 +72,9 @@ public final class FunctionSelectItemExtractor implements OptionalSQLSegmentExtr
         }
     }
     
-    private AggregationSelectItemSegment extractAggregationSelectItemSegment(final AggregationType type, final ParserRuleContext aggregationFunctionCallNode) {
+    private AggregationSelectItemSegment extractAggregationSelectItemSegment(final AggregationType type, final ParserRuleContext aggregationFunctionCallNode, final ParseTreeIndex parseTreeIndex) {
         int innerExpressionStartIndex = ((TerminalNode) aggregationFunctionCallNode.getChild(1)).getSymbol().getStartIndex();
-        return ExtractorUtils.findFirstChildNode(aggregationFunctionCallNode, RuleName.DISTINCT).isPresent()
+        return parseTreeIndex.findFirstChildNode(aggregationFunctionCallNode, RuleName.DISTINCT).isPresent()
                 ? new AggregationDistinctSelectItemSegment(aggregationFunctionCallNode.getStart().getStartIndex(), aggregationFunctionCallNode.getStop().getStopIndex(), 
                 aggregationFunctionCallNode.getText(), type, innerExpressionStartIndex, getDistinctExpression(aggregationFunctionCallNode))
                 : new AggregationSelectItemSegment(aggregationFunctionCallNode.getStart().getStartIndex(), aggregationFunctionCallNode.getStop().getStopIndex(), 
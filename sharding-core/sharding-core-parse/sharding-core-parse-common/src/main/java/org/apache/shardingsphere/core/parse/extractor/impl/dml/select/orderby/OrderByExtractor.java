@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.OrderBySegment;
 
@@ -39,20 +40,20 @@ public abstract class OrderByExtractor implements OptionalSQLSegmentExtractor {
     private final OrderByItemExtractor orderByItemExtractor;
     
     @Override
-    public final Optional<OrderBySegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> orderByNode = ExtractorUtils.findFirstChildNode(findMainQueryNode(ancestorNode), RuleName.ORDER_BY_CLAUSE);
+    public final Optional<OrderBySegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> orderByNode = parseTreeIndex.findFirstChildNode(findMainQueryNode(ancestorNode, parseTreeIndex), RuleName.ORDER_BY_CLAUSE);
         return orderByNode.isPresent() ? Optional.of(new OrderBySegment(orderByNode.get().getStart().getStartIndex(), orderByNode.get().getStop().getStopIndex(), 
-                orderByItemExtractor.extract(orderByNode.get(), parameterMarkerIndexes))) : Optional.<OrderBySegment>absent();
+                orderByItemExtractor.extract(orderByNode.get(), parameterMarkerIndexes, parseTreeIndex))) : Optional.<OrderBySegment>absent();
     }
     
-    private ParserRuleContext findMainQueryNode(final ParserRuleContext ancestorNode) {
-        Optional<ParserRuleContext> tableReferencesNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
+    private ParserRuleContext findMainQueryNode(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> tableReferencesNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
         if (!tableReferencesNode.isPresent()) {
             return ancestorNode;
         }
         Optional<ParserRuleContext> subqueryNode = ExtractorUtils.findSingleNodeFromFirstDescendant(tableReferencesNode.get(), RuleName.SUBQUERY);
         if (subqueryNode.isPresent()) {
-            return findMainQueryNode(subqueryNode.get());
+            return findMainQueryNode(subqueryNode.get(), parseTreeIndex);
         }
         return ancestorNode;
     }
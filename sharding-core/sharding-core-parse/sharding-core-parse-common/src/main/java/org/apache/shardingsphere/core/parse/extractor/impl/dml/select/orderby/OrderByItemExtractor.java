@@ -23,7 +23,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.parse.extractor.api.CollectionSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.extractor.impl.common.column.ColumnExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
@@ -49,23 +49,23 @@ public final class OrderByItemExtractor implements CollectionSQLSegmentExtractor
     private final ColumnExtractor columnExtractor = new ColumnExtractor();
     
     @Override
-    public Collection<OrderByItemSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Collection<OrderByItemSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
         Collection<OrderByItemSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.ORDER_BY_ITEM)) {
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.ORDER_BY_ITEM)) {
             OrderDirection orderDirection = 2 == each.getChildCount() && OrderDirection.DESC.name().equalsIgnoreCase(each.getChild(1).getText()) ? OrderDirection.DESC : OrderDirection.ASC;
-            Optional<ParserRuleContext> indexNode = ExtractorUtils.findFirstChildNode(each, RuleName.NUMBER_LITERALS);
+            Optional<ParserRuleContext> indexNode = parseTreeIndex.findFirstChildNode(each, RuleName.NUMBER_LITERALS);
             if (indexNode.isPresent()) {
                 result.add(new IndexOrderByItemSegment(indexNode.get().getStart().getStartIndex(), indexNode.get().getStop().getStopIndex(), 
                         NumberUtil.getExactlyNumber(indexNode.get().getText(), 10).intValue(), orderDirection, nullOrderDirection));
                 continue;
             }
-            Optional<ParserRuleContext> expressionNode = ExtractorUtils.findFirstChildNode(each, RuleName.EXPR);
+            Optional<ParserRuleContext> expressionNode = parseTreeIndex.findFirstChildNode(each, RuleName.EXPR);
             if (expressionNode.isPresent()) {
                 result.add(new ExpressionOrderByItemSegment(expressionNode.get().getStart().getStartIndex(), expressionNode.get().getStop().getStopIndex(),
                         expressionNode.get().getText(), orderDirection, nullOrderDirection));
                 continue;
             }
-            Optional<ColumnSegment> columnSegment = columnExtractor.extract(each, parameterMarkerIndexes);
+            Optional<ColumnSegment> columnSegment = columnExtractor.extract(each, parameterMarkerIndexes, parseTreeIndex);
             if (columnSegment.isPresent()) {
                 result.add(new ColumnOrderByItemSegment(columnSegment.get().getStartIndex(), columnSegment.get().getStopIndex(), columnSegment.get(), orderDirection, nullOrderDirection));
             }
@@ -27,6 +27,8 @@ import org.antlr.v4.runtime.tree.ParseTree;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Extractor utility.
@@ -36,6 +38,8 @@ import java.util.Queue;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ExtractorUtils {
     
+    private static final ConcurrentMap<Class<?>, String> RULE_NAMES = new ConcurrentHashMap<>();
+    
     /**
      * Get first child node.
      *
@@ -134,8 +138,17 @@ public final class ExtractorUtils {
         return result;
     }
     
+    static String getRuleName(final ParserRuleContext node) {
+        String result = RULE_NAMES.get(node.getClass());
+        if (null == result) {
+            result = node.getClass().getSimpleName();
+            RULE_NAMES.putIfAbsent(node.getClass(), result);
+        }
+        return result;
+    }
+    
     private static boolean isMatchedNode(final ParserRuleContext node, final RuleName ruleName) {
-        return ruleName.getName().equals(node.getClass().getSimpleName());
+        return ruleName.getName().equals(getRuleName(node));
     }
     
     private static Collection<ParserRuleContext> getChildrenNodes(final ParserRuleContext node) {
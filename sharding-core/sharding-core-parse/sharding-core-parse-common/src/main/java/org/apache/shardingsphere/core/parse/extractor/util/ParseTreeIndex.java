@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.extractor.util;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parse tree index.
+ * 
+ * <p>Rule nodes are numbered in pre-order during one walk of parse tree, and orders of nodes are grouped by rule name,
+ * descendants of any indexed node can be found by the pre-order range of that node without traversing parse tree again.
+ * Positions of nodes are stored in arrays by order, and orders of nodes are looked up by an identity hash table.</p>
+ */
+public final class ParseTreeIndex {
+    
+    private static final int INITIAL_CAPACITY = 64;
+    
+    private static final int[] EMPTY_ORDERS = new int[0];
+    
+    private ParserRuleContext[] nodes = new ParserRuleContext[INITIAL_CAPACITY];
+    
+    private int[] lastDescendantOrders = new int[INITIAL_CAPACITY];
+    
+    private int[] depths = new int[INITIAL_CAPACITY];
+    
+    private int nodeCount;
+    
+    private final Map<String, RuleOrders> ruleOrders = new HashMap<>();
+    
+    private final ParserRuleContext[] hashedNodes;
+    
+    private final int[] hashedOrders;
+    
+    public ParseTreeIndex(final ParserRuleContext rootNode) {
+        index(rootNode, 0);
+        hashedNodes = new ParserRuleContext[Integer.highestOneBit(nodeCount) << 2];
+        hashedOrders = new int[hashedNodes.length];
+        for (int i = 0; i < nodeCount; i++) {
+            int slot = getSlot(nodes[i]);
+            while (null != hashedNodes[slot]) {
+                slot = (slot + 1) & (hashedNodes.length - 1);
+            }
+            hashedNodes[slot] = nodes[i];
+            hashedOrders[slot] = i;
+        }
+    }
+    
+    private void index(final ParserRuleContext node, final int depth) {
+        int order = nodeCount++;
+        ensureCapacity(nodeCount);
+        nodes[order] = node;
+        depths[order] = depth;
+        String ruleName = ExtractorUtils.getRuleName(node);
+        RuleOrders sameRuleOrders = ruleOrders.get(ruleName);
+        if (null == sameRuleOrders) {
+            sameRuleOrders = new RuleOrders();
+            ruleOrders.put(ruleName, sameRuleOrders);
+        }
+        sameRuleOrders.add(order);
+        for (int i = 0; i < node.getChildCount(); i++) {
+            ParseTree child = node.getChild(i);
+            if (child instanceof ParserRuleContext) {
+                index((ParserRuleContext) child, depth + 1);
+            }
+        }
+        lastDescendantOrders[order] = nodeCount - 1;
+    }
+    
+    private void ensureCapacity(final int capacity) {
+        if (capacity > nodes.length) {
+            int newCapacity = nodes.length << 1;
+            nodes = Arrays.copyOf(nodes, newCapacity);
+            lastDescendantOrders = Arrays.copyOf(lastDescendantOrders, newCapacity);
+            depths = Arrays.copyOf(depths, newCapacity);
+        }
+    }
+    
+    private int getSlot(final ParserRuleContext node) {
+        int hash = System.identityHashCode(node);
+        return (hash ^ (hash >>> 16)) & (hashedNodes.length - 1);
+    }
+    
+    private int getOrder(final ParserRuleContext node) {
+        int slot = getSlot(node);
+        while (null != hashedNodes[slot]) {
+            if (node == hashedNodes[slot]) {
+                return hashedOrders[slot];
+            }
+            slot = (slot + 1) & (hashedNodes.length - 1);
+        }
+        return -1;
+    }
+    
+    /**
+     * Judge is node indexed or not.
+     * 
+     * @param node node to be judged
+     * @return is node indexed or not
+     */
+    public boolean contains(final ParserRuleContext node) {
+        return getOrder(node) >= 0;
+    }
+    
+    /**
+     * Get first child node in breadth first order.
+     *
+     * @param node start node
+     * @param ruleName rule name
+     * @return matched node
+     */
+    public ParserRuleContext getFirstChildNode(final ParserRuleContext node, final RuleName ruleName) {
+        Optional<ParserRuleContext> result = findFirstChildNode(node, ruleName);
+        Preconditions.checkState(result.isPresent());
+        return result.get();
+    }
+    
+    /**
+     * Find first child node in breadth first order.
+     * 
+     * <p>Node which is not indexed is traversed.</p>
+     *
+     * @param node start node
+     * @param ruleName rule name
+     * @return matched node
+     */
+    public Optional<ParserRuleContext> findFirstChildNode(final ParserRuleContext node, final RuleName ruleName) {
+        int order = getOrder(node);
+        if (order < 0) {
+            return ExtractorUtils.findFirstChildNode(node, ruleName);
+        }
+        RuleOrders sameRuleOrders = ruleOrders.get(ruleName.getName());
+        if (null == sameRuleOrders) {
+            return Optional.absent();
+        }
+        int result = -1;
+        int resultDepth = Integer.MAX_VALUE;
+        for (int i = sameRuleOrders.getFromIndex(order); i < sameRuleOrders.size && sameRuleOrders.orders[i] <= lastDescendantOrders[order]; i++) {
+            int each = sameRuleOrders.orders[i];
+            if (depths[each] < resultDepth) {
+                result = each;
+                resultDepth = depths[each];
+            }
+        }
+        return result < 0 ? Optional.<ParserRuleContext>absent() : Optional.of(nodes[result]);
+    }
+    
+    /**
+     * Get all descendant nodes in document order.
+     * 
+     * <p>Node which is not indexed is traversed.</p>
+     *
+     * @param node start node
+     * @param ruleName rule name
+     * @return all descendant nodes
+     */
+    public Collection<ParserRuleContext> getAllDescendantNodes(final ParserRuleContext node, final RuleName ruleName) {
+        int order = getOrder(node);
+        if (order < 0) {
+            return ExtractorUtils.getAllDescendantNodes(node, ruleName);
+        }
+        RuleOrders sameRuleOrders = ruleOrders.get(ruleName.getName());
+        if (null == sameRuleOrders) {
+            return new ArrayList<>(0);
+        }
+        int fromIndex = sameRuleOrders.getFromIndex(order);
+        int toIndex = sameRuleOrders.getFromIndex(lastDescendantOrders[order] + 1);
+        List<ParserRuleContext> result = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            result.add(nodes[sameRuleOrders.orders[i]]);
+        }
+        return result;
+    }
+    
+    private static final class RuleOrders {
+        
+        private int[] orders = EMPTY_ORDERS;
+        
+        private int size;
+        
+        private void add(final int order) {
+            if (size == orders.length) {
+                orders = Arrays.copyOf(orders, 0 == size ? 4 : size << 1);
+            }
+            orders[size++] = order;
+        }
+        
+        private int getFromIndex(final int order) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (orders[middle] < order) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
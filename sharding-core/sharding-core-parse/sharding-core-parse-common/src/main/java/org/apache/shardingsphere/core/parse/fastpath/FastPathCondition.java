@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fastpath;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.Token;
+
+import java.util.List;
+
+/**
+ * Condition recognized by fast path, which is predicate of where clause or assignment of set clause.
+ */
+@RequiredArgsConstructor
+@Getter
+final class FastPathCondition {
+    
+    private final Token column;
+    
+    private final Type type;
+    
+    private final Token operator;
+    
+    private final List<FastPathValue> values;
+    
+    private final Token stop;
+    
+    enum Type {
+        
+        COMPARISON, IN, BETWEEN
+    }
+}
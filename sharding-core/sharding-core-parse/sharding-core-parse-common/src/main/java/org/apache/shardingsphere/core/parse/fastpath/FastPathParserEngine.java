@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fastpath;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.core.parse.parser.SQLParserFactory;
+import org.apache.shardingsphere.core.parse.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.rule.registry.statement.SQLStatementRule;
+import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Fast path parser engine.
+ * 
+ * <p>
+ * Recognize point lookup and single row DML with tokens of lexer, and create SQL segments without parse tree.
+ * Absent if SQL is not fully understood, then full grammar should be used.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class FastPathParserEngine {
+    
+    private final ParseRuleRegistry parseRuleRegistry;
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    /**
+     * Parse SQL to SQL segments by fast path.
+     * 
+     * @return SQL segments recognized by fast path
+     */
+    public Optional<FastPathSQLAST> parse() {
+        Lexer lexer = SQLParserFactory.newLexer(databaseType, sql);
+        LexerErrorListener errorListener = new LexerErrorListener();
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+        List<Token> tokens;
+        try {
+            tokens = getDefaultChannelTokens(lexer);
+        } finally {
+            SQLParserFactory.releaseLexer(databaseType);
+        }
+        if (errorListener.isErrorOccurred()) {
+            return Optional.absent();
+        }
+        Optional<FastPathStatement> statement = new FastPathSQLRecognizer(tokens, lexer.getVocabulary()).recognize();
+        if (!statement.isPresent()) {
+            return Optional.absent();
+        }
+        SQLStatementRule sqlStatementRule = parseRuleRegistry.getSQLStatementRule(databaseType, statement.get().getType().getContextClassName());
+        if (null == sqlStatementRule) {
+            return Optional.absent();
+        }
+        Optional<Collection<SQLSegment>> sqlSegments = new FastPathSegmentsExtractor().extract(statement.get(), sqlStatementRule.getExtractors());
+        return sqlSegments.isPresent() ? Optional.of(new FastPathSQLAST(sqlStatementRule, sqlSegments.get(), statement.get().getParameterMarkerCount())) : Optional.<FastPathSQLAST>absent();
+    }
+    
+    private List<Token> getDefaultChannelTokens(final Lexer lexer) {
+        List<Token> result = new ArrayList<>();
+        for (Token each : lexer.getAllTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private static final class LexerErrorListener extends BaseErrorListener {
+        
+        private boolean errorOccurred;
+        
+        @Override
+        public void syntaxError(final Recognizer<?, ?> recognizer, final Object offendingSymbol, final int line, final int charPositionInLine, final String msg, final RecognitionException ex) {
+            errorOccurred = true;
+        }
+        
+        boolean isErrorOccurred() {
+            return errorOccurred;
+        }
+    }
+}
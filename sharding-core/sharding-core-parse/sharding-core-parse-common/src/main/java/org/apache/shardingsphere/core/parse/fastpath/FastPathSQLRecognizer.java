@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fastpath;
+
+import com.google.common.base.Optional;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.core.util.NumberUtil;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Recursive descent recognizer for SQL shapes of fast path.
+ * 
+ * <p>
+ * Recognized shapes are:
+ * </p>
+ * 
+ * <pre>
+ *     SELECT (* | column [, column]*) FROM table [where]
+ *     INSERT INTO table [(column [, column]*)] VALUES (value [, value]*)
+ *     UPDATE table SET column = value [, column = value]* [where]
+ *     DELETE FROM table [where]
+ *     
+ *     where: WHERE predicate [AND predicate]*
+ *     predicate: column (comparison_operator value | IN (value [, value]*) | BETWEEN value AND value)
+ *     value: ? | number | 'string'
+ * </pre>
+ * 
+ * <p>
+ * Table and column must be identifiers without owner and alias.
+ * </p>
+ */
+final class FastPathSQLRecognizer {
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("EQ_", "NEQ_", "GT_", "GTE_", "LT_", "LTE_"));
+    
+    private static final Collection<String> ROW_NUMBER_IDENTIFIERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    
+    static {
+        ROW_NUMBER_IDENTIFIERS.add("rownum");
+        ROW_NUMBER_IDENTIFIERS.add("ROW_NUMBER");
+    }
+    
+    private final List<Token> tokens;
+    
+    private final String[] symbolicNames;
+    
+    private int position;
+    
+    private int parameterMarkerCount;
+    
+    FastPathSQLRecognizer(final List<Token> tokens, final Vocabulary vocabulary) {
+        this.tokens = tokens;
+        symbolicNames = new String[tokens.size()];
+        for (int i = 0; i < tokens.size(); i++) {
+            String symbolicName = vocabulary.getSymbolicName(tokens.get(i).getType());
+            symbolicNames[i] = null == symbolicName ? "" : symbolicName;
+        }
+    }
+    
+    /**
+     * Recognize SQL.
+     * 
+     * @return recognized statement, absent if SQL is not one of fast path shapes
+     */
+    Optional<FastPathStatement> recognize() {
+        if (tokens.isEmpty()) {
+            return Optional.absent();
+        }
+        FastPathStatement result;
+        switch (symbolicNames[0]) {
+            case "SELECT":
+                result = new FastPathStatement(FastPathStatementType.SELECT);
+                break;
+            case "INSERT":
+                result = new FastPathStatement(FastPathStatementType.INSERT);
+                break;
+            case "UPDATE":
+                result = new FastPathStatement(FastPathStatementType.UPDATE);
+                break;
+            case "DELETE":
+                result = new FastPathStatement(FastPathStatementType.DELETE);
+                break;
+            default:
+                return Optional.absent();
+        }
+        position = 1;
+        if (!recognizeStatement(result) || position != tokens.size()) {
+            return Optional.absent();
+        }
+        result.setParameterMarkerCount(parameterMarkerCount);
+        return Optional.of(result);
+    }
+    
+    private boolean recognizeStatement(final FastPathStatement statement) {
+        switch (statement.getType()) {
+            case SELECT:
+                return recognizeSelectItems(statement) && accept("FROM") && recognizeTable(statement) && recognizeWhere(statement);
+            case INSERT:
+                return accept("INTO") && recognizeTable(statement) && recognizeInsertColumns(statement) && recognizeInsertValues(statement);
+            case UPDATE:
+                return recognizeTable(statement) && recognizeAssignments(statement) && recognizeWhere(statement);
+            case DELETE:
+                return accept("FROM") && recognizeTable(statement) && recognizeWhere(statement);
+            default:
+                return false;
+        }
+    }
+    
+    private boolean recognizeSelectItems(final FastPathStatement statement) {
+        if (is("ASTERISK_")) {
+            statement.setShorthand(next());
+            return true;
+        }
+        do {
+            Optional<Token> column = recognizeIdentifier();
+            if (!column.isPresent() || ROW_NUMBER_IDENTIFIERS.contains(column.get().getText())) {
+                return false;
+            }
+            statement.getSelectColumns().add(column.get());
+        } while (accept("COMMA_"));
+        return true;
+    }
+    
+    private boolean recognizeTable(final FastPathStatement statement) {
+        Optional<Token> table = recognizeIdentifier();
+        if (!table.isPresent()) {
+            return false;
+        }
+        statement.setTable(table.get());
+        return true;
+    }
+    
+    private boolean recognizeInsertColumns(final FastPathStatement statement) {
+        if (!is("LP_")) {
+            statement.setInsertValuesClauseStart(current());
+            return true;
+        }
+        statement.setInsertValuesClauseStart(next());
+        do {
+            Optional<Token> column = recognizeIdentifier();
+            if (!column.isPresent()) {
+                return false;
+            }
+            statement.getInsertColumns().add(column.get());
+        } while (accept("COMMA_"));
+        if (!is("RP_")) {
+            return false;
+        }
+        statement.setInsertColumnsStop(next());
+        return true;
+    }
+    
+    private boolean recognizeInsertValues(final FastPathStatement statement) {
+        if (!accept("VALUES") || !is("LP_")) {
+            return false;
+        }
+        statement.setInsertValuesStart(next());
+        if (!recognizeValues(statement.getInsertValues()) || !is("RP_")) {
+            return false;
+        }
+        statement.setInsertValuesStop(next());
+        return true;
+    }
+    
+    private boolean recognizeAssignments(final FastPathStatement statement) {
+        if (!is("SET")) {
+            return false;
+        }
+        statement.setSetClauseStart(next());
+        do {
+            Optional<Token> column = recognizeIdentifier();
+            if (!column.isPresent() || !is("EQ_")) {
+                return false;
+            }
+            Token operator = next();
+            Optional<FastPathValue> value = recognizeValue();
+            if (!value.isPresent()) {
+                return false;
+            }
+            statement.getAssignments().add(new FastPathCondition(column.get(), FastPathCondition.Type.COMPARISON, operator, Arrays.asList(value.get()), value.get().getToken()));
+        } while (accept("COMMA_"));
+        return true;
+    }
+    
+    private boolean recognizeWhere(final FastPathStatement statement) {
+        if (position == tokens.size()) {
+            return true;
+        }
+        if (!is("WHERE")) {
+            return false;
+        }
+        statement.setWhereClauseStart(next());
+        do {
+            Optional<FastPathCondition> predicate = recognizePredicate();
+            if (!predicate.isPresent()) {
+                return false;
+            }
+            statement.getPredicates().add(predicate.get());
+        } while (accept("AND"));
+        return true;
+    }
+    
+    private Optional<FastPathCondition> recognizePredicate() {
+        Optional<Token> column = recognizeIdentifier();
+        if (!column.isPresent() || position == tokens.size()) {
+            return Optional.absent();
+        }
+        if (COMPARISON_OPERATORS.contains(symbolicNames[position])) {
+            Token operator = next();
+            Optional<FastPathValue> value = recognizeValue();
+            return value.isPresent()
+                    ? Optional.of(new FastPathCondition(column.get(), FastPathCondition.Type.COMPARISON, operator, Arrays.asList(value.get()), value.get().getToken())) 
+                    : Optional.<FastPathCondition>absent();
+        }
+        if (is("IN")) {
+            Token operator = next();
+            List<FastPathValue> values = new LinkedList<>();
+            if (!accept("LP_") || !recognizeValues(values) || !is("RP_")) {
+                return Optional.absent();
+            }
+            return Optional.of(new FastPathCondition(column.get(), FastPathCondition.Type.IN, operator, values, next()));
+        }
+        if (is("BETWEEN")) {
+            Token operator = next();
+            Optional<FastPathValue> betweenValue = recognizeValue();
+            if (!betweenValue.isPresent() || !accept("AND")) {
+                return Optional.absent();
+            }
+            Optional<FastPathValue> andValue = recognizeValue();
+            return andValue.isPresent()
+                    ? Optional.of(new FastPathCondition(column.get(), FastPathCondition.Type.BETWEEN, operator, Arrays.asList(betweenValue.get(), andValue.get()), andValue.get().getToken()))
+                    : Optional.<FastPathCondition>absent();
+        }
+        return Optional.absent();
+    }
+    
+    private boolean recognizeValues(final List<FastPathValue> values) {
+        do {
+            Optional<FastPathValue> value = recognizeValue();
+            if (!value.isPresent()) {
+                return false;
+            }
+            values.add(value.get());
+        } while (accept("COMMA_"));
+        return true;
+    }
+    
+    private Optional<FastPathValue> recognizeValue() {
+        if (is("QUESTION_")) {
+            return Optional.of(new FastPathValue(next(), parameterMarkerCount++, null));
+        }
+        if (is("NUMBER_")) {
+            Token token = next();
+            return Optional.of(new FastPathValue(token, -1, NumberUtil.getExactlyNumber(token.getText(), 10)));
+        }
+        if (is("STRING_") && '\'' == current().getText().charAt(0)) {
+            Token token = next();
+            return Optional.of(new FastPathValue(token, -1, token.getText().substring(1, token.getText().length() - 1)));
+        }
+        return Optional.absent();
+    }
+    
+    private Optional<Token> recognizeIdentifier() {
+        return is("IDENTIFIER_") ? Optional.of(next()) : Optional.<Token>absent();
+    }
+    
+    private boolean is(final String symbolicName) {
+        return position < tokens.size() && symbolicName.equals(symbolicNames[position]);
+    }
+    
+    private boolean accept(final String symbolicName) {
+        if (is(symbolicName)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private Token current() {
+        return position < tokens.size() ? tokens.get(position) : null;
+    }
+    
+    private Token next() {
+        return tokens.get(position++);
+    }
+}
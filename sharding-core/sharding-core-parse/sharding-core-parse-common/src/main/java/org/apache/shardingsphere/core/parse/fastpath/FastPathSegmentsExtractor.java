@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fastpath;
+
+import com.google.common.base.Optional;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.core.parse.extractor.api.SQLSegmentExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.common.column.ColumnsExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.common.table.TableExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.common.table.TablesExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.PredicateExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.TableReferencesExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.WhereExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.insert.InsertColumnsExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.insert.InsertValuesExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.insert.OnDuplicateKeyColumnsExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.select.LimitExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.select.SelectItemsExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.select.SubqueryPredicateExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.select.groupby.GroupByExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.select.orderby.OrderByExtractor;
+import org.apache.shardingsphere.core.parse.extractor.impl.dml.update.SetAssignmentsExtractor;
+import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.common.TableSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.InsertValuesSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.SelectItemsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.SetAssignmentsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.item.ColumnSelectItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.item.ShorthandSelectItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.OrPredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.SubqueryPredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateBetweenRightValue;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateRightValue;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * SQL segments extractor for statement recognized by fast path.
+ * 
+ * <p>
+ * Segments are same as the ones which extractors of SQL statement rule extract from parse tree.
+ * Absent if any extractor is not supported by fast path.
+ * </p>
+ */
+final class FastPathSegmentsExtractor {
+    
+    /**
+     * Extract SQL segments.
+     * 
+     * @param statement statement recognized by fast path
+     * @param extractors extractors of SQL statement rule
+     * @return SQL segments
+     */
+    Optional<Collection<SQLSegment>> extract(final FastPathStatement statement, final Collection<SQLSegmentExtractor> extractors) {
+        Collection<SQLSegment> result = new LinkedList<>();
+        for (SQLSegmentExtractor each : extractors) {
+            if (each instanceof TableExtractor || each instanceof TablesExtractor) {
+                result.add(createTableSegment(statement.getTable()));
+            } else if (each instanceof TableReferencesExtractor) {
+                if (statement.getType().isTableReferencesAvailable()) {
+                    result.add(createTableSegment(statement.getTable()));
+                }
+            } else if (each instanceof ColumnsExtractor) {
+                result.addAll(createColumnSegments(statement));
+            } else if (each instanceof SelectItemsExtractor) {
+                if (FastPathStatementType.SELECT != statement.getType()) {
+                    return Optional.absent();
+                }
+                result.add(createSelectItemsSegment(statement));
+            } else if (each instanceof WhereExtractor) {
+                result.add(createWhereSegment(statement));
+            } else if (each instanceof PredicateExtractor) {
+                if (null != statement.getWhereClauseStart()) {
+                    result.add(createOrPredicateSegment(statement.getPredicates()));
+                }
+            } else if (each instanceof SubqueryPredicateExtractor) {
+                result.add(new SubqueryPredicateSegment());
+            } else if (each instanceof InsertColumnsExtractor) {
+                if (FastPathStatementType.INSERT == statement.getType()) {
+                    result.add(createInsertColumnsSegment(statement));
+                }
+            } else if (each instanceof InsertValuesExtractor) {
+                if (FastPathStatementType.INSERT == statement.getType()) {
+                    result.add(new InsertValuesSegment(statement.getInsertValuesStart().getStartIndex(), statement.getInsertValuesStop().getStopIndex(), 
+                            createExpressionSegments(statement.getInsertValues())));
+                }
+            } else if (each instanceof SetAssignmentsExtractor) {
+                if (FastPathStatementType.UPDATE == statement.getType()) {
+                    result.add(createSetAssignmentsSegment(statement));
+                }
+            } else if (!(each instanceof LimitExtractor || each instanceof GroupByExtractor || each instanceof OrderByExtractor || each instanceof OnDuplicateKeyColumnsExtractor)) {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private TableSegment createTableSegment(final Token table) {
+        return new TableSegment(table.getStartIndex(), table.getStopIndex(), table.getText());
+    }
+    
+    private ColumnSegment createColumnSegment(final Token column) {
+        return new ColumnSegment(column.getStartIndex(), column.getStopIndex(), column.getText());
+    }
+    
+    private Collection<ColumnSegment> createColumnSegments(final FastPathStatement statement) {
+        Collection<ColumnSegment> result = new LinkedList<>();
+        for (Token each : statement.getSelectColumns()) {
+            result.add(createColumnSegment(each));
+        }
+        for (Token each : statement.getInsertColumns()) {
+            result.add(createColumnSegment(each));
+        }
+        for (FastPathCondition each : statement.getAssignments()) {
+            result.add(createColumnSegment(each.getColumn()));
+        }
+        for (FastPathCondition each : statement.getPredicates()) {
+            result.add(createColumnSegment(each.getColumn()));
+        }
+        return result;
+    }
+    
+    private SelectItemsSegment createSelectItemsSegment(final FastPathStatement statement) {
+        if (null != statement.getShorthand()) {
+            Token shorthand = statement.getShorthand();
+            SelectItemsSegment result = new SelectItemsSegment(shorthand.getStartIndex(), shorthand.getStopIndex(), false);
+            result.getSelectItems().add(new ShorthandSelectItemSegment(shorthand.getStartIndex(), shorthand.getStopIndex(), shorthand.getText()));
+            return result;
+        }
+        List<Token> columns = statement.getSelectColumns();
+        SelectItemsSegment result = new SelectItemsSegment(columns.get(0).getStartIndex(), columns.get(columns.size() - 1).getStopIndex(), false);
+        for (Token each : columns) {
+            result.getSelectItems().add(new ColumnSelectItemSegment(each.getText(), createColumnSegment(each)));
+        }
+        return result;
+    }
+    
+    private WhereSegment createWhereSegment(final FastPathStatement statement) {
+        if (null == statement.getWhereClauseStart()) {
+            return new WhereSegment(0, 0, statement.getParameterMarkerCount());
+        }
+        List<FastPathCondition> predicates = statement.getPredicates();
+        WhereSegment result = new WhereSegment(statement.getWhereClauseStart().getStartIndex(), predicates.get(predicates.size() - 1).getStop().getStopIndex(), statement.getParameterMarkerCount());
+        int whereParameterMarkerCount = 0;
+        int whereParameterStartIndex = -1;
+        for (FastPathCondition each : predicates) {
+            for (FastPathValue eachValue : each.getValues()) {
+                if (null == eachValue.getLiterals()) {
+                    whereParameterStartIndex = -1 == whereParameterStartIndex ? eachValue.getParameterMarkerIndex() : whereParameterStartIndex;
+                    whereParameterMarkerCount++;
+                }
+            }
+        }
+        if (whereParameterMarkerCount > 0) {
+            result.setWhereParameterStartIndex(whereParameterStartIndex);
+            result.setWhereParameterEndIndex(whereParameterStartIndex + whereParameterMarkerCount - 1);
+        }
+        return result;
+    }
+    
+    private OrPredicateSegment createOrPredicateSegment(final Collection<FastPathCondition> predicates) {
+        AndPredicate andPredicate = new AndPredicate();
+        for (FastPathCondition each : predicates) {
+            andPredicate.getPredicates().add(new PredicateSegment(each.getColumn().getStartIndex(), each.getStop().getStopIndex(), createColumnSegment(each.getColumn()), createPredicateRightValue(each)));
+        }
+        OrPredicateSegment result = new OrPredicateSegment();
+        result.getAndPredicates().add(andPredicate);
+        return result;
+    }
+    
+    private PredicateRightValue createPredicateRightValue(final FastPathCondition predicate) {
+        List<FastPathValue> values = predicate.getValues();
+        switch (predicate.getType()) {
+            case IN:
+                return new PredicateInRightValue(createExpressionSegments(values));
+            case BETWEEN:
+                return new PredicateBetweenRightValue(values.get(0).createExpressionSegment(), values.get(1).createExpressionSegment());
+            default:
+                return new PredicateCompareRightValue(predicate.getOperator().getText(), values.get(0).createExpressionSegment());
+        }
+    }
+    
+    private InsertColumnsSegment createInsertColumnsSegment(final FastPathStatement statement) {
+        int startIndex = statement.getInsertValuesClauseStart().getStartIndex();
+        int stopIndex = null == statement.getInsertColumnsStop() ? startIndex - 1 : statement.getInsertColumnsStop().getStopIndex();
+        Collection<ColumnSegment> columns = new LinkedList<>();
+        for (Token each : statement.getInsertColumns()) {
+            columns.add(createColumnSegment(each));
+        }
+        return new InsertColumnsSegment(startIndex, stopIndex, columns);
+    }
+    
+    private SetAssignmentsSegment createSetAssignmentsSegment(final FastPathStatement statement) {
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        for (FastPathCondition each : statement.getAssignments()) {
+            assignments.add(new AssignmentSegment(
+                    each.getColumn().getStartIndex(), each.getStop().getStopIndex(), createColumnSegment(each.getColumn()), each.getValues().get(0).createExpressionSegment()));
+        }
+        List<FastPathCondition> conditions = statement.getAssignments();
+        return new SetAssignmentsSegment(statement.getSetClauseStart().getStartIndex(), conditions.get(conditions.size() - 1).getStop().getStopIndex(), assignments);
+    }
+    
+    private Collection<ExpressionSegment> createExpressionSegments(final Collection<FastPathValue> values) {
+        Collection<ExpressionSegment> result = new LinkedList<>();
+        for (FastPathValue each : values) {
+            result.add(each.createExpressionSegment());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fastpath;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.antlr.v4.runtime.Token;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Statement recognized by fast path.
+ */
+@RequiredArgsConstructor
+@Getter
+@Setter
+final class FastPathStatement {
+    
+    private final FastPathStatementType type;
+    
+    private Token table;
+    
+    private Token shorthand;
+    
+    private final List<Token> selectColumns = new LinkedList<>();
+    
+    private Token setClauseStart;
+    
+    private final List<FastPathCondition> assignments = new LinkedList<>();
+    
+    private Token insertValuesClauseStart;
+    
+    private Token insertColumnsStop;
+    
+    private final List<Token> insertColumns = new LinkedList<>();
+    
+    private Token insertValuesStart;
+    
+    private Token insertValuesStop;
+    
+    private final List<FastPathValue> insertValues = new LinkedList<>();
+    
+    private Token whereClauseStart;
+    
+    private final List<FastPathCondition> predicates = new LinkedList<>();
+    
+    private int parameterMarkerCount;
+}
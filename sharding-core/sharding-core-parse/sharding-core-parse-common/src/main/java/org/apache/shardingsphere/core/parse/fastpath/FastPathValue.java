@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fastpath;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+
+/**
+ * Value recognized by fast path, which is parameter marker or literal.
+ */
+@RequiredArgsConstructor
+@Getter
+final class FastPathValue {
+    
+    private final Token token;
+    
+    private final int parameterMarkerIndex;
+    
+    private final Object literals;
+    
+    /**
+     * Create expression segment.
+     * 
+     * @return expression segment
+     */
+    ExpressionSegment createExpressionSegment() {
+        return null == literals ? new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterMarkerIndex)
+                : new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), literals);
+    }
+}
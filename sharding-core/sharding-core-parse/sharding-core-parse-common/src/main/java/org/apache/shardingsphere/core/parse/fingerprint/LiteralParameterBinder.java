@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fingerprint;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Literal parameter binder.
+ * 
+ * <p>
+ * Bind parameters back into SQL as literals, which is used for SQL rewritten from template SQL of {@code SQLFingerprint}.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LiteralParameterBinder {
+    
+    /**
+     * Bind parameters into SQL as literals.
+     * 
+     * @param sql SQL with parameter markers
+     * @param parameters parameters
+     * @return SQL with literals
+     */
+    public static String bind(final String sql, final List<Object> parameters) {
+        if (parameters.isEmpty()) {
+            return sql;
+        }
+        StringBuilder result = new StringBuilder(sql.length() + parameters.size() * 8);
+        int parameterIndex = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (0 != quote) {
+                quote = quote == each ? 0 : quote;
+            } else if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            } else if ('?' == each) {
+                Preconditions.checkState(parameterIndex < parameters.size(), "Parameters size '%s' is less than parameter markers of SQL `%s`.", parameters.size(), sql);
+                appendLiteral(result, parameters.get(parameterIndex++));
+                continue;
+            }
+            result.append(each);
+        }
+        Preconditions.checkState(parameterIndex == parameters.size(), "Parameters size '%s' is not equal with count '%s' of parameter markers of SQL `%s`.", parameters.size(), parameterIndex, sql);
+        return result.toString();
+    }
+    
+    private static void appendLiteral(final StringBuilder sql, final Object parameter) {
+        if (null == parameter) {
+            sql.append("NULL");
+        } else if (parameter instanceof BigDecimal) {
+            sql.append(((BigDecimal) parameter).toPlainString());
+        } else if (parameter instanceof Number) {
+            sql.append(parameter);
+        } else {
+            sql.append('\'').append(parameter.toString().replace("'", "''")).append('\'');
+        }
+    }
+}
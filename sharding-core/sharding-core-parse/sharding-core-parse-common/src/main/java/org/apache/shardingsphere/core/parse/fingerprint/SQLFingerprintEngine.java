@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fingerprint;
+
+import com.google.common.base.Optional;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.parser.SQLParserFactory;
+import org.apache.shardingsphere.core.util.NumberUtil;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * SQL fingerprint engine.
+ * 
+ * <p>
+ * Only lexer is used to replace literals with parameter markers, so SQLs only different in literals share same template SQL.
+ * For safety, only number and single quoted string literals in following positions of DML are replaced:
+ * right side of comparison operator, bounds of BETWEEN, items of IN list, items of VALUES row, and LIMIT or OFFSET value for MySQL and PostgreSQL.
+ * Literals which are operands of expressions are kept as they are.
+ * </p>
+ */
+public final class SQLFingerprintEngine {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("EQ_", "NEQ_", "GT_", "GTE_", "LT_", "LTE_"));
+    
+    private static final Collection<String> LITERAL_END_SYMBOLS = new HashSet<>(Arrays.asList("RP_", "COMMA_", "SEMI_"));
+    
+    private static final Collection<String> PAGINATION_DATABASE_TYPES = new HashSet<>(Arrays.asList("MySQL", "PostgreSQL"));
+    
+    private final DatabaseType databaseType;
+    
+    public SQLFingerprintEngine(final DatabaseType databaseType) {
+        this.databaseType = DatabaseTypes.getTrunkDatabaseType(databaseType.getName());
+    }
+    
+    /**
+     * Get fingerprint of SQL.
+     * 
+     * @param sql SQL
+     * @return SQL fingerprint, absent if SQL is not DML, contains parameter markers already or has no replaceable literals
+     */
+    public Optional<SQLFingerprint> fingerprint(final String sql) {
+        if (-1 != sql.indexOf('?')) {
+            return Optional.absent();
+        }
+        Lexer lexer = SQLParserFactory.newLexer(databaseType, sql);
+        lexer.removeErrorListeners();
+        List<Token> tokens;
+        try {
+            tokens = getDefaultChannelTokens(lexer);
+        } finally {
+            SQLParserFactory.releaseLexer(databaseType);
+        }
+        if (tokens.isEmpty() || !DML_KEYWORDS.contains(tokens.get(0).getText().toUpperCase())) {
+            return Optional.absent();
+        }
+        return createFingerprint(sql, tokens, lexer.getVocabulary());
+    }
+    
+    private List<Token> getDefaultChannelTokens(final Lexer lexer) {
+        List<Token> result = new ArrayList<>();
+        for (Token each : lexer.getAllTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Optional<SQLFingerprint> createFingerprint(final String sql, final List<Token> tokens, final Vocabulary vocabulary) {
+        StringBuilder templateSQL = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>();
+        boolean[] replaced = new boolean[tokens.size()];
+        int listDepth = 0;
+        boolean inValuesRow = false;
+        int lastValuesRowStopIndex = -1;
+        int lastStopIndex = -1;
+        for (int i = 1; i < tokens.size(); i++) {
+            String symbolicName = getSymbolicName(tokens.get(i), vocabulary);
+            if ("LP_".equals(symbolicName)) {
+                if (listDepth > 0) {
+                    listDepth++;
+                } else if (isValuesRowStart(tokens, i, lastValuesRowStopIndex)) {
+                    listDepth = 1;
+                    inValuesRow = true;
+                } else if ("IN".equalsIgnoreCase(tokens.get(i - 1).getText()) && i + 1 < tokens.size() && !"SELECT".equalsIgnoreCase(tokens.get(i + 1).getText())) {
+                    listDepth = 1;
+                    inValuesRow = false;
+                }
+                continue;
+            }
+            if ("RP_".equals(symbolicName)) {
+                if (1 == listDepth && inValuesRow) {
+                    lastValuesRowStopIndex = i;
+                }
+                listDepth = listDepth > 0 ? listDepth - 1 : 0;
+                continue;
+            }
+            Optional<Object> literal = getLiteral(tokens.get(i), symbolicName);
+            if (literal.isPresent() && isLiteralEnd(tokens, i, vocabulary) && isReplaceable(tokens, i, replaced, 1 == listDepth, vocabulary)) {
+                replaced[i] = true;
+                templateSQL.append(sql, lastStopIndex + 1, tokens.get(i).getStartIndex()).append('?');
+                parameters.add(literal.get());
+                lastStopIndex = tokens.get(i).getStopIndex();
+            }
+        }
+        if (parameters.isEmpty()) {
+            return Optional.absent();
+        }
+        templateSQL.append(sql, lastStopIndex + 1, sql.length());
+        return Optional.of(new SQLFingerprint(templateSQL.toString(), parameters));
+    }
+    
+    private String getSymbolicName(final Token token, final Vocabulary vocabulary) {
+        String result = vocabulary.getSymbolicName(token.getType());
+        return null == result ? "" : result;
+    }
+    
+    private boolean isValuesRowStart(final List<Token> tokens, final int index, final int lastValuesRowStopIndex) {
+        String previousText = tokens.get(index - 1).getText().toUpperCase();
+        return "VALUES".equals(previousText) || "VALUE".equals(previousText) || ",".equals(previousText) && index - 2 == lastValuesRowStopIndex;
+    }
+    
+    private Optional<Object> getLiteral(final Token token, final String symbolicName) {
+        String text = token.getText();
+        if ("NUMBER_".equals(symbolicName) && -1 == text.indexOf('e') && -1 == text.indexOf('E')) {
+            return Optional.<Object>of(NumberUtil.getExactlyNumber(text, 10));
+        }
+        if ("STRING_".equals(symbolicName) && text.length() >= 2 && '\'' == text.charAt(0)) {
+            String result = text.substring(1, text.length() - 1);
+            return -1 == result.indexOf('\'') && -1 == result.indexOf('\\') ? Optional.<Object>of(result) : Optional.absent();
+        }
+        return Optional.absent();
+    }
+    
+    private boolean isLiteralEnd(final List<Token> tokens, final int index, final Vocabulary vocabulary) {
+        if (index + 1 == tokens.size()) {
+            return true;
+        }
+        String nextSymbolicName = getSymbolicName(tokens.get(index + 1), vocabulary);
+        return LITERAL_END_SYMBOLS.contains(nextSymbolicName) || !nextSymbolicName.endsWith("_");
+    }
+    
+    private boolean isReplaceable(final List<Token> tokens, final int index, final boolean[] replaced, final boolean inList, final Vocabulary vocabulary) {
+        Token previous = tokens.get(index - 1);
+        String previousSymbolicName = getSymbolicName(previous, vocabulary);
+        if (COMPARISON_OPERATORS.contains(previousSymbolicName)) {
+            return true;
+        }
+        if (inList && ("LP_".equals(previousSymbolicName) || "COMMA_".equals(previousSymbolicName))) {
+            return true;
+        }
+        String previousText = previous.getText().toUpperCase();
+        if ("BETWEEN".equals(previousText)) {
+            return true;
+        }
+        if ("AND".equals(previousText) && index > 2 && replaced[index - 2] && "BETWEEN".equalsIgnoreCase(tokens.get(index - 3).getText())) {
+            return true;
+        }
+        return PAGINATION_DATABASE_TYPES.contains(databaseType.getName()) && isPaginationValue(tokens, index, replaced, previousText);
+    }
+    
+    private boolean isPaginationValue(final List<Token> tokens, final int index, final boolean[] replaced, final String previousText) {
+        if ("LIMIT".equals(previousText) || "OFFSET".equals(previousText)) {
+            return true;
+        }
+        return ",".equals(previousText) && index > 2 && replaced[index - 2] && "LIMIT".equalsIgnoreCase(tokens.get(index - 3).getText());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import com.google.common.base.Optional;
+import lombok.Getter;
+import lombok.Setter;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prediction mode context of SQL parser.
+ * 
+ * <p>
+ * Two phase prediction parses with ANTLR's SLL prediction mode and bail error strategy first,
+ * and falls back to full LL prediction mode only if SLL fails.
+ * Each parsing result cache owns its prediction mode context, so the switch and statistics are scoped by the data source or logic schema which owns the cache.
+ * The switch can be renewed at runtime, and takes effect on SQLs parsed after renewing.
+ * </p>
+ */
+public final class PredictionModeContext {
+    
+    @Getter
+    @Setter
+    private volatile boolean twoPhaseEnabled;
+    
+    private final AtomicLong sllParsedCount = new AtomicLong();
+    
+    private final AtomicLong llFallbackCount = new AtomicLong();
+    
+    private final AtomicLong llParsedCount = new AtomicLong();
+    
+    public PredictionModeContext(final boolean twoPhaseEnabled) {
+        this.twoPhaseEnabled = twoPhaseEnabled;
+    }
+    
+    /**
+     * Execute SQL parser with prediction mode of current switch.
+     *
+     * @param sqlParser SQL parser
+     * @param syntaxErrorReported whether to report syntax errors of LL prediction mode to console
+     * @return root node of parse tree
+     */
+    ParserRuleContext execute(final SQLParser sqlParser, final boolean syntaxErrorReported) {
+        Parser parser = (Parser) sqlParser;
+        if (!twoPhaseEnabled) {
+            llParsedCount.incrementAndGet();
+            return executeWithLL(parser, sqlParser, syntaxErrorReported);
+        }
+        Optional<ParserRuleContext> result = executeWithSLL(parser, sqlParser);
+        if (result.isPresent()) {
+            sllParsedCount.incrementAndGet();
+            return result.get();
+        }
+        llFallbackCount.incrementAndGet();
+        parser.reset();
+        return executeWithLL(parser, sqlParser, syntaxErrorReported);
+    }
+    
+    private Optional<ParserRuleContext> executeWithSLL(final Parser parser, final SQLParser sqlParser) {
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            ParserRuleContext result = sqlParser.execute();
+            return Token.EOF == parser.getCurrentToken().getType() ? Optional.of(result) : Optional.<ParserRuleContext>absent();
+        } catch (final ParseCancellationException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private ParserRuleContext executeWithLL(final Parser parser, final SQLParser sqlParser, final boolean syntaxErrorReported) {
+        parser.removeErrorListeners();
+        if (syntaxErrorReported) {
+            parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+        }
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return sqlParser.execute();
+    }
+    
+    /**
+     * Get count of SQLs parsed by SLL prediction mode successfully.
+     *
+     * @return count of SQLs parsed by SLL prediction mode successfully
+     */
+    public long getSLLParsedCount() {
+        return sllParsedCount.get();
+    }
+    
+    /**
+     * Get count of SQLs fell back to LL prediction mode after SLL failed.
+     *
+     * @return count of SQLs fell back to LL prediction mode
+     */
+    public long getLLFallbackCount() {
+        return llFallbackCount.get();
+    }
+    
+    /**
+     * Get count of SQLs parsed by LL prediction mode only, with two phase prediction disabled.
+     *
+     * @return count of SQLs parsed by LL prediction mode only
+     */
+    public long getLLParsedCount() {
+        return llParsedCount.get();
+    }
+    
+    /**
+     * Reset statistics.
+     */
+    public void resetStatistics() {
+        sllParsedCount.set(0L);
+        llFallbackCount.set(0L);
+        llParsedCount.set(0L);
+    }
+}
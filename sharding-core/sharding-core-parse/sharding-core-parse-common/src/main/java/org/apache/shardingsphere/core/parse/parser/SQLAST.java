@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.parse.parser;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.rule.registry.statement.SQLStatementRule;
 
 import java.util.Map;
@@ -38,4 +39,6 @@ public final class SQLAST {
     private final Map<ParserRuleContext, Integer> parameterMarkerIndexes;
     
     private final SQLStatementRule sqlStatementRule;
+    
+    private final ParseTreeIndex parseTreeIndex;
 }
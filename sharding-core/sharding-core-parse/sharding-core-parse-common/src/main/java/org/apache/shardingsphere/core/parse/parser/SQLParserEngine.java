@@ -22,7 +22,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.core.parse.exception.SQLParsingException;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.core.parse.rule.registry.statement.SQLStatementRule;
@@ -46,13 +46,20 @@ public final class SQLParserEngine {
     
     private final String sql;
     
+    private final PredictionModeContext predictionModeContext;
+    
     /**
      * Parse SQL to abstract syntax tree.
      *
      * @return abstract syntax tree of SQL
      */
     public SQLAST parse() {
-        ParseTree parseTree = SQLParserFactory.newInstance(databaseType, sql).execute().getChild(0);
+        ParseTree parseTree;
+        try {
+            parseTree = predictionModeContext.execute(SQLParserFactory.newInstance(databaseType, sql), true).getChild(0);
+        } finally {
+            SQLParserFactory.release(databaseType);
+        }
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
@@ -60,11 +67,12 @@ public final class SQLParserEngine {
         if (null == sqlStatementRule) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
-        return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes((ParserRuleContext) parseTree), sqlStatementRule);
+        ParseTreeIndex parseTreeIndex = new ParseTreeIndex((ParserRuleContext) parseTree);
+        return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes((ParserRuleContext) parseTree, parseTreeIndex), sqlStatementRule, parseTreeIndex);
     }
     
-    private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParserRuleContext rootNode) {
-        Collection<ParserRuleContext> placeholderNodes = ExtractorUtils.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER);
+    private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParserRuleContext rootNode, final ParseTreeIndex parseTreeIndex) {
+        Collection<ParserRuleContext> placeholderNodes = parseTreeIndex.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER);
         Map<ParserRuleContext, Integer> result = new HashMap<>(placeholderNodes.size(), 1);
         int index = 0;
         for (ParserRuleContext each : placeholderNodes) {
@@ -19,12 +19,20 @@ package org.apache.shardingsphere.core.parse.parser;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.parse.api.SQLParser;
 import org.apache.shardingsphere.core.parse.spi.SQLParserEntry;
@@ -32,12 +40,20 @@ import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
 import org.apache.shardingsphere.spi.database.BranchDatabaseType;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.lang.reflect.Constructor;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * SQL parser factory.
  * 
+ * <p>Lexer and parser are reused in same thread and reset by input stream of each SQL, and should be released after using, so SQL of last parsing is not retained by thread.
+ * They can be cleared from thread when the thread outlives this class.</p>
+ * 
  * @author duhongjun
  * @author zhangliang
  */
@@ -46,11 +62,35 @@ public final class SQLParserFactory {
     
     private static final Collection<DatabaseType> DATABASE_TYPES = new HashSet<>();
     
+    private static final Map<DatabaseType, SQLParserEntry> PARSER_ENTRIES = new HashMap<>();
+    
+    private static final ConcurrentMap<DatabaseType, SQLParserConstructors> PARSER_CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final ThreadLocal<Map<DatabaseType, SQLParser>> PARSERS = new ThreadLocal<Map<DatabaseType, SQLParser>>() {
+        
+        @Override
+        protected Map<DatabaseType, SQLParser> initialValue() {
+            return new HashMap<>();
+        }
+    };
+    
+    private static final ThreadLocal<Map<DatabaseType, Lexer>> LEXERS = new ThreadLocal<Map<DatabaseType, Lexer>>() {
+        
+        @Override
+        protected Map<DatabaseType, Lexer> initialValue() {
+            return new HashMap<>();
+        }
+    };
+    
     static {
         NewInstanceServiceLoader.register(SQLParserEntry.class);
         for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
+            DatabaseType databaseType = DatabaseTypes.getActualDatabaseType(each.getDatabaseType());
+            if (!PARSER_ENTRIES.containsKey(databaseType)) {
+                PARSER_ENTRIES.put(databaseType, each);
+            }
             if (!(each instanceof BranchDatabaseType)) {
-                DATABASE_TYPES.add(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()));
+                DATABASE_TYPES.add(databaseType);
             }
         }
     }
@@ -67,22 +107,157 @@ public final class SQLParserFactory {
     /** 
      * New instance of SQL parser.
      * 
+     * <p>SQL parser returned is owned by current thread until next invocation with same database type.</p>
+     * 
      * @param databaseType database type
      * @param sql SQL
      * @return SQL parser
      */
     public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
-            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
-                return createSQLParser(sql, each);
-            }
+        Map<DatabaseType, SQLParser> parsers = PARSERS.get();
+        SQLParser result = parsers.get(databaseType);
+        if (null == result) {
+            SQLParserConstructors constructors = getConstructors(databaseType);
+            result = constructors.newParser(new CommonTokenStream(constructors.newLexer(CharStreams.fromString(sql))));
+            Parser parser = (Parser) result;
+            ParserATNSimulator interpreter = parser.getInterpreter();
+            parser.setInterpreter(new ReleasableParserATNSimulator(parser, interpreter.decisionToDFA, interpreter.getSharedContextCache()));
+            parsers.put(databaseType, result);
+            return result;
+        }
+        Parser parser = (Parser) result;
+        Lexer lexer = (Lexer) parser.getTokenStream().getTokenSource();
+        reset(lexer, sql);
+        parser.setInputStream(new CommonTokenStream(lexer));
+        parser.removeParseListeners();
+        parser.removeErrorListeners();
+        parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return result;
+    }
+    
+    /**
+     * New instance of SQL lexer.
+     *
+     * <p>SQL lexer returned is owned by current thread until next invocation with same database type.</p>
+     *
+     * @param databaseType database type
+     * @param sql SQL
+     * @return SQL lexer
+     */
+    public static Lexer newLexer(final DatabaseType databaseType, final String sql) {
+        Map<DatabaseType, Lexer> lexers = LEXERS.get();
+        Lexer result = lexers.get(databaseType);
+        if (null == result) {
+            result = getConstructors(databaseType).newLexer(CharStreams.fromString(sql));
+            lexers.put(databaseType, result);
+            return result;
+        }
+        reset(result, sql);
+        return result;
+    }
+    
+    /**
+     * Release SQL parser of current thread.
+     * 
+     * <p>Lexer and parser are reset by empty input, and input and outer context retained by prediction of parser are cleared, DFA cache shared by parsers is kept.</p>
+     * 
+     * @param databaseType database type
+     */
+    public static void release(final DatabaseType databaseType) {
+        SQLParser sqlParser = PARSERS.get().get(databaseType);
+        if (null == sqlParser) {
+            return;
         }
-        throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        Parser parser = (Parser) sqlParser;
+        Lexer lexer = (Lexer) parser.getTokenStream().getTokenSource();
+        releaseInput(lexer);
+        parser.setInputStream(new CommonTokenStream(lexer));
+    }
+    
+    /**
+     * Release SQL lexer of current thread.
+     * 
+     * <p>Lexer is reset by empty input.</p>
+     * 
+     * @param databaseType database type
+     */
+    public static void releaseLexer(final DatabaseType databaseType) {
+        Lexer lexer = LEXERS.get().get(databaseType);
+        if (null != lexer) {
+            releaseInput(lexer);
+        }
+    }
+    
+    /**
+     * Clear lexers and parsers of current thread.
+     * 
+     * <p>Lexers and parsers are held by thread locals of this class,
+     * threads which outlive the class loader of this class, such as threads of container or application pools, should clear them before the class loader is discarded.</p>
+     */
+    public static void clear() {
+        PARSERS.remove();
+        LEXERS.remove();
+    }
+    
+    private static void releaseInput(final Lexer lexer) {
+        lexer.setInputStream(CharStreams.fromString(""));
+    }
+    
+    private static SQLParserConstructors getConstructors(final DatabaseType databaseType) {
+        SQLParserConstructors result = PARSER_CONSTRUCTORS.get(databaseType);
+        if (null != result) {
+            return result;
+        }
+        SQLParserEntry parserEntry = PARSER_ENTRIES.get(databaseType);
+        if (null == parserEntry) {
+            throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        }
+        result = createConstructors(parserEntry);
+        PARSER_CONSTRUCTORS.putIfAbsent(databaseType, result);
+        return result;
     }
     
     @SneakyThrows
-    private static SQLParser createSQLParser(final String sql, final SQLParserEntry parserEntry) {
-        Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
-        return parserEntry.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
+    private static SQLParserConstructors createConstructors(final SQLParserEntry parserEntry) {
+        return new SQLParserConstructors(parserEntry.getLexerClass().getConstructor(CharStream.class), parserEntry.getParserClass().getConstructor(TokenStream.class));
+    }
+    
+    private static void reset(final Lexer lexer, final String sql) {
+        lexer.setInputStream(CharStreams.fromString(sql));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(ConsoleErrorListener.INSTANCE);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SQLParserConstructors {
+        
+        private final Constructor<? extends Lexer> lexerConstructor;
+        
+        private final Constructor<? extends SQLParser> parserConstructor;
+        
+        @SneakyThrows
+        private Lexer newLexer(final CharStream charStream) {
+            return lexerConstructor.newInstance(charStream);
+        }
+        
+        @SneakyThrows
+        private SQLParser newParser(final TokenStream tokenStream) {
+            return parserConstructor.newInstance(tokenStream);
+        }
+    }
+    
+    private static final class ReleasableParserATNSimulator extends ParserATNSimulator {
+        
+        private ReleasableParserATNSimulator(final Parser parser, final DFA[] decisionToDFA, final PredictionContextCache sharedContextCache) {
+            super(parser, parser.getATN(), decisionToDFA, sharedContextCache);
+        }
+        
+        @Override
+        public void reset() {
+            _input = null;
+            _outerContext = null;
+        }
     }
 }
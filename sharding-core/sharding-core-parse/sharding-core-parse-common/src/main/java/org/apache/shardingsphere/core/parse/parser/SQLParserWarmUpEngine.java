@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.io.Files;
+import com.google.common.io.Resources;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * SQL parser warm up engine.
+ * 
+ * <p>
+ * Parse a corpus of SQLs before serving, so DFA cache shared by parsers of same database type is filled at startup instead of by first requests.
+ * Corpus is built-in SQLs of database type, SQLs of user file, or both.
+ * SQL file contains one SQL each line, blank lines and lines start with {@code --} are ignored.
+ * SQLs are parsed with the prediction mode used at runtime, so two phase prediction fills SLL DFA cache which is hit first by runtime parsing.
+ * </p>
+ */
+@Slf4j
+public final class SQLParserWarmUpEngine {
+    
+    private static final String BUILT_IN_SQL_FILE = "META-INF/parsing-warm-up/%s.sql";
+    
+    private static final String COMMENT_PREFIX = "--";
+    
+    private final DatabaseType databaseType;
+    
+    private final boolean builtInSQLEnabled;
+    
+    private final String sqlFile;
+    
+    private final int threadCount;
+    
+    private final PredictionModeContext predictionModeContext;
+    
+    public SQLParserWarmUpEngine(final DatabaseType databaseType, final boolean builtInSQLEnabled, final String sqlFile, final int threadCount) {
+        this(databaseType, builtInSQLEnabled, sqlFile, threadCount, true);
+    }
+    
+    public SQLParserWarmUpEngine(final DatabaseType databaseType, final boolean builtInSQLEnabled, final String sqlFile, final int threadCount, final boolean twoPhaseEnabled) {
+        this.databaseType = DatabaseTypes.getTrunkDatabaseType(databaseType.getName());
+        this.builtInSQLEnabled = builtInSQLEnabled;
+        this.sqlFile = sqlFile;
+        this.threadCount = threadCount;
+        predictionModeContext = new PredictionModeContext(twoPhaseEnabled);
+    }
+    
+    /**
+     * Warm up SQL parser.
+     * 
+     * @return count of SQLs failed to parse
+     */
+    public int warmUp() {
+        long startTime = System.currentTimeMillis();
+        List<String> sqls = loadSQLs();
+        int result = threadCount > 1 ? parseInParallel(sqls) : parse(sqls);
+        log.info("Warm up SQL parser of {} finished in {} ms, {} SQLs parsed, {} SQLs failed.", databaseType.getName(), System.currentTimeMillis() - startTime, sqls.size(), result);
+        return result;
+    }
+    
+    @SneakyThrows
+    private List<String> loadSQLs() {
+        List<String> result = new LinkedList<>();
+        if (builtInSQLEnabled) {
+            URL url = SQLParserWarmUpEngine.class.getClassLoader().getResource(String.format(BUILT_IN_SQL_FILE, databaseType.getName()));
+            if (null != url) {
+                result.addAll(getSQLs(Resources.readLines(url, Charsets.UTF_8)));
+            }
+        }
+        if (!Strings.isNullOrEmpty(sqlFile)) {
+            File file = new File(sqlFile);
+            Preconditions.checkArgument(file.isFile(), "Cannot find SQL file `%s` to warm up SQL parser.", sqlFile);
+            result.addAll(getSQLs(Files.readLines(file, Charsets.UTF_8)));
+        }
+        return result;
+    }
+    
+    private Collection<String> getSQLs(final List<String> lines) {
+        Collection<String> result = new LinkedList<>();
+        for (String each : lines) {
+            String sql = each.trim();
+            if (sql.endsWith(";")) {
+                sql = sql.substring(0, sql.length() - 1).trim();
+            }
+            if (!sql.isEmpty() && !sql.startsWith(COMMENT_PREFIX)) {
+                result.add(sql);
+            }
+        }
+        return result;
+    }
+    
+    private int parse(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            if (!parse(each)) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    @SneakyThrows
+    private int parseInParallel(final Collection<String> sqls) {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-ParserWarmUp-%d").build());
+        try {
+            Collection<Callable<Boolean>> tasks = new LinkedList<>();
+            for (final String each : sqls) {
+                tasks.add(new Callable<Boolean>() {
+                    
+                    @Override
+                    public Boolean call() {
+                        return parse(each);
+                    }
+                });
+            }
+            int result = 0;
+            for (Future<Boolean> each : executorService.invokeAll(tasks)) {
+                if (!each.get()) {
+                    result++;
+                }
+            }
+            return result;
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private boolean parse(final String sql) {
+        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, sql);
+        Parser parser = (Parser) sqlParser;
+        ((Lexer) parser.getTokenStream().getTokenSource()).removeErrorListeners();
+        try {
+            predictionModeContext.execute(sqlParser, false);
+            return 0 == parser.getNumberOfSyntaxErrors();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            return false;
+        } finally {
+            SQLParserFactory.release(databaseType);
+        }
+    }
+}
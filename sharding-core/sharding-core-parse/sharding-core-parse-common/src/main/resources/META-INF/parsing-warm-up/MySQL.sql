@@ -0,0 +1,48 @@
+-- Licensed to the Apache Software Foundation (ASF) under one or more
+-- contributor license agreements.  See the NOTICE file distributed with
+-- this work for additional information regarding copyright ownership.
+-- The ASF licenses this file to You under the Apache License, Version 2.0
+-- (the "License"); you may not use this file except in compliance with
+-- the License.  You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+SELECT 1 as a
+SELECT * FROM t_order_item WHERE item_id != ? ORDER BY item_id
+SELECT * FROM t_order WHERE user_id IN (?, ?, ?) AND order_id IN (?, ?) ORDER BY user_id, order_id
+SELECT count(0) as orders_count FROM t_order o WHERE o.status LIKE CONCAT('%', ?, '%') AND o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ?
+SELECT i.* FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id JOIN t_broadcast_table c ON o.status = c.status WHERE o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ? AND o.status = ? ORDER BY i.item_id
+SELECT DISTINCT item_id FROM t_order_item ORDER BY item_id
+SELECT COUNT(DISTINCT order_id) c FROM t_order WHERE order_id < 1100
+SELECT COUNT(DISTINCT order_id) c, order_id FROM t_order GROUP BY order_id ORDER BY order_id
+SELECT * FROM db1.t_order
+SELECT status as "status" FROM t_order
+SELECT INTERVAL(status,1,5) inSales FROM t_order
+SELECT COUNT(*) AS orders_count FROM t_order WHERE order_id > 1 - 1
+SELECT COUNT(*) AS items_count FROM t_order o, t_order_item i WHERE o.user_id = i.user_id AND o.order_id = i.order_id AND o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ?
+SELECT DATE(i.creation_date) AS creation_date FROM `t_order_item` AS i ORDER BY DATE(i.creation_date) DESC
+SELECT MAX(order_id) AS max_order_id, user_id FROM t_order GROUP BY user_id ORDER BY user_id
+SELECT count(*) as items_count FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id WHERE o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ? GROUP BY o.user_id
+SELECT date_format(creation_date,  '%y-%m-%d') as creation_date, count(*) as c_number FROM `t_order_item` WHERE order_id in (?, ?) GROUP BY date_format(creation_date, '%y-%m-%d')
+SELECT * FROM t_order WHERE order_id = ? OR user_id = ?
+SELECT i.* FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id WHERE (o.order_id = ? OR o.order_id = ?) AND o.user_id = ?
+SELECT o.order_id as gen_order_id_ FROM t_order o ORDER BY o.order_id
+SELECT * FROM t_order o ORDER BY order_id
+SELECT i.* FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id WHERE o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ? ORDER BY i.item_id DESC LIMIT ?
+SELECT i.user_id FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id WHERE o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ? GROUP BY i.user_id ORDER BY i.item_id DESC LIMIT ?, ?
+SELECT t.* FROM (SELECT o.* FROM t_order o WHERE o.order_id IN (?, ?)) t ORDER BY t.order_id
+DELETE FROM t_order WHERE status=?
+INSERT INTO t_order (order_id, user_id, status) VALUES (1, 1, 'insert')
+INSERT INTO t_order SET order_id = ?, user_id = ?, status = ?
+INSERT INTO t_order_item(item_id, order_id, user_id, status, creation_date) values (?, ?, ?, 'insert', '2017-08-08')
+INSERT INTO t_order_item values(?, ?, 'insert', '2017-08-08')
+INSERT INTO t_order_item(item_id, order_id, user_id, status, creation_date) values (?, ?, ?, 'insert', '2017-08-08'), (?, ?, ?, 'insert', '2017-08-08')
+INSERT INTO t_double_test(col1) VALUES(1.22)
+UPDATE t_order SET status = ? WHERE order_id = ? AND user_id = ?
+UPDATE `t_order` SET `status` = ? WHERE `order_id` = ? AND user_id = ?
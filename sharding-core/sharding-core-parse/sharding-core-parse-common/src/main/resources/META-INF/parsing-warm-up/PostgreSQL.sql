@@ -0,0 +1,47 @@
+-- Licensed to the Apache Software Foundation (ASF) under one or more
+-- contributor license agreements.  See the NOTICE file distributed with
+-- this work for additional information regarding copyright ownership.
+-- The ASF licenses this file to You under the Apache License, Version 2.0
+-- (the "License"); you may not use this file except in compliance with
+-- the License.  You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+SELECT 1 as a
+SELECT * FROM t_order_item WHERE item_id != ? ORDER BY item_id
+SELECT * FROM t_order WHERE user_id = ? AND order_id = ?
+SELECT * FROM t_order WHERE order_id = ? AND order_id = ?
+SELECT i.* FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id WHERE o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ? ORDER BY i.item_id
+SELECT i.* FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id JOIN t_broadcast_table c ON o.status = c.status WHERE o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ? AND o.status = ? ORDER BY i.item_id
+SELECT * FROM t_order WHERE rule IN (?::jsonb, ?::jsonb) AND start_point=ST_GeographyFromText('SRID=4326;POINT('||?||' '||?||')') AND user_id = ? AND order_id = ?
+SELECT DISTINCT item_id FROM t_order_item ORDER BY item_id
+SELECT SUM(DISTINCT order_id) s FROM t_order WHERE order_id < 1100
+SELECT COUNT(DISTINCT order_id) c, order_id FROM t_order GROUP BY order_id ORDER BY order_id
+SELECT status as "status" FROM t_order
+SELECT COUNT(*) AS orders_count FROM t_order
+SELECT MAX(user_id) AS max_user_id FROM t_order
+SELECT COUNT(*) AS items_count FROM t_order o, t_order_item i WHERE o.user_id = i.user_id AND o.order_id = i.order_id AND o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ?
+SELECT SUM(order_id) AS orders_sum, user_id FROM t_order GROUP BY user_id ORDER BY user_id
+SELECT MIN(order_id) AS min_order_id, user_id FROM t_order GROUP BY user_id ORDER BY user_id
+SELECT count(*) as items_count FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id WHERE o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ? GROUP BY o.user_id
+SELECT o.user_id uid FROM t_order o GROUP BY o.user_id ORDER BY o.user_id
+SELECT * FROM t_order WHERE order_id = ? OR user_id = ?
+SELECT * FROM t_order WHERE ((status = ? AND (order_id = ? OR (order_id = ?)) AND (user_id = ? OR (user_id = ?))))
+SELECT * FROM t_order o ORDER BY o.order_id, 2 DESC
+SELECT i.* FROM t_order o, t_order_item i WHERE o.order_id = i.order_id AND o.status = 'init' ORDER BY i.creation_date DESC, o.order_id DESC, i.item_id
+SELECT i.* FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id WHERE o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ? ORDER BY i.item_id DESC LIMIT ?
+SELECT t_order_item.* FROM t_order JOIN t_order_item ON t_order.order_id = t_order_item.order_id WHERE t_order.order_id = ?
+SELECT COUNT(1) as orders_count FROM (SELECT * FROM t_order ORDER BY order_id desc) t
+DELETE FROM t_order WHERE status=?
+INSERT /*+ index(field1) */ INTO t_order (order_id, user_id, status) VALUES (1, 1, 'insert') RETURNING order_id
+INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'insert')
+INSERT INTO t_order_item values(?, ?, ?, 'insert', '2017-08-08')
+INSERT INTO t_order (order_id, user_id, status) VALUES (?, 1, 'insert'), (?, ?, ?)
+UPDATE t_order SET status = ? WHERE order_id = ? AND user_id = ?
+UPDATE t_order SET status = 'update' WHERE (order_id = ? OR order_id = ?) AND user_id = ?
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import org.apache.shardingsphere.core.parse.exception.SQLParsingException;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        SQLStatement sqlStatement = new SelectStatement();
+        parsingResultCache.put("SELECT 1", sqlStatement);
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1"), is(sqlStatement));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 2"));
+        assertThat(parsingResultCache.getStatistics().hitCount(), is(1L));
+        assertThat(parsingResultCache.getStatistics().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetSQLStatementWithLoader() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        SQLStatement sqlStatement = new SelectStatement();
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1", createLoader(sqlStatement)), is(sqlStatement));
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1", createLoader(new SelectStatement())), is(sqlStatement));
+        assertThat(parsingResultCache.getStatistics().loadSuccessCount(), is(1L));
+        assertThat(parsingResultCache.getStatistics().hitCount(), is(1L));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertGetSQLStatementWithFailureLoader() {
+        new ParsingResultCache().getSQLStatement("SELECT", new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                throw new SQLParsingException("Unsupported SQL of `SELECT`");
+            }
+        });
+    }
+    
+    @Test
+    public void assertEvictByMaximumSize() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1L, 0L, 0L);
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.put("SELECT 2", new SelectStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertThat(parsingResultCache.getStatistics().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictByMaximumWeight() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1L, 100L, 0L);
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.put("SELECT 2", new SelectStatement());
+        assertThat(parsingResultCache.size(), is(2L));
+        parsingResultCache.put(new String(new char[100]), new SelectStatement());
+        assertTrue(parsingResultCache.getStatistics().evictionCount() > 0L);
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.clear();
+        assertThat(parsingResultCache.size(), is(0L));
+    }
+    
+    private Callable<SQLStatement> createLoader(final SQLStatement sqlStatement) {
+        return new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return sqlStatement;
+            }
+        };
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.junit.Test;
 
 /**
@@ -38,7 +39,7 @@ public class SchemaExtractorTest {
         ParserRuleContext parserRuleContext = new ParserRuleContext();
         Map<ParserRuleContext, Integer> hashMap = new HashMap<>();
 
-        assertEquals(Optional.absent(), new SchemaExtractor().extract(parserRuleContext, hashMap));
+        assertEquals(Optional.absent(), new SchemaExtractor().extract(parserRuleContext, hashMap, new ParseTreeIndex(parserRuleContext)));
     }
 
 }
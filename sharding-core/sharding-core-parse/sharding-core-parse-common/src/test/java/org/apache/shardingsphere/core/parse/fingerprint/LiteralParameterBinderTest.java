@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fingerprint;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LiteralParameterBinderTest {
+    
+    @Test
+    public void assertBindWithoutParameters() {
+        assertThat(LiteralParameterBinder.bind("SELECT * FROM t_order", Collections.emptyList()), is("SELECT * FROM t_order"));
+    }
+    
+    @Test
+    public void assertBind() {
+        assertThat(LiteralParameterBinder.bind("SELECT * FROM t_order_0 WHERE user_id = ? AND status = ? AND amount > ? AND remark IS ? LIMIT ?", 
+                Arrays.<Object>asList(1, "it's", new BigDecimal("1E+3"), null, 10L)), is("SELECT * FROM t_order_0 WHERE user_id = 1 AND status = 'it''s' AND amount > 1000 AND remark IS NULL LIMIT 10"));
+    }
+    
+    @Test
+    public void assertBindWithQuotedParameterMarker() {
+        assertThat(LiteralParameterBinder.bind("SELECT '?', `a?` FROM t_order WHERE user_id = ?", Collections.<Object>singletonList(1)), is("SELECT '?', `a?` FROM t_order WHERE user_id = 1"));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertBindWithLessParameters() {
+        LiteralParameterBinder.bind("SELECT * FROM t_order WHERE user_id = ? AND order_id = ?", Collections.<Object>singletonList(1));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertBindWithMoreParameters() {
+        LiteralParameterBinder.bind("SELECT * FROM t_order WHERE user_id = ?", Arrays.<Object>asList(1, 2));
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.ddl;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.impl.ddl.column.AddColumnDefinitionExtractor;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.alter.AddColumnDefinitionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.position.ColumnPositionSegment;
 
@@ -34,9 +35,10 @@ public final class MySQLAddColumnDefinitionExtractor extends AddColumnDefinition
     
     @Override
     protected void postExtractColumnDefinition(final ParserRuleContext addColumnNode, 
-                                               final AddColumnDefinitionSegment addColumnDefinitionSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+                                               final AddColumnDefinitionSegment addColumnDefinitionSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes,
+                                                       final ParseTreeIndex parseTreeIndex) {
         Optional<ColumnPositionSegment> columnPositionSegment = new MySQLColumnPositionExtractor(
-                addColumnDefinitionSegment.getColumnDefinition().getColumnName()).extract(addColumnNode, parameterMarkerIndexes);
+                addColumnDefinitionSegment.getColumnDefinition().getColumnName()).extract(addColumnNode, parameterMarkerIndexes, parseTreeIndex);
         if (columnPositionSegment.isPresent()) {
             addColumnDefinitionSegment.setColumnPosition(columnPositionSegment.get());
         }
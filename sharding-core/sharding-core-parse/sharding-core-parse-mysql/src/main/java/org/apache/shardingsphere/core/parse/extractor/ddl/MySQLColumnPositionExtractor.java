@@ -21,7 +21,7 @@ import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.position.ColumnAfterPositionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.position.ColumnFirstPositionSegment;
@@ -40,12 +40,12 @@ public final class MySQLColumnPositionExtractor implements OptionalSQLSegmentExt
     private final String columnName;
     
     @Override
-    public Optional<ColumnPositionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> firstOrAfterColumnNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.FIRST_OR_AFTER_COLUMN);
+    public Optional<ColumnPositionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> firstOrAfterColumnNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.FIRST_OR_AFTER_COLUMN);
         if (!firstOrAfterColumnNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ParserRuleContext> columnNameNode = ExtractorUtils.findFirstChildNode(firstOrAfterColumnNode.get(), RuleName.COLUMN_NAME);
+        Optional<ParserRuleContext> columnNameNode = parseTreeIndex.findFirstChildNode(firstOrAfterColumnNode.get(), RuleName.COLUMN_NAME);
         int startIndex = firstOrAfterColumnNode.get().getStart().getStartIndex();
         int stopIndex = firstOrAfterColumnNode.get().getStop().getStopIndex();
         ColumnPositionSegment result = columnNameNode.isPresent()
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.ddl;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.constraint.DropPrimaryKeySegment;
 
@@ -34,8 +34,8 @@ import java.util.Map;
 public final class MySQLDropPrimaryKeyExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<DropPrimaryKeySegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> dropPrimaryKeySpecificationNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.DROP_PRIMARY_KEY_SPECIFICATION);
+    public Optional<DropPrimaryKeySegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> dropPrimaryKeySpecificationNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.DROP_PRIMARY_KEY_SPECIFICATION);
         return dropPrimaryKeySpecificationNode.isPresent()
                 ? Optional.of(new DropPrimaryKeySegment(dropPrimaryKeySpecificationNode.get().getStart().getStartIndex(), dropPrimaryKeySpecificationNode.get().getStop().getStopIndex()))
                 : Optional.<DropPrimaryKeySegment>absent();
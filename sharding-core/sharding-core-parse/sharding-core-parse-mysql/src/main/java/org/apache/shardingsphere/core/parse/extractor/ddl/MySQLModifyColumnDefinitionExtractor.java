@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.ddl;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.impl.ddl.column.ModifyColumnDefinitionExtractor;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.alter.ModifyColumnDefinitionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.position.ColumnPositionSegment;
 
@@ -34,9 +35,10 @@ public final class MySQLModifyColumnDefinitionExtractor extends ModifyColumnDefi
     
     @Override
     protected void postExtractColumnDefinition(final ParserRuleContext modifyColumnNode, 
-                                               final ModifyColumnDefinitionSegment modifyColumnDefinitionSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+                                               final ModifyColumnDefinitionSegment modifyColumnDefinitionSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes,
+                                                       final ParseTreeIndex parseTreeIndex) {
         Optional<ColumnPositionSegment> columnPositionSegment = new MySQLColumnPositionExtractor(
-                modifyColumnDefinitionSegment.getColumnDefinition().getColumnName()).extract(modifyColumnNode, parameterMarkerIndexes);
+                modifyColumnDefinitionSegment.getColumnDefinition().getColumnName()).extract(modifyColumnNode, parameterMarkerIndexes, parseTreeIndex);
         if (columnPositionSegment.isPresent()) {
             modifyColumnDefinitionSegment.setColumnPosition(columnPositionSegment.get());
         }
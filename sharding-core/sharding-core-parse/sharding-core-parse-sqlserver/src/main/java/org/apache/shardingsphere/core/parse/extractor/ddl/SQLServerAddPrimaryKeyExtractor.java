@@ -21,7 +21,7 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.constraint.ConstraintDefinitionSegment;
 
@@ -36,20 +36,20 @@ import java.util.Map;
 public final class SQLServerAddPrimaryKeyExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<ConstraintDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> addColumnNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.ADD_COLUMN_SPECIFICATION);
+    public Optional<ConstraintDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> addColumnNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.ADD_COLUMN_SPECIFICATION);
         if (!addColumnNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ParserRuleContext> tableConstraintNode = ExtractorUtils.findFirstChildNode(addColumnNode.get(), RuleName.TABLE_CONSTRAINT);
+        Optional<ParserRuleContext> tableConstraintNode = parseTreeIndex.findFirstChildNode(addColumnNode.get(), RuleName.TABLE_CONSTRAINT);
         if (!tableConstraintNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ParserRuleContext> primaryKeyNode = ExtractorUtils.findFirstChildNode(tableConstraintNode.get(), RuleName.PRIMARY_KEY);
+        Optional<ParserRuleContext> primaryKeyNode = parseTreeIndex.findFirstChildNode(tableConstraintNode.get(), RuleName.PRIMARY_KEY);
         if (!primaryKeyNode.isPresent()) {
             return Optional.absent();
         }
-        Collection<ParserRuleContext> columnNameNodes = ExtractorUtils.getAllDescendantNodes(tableConstraintNode.get(), RuleName.COLUMN_NAME);
+        Collection<ParserRuleContext> columnNameNodes = parseTreeIndex.getAllDescendantNodes(tableConstraintNode.get(), RuleName.COLUMN_NAME);
         if (columnNameNodes.isEmpty()) {
             return Optional.absent();
         }
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.parse.extractor.tcl;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.tcl.ImplicitTransactionsSegment;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
@@ -35,8 +35,8 @@ import java.util.Map;
 public final class SetImplicitTransactionsExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<ImplicitTransactionsSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> autoCommitValueNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.IMPLICIT_TRANSACTIONS_VALUE);
+    public Optional<ImplicitTransactionsSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> autoCommitValueNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.IMPLICIT_TRANSACTIONS_VALUE);
         return autoCommitValueNode.isPresent()
                 ? Optional.of(new ImplicitTransactionsSegment(autoCommitValueNode.get().getStart().getStartIndex(), autoCommitValueNode.get().getStop().getStopIndex(), 
                         "ON".equalsIgnoreCase(SQLUtil.getExactlyValue(autoCommitValueNode.get().getText())))) : Optional.<ImplicitTransactionsSegment>absent();
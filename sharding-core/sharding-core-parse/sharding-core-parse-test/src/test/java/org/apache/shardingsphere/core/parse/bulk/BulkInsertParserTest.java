@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.bulk;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.complex.CommonExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BulkInsertParserTest {
+    
+    @Test
+    public void assertParseHeader() {
+        String sql = "INSERT INTO `t_order` (order_id, user_id, status) VALUES (?, ?, ?)";
+        try (BulkInsertParser parser = new BulkInsertParser(DatabaseTypes.getActualDatabaseType("MySQL"), sql)) {
+            Optional<BulkInsertHeader> actual = parser.parseHeader();
+            assertTrue(actual.isPresent());
+            assertThat(actual.get().getTableName(), is("t_order"));
+            assertThat(sql.substring(actual.get().getTableStartIndex(), actual.get().getTableStopIndex() + 1), is("`t_order`"));
+            assertThat(actual.get().getColumnNames(), is(Arrays.asList("order_id", "user_id", "status")));
+            assertThat(sql.substring(actual.get().getValuesStartIndex()), is("(?, ?, ?)"));
+        }
+    }
+    
+    @Test
+    public void assertParseHeaderWithoutColumns() {
+        try (BulkInsertParser parser = new BulkInsertParser(DatabaseTypes.getActualDatabaseType("MySQL"), "INSERT INTO t_order VALUES (1, 1, 'init')")) {
+            assertFalse(parser.parseHeader().isPresent());
+        }
+    }
+    
+    @Test
+    public void assertParseHeaderForSelect() {
+        try (BulkInsertParser parser = new BulkInsertParser(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order")) {
+            assertFalse(parser.parseHeader().isPresent());
+        }
+    }
+    
+    @Test
+    public void assertNextRow() {
+        String sql = "INSERT INTO t_order (order_id, user_id, status) VALUES (?, -10, 'init'), (2, ?, CONCAT(?, '(', 'x')) ;";
+        try (BulkInsertParser parser = new BulkInsertParser(DatabaseTypes.getActualDatabaseType("MySQL"), sql)) {
+            assertTrue(parser.parseHeader().isPresent());
+            BulkInsertRow firstRow = parser.nextRow().get();
+            assertThat(sql.substring(firstRow.getStartIndex(), firstRow.getStopIndex() + 1), is("(?, -10, 'init')"));
+            assertThat(firstRow.getParameterMarkerStartIndex(), is(0));
+            assertThat(firstRow.getParameterMarkerCount(), is(1));
+            assertThat(((ParameterMarkerExpressionSegment) firstRow.getValues().get(0)).getParameterMarkerIndex(), is(0));
+            assertThat(((LiteralExpressionSegment) firstRow.getValues().get(1)).getLiterals(), is((Object) (-10)));
+            assertThat(((LiteralExpressionSegment) firstRow.getValues().get(2)).getLiterals(), is((Object) "init"));
+            assertFalse(parser.isFinished());
+            BulkInsertRow secondRow = parser.nextRow().get();
+            assertThat(sql.substring(secondRow.getStartIndex(), secondRow.getStopIndex() + 1), is("(2, ?, CONCAT(?, '(', 'x'))"));
+            assertThat(secondRow.getParameterMarkerStartIndex(), is(1));
+            assertThat(secondRow.getParameterMarkerCount(), is(2));
+            assertThat(((ParameterMarkerExpressionSegment) secondRow.getValues().get(1)).getParameterMarkerIndex(), is(1));
+            assertThat(secondRow.getValues().get(2), instanceOf(CommonExpressionSegment.class));
+            assertThat(((CommonExpressionSegment) secondRow.getValues().get(2)).getText(), is("CONCAT(?, '(', 'x')"));
+            assertTrue(parser.isFinished());
+            assertFalse(parser.nextRow().isPresent());
+        }
+    }
+    
+    @Test
+    public void assertNextRowWithUnrecognizedClause() {
+        try (BulkInsertParser parser = new BulkInsertParser(DatabaseTypes.getActualDatabaseType("MySQL"), "INSERT INTO t_order (order_id, status) VALUES (1, 'init'), (2, 'init') ON DUPLICATE KEY UPDATE status = 'init'")) {
+            assertTrue(parser.parseHeader().isPresent());
+            assertTrue(parser.nextRow().isPresent());
+            assertFalse(parser.nextRow().isPresent());
+            assertFalse(parser.isFinished());
+        }
+    }
+    
+    @Test
+    public void assertNextRowForAllDatabaseTypes() {
+        for (String each : new String[]{"MySQL", "PostgreSQL", "Oracle", "SQLServer"}) {
+            try (BulkInsertParser parser = new BulkInsertParser(DatabaseTypes.getActualDatabaseType(each), "INSERT INTO t_order (order_id, user_id) VALUES (1, ?), (2, ?), (3, ?)")) {
+                assertTrue(parser.parseHeader().isPresent());
+                int rowCount = 0;
+                while (parser.nextRow().isPresent()) {
+                    rowCount++;
+                }
+                assertThat(rowCount, is(3));
+                assertTrue(parser.isFinished());
+            }
+        }
+    }
+}
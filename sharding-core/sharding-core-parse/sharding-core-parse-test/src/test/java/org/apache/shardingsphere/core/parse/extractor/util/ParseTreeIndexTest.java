@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.extractor.util;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.integrate.jaxb.ParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.integrate.jaxb.ShardingParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.parser.PredictionModeContext;
+import org.apache.shardingsphere.core.parse.parser.SQLAST;
+import org.apache.shardingsphere.core.parse.parser.SQLParserEngine;
+import org.apache.shardingsphere.core.parse.rule.registry.ShardingParseRuleRegistry;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.test.sql.loader.sharding.ShardingSQLCasesRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+@RequiredArgsConstructor
+public final class ParseTreeIndexTest {
+    
+    private static SQLCasesLoader sqlCasesLoader = ShardingSQLCasesRegistry.getInstance().getSqlCasesLoader();
+    
+    private static ParserResultSetRegistry parserResultSetRegistry = ShardingParserResultSetRegistry.getInstance().getRegistry();
+    
+    private final String sqlCaseId;
+    
+    private final String databaseType;
+    
+    private final SQLCaseType sqlCaseType;
+    
+    @Parameters(name = "{0} ({2}) -> {1}")
+    public static Collection<Object[]> getTestParameters() {
+        return sqlCasesLoader.getSQLTestParameters();
+    }
+    
+    @Test
+    public void assertSameNodesWithTraversal() {
+        String sql = sqlCasesLoader.getSQL(sqlCaseId, sqlCaseType, parserResultSetRegistry.get(sqlCaseId).getParameters());
+        SQLAST ast = new SQLParserEngine(ShardingParseRuleRegistry.getInstance(), DatabaseTypes.getTrunkDatabaseType(databaseType), sql, new PredictionModeContext(true)).parse();
+        ParseTreeIndex parseTreeIndex = ast.getParseTreeIndex();
+        for (ParserRuleContext each : getStartNodes(ast.getParserRuleContext())) {
+            for (RuleName ruleName : RuleName.values()) {
+                assertThat(parseTreeIndex.findFirstChildNode(each, ruleName), is(ExtractorUtils.findFirstChildNode(each, ruleName)));
+                assertThat(new ArrayList<>(parseTreeIndex.getAllDescendantNodes(each, ruleName)), is(new ArrayList<>(ExtractorUtils.getAllDescendantNodes(each, ruleName))));
+            }
+        }
+    }
+    
+    private Collection<ParserRuleContext> getStartNodes(final ParserRuleContext rootNode) {
+        Collection<ParserRuleContext> result = new LinkedList<>();
+        result.add(rootNode);
+        for (RuleName each : RuleName.values()) {
+            result.addAll(ExtractorUtils.getAllDescendantNodes(rootNode, each));
+        }
+        return result;
+    }
+}
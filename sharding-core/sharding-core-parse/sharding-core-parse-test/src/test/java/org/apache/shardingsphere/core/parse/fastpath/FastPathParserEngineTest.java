@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fastpath;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.extractor.SQLSegmentsExtractorEngine;
+import org.apache.shardingsphere.core.parse.integrate.jaxb.ParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.integrate.jaxb.ShardingParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.parser.PredictionModeContext;
+import org.apache.shardingsphere.core.parse.parser.SQLAST;
+import org.apache.shardingsphere.core.parse.parser.SQLParserEngine;
+import org.apache.shardingsphere.core.parse.rule.registry.EncryptParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.rule.registry.MasterSlaveParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.rule.registry.ShardingParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.test.sql.loader.sharding.ShardingSQLCasesRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.hamcrest.CoreMatchers.is;
+
+@RunWith(Parameterized.class)
+@RequiredArgsConstructor
+public final class FastPathParserEngineTest {
+    
+    private static final Collection<ParseRuleRegistry> PARSE_RULE_REGISTRIES = Arrays.asList(
+            ShardingParseRuleRegistry.getInstance(), EncryptParseRuleRegistry.getInstance(), MasterSlaveParseRuleRegistry.getInstance());
+    
+    private static SQLCasesLoader sqlCasesLoader = ShardingSQLCasesRegistry.getInstance().getSqlCasesLoader();
+    
+    private static ParserResultSetRegistry parserResultSetRegistry = ShardingParserResultSetRegistry.getInstance().getRegistry();
+    
+    private final String sqlCaseId;
+    
+    private final String databaseType;
+    
+    private final SQLCaseType sqlCaseType;
+    
+    @Parameters(name = "{0} ({2}) -> {1}")
+    public static Collection<Object[]> getTestParameters() {
+        return sqlCasesLoader.getSQLTestParameters();
+    }
+    
+    @Test
+    public void assertSameSegmentsWithFullGrammar() {
+        String sql = sqlCasesLoader.getSQL(sqlCaseId, sqlCaseType, parserResultSetRegistry.get(sqlCaseId).getParameters());
+        DatabaseType trunkDatabaseType = DatabaseTypes.getTrunkDatabaseType(databaseType);
+        for (ParseRuleRegistry each : PARSE_RULE_REGISTRIES) {
+            Optional<FastPathSQLAST> actual = new FastPathParserEngine(each, trunkDatabaseType, sql).parse();
+            if (actual.isPresent()) {
+                SQLAST expected = new SQLParserEngine(each, trunkDatabaseType, sql, new PredictionModeContext(true)).parse();
+                Map<ParserRuleContext, Integer> parameterMarkerIndexes = expected.getParameterMarkerIndexes();
+                assertThat(actual.get().getSqlStatementRule(), is(expected.getSqlStatementRule()));
+                assertThat(actual.get().getParameterMarkerCount(), is(parameterMarkerIndexes.size()));
+                assertSameObject(actual.get().getSqlSegments(), new SQLSegmentsExtractorEngine().extract(expected, parameterMarkerIndexes), "segments");
+            }
+        }
+    }
+    
+    @Test
+    public void assertParseWithUnsupportedShapes() {
+        DatabaseType trunkDatabaseType = DatabaseTypes.getTrunkDatabaseType(databaseType);
+        for (String each : Arrays.asList("SELECT * FROM t_order o WHERE o.order_id = ?", "SELECT order_id FROM t_order WHERE order_id = ? OR user_id = ?", 
+                "UPDATE t_order SET status = status + 1 WHERE order_id = ?", "DELETE FROM t_order WHERE order_id = ? LIMIT 1", "SELECT * FROM t_order WHERE order_id = ? ORDER BY order_id")) {
+            assertFalse(new FastPathParserEngine(ShardingParseRuleRegistry.getInstance(), trunkDatabaseType, each).parse().isPresent());
+        }
+    }
+    
+    @Test
+    public void assertParseWithSupportedShapes() {
+        DatabaseType trunkDatabaseType = DatabaseTypes.getTrunkDatabaseType(databaseType);
+        for (String each : Arrays.asList("SELECT * FROM t_order WHERE order_id = ? AND user_id IN (?, 2) AND remark BETWEEN 'a' AND ?", "SELECT order_id, user_id FROM t_order WHERE order_id <> 1", 
+                "INSERT INTO t_order (order_id, user_id, remark) VALUES (?, 10, 'init')", "UPDATE t_order SET remark = ?, user_id = 1 WHERE order_id = ?", "DELETE FROM t_order")) {
+            assertTrue(new FastPathParserEngine(ShardingParseRuleRegistry.getInstance(), trunkDatabaseType, each).parse().isPresent());
+        }
+    }
+    
+    @SneakyThrows
+    private void assertSameObject(final Object actual, final Object expected, final String path) {
+        if (null == expected || null == actual) {
+            assertThat(path, actual, is(expected));
+            return;
+        }
+        assertThat(path, actual.getClass().getName(), is(expected.getClass().getName()));
+        if (expected instanceof Optional) {
+            assertSameObject(((Optional) actual).orNull(), ((Optional) expected).orNull(), path);
+        } else if (expected instanceof Collection) {
+            assertThat(path, ((Collection) actual).size(), is(((Collection) expected).size()));
+            Iterator<?> actualIterator = ((Collection) actual).iterator();
+            int index = 0;
+            for (Object each : (Collection) expected) {
+                assertSameObject(actualIterator.next(), each, path + "[" + index++ + "]");
+            }
+        } else if (expected.getClass().getName().startsWith("org.apache.shardingsphere.") && !expected.getClass().isEnum()) {
+            for (Field each : getFields(expected.getClass())) {
+                each.setAccessible(true);
+                assertSameObject(each.get(actual), each.get(expected), path + "." + each.getName());
+            }
+        } else {
+            assertThat(path, actual, is(expected));
+        }
+    }
+    
+    private Collection<Field> getFields(final Class<?> clazz) {
+        Collection<Field> result = new LinkedList<>();
+        for (Class<?> each = clazz; null != each; each = each.getSuperclass()) {
+            for (Field field : each.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    result.add(field);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.fingerprint;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLFingerprintEngineTest {
+    
+    private final SQLFingerprintEngine mySQLEngine = new SQLFingerprintEngine(DatabaseTypes.getActualDatabaseType("MySQL"));
+    
+    @Test
+    public void assertFingerprintWithComparison() {
+        Optional<SQLFingerprint> actual = mySQLEngine.fingerprint("SELECT * FROM t_order WHERE user_id = 10 AND status <> 'init'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplateSQL(), is("SELECT * FROM t_order WHERE user_id = ? AND status <> ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "init")));
+    }
+    
+    @Test
+    public void assertFingerprintWithInAndBetween() {
+        Optional<SQLFingerprint> actual = mySQLEngine.fingerprint("SELECT * FROM t_order WHERE order_id IN (1, 2) AND user_id BETWEEN 3 AND 4");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplateSQL(), is("SELECT * FROM t_order WHERE order_id IN (?, ?) AND user_id BETWEEN ? AND ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 3, 4)));
+    }
+    
+    @Test
+    public void assertFingerprintWithInsertValues() {
+        Optional<SQLFingerprint> actual = mySQLEngine.fingerprint("INSERT INTO t_order (order_id, status) VALUES (1, 'a'), (2, now())");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplateSQL(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, now())"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "a", 2)));
+    }
+    
+    @Test
+    public void assertFingerprintWithLimit() {
+        Optional<SQLFingerprint> actual = mySQLEngine.fingerprint("SELECT * FROM t_order WHERE user_id = 1 LIMIT 2, 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplateSQL(), is("SELECT * FROM t_order WHERE user_id = ? LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 10)));
+    }
+    
+    @Test
+    public void assertFingerprintWithoutLimitForOracle() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine(DatabaseTypes.getActualDatabaseType("Oracle")).fingerprint("SELECT * FROM t_order WHERE user_id = 1 AND rownum <= 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplateSQL(), is("SELECT * FROM t_order WHERE user_id = ? AND rownum <= ?"));
+    }
+    
+    @Test
+    public void assertFingerprintKeepExpressionAndEscapedLiterals() {
+        Optional<SQLFingerprint> actual = mySQLEngine.fingerprint("UPDATE t_order SET amount = 1 + 2, status = 'it''s' WHERE order_id IN (SELECT 1) AND user_id = 3");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTemplateSQL(), is("UPDATE t_order SET amount = 1 + 2, status = 'it''s' WHERE order_id IN (SELECT 1) AND user_id = ?"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(3)));
+    }
+    
+    @Test
+    public void assertFingerprintWithParameterMarker() {
+        assertFalse(mySQLEngine.fingerprint("SELECT * FROM t_order WHERE user_id = ? AND order_id = 1").isPresent());
+    }
+    
+    @Test
+    public void assertFingerprintWithoutDML() {
+        assertFalse(mySQLEngine.fingerprint("SHOW TABLES LIKE 't_order'").isPresent());
+    }
+    
+    @Test
+    public void assertFingerprintWithoutLiteral() {
+        assertFalse(mySQLEngine.fingerprint("SELECT * FROM t_order").isPresent());
+    }
+}
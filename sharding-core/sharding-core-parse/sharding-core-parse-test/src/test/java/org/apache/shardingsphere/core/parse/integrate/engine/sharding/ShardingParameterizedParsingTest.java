@@ -26,6 +26,7 @@ import org.apache.shardingsphere.core.parse.fixture.ParsingTestCaseFixtureBuilde
 import org.apache.shardingsphere.core.parse.integrate.asserts.ShardingSQLStatementAssert;
 import org.apache.shardingsphere.core.parse.integrate.jaxb.ParserResultSetRegistry;
 import org.apache.shardingsphere.core.parse.integrate.jaxb.ShardingParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.parser.PredictionModeContext;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.test.sql.SQLCaseType;
@@ -53,6 +54,8 @@ public final class ShardingParameterizedParsingTest {
     
     private static ParsingResultCache parsingResultCache = new ParsingResultCache();
     
+    private static ParsingResultCache sqlParserOnlyParsingResultCache = new ParsingResultCache(ParsingResultCache.DEFAULT_MAXIMUM_SIZE, 0L, 0L, new PredictionModeContext(false), false);
+    
     private static ShardingTableMetaData shardingTableMetaData = ParsingTestCaseFixtureBuilder.buildShardingTableMetaData();
     
     private final String sqlCaseId;
@@ -69,6 +72,15 @@ public final class ShardingParameterizedParsingTest {
     
     @Test
     public void assertSupportedSQL() {
+        assertSupportedSQL(parsingResultCache);
+    }
+    
+    @Test
+    public void assertSupportedSQLWithSQLParserOnly() {
+        assertSupportedSQL(sqlParserOnlyParsingResultCache);
+    }
+    
+    private void assertSupportedSQL(final ParsingResultCache parsingResultCache) {
         String sql = sqlCasesLoader.getSQL(sqlCaseId, sqlCaseType, parserResultSetRegistry.get(sqlCaseId).getParameters());
         SQLStatement sqlStatement = new ShardingSQLParseEntry(DatabaseTypes.getTrunkDatabaseType(databaseType), shardingRule, shardingTableMetaData, parsingResultCache).parse(sql, false);
         new ShardingSQLStatementAssert(sqlStatement, sqlCaseId, sqlCaseType).assertSQLStatement();
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.rule.registry.ShardingParseRuleRegistry;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PredictionModeContextTest {
+    
+    @Test
+    public void assertRenewTwoPhaseEnabled() {
+        PredictionModeContext predictionModeContext = new PredictionModeContext(true);
+        parse(predictionModeContext);
+        assertThat(predictionModeContext.getSLLParsedCount(), is(1L));
+        assertThat(predictionModeContext.getLLParsedCount(), is(0L));
+        predictionModeContext.setTwoPhaseEnabled(false);
+        parse(predictionModeContext);
+        assertThat(predictionModeContext.getSLLParsedCount(), is(1L));
+        assertThat(predictionModeContext.getLLParsedCount(), is(1L));
+    }
+    
+    @Test
+    public void assertResetStatistics() {
+        PredictionModeContext predictionModeContext = new PredictionModeContext(false);
+        parse(predictionModeContext);
+        predictionModeContext.resetStatistics();
+        assertThat(predictionModeContext.getSLLParsedCount(), is(0L));
+        assertThat(predictionModeContext.getLLFallbackCount(), is(0L));
+        assertThat(predictionModeContext.getLLParsedCount(), is(0L));
+    }
+    
+    private void parse(final PredictionModeContext predictionModeContext) {
+        new SQLParserEngine(ShardingParseRuleRegistry.getInstance(), DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order WHERE order_id = ?", predictionModeContext).parse();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserFactoryTest {
+    
+    @Test
+    public void assertNewInstanceReuseParserInSameThread() {
+        SQLParser actual = SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order");
+        assertThat(SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order_item"), sameInstance(actual));
+        assertThat(SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("PostgreSQL"), "SELECT * FROM t_order"), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertNewInstanceResetParserState() {
+        Parser parser = (Parser) SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order");
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        ((SQLParser) parser).execute();
+        SQLParser actual = SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order_item WHERE order_id = ?");
+        assertThat(((Parser) actual).getErrorListeners().size(), is(1));
+        assertThat(((Parser) actual).getErrorHandler(), instanceOf(DefaultErrorStrategy.class));
+        assertThat(((Parser) actual).getInterpreter().getPredictionMode(), is(PredictionMode.LL));
+        assertThat(actual.execute().getText(), is("SELECT*FROMt_order_itemWHEREorder_id=?"));
+    }
+    
+    @Test
+    public void assertNewLexerResetInputStream() {
+        Lexer lexer = SQLParserFactory.newLexer(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order");
+        lexer.getAllTokens();
+        lexer.removeErrorListeners();
+        Lexer actual = SQLParserFactory.newLexer(DatabaseTypes.getActualDatabaseType("MySQL"), "DELETE FROM t_order_item");
+        assertThat(actual, sameInstance(lexer));
+        assertThat(actual.getErrorListeners().size(), is(1));
+        assertThat(actual.nextToken().getText(), is("DELETE"));
+    }
+    
+    @Test
+    public void assertRelease() {
+        Parser parser = (Parser) SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order");
+        ((SQLParser) parser).execute();
+        ParserATNSimulator interpreter = parser.getInterpreter();
+        SQLParserFactory.release(DatabaseTypes.getActualDatabaseType("MySQL"));
+        assertThat(parser.getTokenStream().getTokenSource().getInputStream().size(), is(0));
+        assertThat(parser.getContext(), is((ParserRuleContext) null));
+        assertThat(parser.getInterpreter(), sameInstance(interpreter));
+        SQLParser actual = SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order_item");
+        assertThat(actual, sameInstance((SQLParser) parser));
+        assertThat(actual.execute().getText(), is("SELECT*FROMt_order_item"));
+    }
+    
+    @Test
+    public void assertReleaseLexer() {
+        Lexer lexer = SQLParserFactory.newLexer(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order");
+        lexer.getAllTokens();
+        SQLParserFactory.releaseLexer(DatabaseTypes.getActualDatabaseType("MySQL"));
+        assertThat(lexer.getInputStream().size(), is(0));
+        assertThat(SQLParserFactory.newLexer(DatabaseTypes.getActualDatabaseType("MySQL"), "DELETE FROM t_order_item").nextToken().getText(), is("DELETE"));
+    }
+    
+    @Test
+    public void assertClear() {
+        SQLParser parser = SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order");
+        Lexer lexer = SQLParserFactory.newLexer(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order");
+        SQLParserFactory.clear();
+        assertThat(SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order"), not(sameInstance(parser)));
+        assertThat(SQLParserFactory.newLexer(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order"), not(sameInstance(lexer)));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.google.common.io.Resources;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserWarmUpEngineTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertWarmUpWithBuiltInSQL() {
+        for (String each : new String[]{"H2", "MySQL", "PostgreSQL", "Oracle", "SQLServer"}) {
+            assertThat(new SQLParserWarmUpEngine(DatabaseTypes.getActualDatabaseType(each), true, "", 1).warmUp(), is(0));
+        }
+    }
+    
+    @Test
+    public void assertWarmUpWithBuiltInSQLInLLPredictionMode() {
+        for (String each : new String[]{"H2", "MySQL", "PostgreSQL", "Oracle", "SQLServer"}) {
+            assertThat(new SQLParserWarmUpEngine(DatabaseTypes.getActualDatabaseType(each), true, "", 1, false).warmUp(), is(0));
+        }
+    }
+    
+    @Test
+    public void assertParseEachBuiltInSQL() throws IOException {
+        for (String each : new String[]{"MySQL", "PostgreSQL", "Oracle", "SQLServer"}) {
+            DatabaseType databaseType = DatabaseTypes.getActualDatabaseType(each);
+            for (String line : Resources.readLines(Resources.getResource(String.format("META-INF/parsing-warm-up/%s.sql", each)), Charsets.UTF_8)) {
+                String sql = line.trim();
+                if (!sql.isEmpty() && !sql.startsWith("--")) {
+                    assertThat(each + ": " + sql, getNumberOfSyntaxErrors(databaseType, sql), is(0));
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void assertWarmUpWithSQLFile() throws IOException {
+        assertThat(new SQLParserWarmUpEngine(DatabaseTypes.getActualDatabaseType("MySQL"), false, createSQLFile().getPath(), 1).warmUp(), is(1));
+    }
+    
+    @Test
+    public void assertWarmUpInParallel() throws IOException {
+        assertThat(new SQLParserWarmUpEngine(DatabaseTypes.getActualDatabaseType("MySQL"), true, createSQLFile().getPath(), 4).warmUp(), is(1));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertWarmUpWithNotExistedSQLFile() {
+        new SQLParserWarmUpEngine(DatabaseTypes.getActualDatabaseType("MySQL"), false, new File(temporaryFolder.getRoot(), "not_existed.sql").getPath(), 1).warmUp();
+    }
+    
+    private int getNumberOfSyntaxErrors(final DatabaseType databaseType, final String sql) {
+        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, sql);
+        Parser parser = (Parser) sqlParser;
+        parser.removeErrorListeners();
+        ((Lexer) parser.getTokenStream().getTokenSource()).removeErrorListeners();
+        try {
+            sqlParser.execute();
+            return parser.getNumberOfSyntaxErrors();
+        } finally {
+            SQLParserFactory.release(databaseType);
+        }
+    }
+    
+    private File createSQLFile() throws IOException {
+        File result = temporaryFolder.newFile("warm-up.sql");
+        Files.write("-- recent SQLs\nSELECT * FROM t_order WHERE order_id = ?;\n\nUPDATE t_order SET status = 'finished' WHERE order_id = 1\nSELECT FROM WHERE\n", result, Charsets.UTF_8);
+        return result;
+    }
+}
@@ -26,9 +26,12 @@ import org.apache.shardingsphere.core.rewrite.builder.BaseParameterBuilder;
 import org.apache.shardingsphere.core.rewrite.builder.InsertParameterBuilder;
 import org.apache.shardingsphere.core.rewrite.builder.ParameterBuilder;
 import org.apache.shardingsphere.core.rewrite.builder.SQLBuilder;
+import org.apache.shardingsphere.core.rewrite.cache.RewriteTemplate;
+import org.apache.shardingsphere.core.rewrite.cache.RewriteTemplateCache;
 import org.apache.shardingsphere.core.rewrite.token.BaseTokenGenerateEngine;
 import org.apache.shardingsphere.core.rewrite.token.EncryptTokenGenerateEngine;
 import org.apache.shardingsphere.core.rewrite.token.ShardingTokenGenerateEngine;
+import org.apache.shardingsphere.core.rewrite.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
@@ -41,7 +44,9 @@ import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorEngine;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -65,11 +70,22 @@ public final class SQLRewriteEngine {
     private final ParameterBuilder parameterBuilder;
     
     public SQLRewriteEngine(final ShardingRule shardingRule, final SQLRouteResult sqlRouteResult, final List<Object> parameters, final boolean isSingleRoute) {
+        this(shardingRule, sqlRouteResult, parameters, isSingleRoute, null);
+    }
+    
+    public SQLRewriteEngine(final ShardingRule shardingRule, final SQLRouteResult sqlRouteResult, final List<Object> parameters, 
+                            final boolean isSingleRoute, final RewriteTemplateCache rewriteTemplateCache) {
         baseRule = shardingRule;
         this.optimizedStatement = getEncryptedOptimizedStatement(shardingRule.getEncryptRule().getEncryptorEngine(), sqlRouteResult.getOptimizedStatement());
         parameterBuilder = createParameterBuilder(parameters, sqlRouteResult);
-        sqlTokens = createSQLTokens(isSingleRoute);
-        sqlBuilder = new SQLBuilder(optimizedStatement.getSQLStatement().getLogicSQL(), sqlTokens);
+        if (null == rewriteTemplateCache) {
+            sqlTokens = createSQLTokens(isSingleRoute);
+            sqlBuilder = new SQLBuilder(optimizedStatement.getSQLStatement().getLogicSQL(), sqlTokens);
+        } else {
+            RewriteTemplate rewriteTemplate = getRewriteTemplate(shardingRule, isSingleRoute, rewriteTemplateCache);
+            sqlTokens = rewriteTemplate.getSQLTokens();
+            sqlBuilder = rewriteTemplate.getSQLBuilder();
+        }
     }
     
     public SQLRewriteEngine(final EncryptRule encryptRule, final OptimizedStatement optimizedStatement, final List<Object> parameters) {
@@ -148,6 +164,43 @@ public final class SQLRewriteEngine {
         return result;
     }
     
+    private RewriteTemplate getRewriteTemplate(final ShardingRule shardingRule, final boolean isSingleRoute, final RewriteTemplateCache rewriteTemplateCache) {
+        String logicSQL = optimizedStatement.getSQLStatement().getLogicSQL();
+        Optional<RewriteTemplate> cachedRewriteTemplate = rewriteTemplateCache.get(shardingRule, logicSQL, isSingleRoute);
+        Map<SQLTokenGenerator, List<SQLToken>> cachedSQLTokens = cachedRewriteTemplate.isPresent()
+                ? cachedRewriteTemplate.get().getCachedSQLTokens() : new LinkedHashMap<SQLTokenGenerator, List<SQLToken>>();
+        List<SQLToken> generatedSQLTokens = createSQLTokens(shardingRule, isSingleRoute, cachedSQLTokens);
+        RewriteTemplate result;
+        if (cachedRewriteTemplate.isPresent()) {
+            result = cachedRewriteTemplate.get();
+        } else {
+            result = createRewriteTemplate(logicSQL, cachedSQLTokens);
+            rewriteTemplateCache.put(shardingRule, logicSQL, isSingleRoute, result);
+        }
+        if (generatedSQLTokens.size() == result.getSQLTokens().size()) {
+            return result;
+        }
+        Collections.sort(generatedSQLTokens);
+        return new RewriteTemplate(cachedSQLTokens, generatedSQLTokens, result.getSQLBuilder(logicSQL, generatedSQLTokens));
+    }
+    
+    private List<SQLToken> createSQLTokens(final ShardingRule shardingRule, final boolean isSingleRoute, final Map<SQLTokenGenerator, List<SQLToken>> cachedSQLTokens) {
+        List<SQLToken> result = new LinkedList<>();
+        result.addAll(new BaseTokenGenerateEngine().generateSQLTokens(optimizedStatement, parameterBuilder, shardingRule, isSingleRoute, cachedSQLTokens));
+        result.addAll(new ShardingTokenGenerateEngine().generateSQLTokens(optimizedStatement, parameterBuilder, shardingRule, isSingleRoute, cachedSQLTokens));
+        result.addAll(new EncryptTokenGenerateEngine().generateSQLTokens(optimizedStatement, parameterBuilder, shardingRule.getEncryptRule(), isSingleRoute, cachedSQLTokens));
+        return result;
+    }
+    
+    private RewriteTemplate createRewriteTemplate(final String logicSQL, final Map<SQLTokenGenerator, List<SQLToken>> cachedSQLTokens) {
+        List<SQLToken> sortedSQLTokens = new ArrayList<>();
+        for (List<SQLToken> each : cachedSQLTokens.values()) {
+            sortedSQLTokens.addAll(each);
+        }
+        Collections.sort(sortedSQLTokens);
+        return new RewriteTemplate(Collections.unmodifiableMap(cachedSQLTokens), Collections.unmodifiableList(sortedSQLTokens), new SQLBuilder(logicSQL, sortedSQLTokens));
+    }
+    
     /**
      * Generate SQL.
      * 
@@ -21,10 +21,15 @@ import com.google.common.base.Optional;
 import lombok.Getter;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.Pagination;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InValueToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InValuesToken;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +37,10 @@ import java.util.Map.Entry;
 
 /**
  * Base parameter builder.
+ * 
+ * <p>
+ * Parameters of IN values which are not routed to routing unit are removed from parameters of routing unit.
+ * </p>
  *
  * @author panjuan
  */
@@ -44,6 +53,8 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     
     private final Map<Integer, Object> replacedIndexAndParameters = new HashMap<>();
     
+    private final Collection<InValuesToken> inValuesTokens = new LinkedList<>();
+    
     public BaseParameterBuilder(final List<Object> parameters) {
         originalParameters.addAll(parameters);
     }
@@ -94,6 +105,35 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters(final RoutingUnit routingUnit) {
-        return getParameters();
+        List<Object> parameters = getParameters();
+        if (null == routingUnit || inValuesTokens.isEmpty()) {
+            return parameters;
+        }
+        Collection<Integer> unroutedParameterIndexes = getUnroutedParameterIndexes(routingUnit);
+        if (unroutedParameterIndexes.isEmpty()) {
+            return parameters;
+        }
+        List<Object> result = new ArrayList<>(parameters.size() - unroutedParameterIndexes.size());
+        int index = 0;
+        for (Object each : parameters) {
+            if (!unroutedParameterIndexes.contains(index)) {
+                result.add(each);
+            }
+            index++;
+        }
+        return result;
+    }
+    
+    private Collection<Integer> getUnroutedParameterIndexes(final RoutingUnit routingUnit) {
+        Collection<Integer> result = new HashSet<>();
+        for (InValuesToken each : inValuesTokens) {
+            Collection<InValueToken> routedInValueTokens = new HashSet<>(each.getRoutedInValueTokens(routingUnit));
+            for (InValueToken inValueToken : each.getInValueTokens()) {
+                if (inValueToken.getParameterIndex() >= 0 && !routedInValueTokens.contains(inValueToken)) {
+                    result.add(inValueToken.getParameterIndex());
+                }
+            }
+        }
+        return result;
     }
 }
@@ -17,30 +17,163 @@
 
 package org.apache.shardingsphere.core.rewrite.builder;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Alterable;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Substitutable;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 /**
  * SQL builder.
+ * 
+ * <p>
+ * Tokens are compiled once into literal fragments and alterable slots between them,
+ * the SQL of each routing unit only needs to render slots and join them with fragments.
+ * </p>
  *
  * @author gaohongtao
  * @author zhangliang
  * @author maxiaoguang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public final class SQLBuilder {
     
     private final String logicSQL;
     
-    private final List<SQLToken> sqlTokens;
+    private final SQLToken[] sqlTokens;
+    
+    private final String[] fragments;
+    
+    private final Alterable[] slots;
+    
+    private final int[] slotIndexes;
+    
+    private final int fragmentsLength;
+    
+    public SQLBuilder(final String logicSQL, final List<SQLToken> sqlTokens) {
+        this(logicSQL, sqlTokens, Collections.<SQLToken>emptySet());
+    }
+    
+    /**
+     * Constructor with variable SQL tokens.
+     * 
+     * <p>
+     * Variable SQL tokens are compiled as slots even they are not alterable,
+     * so SQL tokens generated for other executions with same layout can be bound to the compiled fragments.
+     * </p>
+     * 
+     * @param logicSQL logic SQL
+     * @param sqlTokens sorted SQL tokens
+     * @param variableSQLTokens variable SQL tokens in sorted SQL tokens
+     */
+    public SQLBuilder(final String logicSQL, final List<SQLToken> sqlTokens, final Collection<SQLToken> variableSQLTokens) {
+        this.logicSQL = logicSQL;
+        this.sqlTokens = sqlTokens.toArray(new SQLToken[sqlTokens.size()]);
+        List<String> compiledFragments = new ArrayList<>(sqlTokens.size() + 1);
+        List<Integer> compiledSlotIndexes = new ArrayList<>(sqlTokens.size());
+        compile(variableSQLTokens, compiledFragments, compiledSlotIndexes);
+        fragments = compiledFragments.toArray(new String[compiledFragments.size()]);
+        slotIndexes = new int[compiledSlotIndexes.size()];
+        for (int i = 0; i < slotIndexes.length; i++) {
+            slotIndexes[i] = compiledSlotIndexes.get(i);
+        }
+        slots = createSlots(this.sqlTokens, slotIndexes);
+        fragmentsLength = getLength(fragments);
+    }
+    
+    private SQLBuilder(final SQLBuilder skeleton, final SQLToken[] sqlTokens) {
+        logicSQL = skeleton.logicSQL;
+        this.sqlTokens = sqlTokens;
+        fragments = skeleton.fragments;
+        slotIndexes = skeleton.slotIndexes;
+        slots = createSlots(sqlTokens, slotIndexes);
+        fragmentsLength = skeleton.fragmentsLength;
+    }
+    
+    private void compile(final Collection<SQLToken> variableSQLTokens, final List<String> compiledFragments, final List<Integer> compiledSlotIndexes) {
+        if (0 == sqlTokens.length) {
+            compiledFragments.add(logicSQL);
+            return;
+        }
+        StringBuilder fragment = new StringBuilder(logicSQL.substring(0, sqlTokens[0].getStartIndex()));
+        for (int i = 0; i < sqlTokens.length; i++) {
+            if (sqlTokens[i] instanceof Alterable || variableSQLTokens.contains(sqlTokens[i])) {
+                compiledFragments.add(fragment.toString());
+                compiledSlotIndexes.add(i);
+                fragment.setLength(0);
+            } else {
+                fragment.append(sqlTokens[i].toString());
+            }
+            fragment.append(getConjunctionLiterals(sqlTokens[i], i + 1 < sqlTokens.length ? sqlTokens[i + 1].getStartIndex() : logicSQL.length()));
+        }
+        compiledFragments.add(fragment.toString());
+    }
+    
+    private Alterable[] createSlots(final SQLToken[] sqlTokens, final int[] slotIndexes) {
+        Alterable[] result = new Alterable[slotIndexes.length];
+        for (int i = 0; i < slotIndexes.length; i++) {
+            SQLToken sqlToken = sqlTokens[slotIndexes[i]];
+            result[i] = sqlToken instanceof Alterable ? (Alterable) sqlToken : new LiteralSlot(sqlToken);
+        }
+        return result;
+    }
+    
+    private String getConjunctionLiterals(final SQLToken sqlToken, final int stopIndex) {
+        return logicSQL.substring(getStartIndex(sqlToken) > logicSQL.length() ? logicSQL.length() : getStartIndex(sqlToken), stopIndex);
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+    }
+    
+    private int getLength(final String[] literals) {
+        int result = 0;
+        for (String each : literals) {
+            result += each.length();
+        }
+        return result;
+    }
+    
+    /**
+     * Bind SQL tokens to compiled fragments.
+     * 
+     * <p>
+     * SQL tokens are bound only if they have same layout with compiled SQL tokens,
+     * which means tokens compiled into fragments are same and tokens of slots are same type at same position.
+     * </p>
+     * 
+     * @param sqlTokens sorted SQL tokens
+     * @return SQL builder with bound SQL tokens
+     */
+    public Optional<SQLBuilder> bind(final List<SQLToken> sqlTokens) {
+        if (sqlTokens.size() != this.sqlTokens.length) {
+            return Optional.absent();
+        }
+        SQLToken[] boundSQLTokens = sqlTokens.toArray(new SQLToken[sqlTokens.size()]);
+        int slotIndex = 0;
+        for (int i = 0; i < boundSQLTokens.length; i++) {
+            if (slotIndex < slotIndexes.length && i == slotIndexes[slotIndex]) {
+                if (!isSameLayout(this.sqlTokens[i], boundSQLTokens[i])) {
+                    return Optional.absent();
+                }
+                slotIndex++;
+            } else if (this.sqlTokens[i] != boundSQLTokens[i]) {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(new SQLBuilder(this, boundSQLTokens));
+    }
+    
+    private boolean isSameLayout(final SQLToken compiledSQLToken, final SQLToken sqlToken) {
+        return compiledSQLToken.getClass() == sqlToken.getClass() && compiledSQLToken.getStartIndex() == sqlToken.getStartIndex() && getStartIndex(compiledSQLToken) == getStartIndex(sqlToken);
+    }
     
     /**
      * Convert to SQL.
@@ -59,33 +192,29 @@ public final class SQLBuilder {
      * @return SQL
      */
     public String toSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        if (sqlTokens.isEmpty()) {
-            return logicSQL;
+        if (0 == slots.length) {
+            return fragments[0];
         }
-        return createLogicSQL(routingUnit, logicAndActualTables);
-    }
-    
-    private String createLogicSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
-        result.append(logicSQL.substring(0, sqlTokens.get(0).getStartIndex()));
-        for (SQLToken each : sqlTokens) {
-            result.append(getSQLTokenLiterals(each, routingUnit, logicAndActualTables));
-            result.append(getConjunctionLiterals(each));
+        String[] slotLiterals = new String[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            slotLiterals[i] = slots[i].toString(routingUnit, logicAndActualTables);
+        }
+        StringBuilder result = new StringBuilder(fragmentsLength + getLength(slotLiterals));
+        result.append(fragments[0]);
+        for (int i = 0; i < slots.length; i++) {
+            result.append(slotLiterals[i]).append(fragments[i + 1]);
         }
         return result.toString();
     }
     
-    private String getSQLTokenLiterals(final SQLToken sqlToken, final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        return sqlToken instanceof Alterable ? ((Alterable) sqlToken).toString(routingUnit, logicAndActualTables) : sqlToken.toString();
-    }
-    
-    private String getConjunctionLiterals(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
-        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? logicSQL.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
-        return logicSQL.substring(getStartIndex(sqlToken) > logicSQL.length() ? logicSQL.length() : getStartIndex(sqlToken), stopIndex);
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+    @RequiredArgsConstructor
+    private static final class LiteralSlot implements Alterable {
+        
+        private final SQLToken sqlToken;
+        
+        @Override
+        public String toString(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+            return sqlToken.toString();
+        }
     }
 }
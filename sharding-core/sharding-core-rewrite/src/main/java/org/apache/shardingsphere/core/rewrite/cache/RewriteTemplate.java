@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.cache;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.rewrite.builder.SQLBuilder;
+import org.apache.shardingsphere.core.rewrite.token.generator.SQLTokenGenerator;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rewrite template.
+ */
+@RequiredArgsConstructor
+public final class RewriteTemplate {
+    
+    private final Map<SQLTokenGenerator, List<SQLToken>> cachedSQLTokens;
+    
+    private final List<SQLToken> sqlTokens;
+    
+    private final SQLBuilder sqlBuilder;
+    
+    private volatile SQLBuilder skeletonSQLBuilder;
+    
+    /**
+     * Get cached SQL tokens of generators.
+     * 
+     * @return cached SQL tokens of generators
+     */
+    public Map<SQLTokenGenerator, List<SQLToken>> getCachedSQLTokens() {
+        return cachedSQLTokens;
+    }
+    
+    /**
+     * Get sorted SQL tokens of all cached generators.
+     * 
+     * @return sorted SQL tokens
+     */
+    public List<SQLToken> getSQLTokens() {
+        return sqlTokens;
+    }
+    
+    /**
+     * Get SQL builder compiled by sorted SQL tokens of all cached generators.
+     * 
+     * @return SQL builder
+     */
+    public SQLBuilder getSQLBuilder() {
+        return sqlBuilder;
+    }
+    
+    /**
+     * Get SQL builder of SQL tokens including tokens generated for each execution.
+     * 
+     * <p>
+     * Skeleton compiled with slots for tokens generated for each execution is kept,
+     * and reused by binding tokens of following executions if they have same layout.
+     * </p>
+     * 
+     * @param logicSQL logic SQL
+     * @param sqlTokens sorted SQL tokens of cached generators and generators ignored for cache
+     * @return SQL builder
+     */
+    public SQLBuilder getSQLBuilder(final String logicSQL, final List<SQLToken> sqlTokens) {
+        SQLBuilder skeleton = skeletonSQLBuilder;
+        if (null != skeleton) {
+            Optional<SQLBuilder> result = skeleton.bind(sqlTokens);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        Set<SQLToken> cachedSQLTokens = new HashSet<>(this.sqlTokens);
+        Collection<SQLToken> variableSQLTokens = new HashSet<>();
+        for (SQLToken each : sqlTokens) {
+            if (!cachedSQLTokens.contains(each)) {
+                variableSQLTokens.add(each);
+            }
+        }
+        SQLBuilder result = new SQLBuilder(logicSQL, sqlTokens, variableSQLTokens);
+        skeletonSQLBuilder = result;
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.shardingsphere.core.rule.BaseRule;
+
+/**
+ * Rewrite template cache.
+ * 
+ * <p>
+ * Rewrite templates are cached by logic SQL and whether SQL is single routed,
+ * pagination, derived columns and encrypt columns of statement are determined by logic SQL and rule.
+ * The cache is thread safe and bounded by maximum size of entries, entries are evicted by LRU.
+ * The cache is bound to the rule which generates cached templates, and is cleared when another rule is used.
+ * </p>
+ */
+public final class RewriteTemplateCache {
+    
+    private final Cache<RewriteTemplateCacheKey, RewriteTemplate> cache;
+    
+    private volatile BaseRule rule;
+    
+    public RewriteTemplateCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Get rewrite template.
+     * 
+     * @param rule rule
+     * @param logicSQL logic SQL
+     * @param isSingleRoute is single route
+     * @return rewrite template
+     */
+    public Optional<RewriteTemplate> get(final BaseRule rule, final String logicSQL, final boolean isSingleRoute) {
+        bind(rule);
+        return Optional.fromNullable(cache.getIfPresent(new RewriteTemplateCacheKey(logicSQL, isSingleRoute)));
+    }
+    
+    /**
+     * Put rewrite template into cache.
+     * 
+     * @param rule rule
+     * @param logicSQL logic SQL
+     * @param isSingleRoute is single route
+     * @param rewriteTemplate rewrite template
+     */
+    public void put(final BaseRule rule, final String logicSQL, final boolean isSingleRoute, final RewriteTemplate rewriteTemplate) {
+        bind(rule);
+        cache.put(new RewriteTemplateCacheKey(logicSQL, isSingleRoute), rewriteTemplate);
+    }
+    
+    private void bind(final BaseRule rule) {
+        if (rule == this.rule) {
+            return;
+        }
+        synchronized (this) {
+            if (rule != this.rule) {
+                cache.invalidateAll();
+                this.rule = rule;
+            }
+        }
+    }
+    
+    /**
+     * Get hit ratio of cache.
+     * 
+     * @return hit ratio of cache, 1.0 if never requested
+     */
+    public double getHitRatio() {
+        return cache.stats().hitRate();
+    }
+    
+    /**
+     * Get statistics of cache.
+     * 
+     * @return statistics of cache
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get size of cached entries.
+     * 
+     * @return size of cached entries
+     */
+    public long size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Seek pagination.
+ * 
+ * <p>
+ * Boundary value is sort key of the row at offset, it is narrowed by boundary SQLs which select sort key only.
+ * Each boundary SQL fetches sort keys after lower bound from each query result, at most remaining offset divided by count of query results.
+ * Sort keys up to the least last sort key of query results which are not exhausted are all fetched, so they are skipped by next boundary SQL,
+ * until the row at offset is among them or all query results are exhausted.
+ * </p>
+ * 
+ * <p>
+ * Seek SQL filters rows from boundary value by sort key, and only skips rows whose sort key equals boundary value.
+ * </p>
+ */
+public final class SeekPagination {
+    
+    private final String firstBoundarySQL;
+    
+    private final String nextBoundarySQL;
+    
+    @Getter
+    private final String seekSQL;
+    
+    private final List<Object> parameters;
+    
+    private final int rowCount;
+    
+    private final int queryResultSize;
+    
+    private final boolean descending;
+    
+    private int remainingOffset;
+    
+    private Object lowerBound;
+    
+    private Object boundaryValue;
+    
+    private int boundaryRowCount;
+    
+    SeekPagination(final String firstBoundarySQL, final String nextBoundarySQL, final String seekSQL, 
+                   final List<Object> parameters, final int offset, final int rowCount, final int queryResultSize, final boolean descending) {
+        this.firstBoundarySQL = firstBoundarySQL;
+        this.nextBoundarySQL = nextBoundarySQL;
+        this.seekSQL = seekSQL;
+        this.parameters = parameters;
+        this.rowCount = rowCount;
+        this.queryResultSize = Math.max(1, queryResultSize);
+        this.descending = descending;
+        remainingOffset = offset;
+    }
+    
+    /**
+     * Get boundary SQL to narrow boundary value.
+     * 
+     * @return boundary SQL
+     */
+    public String getBoundarySQL() {
+        return null == lowerBound ? firstBoundarySQL : nextBoundarySQL;
+    }
+    
+    /**
+     * Get parameters of boundary SQL.
+     * 
+     * @return parameters of boundary SQL
+     */
+    public List<Object> getBoundaryParameters() {
+        List<Object> result = new ArrayList<>(parameters.size() + 2);
+        result.addAll(parameters);
+        if (null != lowerBound) {
+            result.add(lowerBound);
+        }
+        result.add(getFetchSize());
+        return result;
+    }
+    
+    private int getFetchSize() {
+        return (remainingOffset - 1) / queryResultSize + 1;
+    }
+    
+    /**
+     * Narrow boundary value by sort keys fetched by boundary SQL.
+     * 
+     * @param sortKeys sort keys of each query result of boundary SQL
+     * @return narrowing is finished or not
+     */
+    public boolean narrow(final List<List<Object>> sortKeys) {
+        int fetchSize = getFetchSize();
+        SortKeyComparator comparator = new SortKeyComparator(descending);
+        List<Object> fetchedSortKeys = new ArrayList<>(fetchSize * sortKeys.size());
+        Object leastLastSortKey = null;
+        for (List<Object> each : sortKeys) {
+            if (!isStrictlyOrdered(each, comparator)) {
+                return true;
+            }
+            fetchedSortKeys.addAll(each);
+            if (each.size() >= fetchSize && (null == leastLastSortKey || comparator.compare(each.get(each.size() - 1), leastLastSortKey) < 0)) {
+                leastLastSortKey = each.get(each.size() - 1);
+            }
+        }
+        Collections.sort(fetchedSortKeys, comparator);
+        int skippedSize = null == leastLastSortKey ? fetchedSortKeys.size() : getSkippedSize(fetchedSortKeys, leastLastSortKey, comparator);
+        if (remainingOffset <= skippedSize) {
+            setBoundaryValue(fetchedSortKeys, comparator);
+            return true;
+        }
+        if (null == leastLastSortKey) {
+            return true;
+        }
+        remainingOffset -= skippedSize;
+        lowerBound = leastLastSortKey;
+        return false;
+    }
+    
+    private boolean isStrictlyOrdered(final List<Object> sortKeys, final SortKeyComparator comparator) {
+        for (int i = 1; i < sortKeys.size(); i++) {
+            if (comparator.compare(sortKeys.get(i - 1), sortKeys.get(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private int getSkippedSize(final List<Object> fetchedSortKeys, final Object leastLastSortKey, final SortKeyComparator comparator) {
+        int result = 0;
+        while (result < fetchedSortKeys.size() && comparator.compare(fetchedSortKeys.get(result), leastLastSortKey) <= 0) {
+            result++;
+        }
+        return result;
+    }
+    
+    private void setBoundaryValue(final List<Object> fetchedSortKeys, final SortKeyComparator comparator) {
+        boundaryValue = fetchedSortKeys.get(remainingOffset - 1);
+        boundaryRowCount = 0;
+        for (int i = remainingOffset - 1; i >= 0 && 0 == comparator.compare(boundaryValue, fetchedSortKeys.get(i)); i--) {
+            boundaryRowCount++;
+        }
+    }
+    
+    /**
+     * Judge whether boundary value is found.
+     * 
+     * @return boundary value is found or not
+     */
+    public boolean isBoundaryFound() {
+        return null != boundaryValue;
+    }
+    
+    /**
+     * Get parameters of seek SQL.
+     * 
+     * @return parameters of seek SQL
+     */
+    public List<Object> getSeekParameters() {
+        List<Object> result = new ArrayList<>(parameters.size() + 3);
+        result.addAll(parameters);
+        result.add(boundaryValue);
+        result.add(rowCount);
+        result.add(boundaryRowCount);
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortKeyComparator implements Comparator<Object> {
+        
+        private final boolean descending;
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public int compare(final Object o1, final Object o2) {
+            int result = ((Comparable<Object>) o1).compareTo(o2);
+            return descending ? -result : result;
+        }
+    }
+}
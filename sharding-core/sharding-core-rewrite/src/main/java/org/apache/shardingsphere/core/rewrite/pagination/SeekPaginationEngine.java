@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.pagination;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.Pagination;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.SelectItem;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.SelectItemsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seek pagination engine.
+ * 
+ * <p>
+ * Deep pagination of LIMIT is revised to fetch rows from zero to offset plus row count on each routed data node, and rows before offset are skipped by merge.
+ * Seek pagination narrows sort key at offset by boundary SQLs first, which fetch bounded sort keys from each routed data node, 
+ * then fetches one page from boundary value by seek SQL on each routed data node.
+ * </p>
+ * 
+ * <p>
+ * Seek pagination is absent if offset is less than threshold, SQL is routed to single data node, or SQL is not LIMIT query of single sharding table 
+ * ordered by one column which is generate key column or primary key column but not sharding column, without group by, aggregation, distinct and subquery.
+ * Sort key is range condition of boundary SQLs and seek SQL, so it can not be sharding column which may not support range sharding.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SeekPaginationEngine {
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingTableMetaData shardingTableMetaData;
+    
+    private final int offsetThreshold;
+    
+    /**
+     * Rewrite logic SQL to seek pagination.
+     * 
+     * @param logicSQL logic SQL
+     * @param parameters parameters of logic SQL
+     * @param sqlRouteResult SQL route result of logic SQL
+     * @return seek pagination, absent if SQL can not be rewritten to seek pagination
+     */
+    public Optional<SeekPagination> rewrite(final String logicSQL, final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
+        if (!(sqlRouteResult.getOptimizedStatement() instanceof ShardingSelectOptimizedStatement) || sqlRouteResult.getRoutingResult().isSingleRouting()) {
+            return Optional.absent();
+        }
+        ShardingSelectOptimizedStatement optimizedStatement = (ShardingSelectOptimizedStatement) sqlRouteResult.getOptimizedStatement();
+        Pagination pagination = optimizedStatement.getPagination();
+        if (null == pagination || pagination.getActualOffset() < offsetThreshold || !pagination.getActualRowCount().isPresent() || !isSupported(optimizedStatement)) {
+            return Optional.absent();
+        }
+        SelectStatement selectStatement = optimizedStatement.getSelectStatement();
+        Optional<SelectItemsSegment> selectItemsSegment = selectStatement.findSQLSegment(SelectItemsSegment.class);
+        Optional<OrderBySegment> orderBySegment = selectStatement.findSQLSegment(OrderBySegment.class);
+        Optional<LimitSegment> limitSegment = selectStatement.findSQLSegment(LimitSegment.class);
+        if (!selectItemsSegment.isPresent() || selectItemsSegment.get().isHasDistinct() || !orderBySegment.isPresent() || !limitSegment.isPresent() || !limitSegment.get().getOffset().isPresent()) {
+            return Optional.absent();
+        }
+        Optional<WhereSegment> whereSegment = selectStatement.findSQLSegment(WhereSegment.class);
+        boolean containsWhere = whereSegment.isPresent() && 0 != whereSegment.get().getStopIndex();
+        if (containsWhere && !logicSQL.regionMatches(true, whereSegment.get().getStartIndex(), "WHERE", 0, "WHERE".length())) {
+            return Optional.absent();
+        }
+        int seekIndex = containsWhere ? whereSegment.get().getStopIndex() + 1 : orderBySegment.get().getStartIndex();
+        if (-1 != logicSQL.substring(selectItemsSegment.get().getStartIndex(), selectItemsSegment.get().getStopIndex() + 1).indexOf('?')
+                || -1 != logicSQL.substring(seekIndex, limitSegment.get().getStartIndex()).indexOf('?') || -1 != logicSQL.indexOf('?', limitSegment.get().getStopIndex() + 1)) {
+            return Optional.absent();
+        }
+        ColumnOrderByItemSegment orderByItem = (ColumnOrderByItemSegment) selectStatement.getOrderByItems().get(0);
+        boolean descending = OrderDirection.DESC == orderByItem.getOrderDirection();
+        String sortKey = getSortKey(logicSQL, orderByItem.getColumn());
+        String boundarySelectPart = logicSQL.substring(0, selectItemsSegment.get().getStartIndex()) + sortKey + logicSQL.substring(selectItemsSegment.get().getStopIndex() + 1, seekIndex);
+        String seekSelectPart = logicSQL.substring(0, seekIndex);
+        String orderByPart = logicSQL.substring(seekIndex, limitSegment.get().getStartIndex());
+        String limitSuffix = logicSQL.substring(limitSegment.get().getStopIndex() + 1);
+        String firstBoundarySQL = boundarySelectPart + orderByPart + "LIMIT ?" + limitSuffix;
+        String nextBoundarySQL = appendSeekCondition(boundarySelectPart, whereSegment, containsWhere, sortKey + (descending ? " < ?" : " > ?")) + orderByPart + "LIMIT ?" + limitSuffix;
+        String seekSQL = appendSeekCondition(seekSelectPart, whereSegment, containsWhere, sortKey + (descending ? " <= ?" : " >= ?")) + orderByPart + "LIMIT ? OFFSET ?" + limitSuffix;
+        return Optional.of(new SeekPagination(firstBoundarySQL, nextBoundarySQL, seekSQL, getParameters(parameters, pagination), 
+                pagination.getActualOffset(), pagination.getActualRowCount().get(), getQueryResultSize(sqlRouteResult), descending));
+    }
+    
+    private String appendSeekCondition(final String selectPart, final Optional<WhereSegment> whereSegment, final boolean containsWhere, final String seekCondition) {
+        if (!containsWhere) {
+            return selectPart + "WHERE " + seekCondition + " ";
+        }
+        int whereConditionIndex = selectPart.length() - (whereSegment.get().getStopIndex() + 1 - whereSegment.get().getStartIndex()) + "WHERE".length();
+        return selectPart.substring(0, whereConditionIndex) + " (" + selectPart.substring(whereConditionIndex).trim() + ") AND " + seekCondition;
+    }
+    
+    private int getQueryResultSize(final SQLRouteResult sqlRouteResult) {
+        int result = 0;
+        for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
+            result += each.getTableUnits().size();
+        }
+        return result;
+    }
+    
+    private boolean isSupported(final ShardingSelectOptimizedStatement optimizedStatement) {
+        SelectStatement selectStatement = optimizedStatement.getSelectStatement();
+        if (!optimizedStatement.getGroupByItems().isEmpty() || !optimizedStatement.getAggregationSelectItems().isEmpty() || optimizedStatement.getDistinctSelectItem().isPresent()
+                || selectStatement.isContainsSubquery() || null != selectStatement.getParentStatement() || selectStatement.isToAppendOrderByItems() || !selectStatement.getTables().isSingleTable()) {
+            return false;
+        }
+        if (1 != selectStatement.getOrderByItems().size() || !(selectStatement.getOrderByItems().get(0) instanceof ColumnOrderByItemSegment)) {
+            return false;
+        }
+        ColumnSegment sortKey = ((ColumnOrderByItemSegment) selectStatement.getOrderByItems().get(0)).getColumn();
+        for (SelectItem each : optimizedStatement.getItems()) {
+            if (sortKey.getName().equalsIgnoreCase(each.getAlias().orNull())) {
+                return false;
+            }
+        }
+        String logicTableName = selectStatement.getTables().getSingleTableName();
+        return shardingRule.findTableRule(logicTableName).isPresent() && !shardingRule.isShardingColumn(sortKey.getName(), logicTableName) && isNotNullKey(logicTableName, sortKey.getName());
+    }
+    
+    private boolean isNotNullKey(final String logicTableName, final String columnName) {
+        Optional<String> generateKeyColumnName = shardingRule.findGenerateKeyColumnName(logicTableName);
+        if (generateKeyColumnName.isPresent() && generateKeyColumnName.get().equalsIgnoreCase(columnName)) {
+            return true;
+        }
+        if (!shardingTableMetaData.containsTable(logicTableName)) {
+            return false;
+        }
+        for (ColumnMetaData each : shardingTableMetaData.get(logicTableName).getColumns().values()) {
+            if (each.isPrimaryKey() && each.getColumnName().equalsIgnoreCase(columnName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private String getSortKey(final String logicSQL, final ColumnSegment column) {
+        String result = column.getQuoteCharacter().getStartDelimiter() + column.getName() + column.getQuoteCharacter().getEndDelimiter();
+        return column.getOwner().isPresent() ? logicSQL.substring(column.getOwner().get().getStartIndex(), column.getOwner().get().getStopIndex() + 1) + "." + result : result;
+    }
+    
+    private List<Object> getParameters(final List<Object> parameters, final Pagination pagination) {
+        List<Object> result = new ArrayList<>(parameters);
+        int offsetParameterIndex = pagination.getOffsetParameterIndex().or(-1);
+        int rowCountParameterIndex = pagination.getRowCountParameterIndex().or(-1);
+        removeParameter(result, Math.max(offsetParameterIndex, rowCountParameterIndex));
+        removeParameter(result, Math.min(offsetParameterIndex, rowCountParameterIndex));
+        return result;
+    }
+    
+    private void removeParameter(final List<Object> parameters, final int parameterIndex) {
+        if (-1 != parameterIndex) {
+            parameters.remove(parameterIndex);
+        }
+    }
+}
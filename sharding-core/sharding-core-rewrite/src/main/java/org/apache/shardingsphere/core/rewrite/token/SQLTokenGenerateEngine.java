@@ -21,15 +21,19 @@ import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.optimize.statement.OptimizedStatement;
 import org.apache.shardingsphere.core.rewrite.builder.ParameterBuilder;
 import org.apache.shardingsphere.core.rewrite.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.core.rewrite.token.generator.IgnoreForCache;
 import org.apache.shardingsphere.core.rewrite.token.generator.IgnoreForSingleRoute;
 import org.apache.shardingsphere.core.rewrite.token.generator.OptionalSQLTokenGenerator;
 import org.apache.shardingsphere.core.rewrite.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rule.BaseRule;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SQL token generator.
@@ -49,24 +53,60 @@ public abstract class SQLTokenGenerateEngine<T extends BaseRule> {
      * @param isSingleRoute is single route
      * @return SQL tokens
      */
-    @SuppressWarnings("unchecked")
     public final List<SQLToken> generateSQLTokens(final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, final T rule, final boolean isSingleRoute) {
         List<SQLToken> result = new LinkedList<>();
         for (SQLTokenGenerator each : getSQLTokenGenerators()) {
             if (isSingleRoute && each instanceof IgnoreForSingleRoute) {
                 continue;
             }
-            if (each instanceof OptionalSQLTokenGenerator) {
-                Optional<? extends SQLToken> sqlToken = ((OptionalSQLTokenGenerator) each).generateSQLToken(optimizedStatement, parameterBuilder, rule);
-                if (sqlToken.isPresent()) {
-                    result.add(sqlToken.get());
-                }
-            } else {
-                result.addAll(((CollectionSQLTokenGenerator) each).generateSQLTokens(optimizedStatement, parameterBuilder, rule));
+            result.addAll(generateSQLTokens(each, optimizedStatement, parameterBuilder, rule));
+        }
+        return result;
+    }
+    
+    /**
+     * Generate SQL tokens with cached SQL tokens.
+     * 
+     * <p>
+     * SQL tokens of generators which are not ignored for cache are got from cached SQL tokens, and are put into cached SQL tokens if absent.
+     * </p>
+     *
+     * @param optimizedStatement optimized statement
+     * @param parameterBuilder SQL parameter builder
+     * @param rule rule
+     * @param isSingleRoute is single route
+     * @param cachedSQLTokens cached SQL tokens of generators
+     * @return SQL tokens
+     */
+    public final List<SQLToken> generateSQLTokens(final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, 
+                                                  final T rule, final boolean isSingleRoute, final Map<SQLTokenGenerator, List<SQLToken>> cachedSQLTokens) {
+        List<SQLToken> result = new LinkedList<>();
+        for (SQLTokenGenerator each : getSQLTokenGenerators()) {
+            if (isSingleRoute && each instanceof IgnoreForSingleRoute) {
+                continue;
+            }
+            if (each instanceof IgnoreForCache) {
+                result.addAll(generateSQLTokens(each, optimizedStatement, parameterBuilder, rule));
+                continue;
+            }
+            List<SQLToken> sqlTokens = cachedSQLTokens.get(each);
+            if (null == sqlTokens) {
+                sqlTokens = generateSQLTokens(each, optimizedStatement, parameterBuilder, rule);
+                cachedSQLTokens.put(each, sqlTokens);
             }
+            result.addAll(sqlTokens);
         }
         return result;
     }
     
+    @SuppressWarnings("unchecked")
+    private List<SQLToken> generateSQLTokens(final SQLTokenGenerator sqlTokenGenerator, final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, final T rule) {
+        if (sqlTokenGenerator instanceof OptionalSQLTokenGenerator) {
+            Optional<? extends SQLToken> sqlToken = ((OptionalSQLTokenGenerator) sqlTokenGenerator).generateSQLToken(optimizedStatement, parameterBuilder, rule);
+            return sqlToken.isPresent() ? Collections.<SQLToken>singletonList(sqlToken.get()) : Collections.<SQLToken>emptyList();
+        }
+        return new ArrayList<SQLToken>(((CollectionSQLTokenGenerator) sqlTokenGenerator).generateSQLTokens(optimizedStatement, parameterBuilder, rule));
+    }
+    
     protected abstract Collection<SQLTokenGenerator> getSQLTokenGenerators();
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.rewrite.token;
 
 import org.apache.shardingsphere.core.rewrite.token.generator.AggregationDistinctTokenGenerator;
+import org.apache.shardingsphere.core.rewrite.token.generator.InValuesTokenGenerator;
 import org.apache.shardingsphere.core.rewrite.token.generator.IndexTokenGenerator;
 import org.apache.shardingsphere.core.rewrite.token.generator.InsertGeneratedKeyTokenGenerator;
 import org.apache.shardingsphere.core.rewrite.token.generator.InsertSetAddGeneratedKeyTokenGenerator;
@@ -51,6 +52,7 @@ public final class ShardingTokenGenerateEngine extends SQLTokenGenerateEngine<Sh
         SQL_TOKEN_GENERATORS.add(new RowCountTokenGenerator());
         SQL_TOKEN_GENERATORS.add(new InsertGeneratedKeyTokenGenerator());
         SQL_TOKEN_GENERATORS.add(new InsertSetAddGeneratedKeyTokenGenerator());
+        SQL_TOKEN_GENERATORS.add(new InValuesTokenGenerator());
     }
     
     @Override
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.generator;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Iterables;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.optimize.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.ShardingInsertOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.context.table.Table;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.OrPredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.SubqueryPredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.rewrite.builder.BaseParameterBuilder;
+import org.apache.shardingsphere.core.rewrite.builder.ParameterBuilder;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InValueToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InValuesToken;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * IN values token generator.
+ * 
+ * <p>
+ * Values of IN predicate on sharding column are pruned for each routing unit, so that each routing unit only receives values which are routed to it.
+ * Only IN predicates of single AND predicate in SELECT or DELETE without subquery are pruned,
+ * and only when values are routed by deterministic sharding strategies of single sharding column.
+ * Same as routing, table of value is sharded among actual tables of each data source, so the table may differ between data sources.
+ * </p>
+ */
+public final class InValuesTokenGenerator implements CollectionSQLTokenGenerator<ShardingRule>, IgnoreForSingleRoute, IgnoreForCache {
+    
+    private static final String PARAMETER_MARKER = "?";
+    
+    @Override
+    public Collection<InValuesToken> generateSQLTokens(final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, final ShardingRule shardingRule) {
+        if (!isPrunable(optimizedStatement, parameterBuilder)) {
+            return Collections.emptyList();
+        }
+        Optional<OrPredicateSegment> orPredicateSegment = optimizedStatement.getSQLStatement().findSQLSegment(OrPredicateSegment.class);
+        if (!orPredicateSegment.isPresent() || 1 != orPredicateSegment.get().getAndPredicates().size()) {
+            return Collections.emptyList();
+        }
+        Collection<InValuesToken> result = new LinkedList<>();
+        AndPredicate andPredicate = orPredicateSegment.get().getAndPredicates().iterator().next();
+        for (PredicateSegment each : andPredicate.getPredicates()) {
+            if (each.getRightValue() instanceof PredicateInRightValue) {
+                Optional<InValuesToken> inValuesToken = createInValuesToken(optimizedStatement.getSQLStatement(), each, (BaseParameterBuilder) parameterBuilder, shardingRule);
+                if (inValuesToken.isPresent()) {
+                    result.add(inValuesToken.get());
+                    ((BaseParameterBuilder) parameterBuilder).getInValuesTokens().add(inValuesToken.get());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private boolean isPrunable(final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder) {
+        if (!(optimizedStatement instanceof ShardingWhereOptimizedStatement) || optimizedStatement instanceof ShardingInsertOptimizedStatement 
+                || !(parameterBuilder instanceof BaseParameterBuilder) || HintManager.isDatabaseShardingOnly()) {
+            return false;
+        }
+        SQLStatement sqlStatement = optimizedStatement.getSQLStatement();
+        if (sqlStatement.findSQLSegment(SubqueryPredicateSegment.class).isPresent()) {
+            return false;
+        }
+        return sqlStatement instanceof SelectStatement && !((SelectStatement) sqlStatement).isContainsSubquery() && null == ((SelectStatement) sqlStatement).getParentStatement()
+                || sqlStatement instanceof DeleteStatement;
+    }
+    
+    private Optional<InValuesToken> createInValuesToken(final SQLStatement sqlStatement, final PredicateSegment predicateSegment, 
+                                                        final BaseParameterBuilder parameterBuilder, final ShardingRule shardingRule) {
+        Collection<ExpressionSegment> expressionSegments = ((PredicateInRightValue) predicateSegment.getRightValue()).getSqlExpressions();
+        Optional<String> tableName = findTableName(sqlStatement, predicateSegment);
+        if (expressionSegments.size() < 2 || !tableName.isPresent()) {
+            return Optional.absent();
+        }
+        String columnName = predicateSegment.getColumn().getName();
+        Optional<TableRule> tableRule = shardingRule.findTableRule(tableName.get());
+        if (!tableRule.isPresent() || shardingRule.getEncryptRule().getEncryptorEngine().getShardingEncryptor(tableName.get(), columnName).isPresent()) {
+            return Optional.absent();
+        }
+        ShardingStrategy databaseShardingStrategy = getShardingStrategy(shardingRule.getDatabaseShardingStrategy(tableRule.get()), columnName);
+        ShardingStrategy tableShardingStrategy = getShardingStrategy(shardingRule.getTableShardingStrategy(tableRule.get()), columnName);
+        if (null == databaseShardingStrategy && null == tableShardingStrategy) {
+            return Optional.absent();
+        }
+        List<InValueToken> inValueTokens = new LinkedList<>();
+        for (ExpressionSegment each : expressionSegments) {
+            Optional<Comparable<?>> value = getValue(sqlStatement, each, parameterBuilder.getOriginalParameters());
+            if (!value.isPresent()) {
+                return Optional.absent();
+            }
+            List<RouteValue> routeValues = Collections.<RouteValue>singletonList(new ListRouteValue<>(columnName, tableName.get(), Collections.singletonList(value.get())));
+            Optional<String> dataSourceName = null == databaseShardingStrategy 
+                    ? Optional.<String>absent() : getSingleTargetName(databaseShardingStrategy.doSharding(tableRule.get().getActualDatasourceNames(), routeValues));
+            if (null != databaseShardingStrategy && !dataSourceName.isPresent()) {
+                return Optional.absent();
+            }
+            Map<String, String> actualTableNames = null;
+            if (null != tableShardingStrategy) {
+                Optional<Map<String, String>> routedActualTableNames = getActualTableNames(tableRule.get(), tableShardingStrategy, dataSourceName, routeValues);
+                if (!routedActualTableNames.isPresent()) {
+                    return Optional.absent();
+                }
+                actualTableNames = routedActualTableNames.get();
+            }
+            inValueTokens.add(new InValueToken(each.getStartIndex(), sqlStatement.getLogicSQL().substring(each.getStartIndex(), each.getStopIndex() + 1), 
+                    each instanceof ParameterMarkerExpressionSegment ? ((ParameterMarkerExpressionSegment) each).getParameterMarkerIndex() : -1,
+                    tableName.get(), dataSourceName.orNull(), actualTableNames));
+        }
+        return Optional.of(new InValuesToken(inValueTokens.get(0).getStartIndex(), Iterables.getLast(expressionSegments).getStopIndex(), inValueTokens));
+    }
+    
+    private Optional<Map<String, String>> getActualTableNames(
+            final TableRule tableRule, final ShardingStrategy tableShardingStrategy, final Optional<String> dataSourceName, final List<RouteValue> routeValues) {
+        Collection<String> dataSourceNames = dataSourceName.isPresent() ? Collections.singletonList(dataSourceName.get()) : tableRule.getActualDatasourceNames();
+        Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : dataSourceNames) {
+            Collection<String> availableTargetTables = tableRule.getActualTableNames(each);
+            if (availableTargetTables.isEmpty()) {
+                continue;
+            }
+            Optional<String> actualTableName = getSingleTargetName(tableShardingStrategy.doSharding(availableTargetTables, routeValues));
+            if (!actualTableName.isPresent()) {
+                return Optional.absent();
+            }
+            result.put(each, actualTableName.get());
+        }
+        return Optional.<Map<String, String>>of(result);
+    }
+    
+    private Optional<String> findTableName(final SQLStatement sqlStatement, final PredicateSegment predicateSegment) {
+        if (sqlStatement.getTables().isSingleTable()) {
+            return Optional.of(sqlStatement.getTables().getSingleTableName());
+        }
+        if (!predicateSegment.getColumn().getOwner().isPresent()) {
+            return Optional.absent();
+        }
+        Optional<Table> table = sqlStatement.getTables().find(predicateSegment.getColumn().getOwner().get().getName());
+        return table.isPresent() ? Optional.of(table.get().getName()) : Optional.<String>absent();
+    }
+    
+    private ShardingStrategy getShardingStrategy(final ShardingStrategy shardingStrategy, final String columnName) {
+        Collection<String> shardingColumns = shardingStrategy.getShardingColumns();
+        return 1 == shardingColumns.size() && shardingColumns.contains(columnName) && shardingStrategy.isDeterministic() ? shardingStrategy : null;
+    }
+    
+    private Optional<Comparable<?>> getValue(final SQLStatement sqlStatement, final ExpressionSegment expressionSegment, final List<Object> parameters) {
+        if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
+            String text = sqlStatement.getLogicSQL().substring(expressionSegment.getStartIndex(), expressionSegment.getStopIndex() + 1);
+            Object result = parameters.get(((ParameterMarkerExpressionSegment) expressionSegment).getParameterMarkerIndex());
+            return PARAMETER_MARKER.equals(text) && result instanceof Comparable ? Optional.<Comparable<?>>of((Comparable<?>) result) : Optional.<Comparable<?>>absent();
+        }
+        if (expressionSegment instanceof LiteralExpressionSegment) {
+            Object result = ((LiteralExpressionSegment) expressionSegment).getLiterals();
+            return result instanceof Comparable ? Optional.<Comparable<?>>of((Comparable<?>) result) : Optional.<Comparable<?>>absent();
+        }
+        return Optional.absent();
+    }
+    
+    private Optional<String> getSingleTargetName(final Collection<String> targetNames) {
+        return 1 == targetNames.size() ? Optional.of(targetNames.iterator().next()) : Optional.<String>absent();
+    }
+}
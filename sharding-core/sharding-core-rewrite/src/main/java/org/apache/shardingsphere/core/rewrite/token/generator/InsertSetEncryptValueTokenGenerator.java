@@ -38,7 +38,7 @@ import java.util.LinkedList;
  *
  * @author panjuan
  */
-public final class InsertSetEncryptValueTokenGenerator implements CollectionSQLTokenGenerator<EncryptRule> {
+public final class InsertSetEncryptValueTokenGenerator implements CollectionSQLTokenGenerator<EncryptRule>, IgnoreForCache {
     
     @Override
     public Collection<InsertSetEncryptValueToken> generateSQLTokens(final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, final EncryptRule encryptRule) {
@@ -39,7 +39,7 @@ import java.util.List;
  *
  * @author panjuan
  */
-public final class InsertValuesTokenGenerator implements OptionalSQLTokenGenerator<BaseRule> {
+public final class InsertValuesTokenGenerator implements OptionalSQLTokenGenerator<BaseRule>, IgnoreForCache {
     
     @Override
     public Optional<InsertValuesToken> generateSQLToken(final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, final BaseRule baseRule) {
@@ -50,7 +50,7 @@ import java.util.Map.Entry;
  *
  * @author panjuan
  */
-public final class UpdateEncryptColumnTokenGenerator implements CollectionSQLTokenGenerator<EncryptRule> {
+public final class UpdateEncryptColumnTokenGenerator implements CollectionSQLTokenGenerator<EncryptRule>, IgnoreForCache {
     
     private Column column;
     
@@ -46,7 +46,7 @@ import java.util.Map.Entry;
  *
  * @author panjuan
  */
-public final class WhereEncryptColumnTokenGenerator implements CollectionSQLTokenGenerator<EncryptRule> {
+public final class WhereEncryptColumnTokenGenerator implements CollectionSQLTokenGenerator<EncryptRule>, IgnoreForCache {
     
     private Column column;
     
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+
+import java.util.Map;
+
+/**
+ * Value of IN predicate for rewrite.
+ */
+@Getter
+public final class InValueToken extends SQLToken {
+    
+    private final String text;
+    
+    private final int parameterIndex;
+    
+    private final String logicTableName;
+    
+    private final String dataSourceName;
+    
+    private final Map<String, String> actualTableNames;
+    
+    /**
+     * Constructor.
+     * 
+     * @param startIndex start index
+     * @param text text of value in logic SQL
+     * @param parameterIndex index of parameter, negative if value is literal
+     * @param logicTableName logic table name of column
+     * @param dataSourceName data source name which value is routed to, null if data sources are not sharded by column
+     * @param actualTableNames map of data source name and actual table name which value is routed to in the data source, null if tables are not sharded by column
+     */
+    public InValueToken(final int startIndex, final String text, final int parameterIndex, final String logicTableName, final String dataSourceName, final Map<String, String> actualTableNames) {
+        super(startIndex);
+        this.text = text;
+        this.parameterIndex = parameterIndex;
+        this.logicTableName = logicTableName;
+        this.dataSourceName = dataSourceName;
+        this.actualTableNames = actualTableNames;
+    }
+    
+    /**
+     * Judge is routed to routing unit or not.
+     * 
+     * @param routingUnit routing unit
+     * @return is routed to routing unit or not
+     */
+    public boolean isRoutedTo(final RoutingUnit routingUnit) {
+        if (null != dataSourceName && !dataSourceName.equalsIgnoreCase(routingUnit.getMasterSlaveLogicDataSourceName())) {
+            return false;
+        }
+        String actualTableName = null == actualTableNames ? null : actualTableNames.get(routingUnit.getMasterSlaveLogicDataSourceName());
+        if (null == actualTableName) {
+            return true;
+        }
+        for (TableUnit each : routingUnit.getTableUnits()) {
+            if (logicTableName.equalsIgnoreCase(each.getLogicTableName())) {
+                return actualTableName.equalsIgnoreCase(each.getActualTableName());
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import com.google.common.base.Joiner;
+import lombok.Getter;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Values of IN predicate token for rewrite.
+ * 
+ * <p>
+ * Only values which are routed to routing unit are kept, all values are kept if none is routed to routing unit.
+ * </p>
+ */
+@Getter
+public final class InValuesToken extends SQLToken implements Substitutable, Alterable {
+    
+    private final int stopIndex;
+    
+    private final List<InValueToken> inValueTokens;
+    
+    public InValuesToken(final int startIndex, final int stopIndex, final List<InValueToken> inValueTokens) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        this.inValueTokens = inValueTokens;
+    }
+    
+    /**
+     * Get values which are routed to routing unit.
+     * 
+     * @param routingUnit routing unit
+     * @return values which are routed to routing unit
+     */
+    public List<InValueToken> getRoutedInValueTokens(final RoutingUnit routingUnit) {
+        if (null == routingUnit) {
+            return inValueTokens;
+        }
+        List<InValueToken> result = new LinkedList<>();
+        for (InValueToken each : inValueTokens) {
+            if (each.isRoutedTo(routingUnit)) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? inValueTokens : result;
+    }
+    
+    @Override
+    public String toString(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+        return Joiner.on(", ").join(getRoutedInValueTokens(routingUnit));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.builder;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.ShardingOperator;
+import org.apache.shardingsphere.core.parse.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.rewrite.token.pojo.IndexToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InsertColumnsToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.RemoveToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.RowCountToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.TableToken;
+import org.apache.shardingsphere.core.rewrite.token.pojo.WhereEncryptColumnToken;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLBuilderTest {
+    
+    @Test
+    public void assertToSQLWithoutTokens() {
+        SQLBuilder actual = new SQLBuilder("SELECT * FROM t_order", Collections.<SQLToken>emptyList());
+        assertThat(actual.toSQL(), is("SELECT * FROM t_order"));
+        assertThat(actual.toSQL(new RoutingUnit("ds0"), Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order"));
+    }
+    
+    @Test
+    public void assertToSQLWithMixedTokensForRoutingUnits() {
+        SQLBuilder actual = new SQLBuilder("SELECT * FROM db.t_order WHERE pwd = ? ORDER BY order_id", Arrays.<SQLToken>asList(new RemoveToken(14, 16), new TableToken(17, 23, "t_order", QuoteCharacter.NONE), 
+                new WhereEncryptColumnToken(31, 37, "pwd_cipher", Collections.<Integer, Comparable<?>>emptyMap(), Collections.singletonList(0), ShardingOperator.EQUAL)));
+        assertThat(actual.toSQL(new RoutingUnit("ds0"), Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 WHERE pwd_cipher = ? ORDER BY order_id"));
+        assertThat(actual.toSQL(new RoutingUnit("ds1"), Collections.singletonMap("t_order", "t_order_1")), is("SELECT * FROM t_order_1 WHERE pwd_cipher = ? ORDER BY order_id"));
+    }
+    
+    @Test
+    public void assertToSQLWithTokenAtFirstCharacter() {
+        SQLBuilder actual = new SQLBuilder("t_order WHERE order_id = 1", Collections.<SQLToken>singletonList(new TableToken(0, 6, "t_order", QuoteCharacter.NONE)));
+        assertThat(actual.toSQL(new RoutingUnit("ds0"), Collections.singletonMap("t_order", "t_order_0")), is("t_order_0 WHERE order_id = 1"));
+    }
+    
+    @Test
+    public void assertToSQLWithTokenAtLastCharacter() {
+        SQLBuilder actual = new SQLBuilder("DROP INDEX status_idx ON `t_order`", Arrays.<SQLToken>asList(
+                new IndexToken(11, 20, "status_idx", QuoteCharacter.NONE), new TableToken(25, 33, "t_order", QuoteCharacter.BACK_QUOTE)));
+        assertThat(actual.toSQL(new RoutingUnit("ds0"), Collections.singletonMap("t_order", "t_order_0")), is("DROP INDEX status_idx_t_order_0 ON `t_order_0`"));
+        assertThat(actual.toSQL(new RoutingUnit("ds1"), Collections.singletonMap("t_order", "t_order_1")), is("DROP INDEX status_idx_t_order_1 ON `t_order_1`"));
+    }
+    
+    @Test
+    public void assertToSQLWithAdjacentTokens() {
+        SQLBuilder actual = new SQLBuilder("INSERT INTO t_order VALUES (?, ?)", Arrays.<SQLToken>asList(
+                new TableToken(12, 18, "t_order", QuoteCharacter.NONE), new InsertColumnsToken(19, Arrays.asList("user_id", "status"), true)));
+        assertThat(actual.toSQL(new RoutingUnit("ds0"), Collections.singletonMap("t_order", "t_order_0")), is("INSERT INTO t_order_0(user_id, status) VALUES (?, ?)"));
+        assertThat(actual.toSQL(), is("INSERT INTO t_order(user_id, status) VALUES (?, ?)"));
+    }
+    
+    @Test
+    public void assertBindWithSameLayout() {
+        String logicSQL = "SELECT * FROM t_order LIMIT 10";
+        TableToken tableToken = new TableToken(14, 20, "t_order", QuoteCharacter.NONE);
+        RowCountToken rowCountToken = new RowCountToken(28, 29, 10);
+        SQLBuilder skeleton = new SQLBuilder(logicSQL, Arrays.<SQLToken>asList(tableToken, rowCountToken), Collections.<SQLToken>singleton(rowCountToken));
+        assertThat(skeleton.toSQL(new RoutingUnit("ds0"), Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 LIMIT 10"));
+        Optional<SQLBuilder> actual = skeleton.bind(Arrays.<SQLToken>asList(tableToken, new RowCountToken(28, 29, 20)));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().toSQL(new RoutingUnit("ds0"), Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 LIMIT 20"));
+        assertThat(skeleton.toSQL(new RoutingUnit("ds0"), Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 LIMIT 10"));
+    }
+    
+    @Test
+    public void assertBindWithDifferentLayout() {
+        String logicSQL = "SELECT * FROM db.t_order LIMIT 10";
+        RemoveToken removeToken = new RemoveToken(14, 16);
+        RowCountToken rowCountToken = new RowCountToken(31, 32, 10);
+        SQLBuilder skeleton = new SQLBuilder(logicSQL, Arrays.<SQLToken>asList(removeToken, rowCountToken), Collections.<SQLToken>singleton(rowCountToken));
+        assertThat(skeleton.toSQL(), is("SELECT * FROM t_order LIMIT 10"));
+        assertFalse(skeleton.bind(Collections.<SQLToken>singletonList(removeToken)).isPresent());
+        assertFalse(skeleton.bind(Arrays.<SQLToken>asList(removeToken, new RowCountToken(30, 32, 20))).isPresent());
+        assertFalse(skeleton.bind(Arrays.<SQLToken>asList(new RemoveToken(14, 16), new RowCountToken(31, 32, 20))).isPresent());
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.pagination;
+
+import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SeekPaginationEngineTest {
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private SeekPaginationEngine seekPaginationEngine;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        orderTableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "t_order_${user_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        TableRuleConfiguration orderItemTableRuleConfig = new TableRuleConfiguration("t_order_item", "ds_${0..1}.t_order_item_${0..1}");
+        orderItemTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_item_${order_id % 2}"));
+        orderItemTableRuleConfig.setKeyGeneratorConfig(new KeyGeneratorConfiguration("SNOWFLAKE", "item_id"));
+        shardingRuleConfig.getTableRuleConfigs().add(orderItemTableRuleConfig);
+        TableRuleConfiguration userTableRuleConfig = new TableRuleConfiguration("t_user", "ds_${0..1}.t_user_${0..1}");
+        userTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "t_user_${user_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(userTableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(3, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false),
+                new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        tableMetaDataMap.put("t_order_item", new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", "int", false), new ColumnMetaData("order_id", "int", false),
+                new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        tableMetaDataMap.put("t_user", new TableMetaData(Arrays.asList(new ColumnMetaData("user_id", "int", true), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        shardingTableMetaData = new ShardingTableMetaData(tableMetaDataMap);
+        seekPaginationEngine = new SeekPaginationEngine(shardingRule, shardingTableMetaData, 100);
+    }
+    
+    @Test
+    public void assertRewriteWithWhereAndParameters() {
+        String sql = "SELECT order_id, user_id, status FROM t_order WHERE user_id > ? OR status = ? ORDER BY order_id LIMIT ?, ?";
+        List<Object> parameters = Arrays.<Object>asList(10, "init", 1000, 20);
+        SeekPagination actual = seekPaginationEngine.rewrite(sql, parameters, route("MySQL", sql, parameters)).get();
+        assertThat(actual.getBoundarySQL(), is("SELECT order_id FROM t_order WHERE user_id > ? OR status = ? ORDER BY order_id LIMIT ?"));
+        assertThat(actual.getBoundaryParameters(), is(Arrays.<Object>asList(10, "init", 250)));
+        assertFalse(actual.narrow(Arrays.asList(createSortKeys(1, 250), createSortKeys(1001, 250), createSortKeys(2001, 250), createSortKeys(3001, 250))));
+        assertThat(actual.getBoundarySQL(), is("SELECT order_id FROM t_order WHERE (user_id > ? OR status = ?) AND order_id > ? ORDER BY order_id LIMIT ?"));
+        assertThat(actual.getBoundaryParameters(), is(Arrays.<Object>asList(10, "init", 250, 188)));
+        assertThat(actual.getSeekSQL(), is("SELECT order_id, user_id, status FROM t_order WHERE (user_id > ? OR status = ?) AND order_id >= ? ORDER BY order_id LIMIT ? OFFSET ?"));
+    }
+    
+    @Test
+    public void assertRewriteWithoutWhereAndOrderByDesc() {
+        String sql = "SELECT * FROM t_order o ORDER BY o.`order_id` DESC LIMIT 1000, 20";
+        SeekPagination actual = seekPaginationEngine.rewrite(sql, Collections.emptyList(), route("MySQL", sql, Collections.emptyList())).get();
+        assertThat(actual.getBoundarySQL(), is("SELECT o.`order_id` FROM t_order o ORDER BY o.`order_id` DESC LIMIT ?"));
+        assertThat(actual.getBoundaryParameters(), is(Collections.<Object>singletonList(250)));
+        assertFalse(actual.narrow(Arrays.asList(createSortKeys(2000, -4, 250), createSortKeys(1999, -4, 250), createSortKeys(1998, -4, 250), createSortKeys(1997, -4, 250))));
+        assertThat(actual.getBoundarySQL(), is("SELECT o.`order_id` FROM t_order o WHERE o.`order_id` < ? ORDER BY o.`order_id` DESC LIMIT ?"));
+        assertThat(actual.getBoundaryParameters(), is(Arrays.<Object>asList(1004, 1)));
+        assertThat(actual.getSeekSQL(), is("SELECT * FROM t_order o WHERE o.`order_id` <= ? ORDER BY o.`order_id` DESC LIMIT ? OFFSET ?"));
+    }
+    
+    @Test
+    public void assertRewriteWithGenerateKeyColumnForPostgreSQL() {
+        String sql = "SELECT item_id, status FROM t_order_item WHERE status = ? ORDER BY item_id LIMIT ? OFFSET ?";
+        List<Object> parameters = Arrays.<Object>asList("init", 20, 1000);
+        SeekPagination actual = seekPaginationEngine.rewrite(sql, parameters, route("PostgreSQL", sql, parameters)).get();
+        assertThat(actual.getBoundarySQL(), is("SELECT item_id FROM t_order_item WHERE status = ? ORDER BY item_id LIMIT ?"));
+        assertThat(actual.getBoundaryParameters(), is(Arrays.<Object>asList("init", 250)));
+        assertThat(actual.getSeekSQL(), is("SELECT item_id, status FROM t_order_item WHERE (status = ?) AND item_id >= ? ORDER BY item_id LIMIT ? OFFSET ?"));
+    }
+    
+    @Test
+    public void assertRewriteWithOffsetLessThanThreshold() {
+        String sql = "SELECT * FROM t_order ORDER BY order_id LIMIT 10, 20";
+        assertFalse(seekPaginationEngine.rewrite(sql, Collections.emptyList(), route("MySQL", sql, Collections.emptyList())).isPresent());
+    }
+    
+    @Test
+    public void assertRewriteWithNullableSortKey() {
+        String sql = "SELECT * FROM t_order ORDER BY status LIMIT 1000, 20";
+        assertFalse(seekPaginationEngine.rewrite(sql, Collections.emptyList(), route("MySQL", sql, Collections.emptyList())).isPresent());
+    }
+    
+    @Test
+    public void assertRewriteWithShardingColumnSortKey() {
+        String sql = "SELECT * FROM t_user ORDER BY user_id LIMIT 1000, 20";
+        assertFalse(seekPaginationEngine.rewrite(sql, Collections.emptyList(), route("MySQL", sql, Collections.emptyList())).isPresent());
+    }
+    
+    @Test
+    public void assertRewriteWithMultipleOrderByItems() {
+        String sql = "SELECT * FROM t_order ORDER BY order_id, user_id LIMIT 1000, 20";
+        assertFalse(seekPaginationEngine.rewrite(sql, Collections.emptyList(), route("MySQL", sql, Collections.emptyList())).isPresent());
+    }
+    
+    @Test
+    public void assertRewriteWithSingleRouting() {
+        String sql = "SELECT * FROM t_order WHERE user_id = 1 AND order_id = 1 ORDER BY order_id LIMIT 1000, 20";
+        assertFalse(seekPaginationEngine.rewrite(sql, Collections.emptyList(), route("MySQL", sql, Collections.emptyList())).isPresent());
+    }
+    
+    private List<Object> createSortKeys(final int start, final int size) {
+        return createSortKeys(start, 1, size);
+    }
+    
+    private List<Object> createSortKeys(final int start, final int step, final int size) {
+        List<Object> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(start + i * step);
+        }
+        return result;
+    }
+    
+    private SQLRouteResult route(final String databaseType, final String sql, final List<Object> parameters) {
+        DatabaseType actualDatabaseType = DatabaseTypes.getActualDatabaseType(databaseType);
+        Map<String, String> shardingDataSourceURLs = new LinkedHashMap<>();
+        String url = "MySQL".equals(databaseType) ? "jdbc:mysql://127.0.0.1:3306/actual_db" : "jdbc:postgresql://127.0.0.1:5432/actual_db";
+        shardingDataSourceURLs.put("ds_0", url);
+        shardingDataSourceURLs.put("ds_1", url);
+        ShardingMetaData shardingMetaData = new ShardingMetaData(new ShardingDataSourceMetaData(shardingDataSourceURLs, shardingRule, actualDatabaseType), shardingTableMetaData);
+        return new PreparedStatementRoutingEngine(sql, shardingRule, shardingMetaData, actualDatabaseType, new ParsingResultCache()).route(parameters);
+    }
+}
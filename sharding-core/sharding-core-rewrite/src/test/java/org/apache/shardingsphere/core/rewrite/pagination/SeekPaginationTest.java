@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.core.rewrite.pagination;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SeekPaginationTest {
+    
+    private static final String FIRST_BOUNDARY_SQL = "SELECT id FROM t ORDER BY id LIMIT ?";
+    
+    private static final String NEXT_BOUNDARY_SQL = "SELECT id FROM t WHERE id > ? ORDER BY id LIMIT ?";
+    
+    @Test
+    public void assertNarrowInOneRound() {
+        SeekPagination actual = createSeekPagination(5, 2, false);
+        assertThat(actual.getBoundaryParameters(), is(Collections.<Object>singletonList(3)));
+        assertTrue(actual.narrow(Arrays.asList(Arrays.<Object>asList(1, 3, 5), Arrays.<Object>asList(2, 4, 6))));
+        assertTrue(actual.isBoundaryFound());
+        assertThat(actual.getSeekParameters(), is(Arrays.<Object>asList(5, 10, 1)));
+    }
+    
+    @Test
+    public void assertNarrowInRounds() {
+        SeekPagination actual = createSeekPagination(6, 2, false);
+        assertThat(actual.getBoundarySQL(), is(FIRST_BOUNDARY_SQL));
+        assertFalse(actual.narrow(Arrays.asList(Arrays.<Object>asList(1, 2, 3), Arrays.<Object>asList(10, 11, 12))));
+        assertThat(actual.getBoundarySQL(), is(NEXT_BOUNDARY_SQL));
+        assertThat(actual.getBoundaryParameters(), is(Arrays.<Object>asList(3, 2)));
+        assertFalse(actual.narrow(Arrays.asList(Arrays.<Object>asList(4, 5), Arrays.<Object>asList(10, 11))));
+        assertThat(actual.getBoundaryParameters(), is(Arrays.<Object>asList(5, 1)));
+        assertTrue(actual.narrow(Arrays.asList(Collections.<Object>singletonList(6), Collections.<Object>singletonList(10))));
+        assertTrue(actual.isBoundaryFound());
+        assertThat(actual.getSeekParameters(), is(Arrays.<Object>asList(6, 10, 1)));
+    }
+    
+    @Test
+    public void assertNarrowWithTiesAcrossQueryResults() {
+        SeekPagination actual = createSeekPagination(2, 2, true);
+        assertThat(actual.getBoundaryParameters(), is(Collections.<Object>singletonList(1)));
+        assertTrue(actual.narrow(Arrays.asList(Collections.<Object>singletonList(9), Collections.<Object>singletonList(9))));
+        assertTrue(actual.isBoundaryFound());
+        assertThat(actual.getSeekParameters(), is(Arrays.<Object>asList(9, 10, 2)));
+    }
+    
+    @Test
+    public void assertNarrowWithExhaustedQueryResults() {
+        SeekPagination actual = createSeekPagination(5, 2, false);
+        assertTrue(actual.narrow(Arrays.asList(Arrays.<Object>asList(1, 2), Collections.<Object>singletonList(3))));
+        assertFalse(actual.isBoundaryFound());
+    }
+    
+    @Test
+    public void assertNarrowWithDuplicatedSortKeysInQueryResult() {
+        SeekPagination actual = createSeekPagination(5, 2, false);
+        assertTrue(actual.narrow(Arrays.asList(Arrays.<Object>asList(1, 1, 2), Arrays.<Object>asList(3, 4, 5))));
+        assertFalse(actual.isBoundaryFound());
+    }
+    
+    private SeekPagination createSeekPagination(final int offset, final int queryResultSize, final boolean descending) {
+        return new SeekPagination(FIRST_BOUNDARY_SQL, NEXT_BOUNDARY_SQL, "SELECT * FROM t WHERE id >= ? ORDER BY id LIMIT ? OFFSET ?", 
+                Collections.emptyList(), offset, 10, queryResultSize, descending);
+    }
+}
@@ -55,7 +55,10 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrd
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.PaginationValueSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.rownum.NumberLiteralRowNumberValueSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.OrPredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.DeleteStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
@@ -64,6 +67,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.rewrite.builder.BaseParameterBuilder;
 import org.apache.shardingsphere.core.rewrite.builder.SQLBuilder;
+import org.apache.shardingsphere.core.rewrite.cache.RewriteTemplateCache;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
@@ -82,6 +86,7 @@ import java.lang.reflect.Field;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -90,6 +95,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -936,7 +942,130 @@ public final class ShardingSQLRewriterTest {
         assertThat(getSQLBuilder(rewriteEngine).toSQL(null, tableTokens), is("SELECT DISTINCT id, id FROM table_z WHERE id in (3,5)"));
     }
     
+    @Test
+    public void assertSelectInWithValuesPrunedForRoutingUnits() {
+        selectStatement.getTables().add(new Table("table_u", null));
+        selectStatement.getSQLSegments().add(new TableSegment(15, 21, "table_u"));
+        selectStatement.getSQLSegments().add(createInOrPredicateSegment(1));
+        selectStatement.setLogicSQL("SELECT id FROM table_u WHERE id IN (?, 2, ?)");
+        routeResult = new SQLRouteResult(new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), new AndCondition(), selectStatement.getItems()));
+        RoutingUnit routingUnit0 = createRoutingUnit("db0", "table_u");
+        RoutingUnit routingUnit1 = createRoutingUnit("db1", "table_u");
+        routeResult.setRoutingResult(new RoutingResult());
+        routeResult.getRoutingResult().getRoutingUnits().add(routingUnit0);
+        routeResult.getRoutingResult().getRoutingUnits().add(routingUnit1);
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(Arrays.<Object>asList(1, 3));
+        Map<String, String> logicAndActualTables = Collections.singletonMap("table_u", "table_u");
+        assertThat(rewriteEngine.generateSQL(routingUnit0, logicAndActualTables).getSql(), is("SELECT id FROM table_u WHERE id IN (2)"));
+        assertThat(rewriteEngine.generateSQL(routingUnit0, logicAndActualTables).getParameters(), is(Collections.emptyList()));
+        assertThat(rewriteEngine.generateSQL(routingUnit1, logicAndActualTables).getSql(), is("SELECT id FROM table_u WHERE id IN (?, ?)"));
+        assertThat(rewriteEngine.generateSQL(routingUnit1, logicAndActualTables).getParameters(), is(Arrays.<Object>asList(1, 3)));
+    }
+    
+    @Test
+    public void assertSelectInWithValuesPrunedForActualTablesOfRoutedDataSource() {
+        selectStatement.getTables().add(new Table("table_v", null));
+        selectStatement.getSQLSegments().add(new TableSegment(15, 21, "table_v"));
+        selectStatement.getSQLSegments().add(createInOrPredicateSegment(1));
+        selectStatement.setLogicSQL("SELECT id FROM table_v WHERE id IN (?, 2, ?)");
+        routeResult = new SQLRouteResult(new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), new AndCondition(), selectStatement.getItems()));
+        RoutingUnit routingUnit0 = createRoutingUnit("db0", "table_v", "table_v_1");
+        RoutingUnit routingUnit1 = createRoutingUnit("db1", "table_v", "table_v_4");
+        routeResult.setRoutingResult(new RoutingResult());
+        routeResult.getRoutingResult().getRoutingUnits().add(routingUnit0);
+        routeResult.getRoutingResult().getRoutingUnits().add(routingUnit1);
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(Arrays.<Object>asList(1, 3));
+        assertThat(rewriteEngine.generateSQL(routingUnit0, Collections.singletonMap("table_v", "table_v_1")).getSql(), is("SELECT id FROM table_v_1 WHERE id IN (?, ?)"));
+        assertThat(rewriteEngine.generateSQL(routingUnit0, Collections.singletonMap("table_v", "table_v_1")).getParameters(), is(Arrays.<Object>asList(1, 3)));
+        assertThat(rewriteEngine.generateSQL(routingUnit1, Collections.singletonMap("table_v", "table_v_4")).getSql(), is("SELECT id FROM table_v_4 WHERE id IN (2)"));
+        assertThat(rewriteEngine.generateSQL(routingUnit1, Collections.singletonMap("table_v", "table_v_4")).getParameters(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertSelectInWithValuesNotPrunedForOrPredicate() {
+        selectStatement.getTables().add(new Table("table_u", null));
+        selectStatement.getSQLSegments().add(new TableSegment(15, 21, "table_u"));
+        selectStatement.getSQLSegments().add(createInOrPredicateSegment(2));
+        selectStatement.setLogicSQL("SELECT id FROM table_u WHERE id IN (?, 2, ?)");
+        routeResult = new SQLRouteResult(new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), new AndCondition(), selectStatement.getItems()));
+        RoutingUnit routingUnit = createRoutingUnit("db0", "table_u");
+        routeResult.setRoutingResult(new RoutingResult());
+        routeResult.getRoutingResult().getRoutingUnits().add(routingUnit);
+        routeResult.getRoutingResult().getRoutingUnits().add(createRoutingUnit("db1", "table_u"));
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(Arrays.<Object>asList(1, 3));
+        assertThat(rewriteEngine.generateSQL(routingUnit, Collections.singletonMap("table_u", "table_u")).getSql(), is("SELECT id FROM table_u WHERE id IN (?, 2, ?)"));
+        assertThat(rewriteEngine.generateSQL(routingUnit, Collections.singletonMap("table_u", "table_u")).getParameters(), is(Arrays.<Object>asList(1, 3)));
+    }
+    
+    @Test
+    public void assertRewriteForTableNameWithRewriteTemplateCache() {
+        selectStatement.getSQLSegments().add(new TableSegment(7, 13, "table_x"));
+        selectStatement.getSQLSegments().add(new TableSegment(31, 37, "table_x"));
+        selectStatement.getSQLSegments().add(new TableSegment(47, 53, "table_x"));
+        routeResult = new SQLRouteResult(new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), new AndCondition(), selectStatement.getItems()));
+        routeResult.setRoutingResult(new RoutingResult());
+        selectStatement.setLogicSQL("SELECT table_x.id, x.name FROM table_x x WHERE table_x.id=? AND x.name=?");
+        RewriteTemplateCache rewriteTemplateCache = new RewriteTemplateCache(16L);
+        SQLBuilder expected = getSQLBuilder(createSQLRewriteEngine(Arrays.<Object>asList(1, "x"), rewriteTemplateCache));
+        SQLBuilder actual = getSQLBuilder(createSQLRewriteEngine(Arrays.<Object>asList(2, "y"), rewriteTemplateCache));
+        assertThat(actual, sameInstance(expected));
+        assertThat(actual.toSQL(null, tableTokens), is("SELECT table_1.id, x.name FROM table_1 x WHERE table_1.id=? AND x.name=?"));
+        assertThat(rewriteTemplateCache.size(), is(1L));
+        assertThat(rewriteTemplateCache.getHitRatio(), is(0.5d));
+    }
+    
+    @Test
+    public void assertSelectInWithValuesPrunedWithRewriteTemplateCache() {
+        selectStatement.getTables().add(new Table("table_u", null));
+        selectStatement.getSQLSegments().add(new TableSegment(15, 21, "table_u"));
+        selectStatement.getSQLSegments().add(createInOrPredicateSegment(1));
+        selectStatement.setLogicSQL("SELECT id FROM table_u WHERE id IN (?, 2, ?)");
+        routeResult = new SQLRouteResult(new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), new AndCondition(), selectStatement.getItems()));
+        RoutingUnit routingUnit0 = createRoutingUnit("db0", "table_u");
+        RoutingUnit routingUnit1 = createRoutingUnit("db1", "table_u");
+        routeResult.setRoutingResult(new RoutingResult());
+        routeResult.getRoutingResult().getRoutingUnits().add(routingUnit0);
+        routeResult.getRoutingResult().getRoutingUnits().add(routingUnit1);
+        RewriteTemplateCache rewriteTemplateCache = new RewriteTemplateCache(16L);
+        Map<String, String> logicAndActualTables = Collections.singletonMap("table_u", "table_u");
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(Arrays.<Object>asList(1, 3), rewriteTemplateCache);
+        assertThat(rewriteEngine.generateSQL(routingUnit0, logicAndActualTables).getSql(), is("SELECT id FROM table_u WHERE id IN (2)"));
+        assertThat(rewriteEngine.generateSQL(routingUnit1, logicAndActualTables).getSql(), is("SELECT id FROM table_u WHERE id IN (?, ?)"));
+        rewriteEngine = createSQLRewriteEngine(Arrays.<Object>asList(2, 3), rewriteTemplateCache);
+        assertThat(rewriteEngine.generateSQL(routingUnit0, logicAndActualTables).getSql(), is("SELECT id FROM table_u WHERE id IN (?, 2)"));
+        assertThat(rewriteEngine.generateSQL(routingUnit0, logicAndActualTables).getParameters(), is(Collections.<Object>singletonList(2)));
+        assertThat(rewriteEngine.generateSQL(routingUnit1, logicAndActualTables).getSql(), is("SELECT id FROM table_u WHERE id IN (?)"));
+        assertThat(rewriteEngine.generateSQL(routingUnit1, logicAndActualTables).getParameters(), is(Collections.<Object>singletonList(3)));
+        assertThat(rewriteTemplateCache.getStatistics().hitCount(), is(1L));
+    }
+    
+    private OrPredicateSegment createInOrPredicateSegment(final int andPredicateCount) {
+        Collection<ExpressionSegment> expressionSegments = Arrays.<ExpressionSegment>asList(
+                new ParameterMarkerExpressionSegment(36, 36, 0), new LiteralExpressionSegment(39, 39, 2), new ParameterMarkerExpressionSegment(42, 42, 1));
+        OrPredicateSegment result = new OrPredicateSegment();
+        for (int i = 0; i < andPredicateCount; i++) {
+            AndPredicate andPredicate = new AndPredicate();
+            andPredicate.getPredicates().add(new PredicateSegment(29, 43, new ColumnSegment(29, 30, "id"), new PredicateInRightValue(expressionSegments)));
+            result.getAndPredicates().add(andPredicate);
+        }
+        return result;
+    }
+    
+    private RoutingUnit createRoutingUnit(final String dataSourceName, final String tableName) {
+        return createRoutingUnit(dataSourceName, tableName, tableName);
+    }
+    
+    private RoutingUnit createRoutingUnit(final String dataSourceName, final String logicTableName, final String actualTableName) {
+        RoutingUnit result = new RoutingUnit(dataSourceName);
+        result.getTableUnits().add(new TableUnit(logicTableName, actualTableName));
+        return result;
+    }
+    
     private SQLRewriteEngine createSQLRewriteEngine(final List<Object> parameters) {
         return new SQLRewriteEngine(shardingRule, routeResult, parameters, routeResult.getRoutingResult().isSingleRouting());
     }
+    
+    private SQLRewriteEngine createSQLRewriteEngine(final List<Object> parameters, final RewriteTemplateCache rewriteTemplateCache) {
+        return new SQLRewriteEngine(shardingRule, routeResult, parameters, routeResult.getRoutingResult().isSingleRouting(), rewriteTemplateCache);
+    }
 }
@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.core.route;
 
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizePlan;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.prepare.PreparedStatementPlanCache;
 import org.apache.shardingsphere.core.route.router.masterslave.ShardingMasterSlaveRouter;
+import org.apache.shardingsphere.core.route.router.sharding.ParsingSQLRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouterFactory;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -42,27 +45,65 @@ public final class PreparedStatementRoutingEngine {
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
+    private final PreparedStatementPlanCache planCache;
+    
     private SQLStatement sqlStatement;
     
+    private ShardingWhereOptimizePlan optimizePlan;
+    
+    private RuntimeException preparingFailure;
+    
     public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule,
                                           final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
+        this(logicSQL, shardingRule, shardingMetaData, databaseType, parsingResultCache, null);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
+                                          final DatabaseType databaseType, final ParsingResultCache parsingResultCache, final PreparedStatementPlanCache planCache) {
+        this(logicSQL, shardingRule, shardingMetaData, databaseType, parsingResultCache, planCache, 0);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, 
+                                          final ParsingResultCache parsingResultCache, final PreparedStatementPlanCache planCache, final int maxCartesianRoutingUnits) {
         this.logicSQL = logicSQL;
-        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache);
+        shardingRouter = ShardingRouterFactory.newInstance(
+                shardingRule, shardingMetaData, databaseType, parsingResultCache, null == planCache ? null : planCache.getRoutingResultCache(), maxCartesianRoutingUnits);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+        this.planCache = shardingRouter instanceof ParsingSQLRouter ? planCache : null;
+        if (null != this.planCache) {
+            prepare();
+        }
+    }
+    
+    private void prepare() {
+        try {
+            planCache.prepare(logicSQL);
+        } catch (final RuntimeException ex) {
+            preparingFailure = ex;
+        }
     }
     
     /**
      * SQL route.
      * 
-     * <p>First routing time will parse SQL, after second time will reuse first parsed result.</p>
+     * <p>First routing time will parse SQL or get plan prepared by plan cache, after second time will reuse first parsed result and optimize plan.</p>
+     * 
+     * <p>Failure of preparing plan is thrown by routing, as same as failure of preparing plan asynchronously.</p>
      * 
      * @param parameters parameters of SQL placeholder
      * @return route result
      */
     public SQLRouteResult route(final List<Object> parameters) {
+        if (null != preparingFailure) {
+            throw preparingFailure;
+        }
         if (null == sqlStatement) {
-            sqlStatement = shardingRouter.parse(logicSQL, true);
+            sqlStatement = null == planCache ? shardingRouter.parse(logicSQL, true) : planCache.getSQLStatement(logicSQL);
+            optimizePlan = null == planCache ? null : planCache.getOptimizePlan(sqlStatement).orNull();
+        }
+        if (null == optimizePlan) {
+            return masterSlaveRouter.route(shardingRouter.route(sqlStatement, parameters));
         }
-        return masterSlaveRouter.route(shardingRouter.route(sqlStatement, parameters));
+        return masterSlaveRouter.route(((ParsingSQLRouter) shardingRouter).route(sqlStatement, optimizePlan, parameters));
     }
 }
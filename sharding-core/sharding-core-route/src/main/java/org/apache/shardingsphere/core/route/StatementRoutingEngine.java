@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Statement routing engine.
@@ -41,7 +42,12 @@ public final class StatementRoutingEngine {
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
     public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
-        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache);
+        this(shardingRule, shardingMetaData, databaseType, parsingResultCache, 0);
+    }
+    
+    public StatementRoutingEngine(final ShardingRule shardingRule, 
+                                  final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache, final int maxCartesianRoutingUnits) {
+        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache, null, maxCartesianRoutingUnits);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
     
@@ -55,4 +61,20 @@ public final class StatementRoutingEngine {
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
         return masterSlaveRouter.route(shardingRouter.route(sqlStatement, Collections.emptyList()));
     }
+    
+    /**
+     * SQL route with parameters extracted from SQL.
+     * 
+     * <p>
+     * Logic SQL is template SQL of SQL fingerprint, so its parse result can be cached.
+     * </p>
+     *
+     * @param logicSQL logic SQL
+     * @param parameters parameters
+     * @return route result
+     */
+    public SQLRouteResult route(final String logicSQL, final List<Object> parameters) {
+        SQLStatement sqlStatement = shardingRouter.parse(logicSQL, true);
+        return masterSlaveRouter.route(shardingRouter.route(sqlStatement, parameters));
+    }
 }
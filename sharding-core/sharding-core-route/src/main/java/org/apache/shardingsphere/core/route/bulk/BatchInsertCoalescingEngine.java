@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.bulk;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.parse.bulk.BulkInsertHeader;
+import org.apache.shardingsphere.core.parse.bulk.BulkInsertParser;
+import org.apache.shardingsphere.core.parse.bulk.BulkInsertRow;
+import org.apache.shardingsphere.core.route.BatchRouteUnit;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch insert coalescing engine.
+ * 
+ * <p>
+ * Single row INSERT added to batch of prepared statement is routed row by row as common,
+ * then rows of same data node are rewritten to multiple rows INSERT with at most max row count rows when batch is executed.
+ * So one actual add batch executes rows of several JDBC add batch calls.
+ * </p>
+ * 
+ * <p>
+ * Batch insert coalescing engine is absent if SQL is not single row INSERT recognized by bulk insert parser, row has no parameter marker,
+ * table is not sharding table or is encrypted, or key needs to be generated.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchInsertCoalescingEngine {
+    
+    private final String logicSQL;
+    
+    private final BulkInsertHeader header;
+    
+    private final BulkInsertRow row;
+    
+    private final int maxRowCount;
+    
+    /**
+     * Create new instance of batch insert coalescing engine.
+     * 
+     * @param shardingRule sharding rule
+     * @param databaseType database type
+     * @param logicSQL logic SQL
+     * @param maxRowCount max row count of each coalesced INSERT
+     * @return batch insert coalescing engine, absent if SQL can not be coalesced
+     */
+    public static Optional<BatchInsertCoalescingEngine> newInstance(final ShardingRule shardingRule, final DatabaseType databaseType, final String logicSQL, final int maxRowCount) {
+        if (maxRowCount < 2) {
+            return Optional.absent();
+        }
+        try (BulkInsertParser parser = new BulkInsertParser(databaseType, logicSQL)) {
+            Optional<BulkInsertHeader> header = parser.parseHeader();
+            if (!header.isPresent()) {
+                return Optional.absent();
+            }
+            Optional<BulkInsertRow> row = parser.nextRow();
+            if (!row.isPresent() || !parser.isFinished() || 0 == row.get().getParameterMarkerCount() || !isSupported(shardingRule, header.get())) {
+                return Optional.absent();
+            }
+            return Optional.of(new BatchInsertCoalescingEngine(logicSQL, header.get(), row.get(), maxRowCount));
+        }
+    }
+    
+    private static boolean isSupported(final ShardingRule shardingRule, final BulkInsertHeader header) {
+        Optional<TableRule> tableRule = shardingRule.findTableRule(header.getTableName());
+        if (!tableRule.isPresent() || shardingRule.isBroadcastTable(tableRule.get().getLogicTable())) {
+            return false;
+        }
+        for (String each : shardingRule.getEncryptRule().getEncryptTableNames()) {
+            if (each.equalsIgnoreCase(tableRule.get().getLogicTable())) {
+                return false;
+            }
+        }
+        Optional<String> generateKeyColumnName = shardingRule.findGenerateKeyColumnName(tableRule.get().getLogicTable());
+        if (!generateKeyColumnName.isPresent()) {
+            return true;
+        }
+        for (String each : header.getColumnNames()) {
+            if (each.equalsIgnoreCase(generateKeyColumnName.get())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Coalesce rows of batch.
+     * 
+     * <p>
+     * Coalesced INSERT of same SQL for one data source are added to batch of one route unit, and each add batch of it is mapped to all JDBC add batch calls of its rows.
+     * </p>
+     * 
+     * @param dataNodes routed data nodes of rows, data source name is actual data source name
+     * @param parameterSets parameters of rows
+     * @return batch route units of coalesced INSERT
+     */
+    public Collection<BatchRouteUnit> coalesce(final List<DataNode> dataNodes, final List<List<Object>> parameterSets) {
+        Map<RouteUnit, BatchRouteUnit> result = new LinkedHashMap<>();
+        for (Map.Entry<DataNode, List<Integer>> entry : getRowIndexes(dataNodes).entrySet()) {
+            for (List<Integer> each : Lists.partition(entry.getValue(), maxRowCount)) {
+                addBatch(entry.getKey(), each, parameterSets, result);
+            }
+        }
+        return result.values();
+    }
+    
+    private Map<DataNode, List<Integer>> getRowIndexes(final List<DataNode> dataNodes) {
+        Map<DataNode, List<Integer>> result = new LinkedHashMap<>();
+        int index = 0;
+        for (DataNode each : dataNodes) {
+            List<Integer> rowIndexes = result.get(each);
+            if (null == rowIndexes) {
+                rowIndexes = new LinkedList<>();
+                result.put(each, rowIndexes);
+            }
+            rowIndexes.add(index++);
+        }
+        return result;
+    }
+    
+    private void addBatch(final DataNode dataNode, final List<Integer> rowIndexes, final List<List<Object>> parameterSets, final Map<RouteUnit, BatchRouteUnit> batchRouteUnits) {
+        BulkInsertDataNodeUnit dataNodeUnit = new BulkInsertDataNodeUnit(logicSQL, header, dataNode.getTableName());
+        for (int each : rowIndexes) {
+            dataNodeUnit.addRow(row, parameterSets.get(each));
+        }
+        RouteUnit routeUnit = new RouteUnit(dataNode.getDataSourceName(), dataNodeUnit.toSQLUnit());
+        BatchRouteUnit batchRouteUnit = batchRouteUnits.get(routeUnit);
+        if (null == batchRouteUnit) {
+            batchRouteUnit = new BatchRouteUnit(routeUnit);
+            batchRouteUnits.put(routeUnit, batchRouteUnit);
+        } else {
+            batchRouteUnit.getRouteUnit().getSqlUnit().getParameters().addAll(routeUnit.getSqlUnit().getParameters());
+        }
+        batchRouteUnit.mapAddBatchCount(rowIndexes);
+    }
+}
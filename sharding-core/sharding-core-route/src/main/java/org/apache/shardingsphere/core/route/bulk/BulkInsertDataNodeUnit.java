@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.bulk;
+
+import org.apache.shardingsphere.core.parse.bulk.BulkInsertHeader;
+import org.apache.shardingsphere.core.parse.bulk.BulkInsertRow;
+import org.apache.shardingsphere.core.route.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rewritten INSERT of bulk insert for one data node.
+ */
+final class BulkInsertDataNodeUnit {
+    
+    private final String logicSQL;
+    
+    private final StringBuilder sql = new StringBuilder();
+    
+    private final List<Object> parameters = new ArrayList<>();
+    
+    private int rowCount;
+    
+    BulkInsertDataNodeUnit(final String logicSQL, final BulkInsertHeader header, final String actualTableName) {
+        this.logicSQL = logicSQL;
+        String logicTableText = logicSQL.substring(header.getTableStartIndex(), header.getTableStopIndex() + 1);
+        int tableNameIndex = logicTableText.indexOf(header.getTableName());
+        sql.append(logicSQL, 0, header.getTableStartIndex()).append(logicTableText, 0, tableNameIndex).append(actualTableName)
+                .append(logicTableText, tableNameIndex + header.getTableName().length(), logicTableText.length()).append(logicSQL, header.getTableStopIndex() + 1, header.getValuesStartIndex());
+    }
+    
+    /**
+     * Add values row.
+     * 
+     * @param row values row
+     * @param logicParameters parameters of logic SQL
+     */
+    void addRow(final BulkInsertRow row, final List<Object> logicParameters) {
+        if (0 != rowCount) {
+            sql.append(", ");
+        }
+        sql.append(logicSQL, row.getStartIndex(), row.getStopIndex() + 1);
+        parameters.addAll(logicParameters.subList(row.getParameterMarkerStartIndex(), row.getParameterMarkerStartIndex() + row.getParameterMarkerCount()));
+        rowCount++;
+    }
+    
+    /**
+     * Convert to SQL unit.
+     * 
+     * @return SQL unit
+     */
+    SQLUnit toSQLUnit() {
+        return new SQLUnit(sql.toString(), parameters);
+    }
+}
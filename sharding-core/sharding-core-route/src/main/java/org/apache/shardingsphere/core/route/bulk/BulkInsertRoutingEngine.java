@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.bulk;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.optimize.OptimizeEngineFactory;
+import org.apache.shardingsphere.core.optimize.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.ShardingInsertOptimizedStatement;
+import org.apache.shardingsphere.core.parse.bulk.BulkInsertHeader;
+import org.apache.shardingsphere.core.parse.bulk.BulkInsertParser;
+import org.apache.shardingsphere.core.parse.bulk.BulkInsertRow;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.entry.ShardingSQLParseEntry;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.masterslave.ShardingMasterSlaveRouter;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bulk insert routing engine.
+ * 
+ * <p>
+ * Values rows of huge multiple rows INSERT are read chunk by chunk, routed row by row, and appended to one rewritten INSERT for each routed data node.
+ * So neither parse tree nor insert optimize result units are created for all rows, only logic SQL with first row is parsed and optimized for route result.
+ * </p>
+ * 
+ * <p>
+ * Common routing should be used if bulk insert routing is absent, which means SQL is not recognized, rows are not more than chunk size, 
+ * table is routed by hint or encrypted, key needs to be generated, or any row can not be routed to exactly one data node.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class BulkInsertRoutingEngine {
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingMetaData shardingMetaData;
+    
+    private final DatabaseType databaseType;
+    
+    private final ParsingResultCache parsingResultCache;
+    
+    private final int chunkSize;
+    
+    /**
+     * Route bulk insert.
+     * 
+     * @param logicSQL logic SQL
+     * @param parameters parameters of logic SQL
+     * @return SQL route result with rewritten route units, absent if SQL can not be routed as bulk insert
+     */
+    public Optional<SQLRouteResult> route(final String logicSQL, final List<Object> parameters) {
+        if (!isInsert(logicSQL)) {
+            return Optional.absent();
+        }
+        try (BulkInsertParser parser = new BulkInsertParser(databaseType, logicSQL)) {
+            return route(logicSQL, parameters, parser);
+        }
+    }
+    
+    private Optional<SQLRouteResult> route(final String logicSQL, final List<Object> parameters, final BulkInsertParser parser) {
+        Optional<BulkInsertHeader> header = parser.parseHeader();
+        if (!header.isPresent()) {
+            return Optional.absent();
+        }
+        Optional<TableRule> tableRule = shardingRule.findTableRule(header.get().getTableName());
+        Map<String, Integer> columnIndexes = getColumnIndexes(header.get());
+        if (!tableRule.isPresent() || !isSupported(tableRule.get(), columnIndexes)) {
+            return Optional.absent();
+        }
+        List<BulkInsertRow> rows = readChunk(parser);
+        if (rows.size() < chunkSize || parser.isFinished()) {
+            return Optional.absent();
+        }
+        BulkInsertRow firstRow = rows.get(0);
+        Optional<String> generateKeyColumnName = shardingRule.findGenerateKeyColumnName(tableRule.get().getLogicTable());
+        BulkInsertRowRouter rowRouter = new BulkInsertRowRouter(shardingRule, tableRule.get(), columnIndexes);
+        List<Comparable<?>> generatedValues = new LinkedList<>();
+        Map<String, Map<String, BulkInsertDataNodeUnit>> dataNodeUnits = new LinkedHashMap<>();
+        while (true) {
+            for (BulkInsertRow each : rows) {
+                Optional<DataNode> dataNode = rowRouter.route(each, parameters);
+                if (!dataNode.isPresent()) {
+                    return Optional.absent();
+                }
+                addRow(logicSQL, header.get(), dataNode.get(), each, parameters, dataNodeUnits);
+                if (generateKeyColumnName.isPresent()) {
+                    Optional<Comparable<?>> generatedValue = rowRouter.getValue(each, generateKeyColumnName.get(), parameters);
+                    if (!generatedValue.isPresent()) {
+                        return Optional.absent();
+                    }
+                    generatedValues.add(generatedValue.get());
+                }
+            }
+            if (parser.isFinished()) {
+                break;
+            }
+            rows = readChunk(parser);
+            if (rows.size() < chunkSize && !parser.isFinished()) {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(createSQLRouteResult(logicSQL, parameters, firstRow, tableRule.get(), generatedValues, dataNodeUnits));
+    }
+    
+    private boolean isInsert(final String logicSQL) {
+        String sql = logicSQL.trim();
+        return sql.regionMatches(true, 0, "INSERT", 0, "INSERT".length());
+    }
+    
+    private Map<String, Integer> getColumnIndexes(final BulkInsertHeader header) {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < header.getColumnNames().size(); i++) {
+            result.put(header.getColumnNames().get(i), i);
+        }
+        return result;
+    }
+    
+    private boolean isSupported(final TableRule tableRule, final Map<String, Integer> columnIndexes) {
+        for (String each : shardingRule.getEncryptRule().getEncryptTableNames()) {
+            if (each.equalsIgnoreCase(tableRule.getLogicTable())) {
+                return false;
+            }
+        }
+        Optional<String> generateKeyColumnName = shardingRule.findGenerateKeyColumnName(tableRule.getLogicTable());
+        return (!generateKeyColumnName.isPresent() || columnIndexes.containsKey(generateKeyColumnName.get()))
+                && isSupported(shardingRule.getDatabaseShardingStrategy(tableRule), columnIndexes) && isSupported(shardingRule.getTableShardingStrategy(tableRule), columnIndexes);
+    }
+    
+    private boolean isSupported(final ShardingStrategy shardingStrategy, final Map<String, Integer> columnIndexes) {
+        if (shardingStrategy instanceof HintShardingStrategy) {
+            return false;
+        }
+        for (String each : shardingStrategy.getShardingColumns()) {
+            if (!columnIndexes.containsKey(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private List<BulkInsertRow> readChunk(final BulkInsertParser parser) {
+        List<BulkInsertRow> result = new ArrayList<>(chunkSize);
+        while (result.size() < chunkSize) {
+            Optional<BulkInsertRow> row = parser.nextRow();
+            if (!row.isPresent()) {
+                break;
+            }
+            result.add(row.get());
+        }
+        return result;
+    }
+    
+    private void addRow(final String logicSQL, final BulkInsertHeader header, final DataNode dataNode,
+                        final BulkInsertRow row, final List<Object> parameters, final Map<String, Map<String, BulkInsertDataNodeUnit>> dataNodeUnits) {
+        Map<String, BulkInsertDataNodeUnit> tableUnits = dataNodeUnits.get(dataNode.getDataSourceName());
+        if (null == tableUnits) {
+            tableUnits = new LinkedHashMap<>();
+            dataNodeUnits.put(dataNode.getDataSourceName(), tableUnits);
+        }
+        BulkInsertDataNodeUnit dataNodeUnit = tableUnits.get(dataNode.getTableName());
+        if (null == dataNodeUnit) {
+            dataNodeUnit = new BulkInsertDataNodeUnit(logicSQL, header, dataNode.getTableName());
+            tableUnits.put(dataNode.getTableName(), dataNodeUnit);
+        }
+        dataNodeUnit.addRow(row, parameters);
+    }
+    
+    private SQLRouteResult createSQLRouteResult(final String logicSQL, final List<Object> parameters, final BulkInsertRow firstRow, final TableRule tableRule,
+                                                final List<Comparable<?>> generatedValues, final Map<String, Map<String, BulkInsertDataNodeUnit>> dataNodeUnits) {
+        SQLRouteResult result = new SQLRouteResult(optimizeFirstRow(logicSQL, parameters, firstRow, generatedValues));
+        RoutingResult routingResult = new RoutingResult();
+        for (Map.Entry<String, Map<String, BulkInsertDataNodeUnit>> entry : dataNodeUnits.entrySet()) {
+            for (String each : entry.getValue().keySet()) {
+                RoutingUnit routingUnit = new RoutingUnit(entry.getKey());
+                routingUnit.getTableUnits().add(new TableUnit(tableRule.getLogicTable(), each));
+                routingResult.getRoutingUnits().add(routingUnit);
+            }
+        }
+        result.setRoutingResult(routingResult);
+        new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules()).route(result);
+        for (RoutingUnit each : result.getRoutingResult().getRoutingUnits()) {
+            BulkInsertDataNodeUnit dataNodeUnit = dataNodeUnits.get(each.getMasterSlaveLogicDataSourceName()).get(each.getTableUnits().get(0).getActualTableName());
+            result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), dataNodeUnit.toSQLUnit()));
+        }
+        return result;
+    }
+    
+    private OptimizedStatement optimizeFirstRow(final String logicSQL, final List<Object> parameters, final BulkInsertRow firstRow, final List<Comparable<?>> generatedValues) {
+        boolean isParameterized = 0 != firstRow.getParameterMarkerCount();
+        SQLStatement sqlStatement = new ShardingSQLParseEntry(databaseType, shardingRule, shardingMetaData.getTable(), parsingResultCache)
+                .parse(logicSQL.substring(0, firstRow.getStopIndex() + 1), isParameterized);
+        List<Object> firstRowParameters = new ArrayList<>(parameters.subList(0, firstRow.getParameterMarkerCount()));
+        OptimizedStatement result = OptimizeEngineFactory.newInstance(shardingRule, shardingMetaData.getTable(), sqlStatement, firstRowParameters).optimize();
+        if (result instanceof ShardingInsertOptimizedStatement && ((ShardingInsertOptimizedStatement) result).getGeneratedKey().isPresent()) {
+            List<Comparable<?>> actualGeneratedValues = ((ShardingInsertOptimizedStatement) result).getGeneratedKey().get().getGeneratedValues();
+            actualGeneratedValues.clear();
+            actualGeneratedValues.addAll(generatedValues);
+        }
+        return result;
+    }
+}
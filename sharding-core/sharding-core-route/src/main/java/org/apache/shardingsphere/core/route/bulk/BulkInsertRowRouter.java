@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.bulk;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.parse.bulk.BulkInsertRow;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Router for values row of bulk insert.
+ * 
+ * <p>
+ * Available target names are computed once for all rows of bulk insert.
+ * </p>
+ */
+final class BulkInsertRowRouter {
+    
+    private final TableRule tableRule;
+    
+    private final Map<String, Integer> columnIndexes;
+    
+    private final ShardingStrategy databaseShardingStrategy;
+    
+    private final ShardingStrategy tableShardingStrategy;
+    
+    private final Collection<String> actualDataSourceNames;
+    
+    BulkInsertRowRouter(final ShardingRule shardingRule, final TableRule tableRule, final Map<String, Integer> columnIndexes) {
+        this.tableRule = tableRule;
+        this.columnIndexes = columnIndexes;
+        databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule);
+        tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule);
+        actualDataSourceNames = tableRule.getActualDatasourceNames();
+    }
+    
+    /**
+     * Route values row.
+     * 
+     * @param row values row
+     * @param parameters parameters of logic SQL
+     * @return routed data node, absent if row can not be routed to exactly one data node
+     */
+    Optional<DataNode> route(final BulkInsertRow row, final List<Object> parameters) {
+        if (row.getValues().size() != columnIndexes.size() || row.getParameterMarkerStartIndex() + row.getParameterMarkerCount() > parameters.size()) {
+            return Optional.absent();
+        }
+        Optional<String> dataSourceName = routeTarget(databaseShardingStrategy, actualDataSourceNames, row, parameters);
+        if (!dataSourceName.isPresent()) {
+            return Optional.absent();
+        }
+        Optional<String> actualTableName = routeTarget(tableShardingStrategy, tableRule.getActualTableNames(dataSourceName.get()), row, parameters);
+        return actualTableName.isPresent() ? Optional.of(new DataNode(dataSourceName.get(), actualTableName.get())) : Optional.<DataNode>absent();
+    }
+    
+    private Optional<String> routeTarget(final ShardingStrategy shardingStrategy, final Collection<String> availableTargetNames, final BulkInsertRow row, final List<Object> parameters) {
+        List<RouteValue> routeValues = new ArrayList<>(shardingStrategy.getShardingColumns().size());
+        for (String each : shardingStrategy.getShardingColumns()) {
+            Optional<Comparable<?>> value = getValue(row, each, parameters);
+            if (!value.isPresent()) {
+                return Optional.absent();
+            }
+            routeValues.add(new ListRouteValue<>(each, tableRule.getLogicTable(), Collections.<Comparable<?>>singletonList(value.get())));
+        }
+        Collection<String> result = routeValues.isEmpty() ? availableTargetNames : shardingStrategy.doSharding(availableTargetNames, routeValues);
+        return 1 == result.size() ? Optional.of(result.iterator().next()) : Optional.<String>absent();
+    }
+    
+    /**
+     * Get value of column in values row.
+     * 
+     * @param row values row
+     * @param columnName column name
+     * @param parameters parameters of logic SQL
+     * @return value of column, absent if value is not parameter marker or literal, or is not comparable
+     */
+    Optional<Comparable<?>> getValue(final BulkInsertRow row, final String columnName, final List<Object> parameters) {
+        ExpressionSegment value = row.getValues().get(columnIndexes.get(columnName));
+        Object result = null;
+        if (value instanceof ParameterMarkerExpressionSegment) {
+            result = parameters.get(((ParameterMarkerExpressionSegment) value).getParameterMarkerIndex());
+        } else if (value instanceof LiteralExpressionSegment) {
+            result = ((LiteralExpressionSegment) value).getLiterals();
+        }
+        return result instanceof Comparable ? Optional.<Comparable<?>>of((Comparable<?>) result) : Optional.<Comparable<?>>absent();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.prepare;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.optimize.OptimizeEngineFactory;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizePlan;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.router.sharding.ParsingSQLRouter;
+import org.apache.shardingsphere.core.route.router.sharding.RoutingResultCache;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Prepared statement plan cache.
+ * 
+ * <p>
+ * Plan of prepared statement is parsed SQL statement with its optimize plan, which are shared by prepared statements of same SQL on any connection.
+ * Optimize plan binds right values of predicates to sharding columns and holds parts of optimized statement which do not depend on parameters.
+ * Plan is prepared when SQL is prepared, synchronously or asynchronously,
+ * so executions of prepared statement only evaluate parameters bound to sharding columns and route.
+ * Parsed SQL statements are held by parsing result cache, optimize plans are held weakly by their SQL statements,
+ * plans preparing asynchronously are tracked by SQL until finished.
+ * Routing results of prepared statements can be cached by routing result cache optionally.
+ * </p>
+ */
+public final class PreparedStatementPlanCache implements AutoCloseable {
+    
+    private static final String NAME_FORMAT = "ShardingSphere-prepare-%d";
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingMetaData shardingMetaData;
+    
+    private final DatabaseType databaseType;
+    
+    private final ParsingResultCache parsingResultCache;
+    
+    private final ExecutorService executorService;
+    
+    @Getter
+    private final RoutingResultCache routingResultCache;
+    
+    private final Cache<SQLStatement, ShardingWhereOptimizePlan> optimizePlans = CacheBuilder.newBuilder().weakKeys().build();
+    
+    private final ConcurrentMap<String, Future<SQLStatement>> preparingPlans = new ConcurrentHashMap<>();
+    
+    public PreparedStatementPlanCache(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
+        this(shardingRule, shardingMetaData, databaseType, parsingResultCache, 0);
+    }
+    
+    public PreparedStatementPlanCache(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
+                                      final DatabaseType databaseType, final ParsingResultCache parsingResultCache, final int asyncThreadSize) {
+        this(shardingRule, shardingMetaData, databaseType, parsingResultCache, asyncThreadSize, null);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingMetaData sharding meta data
+     * @param databaseType database type
+     * @param parsingResultCache parsing result cache
+     * @param asyncThreadSize thread size for preparing plans asynchronously, prepare synchronously if not positive
+     * @param routingResultCache routing result cache shared by executions of prepared statements, routing results are not cached if null
+     */
+    public PreparedStatementPlanCache(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, 
+                                      final ParsingResultCache parsingResultCache, final int asyncThreadSize, final RoutingResultCache routingResultCache) {
+        this.shardingRule = shardingRule;
+        this.shardingMetaData = shardingMetaData;
+        this.databaseType = databaseType;
+        this.parsingResultCache = parsingResultCache;
+        this.routingResultCache = routingResultCache;
+        executorService = asyncThreadSize > 0 ? Executors.newFixedThreadPool(asyncThreadSize, new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT).build()) : null;
+    }
+    
+    /**
+     * Prepare plan of SQL.
+     * 
+     * <p>
+     * Failure of preparing synchronously is thrown immediately, failure of preparing asynchronously is thrown when getting plan.
+     * Empty SQL is ignored.
+     * </p>
+     * 
+     * @param sql SQL
+     */
+    public void prepare(final String sql) {
+        if (Strings.isNullOrEmpty(sql)) {
+            return;
+        }
+        if (null == executorService) {
+            getOptimizePlan(getSQLStatement(sql));
+            return;
+        }
+        if (null != parsingResultCache.getSQLStatement(sql) || preparingPlans.containsKey(sql)) {
+            return;
+        }
+        FutureTask<SQLStatement> preparingPlan = new FutureTask<>(new PreparingPlanCallable(sql));
+        if (null == preparingPlans.putIfAbsent(sql, preparingPlan)) {
+            executorService.execute(preparingPlan);
+        }
+    }
+    
+    /**
+     * Get SQL statement of plan.
+     * 
+     * <p>
+     * Wait for plan if it is preparing asynchronously, or parse SQL if plan is absent.
+     * </p>
+     * 
+     * @param sql SQL
+     * @return SQL statement
+     */
+    public SQLStatement getSQLStatement(final String sql) {
+        Future<SQLStatement> preparingPlan = preparingPlans.get(sql);
+        return null == preparingPlan ? parse(sql) : waitForPlan(preparingPlan);
+    }
+    
+    /**
+     * Get optimize plan of SQL statement.
+     * 
+     * <p>
+     * Create optimize plan if it is absent.
+     * </p>
+     * 
+     * @param sqlStatement SQL statement
+     * @return optimize plan, absent if optimized statement of SQL statement is not reusable among executions
+     */
+    public Optional<ShardingWhereOptimizePlan> getOptimizePlan(final SQLStatement sqlStatement) {
+        ShardingWhereOptimizePlan result = optimizePlans.getIfPresent(sqlStatement);
+        if (null != result) {
+            return Optional.of(result);
+        }
+        Optional<ShardingWhereOptimizePlan> optimizePlan = OptimizeEngineFactory.newPlan(shardingRule, shardingMetaData.getTable(), sqlStatement);
+        if (optimizePlan.isPresent()) {
+            optimizePlans.put(sqlStatement, optimizePlan.get());
+        }
+        return optimizePlan;
+    }
+    
+    private SQLStatement parse(final String sql) {
+        return new ParsingSQLRouter(shardingRule, shardingMetaData, databaseType, parsingResultCache).parse(sql, true);
+    }
+    
+    private SQLStatement waitForPlan(final Future<SQLStatement> preparingPlan) {
+        try {
+            return preparingPlan.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+    
+    /**
+     * Get size of plans which are preparing asynchronously.
+     * 
+     * @return size of plans which are preparing asynchronously
+     */
+    public int getPreparingSize() {
+        return preparingPlans.size();
+    }
+    
+    @Override
+    public void close() {
+        if (null != executorService) {
+            for (Runnable each : executorService.shutdownNow()) {
+                ((Future<?>) each).cancel(false);
+            }
+        }
+        preparingPlans.clear();
+    }
+    
+    @RequiredArgsConstructor
+    private final class PreparingPlanCallable implements Callable<SQLStatement> {
+        
+        private final String sql;
+        
+        @Override
+        public SQLStatement call() {
+            try {
+                SQLStatement result = parse(sql);
+                getOptimizePlan(result);
+                return result;
+            } finally {
+                preparingPlans.remove(sql);
+            }
+        }
+    }
+}
@@ -19,11 +19,11 @@ package org.apache.shardingsphere.core.route.router.sharding;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.optimize.OptimizeEngineFactory;
 import org.apache.shardingsphere.core.optimize.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizePlan;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingConditions;
@@ -39,12 +39,19 @@ import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.rule.BindingTableRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Sharding router with parse.
@@ -54,7 +61,6 @@ import java.util.List;
  * @author panjuan
  * @author zhangyonglun
  */
-@RequiredArgsConstructor
 public final class ParsingSQLRouter implements ShardingRouter {
     
     private final ShardingRule shardingRule;
@@ -65,10 +71,52 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final ParsingResultCache parsingResultCache;
     
+    private final RoutingResultCache routingResultCache;
+    
+    private final int maxCartesianRoutingUnits;
+    
     private final List<Comparable<?>> generatedValues = new LinkedList<>();
     
     private final ParsingHook parsingHook = new SPIParsingHook();
     
+    public ParsingSQLRouter(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
+        this(shardingRule, shardingMetaData, databaseType, parsingResultCache, null);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingMetaData sharding meta data
+     * @param databaseType database type
+     * @param parsingResultCache parsing result cache
+     * @param routingResultCache routing result cache, routing results are not cached if null
+     */
+    public ParsingSQLRouter(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
+                            final DatabaseType databaseType, final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache) {
+        this(shardingRule, shardingMetaData, databaseType, parsingResultCache, routingResultCache, 0);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingMetaData sharding meta data
+     * @param databaseType database type
+     * @param parsingResultCache parsing result cache
+     * @param routingResultCache routing result cache, routing results are not cached if null
+     * @param maxCartesianRoutingUnits max routing units of cartesian routing, not bounded if not positive
+     */
+    public ParsingSQLRouter(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, 
+                            final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache, final int maxCartesianRoutingUnits) {
+        this.shardingRule = shardingRule;
+        this.shardingMetaData = shardingMetaData;
+        this.databaseType = databaseType;
+        this.parsingResultCache = parsingResultCache;
+        this.routingResultCache = routingResultCache;
+        this.maxCartesianRoutingUnits = maxCartesianRoutingUnits;
+    }
+    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
         parsingHook.start(logicSQL);
@@ -86,13 +134,29 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     @Override
     public SQLRouteResult route(final SQLStatement sqlStatement, final List<Object> parameters) {
-        OptimizedStatement optimizedStatement = OptimizeEngineFactory.newInstance(shardingRule, shardingMetaData.getTable(), sqlStatement, parameters).optimize();
+        return route(OptimizeEngineFactory.newInstance(shardingRule, shardingMetaData.getTable(), sqlStatement, parameters).optimize());
+    }
+    
+    /**
+     * Route SQL with optimize plan.
+     * 
+     * @param sqlStatement SQL statement
+     * @param optimizePlan optimize plan created for SQL statement
+     * @param parameters SQL parameters
+     * @return parse result
+     */
+    public SQLRouteResult route(final SQLStatement sqlStatement, final ShardingWhereOptimizePlan optimizePlan, final List<Object> parameters) {
+        return route(OptimizeEngineFactory.newInstance(shardingMetaData.getTable(), sqlStatement, optimizePlan, parameters).optimize());
+    }
+    
+    private SQLRouteResult route(final OptimizedStatement optimizedStatement) {
+        SQLStatement sqlStatement = optimizedStatement.getSQLStatement();
         boolean needMergeShardingValues = isNeedMergeShardingValues(sqlStatement);
         if (optimizedStatement instanceof ShardingWhereOptimizedStatement && needMergeShardingValues) {
             checkSubqueryShardingValues(sqlStatement, ((ShardingWhereOptimizedStatement) optimizedStatement).getShardingConditions());
             mergeShardingConditions(((ShardingWhereOptimizedStatement) optimizedStatement).getShardingConditions());
         }
-        RoutingResult routingResult = RoutingEngineFactory.newInstance(shardingRule, shardingMetaData.getDataSource(), optimizedStatement).route();
+        RoutingResult routingResult = getRoutingResult(optimizedStatement);
         if (needMergeShardingValues) {
             Preconditions.checkState(1 == routingResult.getRoutingUnits().size(), "Must have one sharding with subquery.");
         }
@@ -104,6 +168,52 @@ public final class ParsingSQLRouter implements ShardingRouter {
         return result;
     }
     
+    private RoutingResult getRoutingResult(final OptimizedStatement optimizedStatement) {
+        Optional<RoutingResultCacheKey> cacheKey = createRoutingResultCacheKey(optimizedStatement);
+        if (!cacheKey.isPresent()) {
+            return RoutingEngineFactory.newInstance(shardingRule, shardingMetaData.getDataSource(), optimizedStatement, maxCartesianRoutingUnits).route();
+        }
+        Optional<RoutingResult> cachedRoutingResult = routingResultCache.get(shardingRule, cacheKey.get());
+        if (cachedRoutingResult.isPresent()) {
+            return cachedRoutingResult.get();
+        }
+        RoutingResult result = RoutingEngineFactory.newInstance(shardingRule, shardingMetaData.getDataSource(), optimizedStatement, maxCartesianRoutingUnits).route();
+        routingResultCache.put(shardingRule, cacheKey.get(), result);
+        return result;
+    }
+    
+    private Optional<RoutingResultCacheKey> createRoutingResultCacheKey(final OptimizedStatement optimizedStatement) {
+        if (null == routingResultCache || !(optimizedStatement instanceof ShardingWhereOptimizedStatement) || optimizedStatement instanceof ShardingInsertOptimizedStatement) {
+            return Optional.absent();
+        }
+        ShardingConditions shardingConditions = ((ShardingWhereOptimizedStatement) optimizedStatement).getShardingConditions();
+        Collection<String> shardingTableNames = shardingRule.getShardingLogicTableNames(optimizedStatement.getSQLStatement().getTables().getTableNames());
+        if (shardingConditions.isAlwaysFalse() || shardingTableNames.isEmpty()) {
+            return Optional.absent();
+        }
+        Map<String, Collection<Comparable<?>>> databaseHintValues = new HashMap<>();
+        Map<String, Collection<Comparable<?>>> tableHintValues = new HashMap<>();
+        for (String each : shardingTableNames) {
+            TableRule tableRule = shardingRule.getTableRule(each);
+            ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule);
+            ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule);
+            if (!databaseShardingStrategy.isDeterministic() || !tableShardingStrategy.isDeterministic()) {
+                return Optional.absent();
+            }
+            if (databaseShardingStrategy instanceof HintShardingStrategy) {
+                databaseHintValues.put(each, new HashSet<>(HintManager.getDatabaseShardingValues(each)));
+            }
+            if (tableShardingStrategy instanceof HintShardingStrategy) {
+                tableHintValues.put(each, new HashSet<>(HintManager.getTableShardingValues(each)));
+            }
+        }
+        List<List<RouteValue>> shardingValues = new ArrayList<>(shardingConditions.getShardingConditions().size());
+        for (ShardingCondition each : shardingConditions.getShardingConditions()) {
+            shardingValues.add(new ArrayList<>(each.getRouteValues()));
+        }
+        return Optional.of(new RoutingResultCacheKey(optimizedStatement.getSQLStatement().getLogicSQL(), shardingValues, databaseHintValues, tableHintValues));
+    }
+    
     private void setGeneratedValues(final ShardingInsertOptimizedStatement optimizedStatement) {
         if (optimizedStatement.getGeneratedKey().isPresent()) {
             generatedValues.addAll(optimizedStatement.getGeneratedKey().get().getGeneratedValues());
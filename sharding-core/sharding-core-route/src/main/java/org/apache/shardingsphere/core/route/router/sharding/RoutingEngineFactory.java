@@ -61,9 +61,11 @@ public final class RoutingEngineFactory {
      * @param shardingRule sharding rule
      * @param shardingDataSourceMetaData sharding data source meta data
      * @param optimizedStatement optimized statement
+     * @param maxCartesianRoutingUnits max routing units of cartesian routing, not bounded if not positive
      * @return new instance of routing engine
      */
-    public static RoutingEngine newInstance(final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData, final OptimizedStatement optimizedStatement) {
+    public static RoutingEngine newInstance(final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                            final OptimizedStatement optimizedStatement, final int maxCartesianRoutingUnits) {
         SQLStatement sqlStatement = optimizedStatement.getSQLStatement();
         Collection<String> tableNames = sqlStatement.getTables().getTableNames();
         if (sqlStatement instanceof TCLStatement) {
@@ -88,7 +90,7 @@ public final class RoutingEngineFactory {
             return new UnicastRoutingEngine(shardingRule, tableNames);
         }
         Preconditions.checkState(optimizedStatement instanceof ShardingWhereOptimizedStatement);
-        return getShardingRoutingEngine(shardingRule, (ShardingWhereOptimizedStatement) optimizedStatement, tableNames);
+        return getShardingRoutingEngine(shardingRule, (ShardingWhereOptimizedStatement) optimizedStatement, tableNames, maxCartesianRoutingUnits);
     }
     
     private static RoutingEngine getDALRoutingEngine(final ShardingRule shardingRule, final SQLStatement sqlStatement, final Collection<String> tableNames) {
@@ -113,12 +115,12 @@ public final class RoutingEngineFactory {
         return !sqlStatement.getTables().isEmpty() && !"*".equals(sqlStatement.getTables().getSingleTableName());
     }
     
-    private static RoutingEngine getShardingRoutingEngine(final ShardingRule shardingRule, final ShardingWhereOptimizedStatement optimizedStatement, final Collection<String> tableNames) {
+    private static RoutingEngine getShardingRoutingEngine(final ShardingRule shardingRule, 
+                                                          final ShardingWhereOptimizedStatement optimizedStatement, final Collection<String> tableNames, final int maxCartesianRoutingUnits) {
         Collection<String> shardingTableNames = shardingRule.getShardingLogicTableNames(tableNames);
         if (1 == shardingTableNames.size() || shardingRule.isAllBindingTables(shardingTableNames)) {
             return new StandardRoutingEngine(shardingRule, shardingTableNames.iterator().next(), optimizedStatement);
         }
-        // TODO config for cartesian set
-        return new ComplexRoutingEngine(shardingRule, tableNames, optimizedStatement);
+        return new ComplexRoutingEngine(shardingRule, tableNames, optimizedStatement, maxCartesianRoutingUnits);
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+/**
+ * Routing result cache.
+ * 
+ * <p>
+ * Routing results are cached by logic SQL, sharding values and hint values, only for statements routed by deterministic sharding strategies.
+ * The cache is thread safe and bounded by maximum size of entries, entries are evicted by LRU.
+ * Each routing result is cached with the sharding rule which routes it, and is only got by same sharding rule,
+ * so routing results put by routers of superseded sharding rule are never served after sharding rule changed.
+ * The cache is cleared when getting by another sharding rule, to release routing results of superseded sharding rule.
+ * Routing results are copied when getting, because routing result may be revised after routing.
+ * </p>
+ */
+public final class RoutingResultCache {
+    
+    private final Cache<RoutingResultCacheKey, ShardingRuleRoutingResult> cache;
+    
+    private volatile ShardingRule shardingRule;
+    
+    public RoutingResultCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Get routing result.
+     * 
+     * @param shardingRule sharding rule
+     * @param key key of routing result
+     * @return copy of routing result
+     */
+    Optional<RoutingResult> get(final ShardingRule shardingRule, final RoutingResultCacheKey key) {
+        bind(shardingRule);
+        ShardingRuleRoutingResult result = cache.getIfPresent(key);
+        return null == result || shardingRule != result.shardingRule ? Optional.<RoutingResult>absent() : Optional.of(copy(result.routingResult));
+    }
+    
+    /**
+     * Put routing result into cache.
+     * 
+     * @param shardingRule sharding rule
+     * @param key key of routing result
+     * @param routingResult routing result
+     */
+    void put(final ShardingRule shardingRule, final RoutingResultCacheKey key, final RoutingResult routingResult) {
+        cache.put(key, new ShardingRuleRoutingResult(shardingRule, copy(routingResult)));
+    }
+    
+    private void bind(final ShardingRule shardingRule) {
+        if (shardingRule == this.shardingRule) {
+            return;
+        }
+        synchronized (this) {
+            if (shardingRule != this.shardingRule) {
+                cache.invalidateAll();
+                this.shardingRule = shardingRule;
+            }
+        }
+    }
+    
+    private RoutingResult copy(final RoutingResult routingResult) {
+        RoutingResult result = new RoutingResult();
+        for (RoutingUnit each : routingResult.getRoutingUnits()) {
+            RoutingUnit routingUnit = new RoutingUnit(each.getDataSourceName(), each.getMasterSlaveLogicDataSourceName());
+            routingUnit.getTableUnits().addAll(each.getTableUnits());
+            result.getRoutingUnits().add(routingUnit);
+        }
+        return result;
+    }
+    
+    /**
+     * Get hit ratio of cache.
+     * 
+     * @return hit ratio of cache, 1.0 if never requested
+     */
+    public double getHitRatio() {
+        return cache.stats().hitRate();
+    }
+    
+    /**
+     * Get statistics of cache.
+     * 
+     * @return statistics of cache
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get size of cached entries.
+     * 
+     * @return size of cached entries
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ShardingRuleRoutingResult {
+        
+        private final ShardingRule shardingRule;
+        
+        private final RoutingResult routingResult;
+    }
+}
@@ -44,7 +44,38 @@ public final class ShardingRouterFactory {
      * @return sharding router instance
      */
     public static ShardingRouter newInstance(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
-        return HintManager.isDatabaseShardingOnly()
-                ? new DatabaseHintSQLRouter(databaseType, shardingRule) : new ParsingSQLRouter(shardingRule, shardingMetaData, databaseType, parsingResultCache);
+        return newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache, null);
+    }
+    
+    /**
+     * Create new instance of sharding router.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingMetaData sharding meta data
+     * @param databaseType database type
+     * @param parsingResultCache parsing result cache
+     * @param routingResultCache routing result cache, routing results are not cached if null
+     * @return sharding router instance
+     */
+    public static ShardingRouter newInstance(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
+                                             final DatabaseType databaseType, final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache) {
+        return newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache, routingResultCache, 0);
+    }
+    
+    /**
+     * Create new instance of sharding router.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingMetaData sharding meta data
+     * @param databaseType database type
+     * @param parsingResultCache parsing result cache
+     * @param routingResultCache routing result cache, routing results are not cached if null
+     * @param maxCartesianRoutingUnits max routing units of cartesian routing, not bounded if not positive
+     * @return sharding router instance
+     */
+    public static ShardingRouter newInstance(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, 
+                                             final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache, final int maxCartesianRoutingUnits) {
+        return HintManager.isDatabaseShardingOnly() ? new DatabaseHintSQLRouter(databaseType, shardingRule)
+                : new ParsingSQLRouter(shardingRule, shardingMetaData, databaseType, parsingResultCache, routingResultCache, maxCartesianRoutingUnits);
     }
 }
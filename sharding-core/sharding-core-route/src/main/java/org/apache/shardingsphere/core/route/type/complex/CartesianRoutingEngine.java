@@ -17,21 +17,16 @@
 
 package org.apache.shardingsphere.core.route.type.complex;
 
-import com.google.common.base.Function;
-import com.google.common.base.Optional;
-import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.route.type.RoutingEngine;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
-import org.apache.shardingsphere.core.route.type.TableUnit;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -40,21 +35,41 @@ import java.util.Set;
 /**
  * cartesian routing engine.
  * 
+ * <p>
+ * Actual tables of aligned logic tables are joined only if their suffixes are equal,
+ * and routing fails as soon as routing units exceed max cartesian routing units if it is positive.
+ * </p>
+ * 
  * @author zhangliang
  * @author maxiaoguang
  */
-@RequiredArgsConstructor
 public final class CartesianRoutingEngine implements RoutingEngine {
     
     private final Collection<RoutingResult> routingResults;
     
+    private final CartesianTableAlignment tableAlignment;
+    
+    private final int maxRoutingUnits;
+    
+    private final Map<String, Map<String, TableUnit>> tableUnitIndexes = new HashMap<>();
+    
+    public CartesianRoutingEngine(final Collection<RoutingResult> routingResults) {
+        this(routingResults, new CartesianTableAlignment(), 0);
+    }
+    
+    CartesianRoutingEngine(final Collection<RoutingResult> routingResults, final CartesianTableAlignment tableAlignment, final int maxRoutingUnits) {
+        this.routingResults = routingResults;
+        this.tableAlignment = tableAlignment;
+        this.maxRoutingUnits = maxRoutingUnits;
+    }
+    
     @Override
     public RoutingResult route() {
         RoutingResult result = new RoutingResult();
         for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
             List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
-            List<Set<TableUnit>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
-            result.getRoutingUnits().addAll(getRoutingUnits(entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
+            List<List<TableUnit>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
+            addRoutingUnits(result, entry.getKey(), routingTableGroups, new ArrayList<TableUnit>(routingTableGroups.size()));
         }
         return result;
     }
@@ -93,37 +108,63 @@ public final class CartesianRoutingEngine implements RoutingEngine {
         return result;
     }
     
-    private List<Set<TableUnit>> toRoutingTableGroups(final String dataSource, final List<Set<String>> actualTableGroups) {
-        List<Set<TableUnit>> result = new ArrayList<>(actualTableGroups.size());
+    private List<List<TableUnit>> toRoutingTableGroups(final String dataSource, final List<Set<String>> actualTableGroups) {
+        List<List<TableUnit>> result = new ArrayList<>(actualTableGroups.size());
         for (Set<String> each : actualTableGroups) {
-            result.add(new HashSet<>(Lists.transform(new ArrayList<>(each), new Function<String, TableUnit>() {
-    
-                @Override
-                public TableUnit apply(final String input) {
-                    return findRoutingTable(dataSource, input);
-                }
-            })));
+            List<TableUnit> routingTableGroup = new ArrayList<>(each.size());
+            for (String actualTable : each) {
+                routingTableGroup.add(findRoutingTable(dataSource, actualTable));
+            }
+            result.add(routingTableGroup);
         }
         return result;
     }
     
     private TableUnit findRoutingTable(final String dataSource, final String actualTable) {
+        if (tableUnitIndexes.isEmpty()) {
+            indexTableUnits();
+        }
+        Map<String, TableUnit> dataSourceTableUnits = tableUnitIndexes.get(dataSource.toLowerCase());
+        TableUnit result = null == dataSourceTableUnits ? null : dataSourceTableUnits.get(actualTable.toLowerCase());
+        if (null == result) {
+            throw new IllegalStateException(String.format("Cannot found routing table factor, data source: %s, actual table: %s", dataSource, actualTable));
+        }
+        return result;
+    }
+    
+    private void indexTableUnits() {
         for (RoutingResult each : routingResults) {
-            Optional<TableUnit> result = each.getTableUnit(dataSource, actualTable);
-            if (result.isPresent()) {
-                return result.get();
+            for (RoutingUnit routingUnit : each.getRoutingUnits()) {
+                String dataSource = routingUnit.getMasterSlaveLogicDataSourceName().toLowerCase();
+                if (!tableUnitIndexes.containsKey(dataSource)) {
+                    tableUnitIndexes.put(dataSource, new HashMap<String, TableUnit>());
+                }
+                for (TableUnit tableUnit : routingUnit.getTableUnits()) {
+                    String actualTable = tableUnit.getActualTableName().toLowerCase();
+                    if (!tableUnitIndexes.get(dataSource).containsKey(actualTable)) {
+                        tableUnitIndexes.get(dataSource).put(actualTable, tableUnit);
+                    }
+                }
             }
         }
-        throw new IllegalStateException(String.format("Cannot found routing table factor, data source: %s, actual table: %s", dataSource, actualTable));
     }
     
-    private Collection<RoutingUnit> getRoutingUnits(final String dataSource, final Set<List<TableUnit>> cartesianRoutingTableGroups) {
-        Collection<RoutingUnit> result = new LinkedHashSet<>();
-        for (List<TableUnit> each : cartesianRoutingTableGroups) {
+    private void addRoutingUnits(final RoutingResult routingResult, final String dataSource, final List<List<TableUnit>> routingTableGroups, final List<TableUnit> tableUnits) {
+        if (tableUnits.size() == routingTableGroups.size()) {
             RoutingUnit routingUnit = new RoutingUnit(dataSource);
-            routingUnit.getTableUnits().addAll(each);
-            result.add(routingUnit);
+            routingUnit.getTableUnits().addAll(tableUnits);
+            routingResult.getRoutingUnits().add(routingUnit);
+            if (maxRoutingUnits > 0 && routingResult.getRoutingUnits().size() > maxRoutingUnits) {
+                throw new ShardingException("Cartesian routing units exceed max cartesian routing units '%s'.", maxRoutingUnits);
+            }
+            return;
+        }
+        for (TableUnit each : routingTableGroups.get(tableUnits.size())) {
+            if (tableAlignment.isAligned(each, tableUnits)) {
+                tableUnits.add(each);
+                addRoutingUnits(routingResult, dataSource, routingTableGroups, tableUnits);
+                tableUnits.remove(tableUnits.size() - 1);
+            }
         }
-        return result;
     }
 }
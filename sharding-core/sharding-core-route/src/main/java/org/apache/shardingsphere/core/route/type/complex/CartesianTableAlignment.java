@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.type.complex;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.strategy.route.ShardingFunction;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Table alignment of cartesian routing.
+ * 
+ * <p>
+ * Aligned logic tables are joined by equal sharding values with equal sharding functions,
+ * so their actual tables are only joined with actual tables of same suffixes.
+ * </p>
+ */
+final class CartesianTableAlignment {
+    
+    private final Map<String, ShardingFunction> shardingFunctions = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    private final Map<String, Collection<String>> alignedLogicTables = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    /**
+     * Align logic tables.
+     * 
+     * @param logicTable logic table name
+     * @param shardingFunction sharding function of logic table
+     * @param otherLogicTable other logic table name
+     * @param otherShardingFunction sharding function of other logic table
+     */
+    void align(final String logicTable, final ShardingFunction shardingFunction, final String otherLogicTable, final ShardingFunction otherShardingFunction) {
+        shardingFunctions.put(logicTable, shardingFunction);
+        shardingFunctions.put(otherLogicTable, otherShardingFunction);
+        getAlignedLogicTables(logicTable).add(otherLogicTable);
+        getAlignedLogicTables(otherLogicTable).add(logicTable);
+    }
+    
+    private Collection<String> getAlignedLogicTables(final String logicTable) {
+        Collection<String> result = alignedLogicTables.get(logicTable);
+        if (null == result) {
+            result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            alignedLogicTables.put(logicTable, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether table unit is aligned with table units or not.
+     * 
+     * @param tableUnit table unit
+     * @param tableUnits table units to be joined with
+     * @return table unit is aligned with table units or not
+     */
+    boolean isAligned(final TableUnit tableUnit, final Collection<TableUnit> tableUnits) {
+        Collection<String> otherLogicTables = alignedLogicTables.get(tableUnit.getLogicTableName());
+        if (null == otherLogicTables) {
+            return true;
+        }
+        Optional<String> suffix = shardingFunctions.get(tableUnit.getLogicTableName()).getSuffix(tableUnit.getActualTableName());
+        if (!suffix.isPresent()) {
+            return true;
+        }
+        for (TableUnit each : tableUnits) {
+            if (otherLogicTables.contains(each.getLogicTableName())) {
+                Optional<String> otherSuffix = shardingFunctions.get(each.getLogicTableName()).getSuffix(each.getActualTableName());
+                if (otherSuffix.isPresent() && !suffix.get().equalsIgnoreCase(otherSuffix.get())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -23,15 +23,27 @@ import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.context.table.Table;
+import org.apache.shardingsphere.core.parse.sql.context.table.Tables;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.OrPredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.SubqueryPredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.type.RoutingEngine;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.standard.StandardRoutingEngine;
 import org.apache.shardingsphere.core.rule.BindingTableRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingFunction;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.TreeSet;
 
 /**
@@ -49,6 +61,8 @@ public final class ComplexRoutingEngine implements RoutingEngine {
     
     private final ShardingWhereOptimizedStatement optimizedStatement;
     
+    private final int maxCartesianRoutingUnits;
+    
     @Override
     public RoutingResult route() {
         Collection<RoutingResult> result = new ArrayList<>(logicTables.size());
@@ -77,6 +91,93 @@ public final class ComplexRoutingEngine implements RoutingEngine {
         if (1 == result.size()) {
             return result.iterator().next();
         }
-        return new CartesianRoutingEngine(result).route();
+        return new CartesianRoutingEngine(result, createTableAlignment(), maxCartesianRoutingUnits).route();
+    }
+    
+    private CartesianTableAlignment createTableAlignment() {
+        CartesianTableAlignment result = new CartesianTableAlignment();
+        SQLStatement sqlStatement = optimizedStatement.getSQLStatement();
+        Optional<OrPredicateSegment> orPredicateSegment = sqlStatement.findSQLSegment(OrPredicateSegment.class);
+        if (!orPredicateSegment.isPresent() || isContainsSubquery(sqlStatement)) {
+            return result;
+        }
+        for (PredicateSegment each : getEquiJoinPredicates(sqlStatement.getLogicSQL(), orPredicateSegment.get())) {
+            align(result, sqlStatement.getTables(), each.getColumn(), (ColumnSegment) each.getRightValue());
+        }
+        return result;
+    }
+    
+    private boolean isContainsSubquery(final SQLStatement sqlStatement) {
+        if (sqlStatement.findSQLSegment(SubqueryPredicateSegment.class).isPresent()) {
+            return true;
+        }
+        return sqlStatement instanceof SelectStatement && (((SelectStatement) sqlStatement).isContainsSubquery() || null != ((SelectStatement) sqlStatement).getParentStatement());
+    }
+    
+    private Collection<PredicateSegment> getEquiJoinPredicates(final String logicSQL, final OrPredicateSegment orPredicateSegment) {
+        Collection<PredicateSegment> result = new LinkedList<>();
+        if (orPredicateSegment.getAndPredicates().isEmpty()) {
+            return result;
+        }
+        for (PredicateSegment each : orPredicateSegment.getAndPredicates().iterator().next().getPredicates()) {
+            if (isEquiJoinPredicate(logicSQL, each) && isContainedInAllAndPredicates(each, orPredicateSegment.getAndPredicates())) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isEquiJoinPredicate(final String logicSQL, final PredicateSegment predicateSegment) {
+        if (null == logicSQL || !(predicateSegment.getRightValue() instanceof ColumnSegment)) {
+            return false;
+        }
+        int operatorStartIndex = predicateSegment.getColumn().getStopIndex() + 1;
+        int operatorStopIndex = ((ColumnSegment) predicateSegment.getRightValue()).getStartIndex();
+        return operatorStartIndex < operatorStopIndex && operatorStopIndex <= logicSQL.length() && "=".equals(logicSQL.substring(operatorStartIndex, operatorStopIndex).trim());
+    }
+    
+    private boolean isContainedInAllAndPredicates(final PredicateSegment predicateSegment, final Collection<AndPredicate> andPredicates) {
+        for (AndPredicate each : andPredicates) {
+            if (!isContained(predicateSegment, each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isContained(final PredicateSegment predicateSegment, final AndPredicate andPredicate) {
+        for (PredicateSegment each : andPredicate.getPredicates()) {
+            if (predicateSegment.getStartIndex() == each.getStartIndex() && predicateSegment.getStopIndex() == each.getStopIndex()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void align(final CartesianTableAlignment tableAlignment, final Tables tables, final ColumnSegment column, final ColumnSegment otherColumn) {
+        Optional<TableRule> tableRule = findTableRule(tables, column);
+        Optional<TableRule> otherTableRule = findTableRule(tables, otherColumn);
+        if (!tableRule.isPresent() || !otherTableRule.isPresent() || tableRule.get() == otherTableRule.get()) {
+            return;
+        }
+        Optional<ShardingFunction> shardingFunction = findShardingFunction(tableRule.get(), column.getName());
+        Optional<ShardingFunction> otherShardingFunction = findShardingFunction(otherTableRule.get(), otherColumn.getName());
+        if (shardingFunction.isPresent() && shardingFunction.equals(otherShardingFunction)) {
+            tableAlignment.align(tableRule.get().getLogicTable(), shardingFunction.get(), otherTableRule.get().getLogicTable(), otherShardingFunction.get());
+        }
+    }
+    
+    private Optional<TableRule> findTableRule(final Tables tables, final ColumnSegment column) {
+        if (!column.getOwner().isPresent()) {
+            return Optional.absent();
+        }
+        Optional<Table> table = tables.find(column.getOwner().get().getName());
+        return table.isPresent() ? shardingRule.findTableRule(table.get().getName()) : Optional.<TableRule>absent();
+    }
+    
+    private Optional<ShardingFunction> findShardingFunction(final TableRule tableRule, final String columnName) {
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule);
+        Collection<String> shardingColumns = tableShardingStrategy.getShardingColumns();
+        return 1 == shardingColumns.size() && shardingColumns.contains(columnName) ? tableShardingStrategy.getShardingFunction() : Optional.<ShardingFunction>absent();
     }
 }
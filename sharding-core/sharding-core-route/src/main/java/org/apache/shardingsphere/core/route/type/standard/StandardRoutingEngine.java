@@ -41,6 +41,7 @@ import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
 import java.util.ArrayList;
@@ -112,7 +113,7 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new LinkedHashSet<>();
         for (ShardingCondition each : optimizedStatement.getShardingConditions().getShardingConditions()) {
             Collection<DataNode> dataNodes = route(tableRule, getShardingValuesFromShardingConditions(shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns(), each),
                     getShardingValuesFromShardingConditions(shardingRule.getTableShardingStrategy(tableRule).getShardingColumns(), each));
@@ -127,7 +128,7 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> routeByMixedConditionsWithCondition(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new LinkedHashSet<>();
         for (ShardingCondition each : optimizedStatement.getShardingConditions().getShardingConditions()) {
             Collection<DataNode> dataNodes = route(tableRule, getDatabaseShardingValues(tableRule, each), getTableShardingValues(tableRule, each));
             reviseInsertOptimizeResult(each, dataNodes);
@@ -205,7 +206,7 @@ public final class StandardRoutingEngine implements RoutingEngine {
     private Collection<DataNode> routeTables(final TableRule tableRule, final String routedDataSource, final List<RouteValue> tableShardingValues) {
         Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
         Collection<String> routedTables = new LinkedHashSet<>(tableShardingValues.isEmpty() ? availableTargetTables
-                : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
+                : routeTablesByShardingValues(tableRule, routedDataSource, availableTargetTables, tableShardingValues));
         Preconditions.checkState(!routedTables.isEmpty(), "no table route info");
         Collection<DataNode> result = new LinkedList<>();
         for (String each : routedTables) {
@@ -214,6 +215,17 @@ public final class StandardRoutingEngine implements RoutingEngine {
         return result;
     }
     
+    private Collection<String> routeTablesByShardingValues(
+            final TableRule tableRule, final String routedDataSource, final Collection<String> availableTargetTables, final List<RouteValue> tableShardingValues) {
+        if (1 == tableShardingValues.size() && tableShardingValues.get(0) instanceof RangeRouteValue) {
+            Optional<Collection<String>> result = tableRule.findActualTableNames(routedDataSource, (RangeRouteValue<?>) tableShardingValues.get(0));
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues);
+    }
+    
     private void reviseInsertOptimizeResult(final ShardingCondition shardingCondition, final Collection<DataNode> dataNodes) {
         if (optimizedStatement.getSQLStatement() instanceof InsertStatement) {
             for (InsertOptimizeResultUnit each : ((ShardingInsertOptimizedStatement) optimizedStatement).getUnits()) {
@@ -30,7 +30,6 @@ import org.apache.shardingsphere.core.rule.TableRule;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -74,10 +73,7 @@ public final class UnicastRoutingEngine implements RoutingEngine {
                 TableRule tableRule = shardingRule.getTableRule(each);
                 DataNode dataNode = tableRule.getActualDataNodes().get(0);
                 tableUnits.add(new TableUnit(each, dataNode.getTableName()));
-                Set<String> currentDataSourceNames = new HashSet<>(tableRule.getActualDatasourceNames().size());
-                for (DataNode eachDataNode : tableRule.getActualDataNodes()) {
-                    currentDataSourceNames.add(eachDataNode.getDataSourceName());
-                }
+                Set<String> currentDataSourceNames = tableRule.getDataNodeGroups().keySet();
                 if (first) {
                     availableDatasourceNames = currentDataSourceNames;
                     first = false;
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.bulk;
+
+import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.route.BatchRouteUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class BatchInsertCoalescingEngineTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'init')";
+    
+    private final DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+    
+    private final ShardingRule shardingRule = createShardingRule();
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        orderTableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        orderTableRuleConfig.setKeyGeneratorConfig(new KeyGeneratorConfiguration("SNOWFLAKE", "order_id"));
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    @Test
+    public void assertCoalesce() {
+        BatchInsertCoalescingEngine coalescingEngine = BatchInsertCoalescingEngine.newInstance(shardingRule, databaseType, SQL, 2).get();
+        List<DataNode> dataNodes = Arrays.asList(new DataNode("ds_0", "t_order_1"), new DataNode("ds_1", "t_order_0"), 
+                new DataNode("ds_0", "t_order_1"), new DataNode("ds_0", "t_order_1"), new DataNode("ds_0", "t_order_1"), new DataNode("ds_0", "t_order_1"));
+        List<List<Object>> parameterSets = Arrays.asList(
+                Arrays.<Object>asList(1, 10), Arrays.<Object>asList(2, 11), Arrays.<Object>asList(3, 10), Arrays.<Object>asList(5, 10), Arrays.<Object>asList(7, 10), Arrays.<Object>asList(9, 10));
+        List<BatchRouteUnit> actual = new ArrayList<>(coalescingEngine.coalesce(dataNodes, parameterSets));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getRouteUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actual.get(0).getRouteUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_1 (order_id, user_id, status) VALUES (?, ?, 'init'), (?, ?, 'init')"));
+        assertThat(actual.get(0).getRouteUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(1, 10, 3, 10, 5, 10, 7, 10)));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(1, 10, 3, 10), Arrays.<Object>asList(5, 10, 7, 10))));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(0), is(0));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(2), is(0));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(3), is(1));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(4), is(1));
+        assertThat(actual.get(1).getRouteUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actual.get(1).getRouteUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_1 (order_id, user_id, status) VALUES (?, ?, 'init')"));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap(), is(Collections.singletonMap(5, 0)));
+        assertThat(actual.get(2).getRouteUnit().getDataSourceName(), is("ds_1"));
+        assertThat(actual.get(2).getRouteUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, 'init')"));
+        assertThat(actual.get(2).getRouteUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(2, 11)));
+        assertThat(actual.get(2).getJdbcAndActualAddBatchCallTimesMap(), is(Collections.singletonMap(1, 0)));
+    }
+    
+    @Test
+    public void assertCoalesceWithRemainedRow() {
+        BatchInsertCoalescingEngine coalescingEngine = BatchInsertCoalescingEngine.newInstance(shardingRule, databaseType, SQL, 2).get();
+        List<DataNode> dataNodes = Arrays.asList(new DataNode("ds_0", "t_order_1"), new DataNode("ds_0", "t_order_1"), new DataNode("ds_0", "t_order_1"));
+        List<List<Object>> parameterSets = Arrays.asList(Arrays.<Object>asList(1, 10), Arrays.<Object>asList(3, 10), Arrays.<Object>asList(5, 10));
+        List<BatchRouteUnit> actual = new ArrayList<>(coalescingEngine.coalesce(dataNodes, parameterSets));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getRouteUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(1, 10, 3, 10)));
+        assertThat(actual.get(1).getRouteUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_1 (order_id, user_id, status) VALUES (?, ?, 'init')"));
+        assertThat(actual.get(1).getRouteUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(5, 10)));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap(), is(Collections.singletonMap(2, 0)));
+    }
+    
+    @Test
+    public void assertNewInstanceWithMultipleRows() {
+        assertFalse(BatchInsertCoalescingEngine.newInstance(shardingRule, databaseType, "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'init'), (?, ?, 'init')", 2).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutParameterMarker() {
+        assertFalse(BatchInsertCoalescingEngine.newInstance(shardingRule, databaseType, "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'init')", 2).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutGenerateKeyColumn() {
+        assertFalse(BatchInsertCoalescingEngine.newInstance(shardingRule, databaseType, "INSERT INTO t_order (user_id, status) VALUES (?, ?)", 2).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithUnrecognizedClause() {
+        assertFalse(BatchInsertCoalescingEngine.newInstance(shardingRule, databaseType, SQL + " ON DUPLICATE KEY UPDATE status = 'init'", 2).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithMaxRowCountLessThanTwo() {
+        assertFalse(BatchInsertCoalescingEngine.newInstance(shardingRule, databaseType, SQL, 1).isPresent());
+    }
+}
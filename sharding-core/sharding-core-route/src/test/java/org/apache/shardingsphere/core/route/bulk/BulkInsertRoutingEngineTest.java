@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.bulk;
+
+import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.insert.ShardingInsertOptimizedStatement;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.fixture.HintShardingAlgorithmFixture;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+
+public final class BulkInsertRoutingEngineTest {
+    
+    private BulkInsertRoutingEngine routingEngine;
+    
+    @Before
+    public void setUp() {
+        ShardingRule shardingRule = createShardingRule();
+        ShardingMetaData shardingMetaData = new ShardingMetaData(createShardingDataSourceMetaData(shardingRule), createShardingTableMetaData());
+        routingEngine = new BulkInsertRoutingEngine(shardingRule, shardingMetaData, DatabaseTypes.getActualDatabaseType("MySQL"), new ParsingResultCache(), 2);
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        orderTableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        orderTableRuleConfig.setKeyGeneratorConfig(new KeyGeneratorConfiguration("SNOWFLAKE", "order_id"));
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        TableRuleConfiguration hintTableRuleConfig = new TableRuleConfiguration("t_hint", "ds_${0..1}.t_hint_${0..1}");
+        hintTableRuleConfig.setDatabaseShardingStrategyConfig(new HintShardingStrategyConfiguration(new HintShardingAlgorithmFixture()));
+        hintTableRuleConfig.setTableShardingStrategyConfig(new HintShardingStrategyConfiguration(new HintShardingAlgorithmFixture()));
+        shardingRuleConfig.getTableRuleConfigs().add(hintTableRuleConfig);
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private ShardingDataSourceMetaData createShardingDataSourceMetaData(final ShardingRule shardingRule) {
+        Map<String, String> shardingDataSourceURLs = new LinkedHashMap<>();
+        shardingDataSourceURLs.put("ds_0", "jdbc:mysql://127.0.0.1:3306/actual_db");
+        shardingDataSourceURLs.put("ds_1", "jdbc:mysql://127.0.0.1:3306/actual_db");
+        return new ShardingDataSourceMetaData(shardingDataSourceURLs, shardingRule, DatabaseTypes.getActualDatabaseType("MySQL"));
+    }
+    
+    private ShardingTableMetaData createShardingTableMetaData() {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(2, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false), 
+                new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        tableMetaDataMap.put("t_hint", new TableMetaData(Arrays.asList(new ColumnMetaData("id", "int", true), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        return new ShardingTableMetaData(tableMetaDataMap);
+    }
+    
+    @Test
+    public void assertRouteWithParameters() {
+        String sql = "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'init'), (?, ?, 'init'), (?, ?, 'init'), (?, ?, 'init'), (?, ?, 'init')";
+        List<Object> parameters = Arrays.<Object>asList(1, 10, 2, 10, 3, 11, 4, 11, 5, 10);
+        SQLRouteResult actual = routingEngine.route(sql, parameters).get();
+        assertThat(actual.getRoutingResult().getRoutingUnits().size(), is(4));
+        Map<String, RouteUnit> routeUnits = getRouteUnits(actual);
+        assertThat(routeUnits.size(), is(4));
+        assertRouteUnit(routeUnits.get("ds_0.t_order_1"), "INSERT INTO t_order_1 (order_id, user_id, status) VALUES (?, ?, 'init'), (?, ?, 'init')", Arrays.<Object>asList(1, 10, 5, 10));
+        assertRouteUnit(routeUnits.get("ds_0.t_order_0"), "INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, 'init')", Arrays.<Object>asList(2, 10));
+        assertRouteUnit(routeUnits.get("ds_1.t_order_1"), "INSERT INTO t_order_1 (order_id, user_id, status) VALUES (?, ?, 'init')", Arrays.<Object>asList(3, 11));
+        assertRouteUnit(routeUnits.get("ds_1.t_order_0"), "INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, 'init')", Arrays.<Object>asList(4, 11));
+        ShardingInsertOptimizedStatement optimizedStatement = (ShardingInsertOptimizedStatement) actual.getOptimizedStatement();
+        assertThat(optimizedStatement.getGeneratedKey().get().getGeneratedValues(), is(Arrays.<Comparable<?>>asList(1, 2, 3, 4, 5)));
+    }
+    
+    @Test
+    public void assertRouteWithLiterals() {
+        String sql = "INSERT INTO `t_order` (`order_id`, `user_id`, `status`) VALUES (1, 10, 'init'), (3, 10, 'init'), (5, 10, NOW())";
+        Map<String, RouteUnit> actual = getRouteUnits(routingEngine.route(sql, Collections.emptyList()).get());
+        assertThat(actual.size(), is(1));
+        assertRouteUnit(actual.get("ds_0.t_order_1"), "INSERT INTO `t_order_1` (`order_id`, `user_id`, `status`) VALUES (1, 10, 'init'), (3, 10, 'init'), (5, 10, NOW())", Collections.emptyList());
+    }
+    
+    @Test
+    public void assertRouteWithRowsNotMoreThanChunkSize() {
+        assertFalse(routingEngine.route("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'init'), (2, 10, 'init')", Collections.emptyList()).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithUnrecognizedClause() {
+        assertFalse(routingEngine.route(
+                "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'init'), (2, 10, 'init'), (3, 10, 'init') ON DUPLICATE KEY UPDATE status = 'init'", Collections.emptyList()).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithShardingValueOfExpression() {
+        assertFalse(routingEngine.route("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'init'), (2, 10, 'init'), (3, 5 + 5, 'init')", Collections.emptyList()).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithoutShardingColumn() {
+        assertFalse(routingEngine.route("INSERT INTO t_order (order_id, status) VALUES (1, 'init'), (2, 'init'), (3, 'init')", Collections.emptyList()).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithHintTable() {
+        assertFalse(routingEngine.route("INSERT INTO t_hint (id, status) VALUES (1, 'init'), (2, 'init'), (3, 'init')", Collections.emptyList()).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithSelect() {
+        assertFalse(routingEngine.route("SELECT * FROM t_order", Collections.emptyList()).isPresent());
+    }
+    
+    private Map<String, RouteUnit> getRouteUnits(final SQLRouteResult sqlRouteResult) {
+        Map<String, RouteUnit> result = new HashMap<>();
+        for (RouteUnit each : sqlRouteResult.getRouteUnits()) {
+            String sql = each.getSqlUnit().getSql();
+            String actualTableName = sql.substring(sql.indexOf("t_order_"), sql.indexOf("t_order_") + "t_order_".length() + 1);
+            result.put(each.getDataSourceName() + "." + actualTableName, each);
+        }
+        return result;
+    }
+    
+    private void assertRouteUnit(final RouteUnit actual, final String expectedSQL, final List<Object> expectedParameters) {
+        assertNotNull(actual);
+        assertThat(actual.getSqlUnit().getSql(), is(expectedSQL));
+        assertThat(actual.getSqlUnit().getParameters(), is(expectedParameters));
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.prepare;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.ShardingWhereOptimizePlan;
+import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizePlan;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.exception.SQLParsingException;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class PreparedStatementPlanCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ?";
+    
+    private static final String INVALID_SQL = "UNSUPPORTED SQL";
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingMetaData shardingMetaData;
+    
+    private ParsingResultCache parsingResultCache;
+    
+    @Before
+    public void setUp() {
+        shardingRule = createShardingRule();
+        shardingMetaData = new ShardingMetaData(createShardingDataSourceMetaData(), createShardingTableMetaData());
+        parsingResultCache = new ParsingResultCache();
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        orderTableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private ShardingDataSourceMetaData createShardingDataSourceMetaData() {
+        Map<String, String> shardingDataSourceURLs = new LinkedHashMap<>();
+        shardingDataSourceURLs.put("ds_0", "jdbc:mysql://127.0.0.1:3306/actual_db");
+        shardingDataSourceURLs.put("ds_1", "jdbc:mysql://127.0.0.1:3306/actual_db");
+        return new ShardingDataSourceMetaData(shardingDataSourceURLs, shardingRule, DatabaseTypes.getActualDatabaseType("MySQL"));
+    }
+    
+    private ShardingTableMetaData createShardingTableMetaData() {
+        Map<String, TableMetaData> tableMetaDataMap = Collections.singletonMap("t_order", new TableMetaData(
+                Arrays.asList(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false)), Collections.<String>emptySet()));
+        return new ShardingTableMetaData(tableMetaDataMap);
+    }
+    
+    private PreparedStatementPlanCache createPlanCache(final int asyncThreadSize) {
+        return new PreparedStatementPlanCache(shardingRule, shardingMetaData, DatabaseTypes.getActualDatabaseType("MySQL"), parsingResultCache, asyncThreadSize);
+    }
+    
+    @Test
+    public void assertPrepareSynchronously() {
+        try (PreparedStatementPlanCache planCache = createPlanCache(0)) {
+            planCache.prepare(SQL);
+            SQLStatement actual = parsingResultCache.getSQLStatement(SQL);
+            assertThat(actual, instanceOf(SelectStatement.class));
+            assertThat(planCache.getSQLStatement(SQL), sameInstance(actual));
+            assertThat(planCache.getPreparingSize(), is(0));
+        }
+    }
+    
+    @Test
+    public void assertPrepareAsynchronously() {
+        try (PreparedStatementPlanCache planCache = createPlanCache(1)) {
+            planCache.prepare(SQL);
+            planCache.prepare(SQL);
+            SQLStatement actual = planCache.getSQLStatement(SQL);
+            assertThat(actual, instanceOf(SelectStatement.class));
+            assertThat(parsingResultCache.getSQLStatement(SQL), sameInstance(actual));
+            assertThat(parsingResultCache.size(), is(1L));
+        }
+    }
+    
+    @Test
+    public void assertGetSQLStatementWithoutPrepare() {
+        try (PreparedStatementPlanCache planCache = createPlanCache(1)) {
+            assertThat(planCache.getSQLStatement(SQL), sameInstance(parsingResultCache.getSQLStatement(SQL)));
+        }
+    }
+    
+    @Test
+    public void assertGetOptimizePlanPreparedWithSQLStatement() {
+        try (PreparedStatementPlanCache planCache = createPlanCache(0)) {
+            planCache.prepare(SQL);
+            SQLStatement sqlStatement = planCache.getSQLStatement(SQL);
+            Optional<ShardingWhereOptimizePlan> actual = planCache.getOptimizePlan(sqlStatement);
+            assertTrue(actual.isPresent());
+            assertThat(actual.get(), instanceOf(ShardingSelectOptimizePlan.class));
+            assertThat(planCache.getOptimizePlan(sqlStatement).get(), sameInstance(actual.get()));
+        }
+    }
+    
+    @Test
+    public void assertGetOptimizePlanWithInsertStatement() {
+        try (PreparedStatementPlanCache planCache = createPlanCache(0)) {
+            assertFalse(planCache.getOptimizePlan(planCache.getSQLStatement("INSERT INTO t_order (order_id, user_id) VALUES (?, ?)")).isPresent());
+        }
+    }
+    
+    @Test
+    public void assertRouteWithOptimizePlan() {
+        try (PreparedStatementPlanCache planCache = createPlanCache(0)) {
+            PreparedStatementRoutingEngine routingEngine = new PreparedStatementRoutingEngine(
+                    SQL, shardingRule, shardingMetaData, DatabaseTypes.getActualDatabaseType("MySQL"), parsingResultCache, planCache);
+            assertRoutingUnit(routingEngine.route(Arrays.<Object>asList(1, 2)), "ds_1", "t_order_0");
+            assertRoutingUnit(routingEngine.route(Arrays.<Object>asList(2, 3)), "ds_0", "t_order_1");
+        }
+    }
+    
+    private void assertRoutingUnit(final SQLRouteResult actual, final String dataSourceName, final String actualTableName) {
+        assertThat(actual.getRoutingResult().getRoutingUnits().size(), is(1));
+        RoutingUnit routingUnit = actual.getRoutingResult().getRoutingUnits().iterator().next();
+        assertThat(routingUnit.getDataSourceName(), is(dataSourceName));
+        assertThat(routingUnit.getActualTableNames("t_order"), is(Collections.singleton(actualTableName)));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertPrepareSynchronouslyFailure() {
+        try (PreparedStatementPlanCache planCache = createPlanCache(0)) {
+            planCache.prepare(INVALID_SQL);
+        }
+    }
+    
+    @Test
+    public void assertRouteWithPreparingSynchronouslyFailure() {
+        try (PreparedStatementPlanCache planCache = createPlanCache(0)) {
+            PreparedStatementRoutingEngine routingEngine = new PreparedStatementRoutingEngine(
+                    INVALID_SQL, shardingRule, shardingMetaData, DatabaseTypes.getActualDatabaseType("MySQL"), parsingResultCache, planCache);
+            try {
+                routingEngine.route(Collections.emptyList());
+                fail("Expected SQLParsingException.");
+            } catch (final SQLParsingException ignored) {
+            }
+        }
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertPrepareAsynchronouslyFailure() {
+        try (PreparedStatementPlanCache planCache = createPlanCache(1)) {
+            planCache.prepare(INVALID_SQL);
+            planCache.getSQLStatement(INVALID_SQL);
+        }
+    }
+}
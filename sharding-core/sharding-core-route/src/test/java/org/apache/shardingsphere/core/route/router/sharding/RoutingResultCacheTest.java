@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.route.fixture.HintShardingAlgorithmFixture;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class RoutingResultCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ?";
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingMetaData shardingMetaData;
+    
+    private ParsingResultCache parsingResultCache;
+    
+    private RoutingResultCache routingResultCache;
+    
+    @Before
+    public void setUp() {
+        shardingRule = createShardingRule(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        shardingMetaData = new ShardingMetaData(createShardingDataSourceMetaData(), createShardingTableMetaData());
+        parsingResultCache = new ParsingResultCache();
+        routingResultCache = new RoutingResultCache(16L);
+    }
+    
+    private ShardingRule createShardingRule(final InlineShardingStrategyConfiguration databaseShardingStrategyConfig) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        orderTableRuleConfig.setDatabaseShardingStrategyConfig(databaseShardingStrategyConfig);
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private ShardingDataSourceMetaData createShardingDataSourceMetaData() {
+        Map<String, String> shardingDataSourceURLs = new LinkedHashMap<>();
+        shardingDataSourceURLs.put("ds_0", "jdbc:mysql://127.0.0.1:3306/actual_db");
+        shardingDataSourceURLs.put("ds_1", "jdbc:mysql://127.0.0.1:3306/actual_db");
+        return new ShardingDataSourceMetaData(shardingDataSourceURLs, shardingRule, DatabaseTypes.getActualDatabaseType("MySQL"));
+    }
+    
+    private ShardingTableMetaData createShardingTableMetaData() {
+        Map<String, TableMetaData> tableMetaDataMap = Collections.singletonMap("t_order", new TableMetaData(
+                Arrays.asList(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false)), Collections.<String>emptySet()));
+        return new ShardingTableMetaData(tableMetaDataMap);
+    }
+    
+    private RoutingResult route(final ShardingRule shardingRule, final String sql, final Object... parameters) {
+        ParsingSQLRouter router = new ParsingSQLRouter(shardingRule, shardingMetaData, DatabaseTypes.getActualDatabaseType("MySQL"), parsingResultCache, routingResultCache);
+        return router.route(router.parse(sql, true), Arrays.asList(parameters)).getRoutingResult();
+    }
+    
+    @Test
+    public void assertRouteWithCachedRoutingResult() {
+        RoutingResult expected = route(shardingRule, SQL, 1, 1);
+        RoutingResult actual = route(shardingRule, SQL, 1, 1);
+        assertThat(actual, not(sameInstance(expected)));
+        assertRoutingUnits(actual, expected);
+        assertRoutingUnits(actual, "ds_1", "t_order_1");
+        assertThat(routingResultCache.size(), is(1L));
+        assertThat(routingResultCache.getHitRatio(), is(0.5d));
+    }
+    
+    @Test
+    public void assertRouteWithDifferentShardingValues() {
+        assertRoutingUnits(route(shardingRule, SQL, 1, 1), "ds_1", "t_order_1");
+        assertRoutingUnits(route(shardingRule, SQL, 2, 2), "ds_0", "t_order_0");
+        assertThat(routingResultCache.size(), is(2L));
+        assertThat(routingResultCache.getStatistics().hitCount(), is(0L));
+    }
+    
+    @Test
+    public void assertRouteWithCachedRoutingResultRevised() {
+        route(shardingRule, SQL, 1, 1).getRoutingUnits().clear();
+        assertRoutingUnits(route(shardingRule, SQL, 1, 1), "ds_1", "t_order_1");
+    }
+    
+    @Test
+    public void assertRouteWithoutDeterministicShardingStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        orderTableRuleConfig.setDatabaseShardingStrategyConfig(new HintShardingStrategyConfiguration(new HintShardingAlgorithmFixture()));
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        route(new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1")), SQL, 1, 1);
+        assertThat(routingResultCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertRouteWithShardingRuleChanged() {
+        route(shardingRule, SQL, 1, 1);
+        route(shardingRule, SQL, 2, 2);
+        ShardingRule changedShardingRule = createShardingRule(new InlineShardingStrategyConfiguration("user_id", "ds_${(user_id + 1) % 2}"));
+        assertRoutingUnits(route(changedShardingRule, SQL, 1, 1), "ds_0", "t_order_1");
+        assertThat(routingResultCache.size(), is(1L));
+    }
+    
+    @Test
+    public void assertGetRoutingResultPutBySupersededShardingRule() {
+        ShardingRule changedShardingRule = createShardingRule(new InlineShardingStrategyConfiguration("user_id", "ds_${(user_id + 1) % 2}"));
+        RoutingResultCacheKey key = new RoutingResultCacheKey(
+                SQL, Collections.<List<RouteValue>>emptyList(), Collections.<String, Collection<Comparable<?>>>emptyMap(), Collections.<String, Collection<Comparable<?>>>emptyMap());
+        assertFalse(routingResultCache.get(changedShardingRule, key).isPresent());
+        routingResultCache.put(shardingRule, key, new RoutingResult());
+        assertThat(routingResultCache.size(), is(1L));
+        assertFalse(routingResultCache.get(changedShardingRule, key).isPresent());
+    }
+    
+    private void assertRoutingUnits(final RoutingResult actual, final RoutingResult expected) {
+        assertThat(actual.getRoutingUnits(), is(expected.getRoutingUnits()));
+    }
+    
+    private void assertRoutingUnits(final RoutingResult actual, final String dataSourceName, final String actualTableName) {
+        assertThat(actual.getRoutingUnits().size(), is(1));
+        RoutingUnit routingUnit = actual.getRoutingUnits().iterator().next();
+        assertThat(routingUnit.getDataSourceName(), is(dataSourceName));
+        assertThat(routingUnit.getTableUnits().size(), is(1));
+        assertThat(routingUnit.getTableUnits().get(0).getActualTableName(), is(actualTableName));
+    }
+}
@@ -20,10 +20,17 @@ package org.apache.shardingsphere.core.route.type.complex;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.statement.sharding.dml.select.ShardingSelectOptimizedStatement;
 import org.apache.shardingsphere.core.parse.sql.context.condition.AndCondition;
 import org.apache.shardingsphere.core.parse.sql.context.selectitem.SelectItem;
+import org.apache.shardingsphere.core.parse.sql.context.table.Table;
+import org.apache.shardingsphere.core.parse.sql.segment.common.TableSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.OrPredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
@@ -71,7 +78,7 @@ public final class ComplexRoutingEngineTest {
         shardingCondition.getRouteValues().add(shardingValue2);
         shardingConditions.add(shardingCondition);
         ComplexRoutingEngine complexRoutingEngine = new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_order_item"), 
-                new ShardingSelectOptimizedStatement(new SelectStatement(), shardingConditions, new AndCondition(), Collections.<SelectItem>emptyList()));
+                new ShardingSelectOptimizedStatement(new SelectStatement(), shardingConditions, new AndCondition(), Collections.<SelectItem>emptyList()), 0);
         RoutingResult routingResult = complexRoutingEngine.route();
         List<RoutingUnit> tableUnitList = new ArrayList<>(routingResult.getRoutingUnits());
         assertThat(routingResult, instanceOf(RoutingResult.class));
@@ -92,7 +99,7 @@ public final class ComplexRoutingEngineTest {
         shardingCondition.getRouteValues().add(shardingValue2);
         shardingConditions.add(shardingCondition);
         ComplexRoutingEngine complexRoutingEngine = new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_config"), 
-                new ShardingSelectOptimizedStatement(new SelectStatement(), shardingConditions, new AndCondition(), Collections.<SelectItem>emptyList()));
+                new ShardingSelectOptimizedStatement(new SelectStatement(), shardingConditions, new AndCondition(), Collections.<SelectItem>emptyList()), 0);
         RoutingResult routingResult = complexRoutingEngine.route();
         List<RoutingUnit> tableUnitList = new ArrayList<>(routingResult.getRoutingUnits());
         assertThat(routingResult, instanceOf(RoutingResult.class));
@@ -102,4 +109,62 @@ public final class ComplexRoutingEngineTest {
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getLogicTableName(), is("t_order"));
     }
+    
+    @Test
+    public void assertRoutingForTablesJoinedBySameShardingFunction() {
+        SelectStatement selectStatement = createJoinSelectStatement("SELECT * FROM t_order o, t_order_ext e WHERE o.order_id = e.id");
+        ComplexRoutingEngine complexRoutingEngine = new ComplexRoutingEngine(createShardingRuleWithoutBindingTables(), Arrays.asList("t_order", "t_order_ext"), 
+                new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), new AndCondition(), Collections.<SelectItem>emptyList()), 0);
+        RoutingResult routingResult = complexRoutingEngine.route();
+        assertThat(routingResult.getRoutingUnits().size(), is(4));
+        for (RoutingUnit each : routingResult.getRoutingUnits()) {
+            assertThat(each.getTableUnits().size(), is(2));
+            String orderTableSuffix = each.getActualTableNames("t_order").iterator().next().substring("t_order_".length());
+            String orderExtTableSuffix = each.getActualTableNames("t_order_ext").iterator().next().substring("t_order_ext_".length());
+            assertThat(orderTableSuffix, is(orderExtTableSuffix));
+        }
+    }
+    
+    @Test
+    public void assertRoutingForTablesJoinedByNonEqualOperator() {
+        SelectStatement selectStatement = createJoinSelectStatement("SELECT * FROM t_order o, t_order_ext e WHERE o.order_id > e.id");
+        ComplexRoutingEngine complexRoutingEngine = new ComplexRoutingEngine(createShardingRuleWithoutBindingTables(), Arrays.asList("t_order", "t_order_ext"), 
+                new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), new AndCondition(), Collections.<SelectItem>emptyList()), 0);
+        assertThat(complexRoutingEngine.route().getRoutingUnits().size(), is(12));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertRoutingExceedMaxCartesianRoutingUnits() {
+        SelectStatement selectStatement = createJoinSelectStatement("SELECT * FROM t_order o, t_order_ext e WHERE o.order_id > e.id");
+        new ComplexRoutingEngine(createShardingRuleWithoutBindingTables(), Arrays.asList("t_order", "t_order_ext"), 
+                new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), new AndCondition(), Collections.<SelectItem>emptyList()), 10).route();
+    }
+    
+    private SelectStatement createJoinSelectStatement(final String logicSQL) {
+        SelectStatement result = new SelectStatement();
+        result.setLogicSQL(logicSQL);
+        result.getTables().add(new Table("t_order", "o"));
+        result.getTables().add(new Table("t_order_ext", "e"));
+        ColumnSegment column = new ColumnSegment(45, 54, "order_id");
+        column.setOwner(new TableSegment(45, 45, "o"));
+        ColumnSegment otherColumn = new ColumnSegment(58, 61, "id");
+        otherColumn.setOwner(new TableSegment(58, 58, "e"));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(45, 61, column, otherColumn));
+        OrPredicateSegment orPredicateSegment = new OrPredicateSegment();
+        orPredicateSegment.getAndPredicates().add(andPredicate);
+        result.getSQLSegments().add(orPredicateSegment);
+        return result;
+    }
+    
+    private ShardingRule createShardingRuleWithoutBindingTables() {
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds${0..1}.t_order_${0..2}");
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        TableRuleConfiguration orderExtTableRuleConfig = new TableRuleConfiguration("t_order_ext", "ds${0..1}.t_order_ext_${0..1}");
+        orderExtTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("id", "t_order_ext_${id % 2}"));
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTableRuleConfigs().add(orderTableRuleConfig);
+        result.getTableRuleConfigs().add(orderExtTableRuleConfig);
+        return new ShardingRule(result, Arrays.asList("ds0", "ds1"));
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.core.route.type.standard;
 
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.config.sharding.ShardingBoundaryConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
@@ -29,6 +31,7 @@ import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.junit.Before;
 import org.junit.Test;
@@ -75,4 +78,26 @@ public final class StandardRoutingEngineTest {
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getLogicTableName(), is("t_order"));
     }
+    
+    @Test
+    public void assertRouteByShardingBoundaries() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..3}");
+        tableRuleConfig.setTableShardingBoundaryConfig(new ShardingBoundaryConfiguration("order_id", "0, 100, 200, 300"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        shardingRuleConfig.setDefaultTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 4}"));
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getRouteValues().add(new ListRouteValue<>("user_id", "t_order", Collections.singleton(1L)));
+        shardingCondition.getRouteValues().add(new RangeRouteValue<>("order_id", "t_order", Range.closed(150L, 250L)));
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        RoutingResult routingResult = new StandardRoutingEngine(shardingRule, "t_order", 
+                new ShardingSelectOptimizedStatement(new SelectStatement(), Collections.singletonList(shardingCondition), new AndCondition(), Collections.<SelectItem>emptyList())).route();
+        List<RoutingUnit> routingUnits = new ArrayList<>(routingResult.getRoutingUnits());
+        assertThat(routingUnits.size(), is(2));
+        assertThat(routingUnits.get(0).getDataSourceName(), is("ds_1"));
+        assertThat(routingUnits.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
+        assertThat(routingUnits.get(1).getDataSourceName(), is("ds_1"));
+        assertThat(routingUnits.get(1).getTableUnits().get(0).getActualTableName(), is("t_order_2"));
+    }
 }
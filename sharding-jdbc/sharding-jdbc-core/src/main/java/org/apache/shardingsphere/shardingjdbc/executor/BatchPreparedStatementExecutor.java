@@ -33,6 +33,9 @@ import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareCallb
 import org.apache.shardingsphere.core.route.BatchRouteUnit;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.bulk.BatchInsertCoalescingEngine;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 
 import java.sql.Connection;
@@ -60,12 +63,26 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
     @Getter
     private final boolean returnGeneratedKeys;
     
+    private final BatchInsertCoalescingEngine coalescingEngine;
+    
+    private final List<DataNode> coalescingDataNodes = new ArrayList<>();
+    
+    private final List<List<Object>> coalescingParameterSets = new ArrayList<>();
+    
+    private boolean coalescible = true;
+    
     private int batchCount;
     
     public BatchPreparedStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys,
                                           final ShardingConnection shardingConnection) {
+        this(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, shardingConnection, null);
+    }
+    
+    public BatchPreparedStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys,
+                                          final ShardingConnection shardingConnection, final BatchInsertCoalescingEngine coalescingEngine) {
         super(resultSetType, resultSetConcurrency, resultSetHoldability, shardingConnection);
         this.returnGeneratedKeys = returnGeneratedKeys;
+        this.coalescingEngine = coalescingEngine;
     }
     
     /**
@@ -76,9 +93,18 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      */
     public void init(final SQLRouteResult routeResult) throws SQLException {
         setSqlStatement(routeResult.getOptimizedStatement().getSQLStatement());
+        if (isCoalescible()) {
+            Collection<BatchRouteUnit> coalescedRouteUnits = coalescingEngine.coalesce(coalescingDataNodes, coalescingParameterSets);
+            routeUnits.clear();
+            routeUnits.addAll(coalescedRouteUnits);
+        }
         getExecuteGroups().addAll(obtainExecuteGroups(routeUnits));
     }
     
+    private boolean isCoalescible() {
+        return null != coalescingEngine && coalescible && batchCount > 1;
+    }
+    
     private Collection<ShardingExecuteGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<BatchRouteUnit> routeUnits) throws SQLException {
         return getSqlExecutePrepareTemplate().getExecuteUnitGroups(Lists.transform(new ArrayList<>(routeUnits), new Function<BatchRouteUnit, RouteUnit>() {
     
@@ -117,6 +143,37 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         batchCount++;
     }
     
+    /**
+     * Add batch for route units, and keep routed data node with parameters for coalescing single row INSERT.
+     *
+     * @param routeResult route result
+     * @param parameters parameters of logic SQL
+     */
+    public void addBatchForRouteUnits(final SQLRouteResult routeResult, final List<Object> parameters) {
+        if (null != coalescingEngine && coalescible) {
+            Optional<DataNode> dataNode = findCoalescingDataNode(routeResult);
+            if (dataNode.isPresent()) {
+                coalescingDataNodes.add(dataNode.get());
+                coalescingParameterSets.add(new ArrayList<>(parameters));
+            } else {
+                coalescible = false;
+                coalescingDataNodes.clear();
+                coalescingParameterSets.clear();
+            }
+        }
+        addBatchForRouteUnits(routeResult);
+    }
+    
+    private Optional<DataNode> findCoalescingDataNode(final SQLRouteResult routeResult) {
+        if (null == routeResult.getRoutingResult() || 1 != routeResult.getRoutingResult().getRoutingUnits().size() || 1 != routeResult.getRouteUnits().size()) {
+            return Optional.absent();
+        }
+        RoutingUnit routingUnit = routeResult.getRoutingResult().getRoutingUnits().iterator().next();
+        return 1 == routingUnit.getTableUnits().size()
+                ? Optional.of(new DataNode(routeResult.getRouteUnits().iterator().next().getDataSourceName(), routingUnit.getTableUnits().get(0).getActualTableName()))
+                : Optional.<DataNode>absent();
+    }
+    
     private Collection<BatchRouteUnit> createBatchRouteUnits(final Collection<RouteUnit> routeUnits) {
         Collection<BatchRouteUnit> result = new LinkedList<>();
         for (RouteUnit each : routeUnits) {
@@ -188,8 +245,9 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
                         break;
                     }
                 }
+                int[] rowCounts = null == results.get(count) ? null : getRowCounts(jdbcAndActualAddBatchCallTimesMap, results.get(count).length);
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
-                    int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
+                    int value = null == results.get(count) ? 0 : getRowResult(results.get(count)[entry.getValue()], rowCounts[entry.getValue()]);
                     result[entry.getKey()] += value;
                 }
                 count++;
@@ -198,6 +256,23 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         return result;
     }
     
+    private int[] getRowCounts(final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap, final int actualCallAddBatchTimes) {
+        int[] result = new int[actualCallAddBatchTimes];
+        for (int each : jdbcAndActualAddBatchCallTimesMap.values()) {
+            if (each < actualCallAddBatchTimes) {
+                result[each]++;
+            }
+        }
+        return result;
+    }
+    
+    private int getRowResult(final int actualResult, final int rowCount) {
+        if (rowCount <= 1 || actualResult < 0) {
+            return actualResult;
+        }
+        return actualResult == rowCount ? 1 : Statement.SUCCESS_NO_INFO;
+    }
+    
     /**
      * Get statements.
      *
@@ -263,6 +338,9 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         super.clear();
         batchCount = 0;
         routeUnits.clear();
+        coalescible = true;
+        coalescingDataNodes.clear();
+        coalescingParameterSets.clear();
     }
 }
 
@@ -26,6 +26,10 @@ import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.parser.PredictionModeContext;
+import org.apache.shardingsphere.core.rewrite.cache.RewriteTemplateCache;
+import org.apache.shardingsphere.core.route.prepare.PreparedStatementPlanCache;
+import org.apache.shardingsphere.core.route.router.sharding.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
@@ -63,6 +67,10 @@ public final class ShardingContext implements AutoCloseable {
     
     private final ParsingResultCache parsingResultCache;
     
+    private final PreparedStatementPlanCache preparedStatementPlanCache;
+    
+    private final RewriteTemplateCache rewriteTemplateCache;
+    
     public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final Properties props) throws SQLException {
         this.shardingRule = shardingRule;
         this.cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
@@ -73,7 +81,27 @@ public final class ShardingContext implements AutoCloseable {
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType);
         ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData).load(shardingRule));
         metaData = new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
-        parsingResultCache = new ParsingResultCache();
+        parsingResultCache = new ParsingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAXIMUM_SIZE),
+                shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAXIMUM_WEIGHT),
+                shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_EXPIRE_AFTER_ACCESS_SECONDS),
+                new PredictionModeContext(shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_TWO_PHASE_ENABLED)),
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_FAST_PATH_ENABLED));
+        preparedStatementPlanCache = new PreparedStatementPlanCache(shardingRule, metaData, databaseType, parsingResultCache, getPreparingAsyncThreadSize(), createRoutingResultCache());
+        rewriteTemplateCache = createRewriteTemplateCache();
+    }
+    
+    private int getPreparingAsyncThreadSize() {
+        return shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PREPARE_ASYNC_ENABLED) ? shardingProperties.<Integer>getValue(ShardingPropertiesConstant.SQL_PREPARE_ASYNC_THREAD_SIZE) : 0;
+    }
+    
+    private RoutingResultCache createRoutingResultCache() {
+        long maximumSize = shardingProperties.<Long>getValue(ShardingPropertiesConstant.ROUTING_RESULT_CACHE_MAXIMUM_SIZE);
+        return maximumSize > 0L ? new RoutingResultCache(maximumSize) : null;
+    }
+    
+    private RewriteTemplateCache createRewriteTemplateCache() {
+        long maximumSize = shardingProperties.<Long>getValue(ShardingPropertiesConstant.REWRITE_TEMPLATE_CACHE_MAXIMUM_SIZE);
+        return maximumSize > 0L ? new RewriteTemplateCache(maximumSize) : null;
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -104,6 +132,7 @@ public final class ShardingContext implements AutoCloseable {
     
     @Override
     public void close() {
+        preparedStatementPlanCache.close();
         executeEngine.close();
     }
 }
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.parse.parser.SQLParserWarmUpEngine;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractDataSourceAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
@@ -51,6 +54,7 @@ public class ShardingDataSource extends AbstractDataSourceAdapter {
         super(dataSourceMap);
         checkDataSourceType(dataSourceMap);
         shardingContext = new ShardingContext(getDataSourceMap(), shardingRule, getDatabaseType(), props);
+        warmUpSQLParser();
     }
     
     private void checkDataSourceType(final Map<String, DataSource> dataSourceMap) {
@@ -59,6 +63,15 @@ public class ShardingDataSource extends AbstractDataSourceAdapter {
         }
     }
     
+    private void warmUpSQLParser() {
+        ShardingProperties shardingProperties = shardingContext.getShardingProperties();
+        if (shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_WARM_UP_ENABLED)) {
+            new SQLParserWarmUpEngine(getDatabaseType(), shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_WARM_UP_BUILT_IN_SQL_ENABLED),
+                    shardingProperties.<String>getValue(ShardingPropertiesConstant.SQL_PARSE_WARM_UP_SQL_FILE), shardingProperties.<Integer>getValue(ShardingPropertiesConstant.SQL_PARSE_WARM_UP_THREAD_SIZE),
+                    shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_TWO_PHASE_ENABLED)).warmUp();
+        }
+    }
+    
     @Override
     public final ShardingConnection getConnection() {
         return new ShardingConnection(getDataSourceMap(), shardingContext, getShardingTransactionManagerEngine(), TransactionTypeHolder.get());
@@ -23,6 +23,8 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Collections2;
 import lombok.Getter;
 import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
+import org.apache.shardingsphere.core.SeekPaginationShardingEngine;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
@@ -33,6 +35,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.bulk.BatchInsertCoalescingEngine;
 import org.apache.shardingsphere.shardingjdbc.executor.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.executor.PreparedStatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractShardingPreparedStatementAdapter;
@@ -70,6 +73,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final SeekPaginationShardingEngine seekPaginationShardingEngine;
+    
     private SQLRouteResult routeResult;
     
     private ResultSet currentResultSet;
@@ -95,10 +100,23 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.connection = connection;
         this.sql = sql;
         ShardingContext shardingContext = connection.getShardingContext();
-        shardingEngine = new PreparedQueryShardingEngine(sql, shardingContext.getShardingRule(), 
-                shardingContext.getShardingProperties(), shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParsingResultCache());
+        shardingEngine = new PreparedQueryShardingEngine(sql, shardingContext.getShardingRule(), shardingContext.getShardingProperties(), 
+                shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParsingResultCache(), 
+                shardingContext.getPreparedStatementPlanCache(), shardingContext.getRewriteTemplateCache());
         preparedStatementExecutor = new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
-        batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
+        batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(
+                resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection, createBatchInsertCoalescingEngine(shardingContext, sql));
+        seekPaginationShardingEngine = createSeekPaginationShardingEngine(shardingContext);
+    }
+    
+    private BatchInsertCoalescingEngine createBatchInsertCoalescingEngine(final ShardingContext shardingContext, final String sql) {
+        int maxRowCount = shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.SQL_BATCH_INSERT_COALESCE_SIZE);
+        return BatchInsertCoalescingEngine.newInstance(shardingContext.getShardingRule(), shardingContext.getDatabaseType(), sql, maxRowCount).orNull();
+    }
+    
+    private SeekPaginationShardingEngine createSeekPaginationShardingEngine(final ShardingContext shardingContext) {
+        return SeekPaginationShardingEngine.newInstance(shardingContext.getShardingRule(), shardingContext.getShardingProperties(), shardingContext.getMetaData(), 
+                shardingContext.getDatabaseType(), shardingContext.getParsingResultCache(), shardingContext.getPreparedStatementPlanCache(), shardingContext.getRewriteTemplateCache()).orNull();
     }
     
     @Override
@@ -107,6 +125,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         try {
             clearPrevious();
             shard();
+            seekIfNecessary();
             initPreparedStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
                     connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery());
@@ -167,6 +186,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         try {
             clearPrevious();
             shard();
+            seekIfNecessary();
             initPreparedStatementExecutor();
             return preparedStatementExecutor.execute();
         } finally {
@@ -212,7 +232,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     public void addBatch() {
         try {
             shard();
-            batchPreparedStatementExecutor.addBatchForRouteUnits(routeResult);
+            batchPreparedStatementExecutor.addBatchForRouteUnits(routeResult, getParameters());
         } finally {
             currentResultSet = null;
             clearParameters();
@@ -223,6 +243,29 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         routeResult = shardingEngine.shard(sql, getParameters());
     }
     
+    private void seekIfNecessary() throws SQLException {
+        if (null == seekPaginationShardingEngine) {
+            return;
+        }
+        try {
+            Optional<SQLRouteResult> seekRouteResult = seekPaginationShardingEngine.shard(sql, getParameters(), routeResult, new SeekPaginationShardingEngine.QueryExecutor() {
+                
+                @Override
+                public List<QueryResult> executeQuery(final SQLRouteResult sqlRouteResult) throws SQLException {
+                    clearPrevious();
+                    preparedStatementExecutor.init(sqlRouteResult);
+                    setParametersForStatements();
+                    return preparedStatementExecutor.executeQuery();
+                }
+            });
+            if (seekRouteResult.isPresent()) {
+                routeResult = seekRouteResult.get();
+            }
+        } finally {
+            clearPrevious();
+        }
+    }
+    
     @Override
     public int[] executeBatch() throws SQLException {
         try {
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
+import org.apache.shardingsphere.core.SeekPaginationShardingEngine;
 import org.apache.shardingsphere.core.SimpleQueryShardingEngine;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.shardingjdbc.executor.PreparedStatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.executor.StatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
@@ -38,6 +40,7 @@ import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConne
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset.GeneratedKeysResultSet;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset.ShardingResultSet;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -62,6 +65,10 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     
     private final StatementExecutor statementExecutor;
     
+    private final SeekPaginationShardingEngine seekPaginationShardingEngine;
+    
+    private final PreparedStatementExecutor seekPaginationExecutor;
+    
     private boolean returnGeneratedKeys;
     
     private SQLRouteResult routeResult;
@@ -80,6 +87,13 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         super(Statement.class);
         this.connection = connection;
         statementExecutor = new StatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, connection);
+        seekPaginationShardingEngine = createSeekPaginationShardingEngine(connection.getShardingContext());
+        seekPaginationExecutor = null == seekPaginationShardingEngine ? null : new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, false, connection);
+    }
+    
+    private SeekPaginationShardingEngine createSeekPaginationShardingEngine(final ShardingContext shardingContext) {
+        return SeekPaginationShardingEngine.newInstance(shardingContext.getShardingRule(), shardingContext.getShardingProperties(), shardingContext.getMetaData(), 
+                shardingContext.getDatabaseType(), shardingContext.getParsingResultCache(), shardingContext.getPreparedStatementPlanCache(), shardingContext.getRewriteTemplateCache()).orNull();
     }
     
     @Override
@@ -88,10 +102,16 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         try {
             clearPrevious();
             shard(sql);
-            initStatementExecutor();
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
-                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery());
-            result = getResultSet(mergeEngine);
+            if (seekIfNecessary(sql)) {
+                MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
+                        connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), seekPaginationExecutor.executeQuery());
+                result = getCurrentResultSet(seekPaginationExecutor.getResultSets(), mergeEngine);
+            } else {
+                initStatementExecutor();
+                MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
+                        connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery());
+                result = getResultSet(mergeEngine);
+            }
         } finally {
             currentResultSet = null;
         }
@@ -255,8 +275,45 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         routeResult = shardingEngine.shard(sql, Collections.emptyList());
     }
     
+    private boolean seekIfNecessary(final String sql) throws SQLException {
+        if (null == seekPaginationShardingEngine) {
+            return false;
+        }
+        Optional<SQLRouteResult> seekRouteResult = seekPaginationShardingEngine.shard(sql, Collections.emptyList(), routeResult, new SeekPaginationShardingEngine.QueryExecutor() {
+            
+            @Override
+            public List<QueryResult> executeQuery(final SQLRouteResult sqlRouteResult) throws SQLException {
+                initSeekPaginationExecutor(sqlRouteResult);
+                return seekPaginationExecutor.executeQuery();
+            }
+        });
+        if (!seekRouteResult.isPresent()) {
+            seekPaginationExecutor.clear();
+            return false;
+        }
+        routeResult = seekRouteResult.get();
+        initSeekPaginationExecutor(routeResult);
+        return true;
+    }
+    
+    private void initSeekPaginationExecutor(final SQLRouteResult sqlRouteResult) throws SQLException {
+        seekPaginationExecutor.clear();
+        seekPaginationExecutor.init(sqlRouteResult);
+        for (int i = 0; i < seekPaginationExecutor.getStatements().size(); i++) {
+            PreparedStatement preparedStatement = (PreparedStatement) seekPaginationExecutor.getStatements().get(i);
+            replayMethodsInvocation(preparedStatement);
+            List<Object> parameters = seekPaginationExecutor.getParameterSets().get(i);
+            for (int j = 0; j < parameters.size(); j++) {
+                preparedStatement.setObject(j + 1, parameters.get(j));
+            }
+        }
+    }
+    
     private void clearPrevious() throws SQLException {
         statementExecutor.clear();
+        if (null != seekPaginationExecutor) {
+            seekPaginationExecutor.clear();
+        }
     }
     
     @SuppressWarnings("MagicConstant")
@@ -283,7 +340,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     
     @Override
     public Collection<Statement> getRoutedStatements() {
-        return statementExecutor.getStatements();
+        return null == seekPaginationExecutor || seekPaginationExecutor.getStatements().isEmpty() ? statementExecutor.getStatements() : seekPaginationExecutor.getStatements();
     }
     
     @Override
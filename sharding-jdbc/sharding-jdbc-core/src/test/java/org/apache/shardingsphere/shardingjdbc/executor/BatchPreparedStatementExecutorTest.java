@@ -31,6 +31,7 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -121,6 +122,35 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertExecuteBatchForCoalescedRowsSuccess() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {2, 1});
+        setCoalescedExecuteGroups(preparedStatement);
+        assertThat(actual.executeBatch(), is(new int[] {1, 1, 1}));
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertExecuteBatchForCoalescedRowsWithoutExactlyUpdateCount() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {1, Statement.SUCCESS_NO_INFO});
+        setCoalescedExecuteGroups(preparedStatement);
+        assertThat(actual.executeBatch(), is(new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}));
+    }
+    
+    private void setCoalescedExecuteGroups(final PreparedStatement preparedStatement) {
+        RouteUnit routeUnit = new RouteUnit("ds_0", new SQLUnit("INSERT INTO table_x (id) VALUES (?), (?)", Arrays.<Object>asList(1, 2, 3, 4)));
+        BatchRouteUnit batchRouteUnit = new BatchRouteUnit(routeUnit);
+        batchRouteUnit.mapAddBatchCount(Arrays.asList(0, 1));
+        batchRouteUnit.mapAddBatchCount(Collections.singletonList(2));
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
+        executeGroups.add(new ShardingExecuteGroup<>(Collections.singletonList(new StatementExecuteUnit(routeUnit, preparedStatement, ConnectionMode.MEMORY_STRICTLY))));
+        Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+        routeUnits.add(batchRouteUnit);
+        setFields(executeGroups, routeUnits, 3);
+    }
+    
     private void setExecuteGroups(final List<PreparedStatement> preparedStatements) throws SQLException {
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
@@ -134,11 +164,11 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
             routeUnits.add(batchRouteUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(routeUnit, each, ConnectionMode.MEMORY_STRICTLY));
         }
-        setFields(executeGroups, routeUnits);
+        setFields(executeGroups, routeUnits, 2);
     }
     
     @SneakyThrows
-    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchRouteUnit> routeUnits) {
+    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchRouteUnit> routeUnits, final int batchCount) {
         Field field = BatchPreparedStatementExecutor.class.getSuperclass().getDeclaredField("executeGroups");
         field.setAccessible(true);
         field.set(actual, executeGroups);
@@ -147,6 +177,6 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         field.set(actual, routeUnits);
         field = BatchPreparedStatementExecutor.class.getDeclaredField("batchCount");
         field.setAccessible(true);
-        field.set(actual, 2);
+        field.set(actual, batchCount);
     }
 }
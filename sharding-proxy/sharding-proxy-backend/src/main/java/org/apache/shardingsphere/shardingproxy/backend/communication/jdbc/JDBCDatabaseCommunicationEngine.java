@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.SeekPaginationShardingEngine;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngineFactory;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dal.show.ShowTablesMergedResult;
@@ -29,6 +32,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCom
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.PreparedStatementExecutorWrapper;
 import org.apache.shardingsphere.shardingproxy.backend.exception.TableModifyInTransactionException;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
@@ -39,6 +43,7 @@ import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateRes
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
@@ -64,6 +69,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private final String sql;
     
+    private final List<Object> parameters;
+    
     private final JDBCExecuteEngine executeEngine;
     
     private BackendResponse response;
@@ -74,13 +81,37 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     public BackendResponse execute() {
         try {
             SQLRouteResult routeResult = executeEngine.getJdbcExecutorWrapper().route(sql, databaseType);
-            return execute(routeResult);
+            Optional<SQLRouteResult> seekRouteResult = seek(routeResult);
+            return seekRouteResult.isPresent() ? execute(seekRouteResult.get(), createSeekPaginationExecuteEngine()) : execute(routeResult, executeEngine);
         } catch (final SQLException ex) {
             return new ErrorResponse(ex);
         }
     }
     
-    private BackendResponse execute(final SQLRouteResult routeResult) throws SQLException {
+    private Optional<SQLRouteResult> seek(final SQLRouteResult routeResult) throws SQLException {
+        if (!(logicSchema instanceof ShardingSchema)) {
+            return Optional.absent();
+        }
+        Optional<SeekPaginationShardingEngine> seekPaginationShardingEngine = SeekPaginationShardingEngine.newInstance(logicSchema.getShardingRule(), 
+                ShardingProxyContext.getInstance().getShardingProperties(), logicSchema.getMetaData(), databaseType, logicSchema.getParsingResultCache(), null, null);
+        if (!seekPaginationShardingEngine.isPresent()) {
+            return Optional.absent();
+        }
+        final JDBCExecuteEngine boundaryExecuteEngine = createSeekPaginationExecuteEngine();
+        return seekPaginationShardingEngine.get().shard(sql, parameters, routeResult, new SeekPaginationShardingEngine.QueryExecutor() {
+            
+            @Override
+            public List<QueryResult> executeQuery(final SQLRouteResult sqlRouteResult) throws SQLException {
+                return ((QueryResponse) boundaryExecuteEngine.execute(sqlRouteResult)).getQueryResults();
+            }
+        });
+    }
+    
+    private JDBCExecuteEngine createSeekPaginationExecuteEngine() {
+        return new JDBCExecuteEngine(executeEngine.getBackendConnection(), new PreparedStatementExecutorWrapper(logicSchema, parameters));
+    }
+    
+    private BackendResponse execute(final SQLRouteResult routeResult, final JDBCExecuteEngine sqlExecuteEngine) throws SQLException {
         if (routeResult.getRouteUnits().isEmpty()) {
             return new UpdateResponse();
         }
@@ -88,7 +119,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         if (isExecuteDDLInXATransaction(sqlStatement)) {
             return new ErrorResponse(new TableModifyInTransactionException(sqlStatement.getTables().isSingleTable() ? sqlStatement.getTables().getSingleTableName() : "unknown_table"));
         }
-        response = executeEngine.execute(routeResult);
+        response = sqlExecuteEngine.execute(routeResult);
         if (logicSchema instanceof ShardingSchema) {
             logicSchema.refreshTableMetaData(routeResult.getOptimizedStatement().getSQLStatement());
         }
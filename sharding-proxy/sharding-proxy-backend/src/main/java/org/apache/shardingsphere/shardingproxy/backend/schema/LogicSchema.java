@@ -25,10 +25,12 @@ import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.parser.PredictionModeContext;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.DataSourceChangedEvent;
+import org.apache.shardingsphere.orchestration.internal.registry.config.event.PropertiesChangedEvent;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
@@ -55,11 +57,20 @@ public abstract class LogicSchema {
     
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
-        parsingResultCache = new ParsingResultCache();
+        parsingResultCache = createParsingResultCache();
         backendDataSource = new JDBCBackendDataSource(dataSources);
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
     
+    private ParsingResultCache createParsingResultCache() {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        return new ParsingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAXIMUM_SIZE),
+                shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAXIMUM_WEIGHT),
+                shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_EXPIRE_AFTER_ACCESS_SECONDS),
+                new PredictionModeContext(shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_TWO_PHASE_ENABLED)),
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_FAST_PATH_ENABLED));
+    }
+    
     /**
      * Get sharding meta data.
      * 
@@ -114,6 +125,17 @@ public abstract class LogicSchema {
         backendDataSource.renew(DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations()));
     }
     
+    /**
+     * Renew properties.
+     *
+     * @param propertiesChangedEvent properties changed event
+     */
+    @Subscribe
+    public final synchronized void renew(final PropertiesChangedEvent propertiesChangedEvent) {
+        ShardingProperties shardingProperties = new ShardingProperties(propertiesChangedEvent.getProps());
+        parsingResultCache.getPredictionModeContext().setTwoPhaseEnabled(shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_TWO_PHASE_ENABLED));
+    }
+    
     /**
      * Refresh table meta data.
      * 
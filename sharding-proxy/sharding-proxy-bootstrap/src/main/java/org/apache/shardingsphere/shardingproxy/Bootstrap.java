@@ -21,7 +21,9 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.api.config.RuleConfiguration;
 import org.apache.shardingsphere.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.parse.parser.SQLParserWarmUpEngine;
 import org.apache.shardingsphere.core.rule.Authentication;
 import org.apache.shardingsphere.core.yaml.config.common.YamlAuthenticationConfiguration;
 import org.apache.shardingsphere.core.yaml.swapper.impl.AuthenticationYamlSwapper;
@@ -93,6 +95,7 @@ public final class Bootstrap {
         ShardingProxyContext.getInstance().init(getAuthentication(authentication), prop);
         LogicSchemas.getInstance().init(getDataSourceParameterMap(ruleConfigs), getRuleConfiguration(ruleConfigs));
         initOpenTracing();
+        warmUpSQLParser();
         ShardingProxy.getInstance().start(port);
     }
     
@@ -104,6 +107,7 @@ public final class Bootstrap {
             ShardingProxyContext.getInstance().init(shardingOrchestrationFacade.getConfigService().loadAuthentication(), shardingOrchestrationFacade.getConfigService().loadProperties());
             LogicSchemas.getInstance().init(shardingSchemaNames, getSchemaDataSourceParameterMap(shardingOrchestrationFacade), getSchemaRules(shardingOrchestrationFacade), true);
             initOpenTracing();
+            warmUpSQLParser();
             ShardingProxy.getInstance().start(port);
         }
     }
@@ -146,6 +150,15 @@ public final class Bootstrap {
         }
     }
     
+    private static void warmUpSQLParser() {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        if (shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_WARM_UP_ENABLED)) {
+            new SQLParserWarmUpEngine(LogicSchemas.getInstance().getDatabaseType(), shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_WARM_UP_BUILT_IN_SQL_ENABLED),
+                    shardingProperties.<String>getValue(ShardingPropertiesConstant.SQL_PARSE_WARM_UP_SQL_FILE), shardingProperties.<Integer>getValue(ShardingPropertiesConstant.SQL_PARSE_WARM_UP_THREAD_SIZE),
+                    shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSE_TWO_PHASE_ENABLED)).warmUp();
+        }
+    }
+    
     private static Map<String, Map<String, DataSourceConfiguration>> getDataSourceConfigurationMap(final Map<String, YamlProxyRuleConfiguration> ruleConfigs) {
         Map<String, Map<String, DataSourceConfiguration>> result = new LinkedHashMap<>();
         for (Entry<String, YamlProxyRuleConfiguration> entry : ruleConfigs.entrySet()) {